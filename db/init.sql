@@ -37,6 +37,7 @@ CREATE TABLE IF NOT EXISTS product (
     category VARCHAR(255) NOT NULL,
     price DECIMAL(19, 2) NOT NULL,
     stock INT NOT NULL DEFAULT 0,
+    reorder_point INT NULL,
     active BIT(1) NOT NULL DEFAULT 1,
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
@@ -76,6 +77,95 @@ CREATE TABLE IF NOT EXISTS order_items (
     CONSTRAINT fk_order_items_product FOREIGN KEY (product_id) REFERENCES product (id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- =====================================================
+-- 5. ORDER_EVENT TABLE
+-- =====================================================
+CREATE TABLE IF NOT EXISTS order_event (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    order_id BIGINT NOT NULL,
+    sequence_number INT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_order_event_order_sequence (order_id, sequence_number)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- =====================================================
+-- 6. ORDER_SNAPSHOT TABLE
+-- =====================================================
+CREATE TABLE IF NOT EXISTS order_snapshot (
+    order_id BIGINT NOT NULL,
+    sequence_number INT NOT NULL,
+    state LONGTEXT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (order_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- =====================================================
+-- 7. PRODUCT_FORECAST TABLE
+-- =====================================================
+CREATE TABLE IF NOT EXISTS product_forecast (
+    product_id BIGINT NOT NULL,
+    last_day DATE NOT NULL,
+    observed_days INT NOT NULL,
+    total_units BIGINT NOT NULL,
+    moving_average DECIMAL(19, 4) NOT NULL,
+    smoothed_demand DECIMAL(19, 4) NOT NULL,
+    horizon_days INT NOT NULL,
+    forecast_units INT NOT NULL,
+    generated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (product_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- =====================================================
+-- 8. WAREHOUSE TABLE
+-- =====================================================
+CREATE TABLE IF NOT EXISTS warehouse (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    latitude DOUBLE NOT NULL,
+    longitude DOUBLE NOT NULL,
+    active BIT(1) NOT NULL DEFAULT 1,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_warehouse_code (code)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- =====================================================
+-- 9. PRODUCT_STOCK TABLE
+-- =====================================================
+CREATE TABLE IF NOT EXISTS product_stock (
+    product_id BIGINT NOT NULL,
+    warehouse_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    PRIMARY KEY (product_id, warehouse_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- =====================================================
+-- 10. ORDER_ALLOCATION TABLE
+-- =====================================================
+CREATE TABLE IF NOT EXISTS order_allocation (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    order_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    warehouse_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_order_allocation_order (order_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- =====================================================
+-- 11. PRODUCT_STOCK_BUCKET TABLE
+-- =====================================================
+CREATE TABLE IF NOT EXISTS product_stock_bucket (
+    product_id BIGINT NOT NULL,
+    bucket INT NOT NULL,
+    quantity INT NOT NULL,
+    PRIMARY KEY (product_id, bucket)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- =====================================================
 -- DEV DATABASE
 -- =====================================================
@@ -100,6 +190,7 @@ CREATE TABLE IF NOT EXISTS product (
     category VARCHAR(255) NOT NULL,
     price DECIMAL(19, 2) NOT NULL,
     stock INT NOT NULL DEFAULT 0,
+    reorder_point INT NULL,
     active BIT(1) NOT NULL DEFAULT 1,
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
@@ -135,3 +226,77 @@ CREATE TABLE IF NOT EXISTS order_items (
     CONSTRAINT fk_order_items_product FOREIGN KEY (product_id) REFERENCES product (id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 5. ORDER_EVENT TABLE
+CREATE TABLE IF NOT EXISTS order_event (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    order_id BIGINT NOT NULL,
+    sequence_number INT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_order_event_order_sequence (order_id, sequence_number)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 6. ORDER_SNAPSHOT TABLE
+CREATE TABLE IF NOT EXISTS order_snapshot (
+    order_id BIGINT NOT NULL,
+    sequence_number INT NOT NULL,
+    state LONGTEXT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (order_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 7. PRODUCT_FORECAST TABLE
+CREATE TABLE IF NOT EXISTS product_forecast (
+    product_id BIGINT NOT NULL,
+    last_day DATE NOT NULL,
+    observed_days INT NOT NULL,
+    total_units BIGINT NOT NULL,
+    moving_average DECIMAL(19, 4) NOT NULL,
+    smoothed_demand DECIMAL(19, 4) NOT NULL,
+    horizon_days INT NOT NULL,
+    forecast_units INT NOT NULL,
+    generated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (product_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 8. WAREHOUSE TABLE
+CREATE TABLE IF NOT EXISTS warehouse (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    latitude DOUBLE NOT NULL,
+    longitude DOUBLE NOT NULL,
+    active BIT(1) NOT NULL DEFAULT 1,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_warehouse_code (code)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 9. PRODUCT_STOCK TABLE
+CREATE TABLE IF NOT EXISTS product_stock (
+    product_id BIGINT NOT NULL,
+    warehouse_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    PRIMARY KEY (product_id, warehouse_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 10. ORDER_ALLOCATION TABLE
+CREATE TABLE IF NOT EXISTS order_allocation (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    order_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    warehouse_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_order_allocation_order (order_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 11. PRODUCT_STOCK_BUCKET TABLE
+CREATE TABLE IF NOT EXISTS product_stock_bucket (
+    product_id BIGINT NOT NULL,
+    bucket INT NOT NULL,
+    quantity INT NOT NULL,
+    PRIMARY KEY (product_id, bucket)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
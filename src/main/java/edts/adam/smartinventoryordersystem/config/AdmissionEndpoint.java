@@ -0,0 +1,44 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.service.OrderConcurrencyLimiter;
+import edts.adam.smartinventoryordersystem.service.RateLimiter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint {@code /actuator/admission}: the current adaptive order
+ * concurrency limit and the rate-limited keys (client IP + endpoint, or
+ * customer) with the most rejections. Totals per limit and endpoint are in
+ * the {@code admission.rejections} meter; per-key counts are only kept here
+ * so the meter's tags stay bounded.
+ */
+@Component
+@Endpoint(id = "admission")
+public class AdmissionEndpoint {
+
+    private static final int TOP_KEYS = 20;
+
+    private final RateLimiter rateLimiter;
+    private final OrderConcurrencyLimiter orderConcurrencyLimiter;
+
+    public AdmissionEndpoint(RateLimiter rateLimiter, OrderConcurrencyLimiter orderConcurrencyLimiter) {
+        this.rateLimiter = rateLimiter;
+        this.orderConcurrencyLimiter = orderConcurrencyLimiter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> admission() {
+        Map<String, Object> orders = new LinkedHashMap<>();
+        orders.put("concurrencyLimit", orderConcurrencyLimiter.getLimit());
+        orders.put("inFlight", orderConcurrencyLimiter.getInFlight());
+
+        Map<String, Object> admission = new LinkedHashMap<>();
+        admission.put("orders", orders);
+        admission.put("rejectedKeys", rateLimiter.topRejectedKeys(TOP_KEYS));
+        return admission;
+    }
+}
@@ -0,0 +1,385 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.util.HttpCaching;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-compresses responses on the fly, with a minimum body size per content
+ * type.
+ * <p>
+ * The start of a body is held back until the threshold of its content type is
+ * reached; from then on every write goes straight through a
+ * {@link GZIPOutputStream} to the client, so large pages are compressed while
+ * they are serialized instead of being buffered whole. Bodies that end (or are
+ * flushed) below the threshold are sent uncompressed. Unlike the container's
+ * compression this does not rely on a {@code Content-Length}, which the
+ * Jackson converters never set, and it keeps strong ETags: requests that
+ * accept gzip are marked with {@link HttpCaching#GZIP_ATTRIBUTE} so their
+ * validators differ from the identity variant.
+ * </p>
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+    /** Verbose formats that shrink several times under gzip. */
+    static final Set<String> TEXT_TYPES = Set.of("application/json", "application/problem+json",
+            "application/x-ndjson", "text/csv", "text/plain");
+
+    /** Already compact binary formats; only worth compressing when large. */
+    static final Set<String> BINARY_TYPES = Set.of("application/cbor", "application/x-jackson-smile");
+
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final int textMinSize;
+    private final int binaryMinSize;
+    private final int level;
+
+    public CompressionFilter(int textMinSize, int binaryMinSize, int level) {
+        this.textMinSize = Math.max(0, textMinSize);
+        this.binaryMinSize = Math.max(0, binaryMinSize);
+        this.level = level;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        HttpServletResponse responseToUse = response;
+        if (!isAsyncDispatch(request) && WebUtils.getNativeResponse(response, CompressingResponse.class) == null) {
+            boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            if (gzip) {
+                request.setAttribute(HttpCaching.GZIP_ATTRIBUTE, Boolean.TRUE);
+            }
+            responseToUse = new CompressingResponse(response, gzip);
+        }
+
+        filterChain.doFilter(request, responseToUse);
+
+        if (!isAsyncStarted(request)) {
+            CompressingResponse compressing = WebUtils.getNativeResponse(responseToUse, CompressingResponse.class);
+            if (compressing != null) {
+                compressing.finish();
+            }
+        }
+    }
+
+    /**
+     * Minimum body size before compressing, or -1 if the content type is not
+     * compressed at all.
+     */
+    int minSizeFor(String contentType) {
+        if (contentType == null) {
+            return -1;
+        }
+        String type;
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            type = mediaType.getType() + "/" + mediaType.getSubtype();
+        } catch (InvalidMediaTypeException ex) {
+            return -1;
+        }
+        if (TEXT_TYPES.contains(type)) {
+            return textMinSize;
+        }
+        return BINARY_TYPES.contains(type) ? binaryMinSize : -1;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // Response Wrapper
+
+    private enum Mode {
+        UNDECIDED, BUFFERING, PLAIN, GZIP, FINISHED
+    }
+
+    private class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final boolean acceptsGzip;
+        private CompressingOutputStream outputStream;
+        private PrintWriter writer;
+        private long declaredLength = -1;
+
+        CompressingResponse(HttpServletResponse response, boolean acceptsGzip) {
+            super(response);
+            this.acceptsGzip = acceptsGzip;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            return stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        // The length is only known to hold for an uncompressed body, so it is
+        // applied once the body is known to be sent as-is
+        @Override
+        public void setContentLength(int len) {
+            declaredLength = len;
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            declaredLength = len;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                declaredLength = value != null ? Long.parseLong(value) : -1;
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                declaredLength = Long.parseLong(value);
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (outputStream != null) {
+                outputStream.flush();
+            }
+            super.flushBuffer();
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (outputStream != null) {
+                outputStream.reset();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (outputStream != null) {
+                outputStream.reset();
+            }
+            declaredLength = -1;
+            super.reset();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.finish();
+            } else if (declaredLength >= 0 && !isCommitted()) {
+                super.setContentLengthLong(declaredLength);
+            }
+        }
+
+        HttpServletResponse raw() {
+            return (HttpServletResponse) getResponse();
+        }
+
+        private CompressingOutputStream stream() {
+            if (outputStream == null) {
+                outputStream = new CompressingOutputStream(this);
+            }
+            return outputStream;
+        }
+    }
+
+    private class CompressingOutputStream extends ServletOutputStream {
+
+        private final CompressingResponse response;
+        private Mode mode = Mode.UNDECIDED;
+        private byte[] buffer;
+        private int count;
+        private OutputStream out;
+
+        CompressingOutputStream(CompressingResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (mode == Mode.UNDECIDED) {
+                decide();
+            }
+            switch (mode) {
+                case BUFFERING -> {
+                    if (count + len < buffer.length) {
+                        System.arraycopy(b, off, buffer, count, len);
+                        count += len;
+                    } else {
+                        startGzip();
+                        out.write(b, off, len);
+                    }
+                }
+                case PLAIN, GZIP -> out.write(b, off, len);
+                default -> throw new IOException("Response has already been completed");
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (mode == Mode.BUFFERING) {
+                // An explicit flush means "send what you have": below the
+                // threshold that is cheaper uncompressed
+                startPlain();
+            }
+            if (out != null) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            response.raw().getOutputStream().close();
+        }
+
+        @Override
+        public boolean isReady() {
+            try {
+                return response.raw().getOutputStream().isReady();
+            } catch (IOException ex) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                response.raw().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        void reset() {
+            if (mode == Mode.BUFFERING) {
+                count = 0;
+            }
+        }
+
+        void finish() throws IOException {
+            switch (mode) {
+                case BUFFERING -> {
+                    if (!response.isCommitted()) {
+                        response.raw().setContentLength(count);
+                    }
+                    startPlain();
+                    out.flush();
+                }
+                case GZIP -> ((GZIPOutputStream) out).finish();
+                case UNDECIDED -> {
+                    if (response.declaredLength >= 0 && !response.isCommitted()) {
+                        response.raw().setContentLengthLong(response.declaredLength);
+                    }
+                }
+                default -> {
+                }
+            }
+            mode = Mode.FINISHED;
+        }
+
+        private void decide() throws IOException {
+            int minSize = minSizeFor(response.getContentType());
+            if (minSize >= 0) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            boolean compressible = minSize >= 0 && response.acceptsGzip
+                    && !response.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                    && response.getStatus() != HttpServletResponse.SC_PARTIAL_CONTENT
+                    && (response.declaredLength < 0 || response.declaredLength >= minSize);
+            if (!compressible) {
+                startPlain();
+            } else if (minSize == 0) {
+                startGzip();
+            } else {
+                buffer = new byte[minSize];
+                mode = Mode.BUFFERING;
+            }
+        }
+
+        private void startPlain() throws IOException {
+            if (response.declaredLength >= 0 && !response.isCommitted()) {
+                response.raw().setContentLengthLong(response.declaredLength);
+            }
+            out = response.raw().getOutputStream();
+            drainBuffer();
+            mode = Mode.PLAIN;
+        }
+
+        private void startGzip() throws IOException {
+            response.raw().setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(response.raw().getOutputStream(), GZIP_BUFFER_SIZE) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            drainBuffer();
+            mode = Mode.GZIP;
+        }
+
+        private void drainBuffer() throws IOException {
+            if (count > 0) {
+                out.write(buffer, 0, count);
+                count = 0;
+            }
+            buffer = null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.exception.LocalizedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies the {@code app.exceptions.stack-traces} switch to business
+ * exceptions. Off by default; turn it on when a trace is needed to locate
+ * where a {@link LocalizedException} was thrown.
+ */
+@Configuration
+public class ExceptionConfig {
+
+    public ExceptionConfig(@Value("${app.exceptions.stack-traces:false}") boolean stackTraces) {
+        LocalizedException.setStackTraceEnabled(stackTraces);
+    }
+}
@@ -0,0 +1,37 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.controller.ExportController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives the streaming responses of {@link ExportController} their own async
+ * timeout, {@code app.export.timeout}, so exports of large tables can run for
+ * minutes while {@code spring.mvc.async.request-timeout} stays short for every
+ * other async request. The timeout is set just before the request goes async.
+ */
+public class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private final Duration timeout;
+
+    public ExportTimeoutInterceptor(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (request instanceof AsyncWebRequest asyncRequest && handler instanceof HandlerMethod method
+                && ExportController.class.equals(method.getBeanType())) {
+            asyncRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.tomcat.TomcatConnectorCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Transport settings for large responses: on-the-fly gzip compression
+ * ({@code app.http.compression.*}) and HTTP/2 flow control
+ * ({@code app.http2.*}). Both are switched on in the prod profile, where the
+ * ingress talks h2c ({@code server.http2.enabled}) to the application.
+ */
+@Configuration
+public class HttpConfig {
+
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(
+            @Value("${app.http.compression.enabled:false}") boolean enabled,
+            @Value("${app.http.compression.text-min-size:1024}") int textMinSize,
+            @Value("${app.http.compression.binary-min-size:4096}") int binaryMinSize,
+            @Value("${app.http.compression.level:1}") int level) {
+        FilterRegistrationBean<CompressionFilter> registration = new FilterRegistrationBean<>(
+                new CompressionFilter(textMinSize, binaryMinSize, level));
+        registration.setEnabled(enabled);
+        // Outermost, so everything written by later filters is compressed too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * Tunes the HTTP/2 upgrade protocol when {@code server.http2.enabled} adds
+     * it; a no-op for plain HTTP/1.1 connectors.
+     */
+    @Bean
+    public TomcatConnectorCustomizer http2ConnectorCustomizer(
+            @Value("${app.http2.max-concurrent-streams:100}") long maxConcurrentStreams,
+            @Value("${app.http2.initial-window-size:65535}") int initialWindowSize) {
+        return connector -> {
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2.setInitialWindowSize(initialWindowSize);
+                }
+            }
+        };
+    }
+}
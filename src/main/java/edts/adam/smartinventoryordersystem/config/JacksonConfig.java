@@ -0,0 +1,35 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.dto.ResponseSerializers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Registers custom Jackson modules with the auto-configured JSON and CBOR
+ * mappers, and provides a Smile mapper with the same modules.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Direct-write serializers for {@code ApiResponse} and the response DTOs.
+     */
+    @Bean
+    public JacksonModule responseSerializersModule() {
+        return ResponseSerializers.module();
+    }
+
+    /**
+     * Spring Boot auto-configures a {@code CBORMapper} but not Smile; built
+     * with the same modules so both binary formats encode identically to JSON.
+     */
+    @Bean
+    public SmileMapper smileMapper(ObjectProvider<JacksonModule> modules) {
+        return SmileMapper.builder()
+                .addModules(modules.orderedStream().toList())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.event.LoggingEvent;
+
+import java.util.List;
+
+/**
+ * Logback turbo filter that denies {@link LogSampling#SAMPLED} events at INFO
+ * or below while the request is marked as skipped by
+ * {@link LogSamplingInterceptor}. Runs before the event is created, so dropped
+ * lines cost no formatting or queueing. Registered in
+ * {@code logback-spring.xml}.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+            Object[] params, Throwable t) {
+        return skip(marker, level) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+
+    /**
+     * Fluent-API events ({@code log.atInfo()...}) carry their markers on the
+     * event instead of the marker argument.
+     */
+    @Override
+    public FilterReply decide(Logger logger, LoggingEvent event) {
+        List<Marker> markers = event.getMarkers();
+        if (markers != null) {
+            Level level = Level.convertAnSLF4JLevel(event.getLevel());
+            for (Marker marker : markers) {
+                if (skip(marker, level)) {
+                    return FilterReply.DENY;
+                }
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private static boolean skip(Marker marker, Level level) {
+        return marker != null
+                && level != null
+                && !level.isGreaterOrEqual(Level.WARN)
+                && marker.contains(LogSampling.SAMPLED)
+                && MDC.get(LogSampling.SKIP_MDC_KEY) != null;
+    }
+}
@@ -0,0 +1,74 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.util.LogSampling;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides once per request whether its {@link LogSampling#SAMPLED} log lines
+ * are written: one request in {@code sampleRate} per endpoint (HTTP method +
+ * route pattern), so the controller and service lines of a request are kept
+ * or dropped together and quiet endpoints are not drowned out by busy ones.
+ * <p>
+ * The decision is kept on the request, so the async re-dispatch of a
+ * streaming, SSE, long-poll or {@code CompletableFuture} request reuses it
+ * instead of sampling again. The MDC key is removed when the container
+ * thread leaves the request, including when async handling starts (where
+ * {@code afterCompletion} does not run on that thread), and cleared before
+ * every decision so a key left on a pooled thread cannot silence an
+ * unrelated request.
+ * </p>
+ */
+public class LogSamplingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SKIP_ATTRIBUTE = LogSamplingInterceptor.class.getName() + ".SKIP";
+
+    private final int sampleRate;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    public LogSamplingInterceptor(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        MDC.remove(LogSampling.SKIP_MDC_KEY);
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            request.setAttribute(SKIP_ATTRIBUTE, sampleRate > 1 && !isSampled(endpointOf(request)));
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SKIP_ATTRIBUTE))) {
+            MDC.put(LogSampling.SKIP_MDC_KEY, "true");
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        MDC.remove(LogSampling.SKIP_MDC_KEY);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        MDC.remove(LogSampling.SKIP_MDC_KEY);
+    }
+
+    boolean isSampled(String endpoint) {
+        return counters.computeIfAbsent(endpoint, key -> new AtomicLong())
+                .getAndIncrement() % sampleRate == 0;
+    }
+
+    static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "*");
+    }
+}
@@ -20,6 +20,9 @@ import java.util.Locale;
 @Configuration
 public class MessageConfig {
 
+    /** Classpath basename of the message bundles (messages.properties, messages_id.properties). */
+    public static final String MESSAGES_BASENAME = "messages";
+
     /**
      * Configures MessageSource to load messages from classpath:messages*.properties
      * with UTF-8 encoding and caching.
@@ -27,7 +30,7 @@ public class MessageConfig {
     @Bean
     public MessageSource messageSource() {
         ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
-        messageSource.setBasename("classpath:messages");
+        messageSource.setBasename("classpath:" + MESSAGES_BASENAME);
         messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
         messageSource.setCacheSeconds(3600);
         return messageSource;
@@ -0,0 +1,37 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.service.RateLimiter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the per-client-IP limits of {@link RateLimiter} to each request by
+ * endpoint (HTTP method + route pattern). Async re-dispatches of a request
+ * already admitted are not counted again.
+ * <p>
+ * The client IP is {@link HttpServletRequest#getRemoteAddr()}. Behind the
+ * ingress the prod profile sets {@code server.forward-headers-strategy:
+ * native}, so Tomcat resolves it from {@code X-Forwarded-For} when the
+ * connection comes from a trusted proxy
+ * ({@code server.tomcat.remoteip.internal-proxies}). Without that, every
+ * client would share the ingress' buckets.
+ * </p>
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            rateLimiter.checkIp(LogSamplingInterceptor.endpointOf(request), request.getRemoteAddr());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Token-bucket limits ({@code app.rate-limits.*}): one for order placement
+ * per customer, and per client IP for each endpoint (HTTP method + route
+ * pattern, e.g. {@code POST /orders}). The IP entry with endpoint {@code *}
+ * applies to endpoints without their own; endpoints matching no entry are
+ * not limited.
+ */
+@ConfigurationProperties(prefix = "app.rate-limits")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        Limit customer,
+        @DefaultValue List<EndpointLimit> ip) {
+
+    /** Burst of {@code capacity} requests, sustained at {@code refillPerSecond}. */
+    public record Limit(int capacity, double refillPerSecond) {
+    }
+
+    public record EndpointLimit(String endpoint, int capacity, double refillPerSecond) {
+
+        public Limit limit() {
+            return new Limit(capacity, refillPerSecond);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs, such as the periodic refresh of
+ * the columnar order item snapshot.
+ * <p>
+ * {@code spring.task.scheduling.pool.size} gives every job its own thread:
+ * a fixed-delay or cron job never overlaps itself, so long batch jobs (the
+ * demand forecast, the first columnar refresh) cannot hold up the frequent
+ * short ones such as the stock total flush. Raise it with each new job.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,67 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.service.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.Duration;
+
+/**
+ * Registers Spring MVC interceptors and message converters.
+ * {@link LogSamplingInterceptor} samples success-path INFO logs per endpoint
+ * at {@code app.logging.success-sample-rate} (1 = log every request), and
+ * {@link RateLimitInterceptor} applies the per-client-IP limits of
+ * {@link RateLimitProperties}. {@link ExportTimeoutInterceptor} gives the
+ * streaming exports their own async timeout.
+ * CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile})
+ * are negotiated from {@code Accept} / {@code Content-Type} for internal
+ * callers; JSON stays first and remains the default.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class WebConfig implements WebMvcConfigurer {
+
+    private final int successSampleRate;
+    private final CBORMapper cborMapper;
+    private final SmileMapper smileMapper;
+    private final RateLimiter rateLimiter;
+    private final Duration exportTimeout;
+
+    public WebConfig(@Value("${app.logging.success-sample-rate:1}") int successSampleRate,
+            CBORMapper cborMapper,
+            SmileMapper smileMapper,
+            RateLimiter rateLimiter,
+            @Value("${app.export.timeout:PT1H}") Duration exportTimeout) {
+        this.successSampleRate = successSampleRate;
+        this.cborMapper = cborMapper;
+        this.smileMapper = smileMapper;
+        this.rateLimiter = rateLimiter;
+        this.exportTimeout = exportTimeout;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LogSamplingInterceptor(successSampleRate));
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter));
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new ExportTimeoutInterceptor(exportTimeout));
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper));
+    }
+}
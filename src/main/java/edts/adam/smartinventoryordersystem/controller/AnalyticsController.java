@@ -0,0 +1,131 @@
+package edts.adam.smartinventoryordersystem.controller;
+
+import edts.adam.smartinventoryordersystem.dto.ApiResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.AnalyticsBackfillResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.CategoryRevenueResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.DailyRevenueResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.ItemAggregateResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.MembershipDiscountResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.TopProductResponse;
+import edts.adam.smartinventoryordersystem.enums.ItemGroup;
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.enums.SalesMetric;
+import edts.adam.smartinventoryordersystem.exception.BadRequestException;
+import edts.adam.smartinventoryordersystem.service.OrderItemColumns;
+import edts.adam.smartinventoryordersystem.service.SalesAnalytics;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * REST controller exposing sales reports served from the in-memory rollups of
+ * {@link SalesAnalytics} and the columnar item snapshot of
+ * {@link OrderItemColumns}; no report queries the orders table.
+ * All responses are wrapped in {@link ApiResponse}.
+ */
+@RestController
+@RequestMapping("/analytics")
+@Tag(name = "Analytics", description = "Sales reporting endpoints")
+public class AnalyticsController {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsController.class);
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_DAYS = 366;
+    private static final int MAX_TOP_PRODUCTS = 100;
+
+    private final SalesAnalytics salesAnalytics;
+    private final OrderItemColumns orderItemColumns;
+    private final MessageUtil messageUtil;
+    private final ZoneId zone;
+
+    public AnalyticsController(SalesAnalytics salesAnalytics, OrderItemColumns orderItemColumns,
+            MessageUtil messageUtil, @Value("${app.analytics.time-zone:Asia/Jakarta}") ZoneId zone) {
+        this.salesAnalytics = salesAnalytics;
+        this.orderItemColumns = orderItemColumns;
+        this.messageUtil = messageUtil;
+        this.zone = zone;
+    }
+
+    @Operation(summary = "Revenue by day", description = "Paid and cancelled orders, gross revenue, discounts and net revenue per day the orders were placed. Defaults to the last 30 days; at most 366 days")
+    @GetMapping("/revenue/daily")
+    public ResponseEntity<ApiResponse<List<DailyRevenueResponse>>> getDailyRevenue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info(LogSampling.SAMPLED, "GET /analytics/revenue/daily — from: {}, to: {}", from, to);
+        LocalDate end = to != null ? to : LocalDate.now(zone);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new BadRequestException("analytics.range.invalid", MAX_DAYS);
+        }
+        List<DailyRevenueResponse> response = salesAnalytics.getDailyRevenue(start, end);
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Revenue by product category", description = "Units sold and item revenue (before order discounts) of paid orders per category")
+    @GetMapping("/revenue/categories")
+    public ResponseEntity<ApiResponse<List<CategoryRevenueResponse>>> getCategoryRevenue() {
+        log.info(LogSampling.SAMPLED, "GET /analytics/revenue/categories — Fetching category revenue");
+        List<CategoryRevenueResponse> response = salesAnalytics.getCategoryRevenue();
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Top products", description = "Best-selling products of paid orders ranked by REVENUE or UNITS")
+    @GetMapping("/products/top")
+    public ResponseEntity<ApiResponse<List<TopProductResponse>>> getTopProducts(
+            @RequestParam(defaultValue = "REVENUE") SalesMetric by,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info(LogSampling.SAMPLED, "GET /analytics/products/top — by: {}, limit: {}", by, limit);
+        List<TopProductResponse> response = salesAnalytics.getTopProducts(by,
+                Math.max(1, Math.min(limit, MAX_TOP_PRODUCTS)));
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Average discount by membership level", description = "Average discount amount and rate of paid orders per membership level the order was priced with")
+    @GetMapping("/discounts/membership")
+    public ResponseEntity<ApiResponse<List<MembershipDiscountResponse>>> getMembershipDiscounts() {
+        log.info(LogSampling.SAMPLED, "GET /analytics/discounts/membership — Fetching membership discounts");
+        List<MembershipDiscountResponse> response = salesAnalytics.getMembershipDiscounts();
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Aggregate paid order items", description = "Ad-hoc filter and group-by over the in-memory columnar snapshot of paid order items (refreshed every few minutes). All filters are optional; revenue is before order discounts")
+    @GetMapping("/items")
+    public ResponseEntity<ApiResponse<ItemAggregateResponse>> aggregateItems(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) ProductCategory category,
+            @RequestParam(required = false) MembershipLevel membershipLevel,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(defaultValue = "CATEGORY") ItemGroup groupBy) {
+        log.info(LogSampling.SAMPLED, "GET /analytics/items — from: {}, to: {}, category: {}, level: {}, "
+                + "productId: {}, groupBy: {}", from, to, category, membershipLevel, productId, groupBy);
+        ItemAggregateResponse response = orderItemColumns.aggregate(from, to, category, membershipLevel,
+                productId, groupBy);
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Rebuild rollups", description = "Rebuilds all rollups from order history in parallel primary-key chunks. Reports keep answering from the previous rollups meanwhile")
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<AnalyticsBackfillResponse>> backfill() {
+        log.info("POST /analytics/backfill — Rebuilding sales rollups");
+        AnalyticsBackfillResponse response = salesAnalytics.backfill();
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("analytics.backfill.success"), response));
+    }
+}
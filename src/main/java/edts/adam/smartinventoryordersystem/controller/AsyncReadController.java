@@ -0,0 +1,68 @@
+package edts.adam.smartinventoryordersystem.controller;
+
+import edts.adam.smartinventoryordersystem.dto.ApiResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
+import edts.adam.smartinventoryordersystem.service.AsyncReadService;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking read endpoints for partner integrations, mirroring
+ * {@code GET /products} and {@code GET /orders/{id}}. Each request is
+ * released from its container thread while {@link AsyncReadService} reads on
+ * its DB pool. Conditional GETs are served by the regular endpoints only.
+ */
+@RestController
+@RequestMapping("/async")
+@Tag(name = "Async Read", description = "Non-blocking product and order read endpoints")
+public class AsyncReadController {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncReadController.class);
+
+    private final AsyncReadService asyncReadService;
+    private final MessageUtil messageUtil;
+
+    public AsyncReadController(AsyncReadService asyncReadService, MessageUtil messageUtil) {
+        this.asyncReadService = asyncReadService;
+        this.messageUtil = messageUtil;
+    }
+
+    @Operation(summary = "Get all products (non-blocking)", description = "Same result as GET /products; the request thread is released while the page is read. 503 SERVER_BUSY when the read queue is full")
+    @GetMapping("/products")
+    public CompletableFuture<ResponseEntity<ApiResponse<Page<ProductResponse>>>> getAllProducts(
+            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
+        log.info(LogSampling.SAMPLED, "GET /async/products — Fetching products page: {}, size: {}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        Locale locale = LocaleContextHolder.getLocale();
+        return asyncReadService.getAllProducts(pageable)
+                .thenApply(page -> ResponseEntity.ok(
+                        ApiResponse.success(messageUtil.get(locale, "api.response.success"), page)));
+    }
+
+    @Operation(summary = "Get order by ID (non-blocking)", description = "Same result as GET /orders/{id}; the request thread is released while the order is read. 503 SERVER_BUSY when the read queue is full")
+    @GetMapping("/orders/{id}")
+    public CompletableFuture<ResponseEntity<ApiResponse<OrderResponse>>> getOrderById(@PathVariable Long id) {
+        log.info(LogSampling.SAMPLED, "GET /async/orders/{} — Fetching order", id);
+        Locale locale = LocaleContextHolder.getLocale();
+        return asyncReadService.getOrderById(id)
+                .thenApply(order -> ResponseEntity.ok(
+                        ApiResponse.success(messageUtil.get(locale, "api.response.success"), order)));
+    }
+}
@@ -4,6 +4,7 @@ import edts.adam.smartinventoryordersystem.dto.ApiResponse;
 import edts.adam.smartinventoryordersystem.dto.customer.request.CreateCustomerRequest;
 import edts.adam.smartinventoryordersystem.dto.customer.response.CustomerResponse;
 import edts.adam.smartinventoryordersystem.service.CustomerService;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
 import edts.adam.smartinventoryordersystem.util.MessageUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -42,9 +43,9 @@ public class CustomerController {
     @PostMapping
     public ResponseEntity<ApiResponse<CustomerResponse>> createCustomer(
             @Valid @RequestBody CreateCustomerRequest request) {
-        log.info("POST /customers — Creating customer with email: {}", request.getEmail());
+        log.info(LogSampling.SAMPLED, "POST /customers — Creating customer with email: {}", request.getEmail());
         CustomerResponse response = customerService.createCustomer(request);
-        log.info("Customer created successfully with id: {}", response.getId());
+        log.info(LogSampling.SAMPLED, "Customer created successfully with id: {}", response.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(messageUtil.get("customer.created.success"), response));
     }
@@ -52,7 +53,7 @@ public class CustomerController {
     @Operation(summary = "Get customer by ID", description = "Returns customer details including membership level and total spent")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CustomerResponse>> getCustomerById(@PathVariable Long id) {
-        log.info("GET /customers/{} — Fetching customer", id);
+        log.info(LogSampling.SAMPLED, "GET /customers/{} — Fetching customer", id);
         CustomerResponse response = customerService.getCustomerById(id);
         return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
     }
@@ -0,0 +1,85 @@
+package edts.adam.smartinventoryordersystem.controller;
+
+import edts.adam.smartinventoryordersystem.enums.DataFormat;
+import edts.adam.smartinventoryordersystem.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST controller exposing streaming full exports of the product catalog and
+ * order items for downstream systems.
+ * Responses are written directly to the servlet output stream, not wrapped in
+ * {@code ApiResponse}.
+ */
+@RestController
+@RequestMapping("/exports")
+@Tag(name = "Export", description = "Streaming CSV/NDJSON export endpoints")
+public class ExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportController.class);
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(summary = "Export all products", description = "Streams every product row as CSV or NDJSON, optionally gzip-compressed")
+    @GetMapping("/products")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "CSV") DataFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        log.info("GET /exports/products — format: {}, gzip: {}", format, gzip);
+        return stream("products", format, gzip, exportService::exportProducts);
+    }
+
+    @Operation(summary = "Export all order items", description = "Streams one row per order item joined with its order, as CSV or NDJSON, optionally gzip-compressed")
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "CSV") DataFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        log.info("GET /exports/orders — format: {}, gzip: {}", format, gzip);
+        return stream("orders", format, gzip, exportService::exportOrders);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String name, DataFormat format, boolean gzip,
+            BiConsumer<OutputStream, DataFormat> exporter) {
+        String filename = name + "-" + LocalDate.now() + "." + format.getFileExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exporter.accept(gzipOut, format);
+                gzipOut.finish();
+            } else {
+                exporter.accept(out, format);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -2,22 +2,51 @@ package edts.adam.smartinventoryordersystem.controller;
 
 import edts.adam.smartinventoryordersystem.dto.ApiResponse;
 import edts.adam.smartinventoryordersystem.dto.order.request.CreateOrderRequest;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderEventResponse;
 import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderStatusResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderTicketResponse;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.service.OrderConcurrencyLimiter;
+import edts.adam.smartinventoryordersystem.service.OrderIntake;
+import edts.adam.smartinventoryordersystem.service.OrderResult;
 import edts.adam.smartinventoryordersystem.service.OrderService;
+import edts.adam.smartinventoryordersystem.service.OrderStatusChange;
+import edts.adam.smartinventoryordersystem.service.OrderStatusNotifier;
+import edts.adam.smartinventoryordersystem.service.OrderTicket;
+import edts.adam.smartinventoryordersystem.service.RateLimiter;
+import edts.adam.smartinventoryordersystem.util.HttpCaching;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
 import edts.adam.smartinventoryordersystem.util.MessageUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller exposing endpoints for order creation, payment, cancellation,
@@ -30,22 +59,55 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private static final Logger log = LoggerFactory.getLogger(OrderController.class);
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
 
     private final OrderService orderService;
+    private final OrderIntake orderIntake;
+    private final OrderStatusNotifier orderStatusNotifier;
+    private final RateLimiter rateLimiter;
+    private final OrderConcurrencyLimiter orderConcurrencyLimiter;
     private final MessageUtil messageUtil;
 
-    public OrderController(OrderService orderService, MessageUtil messageUtil) {
+    public OrderController(OrderService orderService, OrderIntake orderIntake,
+            OrderStatusNotifier orderStatusNotifier, RateLimiter rateLimiter,
+            OrderConcurrencyLimiter orderConcurrencyLimiter, MessageUtil messageUtil) {
         this.orderService = orderService;
+        this.orderIntake = orderIntake;
+        this.orderStatusNotifier = orderStatusNotifier;
+        this.rateLimiter = rateLimiter;
+        this.orderConcurrencyLimiter = orderConcurrencyLimiter;
         this.messageUtil = messageUtil;
     }
 
-    @Operation(summary = "Create a new order", description = "Creates an order with stock validation, membership discount, and extra discount for orders > 5M")
+    @Operation(summary = "Create a new order", description = "Creates an order with stock validation, membership discount, and extra discount for orders > 5M. When queued (app.orders.intake.acceptance, or Prefer: respond-async), answers 202 with a token to poll at GET /orders/{token}. Rate-limited per customer (429); orders placed in the request are shed with 503 while order latency is above target")
     @PostMapping
-    public ResponseEntity<ApiResponse<OrderResponse>> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        log.info("POST /orders — Creating order for customerId: {} with {} item(s)",
+    public ResponseEntity<ApiResponse<?>> createOrder(@Valid @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+        log.info(LogSampling.SAMPLED, "POST /orders — Creating order for customerId: {} with {} item(s)",
                 request.getCustomerId(), request.getItems().size());
-        OrderResponse response = orderService.createOrder(request);
-        log.info("Order created successfully with id: {}", response.getId());
+        rateLimiter.checkCustomer(request.getCustomerId());
+        if (orderIntake.isQueued(prefer)) {
+            OrderTicket ticket = orderIntake.submit(request);
+            log.info(LogSampling.SAMPLED, "Order queued with token: {}", ticket.token());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/orders/" + ticket.token()))
+                    .header(PREFERENCE_APPLIED, "respond-async")
+                    .body(ApiResponse.success(messageUtil.get("order.accepted.success"),
+                            OrderTicketResponse.fromTicket(ticket)));
+        }
+        // Queued orders are already capped by the intake workers
+        OrderResult result;
+        try (OrderConcurrencyLimiter.Permit ignored = orderConcurrencyLimiter.acquire()) {
+            result = orderService.placeOrder(request);
+        }
+        if (result instanceof OrderResult.Rejected rejected) {
+            // Expected under flash-sale load: answered without an exception round-trip
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, "INSUFFICIENT_STOCK",
+                            messageUtil.get(rejected.messageKey(), rejected.args()), null));
+        }
+        OrderResponse response = ((OrderResult.Created) result).order();
+        log.info(LogSampling.SAMPLED, "Order created successfully with id: {}", response.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(messageUtil.get("order.created.success"), response));
     }
@@ -53,26 +115,165 @@ public class OrderController {
     @Operation(summary = "Pay an order", description = "Transitions order from CREATED to PAID. Updates customer totalSpent and recalculates membership")
     @PostMapping("/{id}/pay")
     public ResponseEntity<ApiResponse<OrderResponse>> payOrder(@PathVariable Long id) {
-        log.info("POST /orders/{}/pay — Processing payment", id);
+        log.info(LogSampling.SAMPLED, "POST /orders/{}/pay — Processing payment", id);
         OrderResponse response = orderService.payOrder(id);
-        log.info("Order id: {} paid successfully", id);
+        log.info(LogSampling.SAMPLED, "Order id: {} paid successfully", id);
         return ResponseEntity.ok(ApiResponse.success(messageUtil.get("order.paid.success"), response));
     }
 
     @Operation(summary = "Cancel an order", description = "Transitions order from CREATED to CANCELLED. Restores product stock")
     @PostMapping("/{id}/cancel")
     public ResponseEntity<ApiResponse<OrderResponse>> cancelOrder(@PathVariable Long id) {
-        log.info("POST /orders/{}/cancel — Cancelling order", id);
+        log.info(LogSampling.SAMPLED, "POST /orders/{}/cancel — Cancelling order", id);
         OrderResponse response = orderService.cancelOrder(id);
-        log.info("Order id: {} cancelled successfully", id);
+        log.info(LogSampling.SAMPLED, "Order id: {} cancelled successfully", id);
         return ResponseEntity.ok(ApiResponse.success(messageUtil.get("order.cancelled.success"), response));
     }
 
-    @Operation(summary = "Get order by ID")
-    @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<OrderResponse>> getOrderById(@PathVariable Long id) {
-        log.info("GET /orders/{} — Fetching order", id);
-        OrderResponse response = orderService.getOrderById(id);
+    @Operation(summary = "Get order event log", description = "Returns the append-only audit trail of an order (created, items added, paid/cancelled), oldest first")
+    @GetMapping("/{id}/events")
+    public ResponseEntity<ApiResponse<List<OrderEventResponse>>> getOrderEvents(@PathVariable Long id) {
+        log.info(LogSampling.SAMPLED, "GET /orders/{}/events — Fetching order event log", id);
+        List<OrderEventResponse> response = orderService.getOrderEvents(id);
         return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
     }
+
+    @Operation(summary = "Stream order status", description = "Server-Sent Events (Accept: text/event-stream): sends the current status as a 'status' event, then each transition. Completes once the order is PAID or CANCELLED, or after app.orders.status-events.stream-timeout")
+    @GetMapping(value = "/{id:\\d+}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrderStatus(@PathVariable Long id) {
+        log.info(LogSampling.SAMPLED, "GET /orders/{}/events — Streaming order status", id);
+        SseEmitter emitter = new SseEmitter(orderStatusNotifier.getStreamTimeout().toMillis());
+        // Subscribe before reading the status so a transition in between is not missed
+        OrderStatusNotifier.Subscription subscription = orderStatusNotifier.subscribe(id,
+                change -> sendStatus(emitter, OrderStatusResponse.fromChange(change)));
+        Optional<OrderStatus> status = orderService.getOrderStatus(id);
+        if (status.isEmpty()) {
+            // No JSON error body: it cannot be written as text/event-stream
+            subscription.cancel();
+            log.warn("Order not found for status stream: id={}", id);
+            return ResponseEntity.notFound().build();
+        }
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscription.cancel());
+        sendStatus(emitter, OrderStatusResponse.of(id, status.get()));
+        return ResponseEntity.ok(emitter);
+    }
+
+    @Operation(summary = "Wait for order status change", description = "Long-poll: answers as soon as the status differs from 'after', or with the unchanged status once wait (seconds, capped by app.orders.status-events.max-wait) elapses. Without 'after' answers the current status immediately")
+    @GetMapping("/{id:\\d+}/status")
+    public DeferredResult<ResponseEntity<ApiResponse<OrderStatusResponse>>> awaitOrderStatus(@PathVariable Long id,
+            @RequestParam(required = false) OrderStatus after, @RequestParam(defaultValue = "0") long wait) {
+        log.info(LogSampling.SAMPLED, "GET /orders/{}/status — Waiting for status change after {}", id, after);
+        Duration waitFor = orderStatusNotifier.longPollWait(wait);
+        Locale locale = LocaleContextHolder.getLocale();
+        CompletableFuture<OrderStatusChange> next = orderStatusNotifier.nextChange(id);
+        OrderStatus current;
+        try {
+            current = orderService.getExistingOrderStatus(id);
+        } catch (RuntimeException ex) {
+            next.cancel(false);
+            throw ex;
+        }
+        if (current != after || current.isTerminal() || waitFor.isZero()) {
+            next.cancel(false);
+            DeferredResult<ResponseEntity<ApiResponse<OrderStatusResponse>>> result = new DeferredResult<>();
+            result.setResult(statusResponse(OrderStatusResponse.of(id, current), locale));
+            return result;
+        }
+        DeferredResult<ResponseEntity<ApiResponse<OrderStatusResponse>>> result = new DeferredResult<>(
+                waitFor.toMillis(), () -> statusResponse(OrderStatusResponse.of(id, current), locale));
+        result.onCompletion(() -> next.cancel(false));
+        next.thenAccept(change -> result.setResult(statusResponse(OrderStatusResponse.fromChange(change), locale)));
+        return result;
+    }
+
+    @Operation(summary = "Get queued order", description = "Returns the status of an order accepted with 202: 202 while pending, 200 once placed, rejected or failed. wait (seconds, capped by app.orders.intake.max-wait) long-polls until it completes")
+    @GetMapping("/{token:[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}}")
+    public DeferredResult<ResponseEntity<ApiResponse<OrderTicketResponse>>> getOrderTicket(
+            @PathVariable String token, @RequestParam(defaultValue = "0") long wait) {
+        log.info(LogSampling.SAMPLED, "GET /orders/{} — Polling queued order", token);
+        OrderTicket ticket = orderIntake.getTicket(token);
+        Duration waitFor = orderIntake.longPollWait(wait);
+        Locale locale = LocaleContextHolder.getLocale();
+        if (ticket.isDone() || waitFor.isZero()) {
+            DeferredResult<ResponseEntity<ApiResponse<OrderTicketResponse>>> result = new DeferredResult<>();
+            result.setResult(ticketResponse(ticket, locale));
+            return result;
+        }
+        // Completed by the intake worker, or with the still-pending ticket on timeout
+        DeferredResult<ResponseEntity<ApiResponse<OrderTicketResponse>>> result = new DeferredResult<>(
+                waitFor.toMillis(), () -> ticketResponse(orderIntake.getTicket(token), locale));
+        orderIntake.whenDone(token).thenAccept(done -> result.setResult(ticketResponse(done, locale)));
+        return result;
+    }
+
+    @Operation(summary = "Get order by ID", description = "Sends an ETag validator; answers If-None-Match with 304 Not Modified without loading the order. PAID and CANCELLED orders rebuilt from the event log are cacheable as immutable")
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<ApiResponse<OrderResponse>> getOrderById(@PathVariable Long id, WebRequest webRequest) {
+        log.info(LogSampling.SAMPLED, "GET /orders/{} — Fetching order", id);
+        Optional<OrderStatus> status = orderService.getOrderStatus(id);
+        if (status.isPresent()) {
+            String eTag = HttpCaching.orderETag(id, status.get(), webRequest);
+            if (webRequest.checkNotModified(eTag)) {
+                log.debug("Order id: {} not modified", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .cacheControl(HttpCaching.orderCacheControl(status.get()))
+                        .varyBy(HttpCaching.VARY)
+                        .build();
+            }
+        }
+        OrderResponse response = orderService.getOrderById(id);
+        ApiResponse<OrderResponse> body = ApiResponse.success(messageUtil.get("api.response.success"), response);
+        if (!response.isFromEventLog()) {
+            // Live names are not covered by the status ETag: no validator, no immutability
+            return ResponseEntity.ok()
+                    .cacheControl(HttpCaching.liveOrderCacheControl())
+                    .varyBy(HttpCaching.VARY)
+                    .body(body);
+        }
+        return ResponseEntity.ok()
+                .eTag(HttpCaching.orderETag(id, response.getStatus(), webRequest))
+                .cacheControl(HttpCaching.orderCacheControl(response.getStatus()))
+                .varyBy(HttpCaching.VARY)
+                .body(body);
+    }
+
+    private ResponseEntity<ApiResponse<OrderTicketResponse>> ticketResponse(OrderTicket ticket, Locale locale) {
+        OrderTicketResponse body = OrderTicketResponse.fromTicket(ticket);
+        return switch (ticket.status()) {
+            case PENDING -> ResponseEntity.accepted()
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.success(messageUtil.get(locale, "order.queued.pending"), body));
+            case CREATED -> ResponseEntity.ok()
+                    .location(URI.create("/orders/" + ticket.order().getId()))
+                    .body(ApiResponse.success(messageUtil.get(locale, "order.created.success"), body));
+            case REJECTED, FAILED -> ResponseEntity.ok(new ApiResponse<>(false, ticket.errorCode(),
+                    messageUtil.get(locale, ticket.messageKey(), ticket.args()), body));
+        };
+    }
+
+    private ResponseEntity<ApiResponse<OrderStatusResponse>> statusResponse(OrderStatusResponse status, Locale locale) {
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get(locale, "api.response.success"), status));
+    }
+
+    /** Sends a status event, completing the stream once the status is terminal. */
+    private static void sendStatus(SseEmitter emitter, OrderStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("status")
+                    .id(status.getStatus().name())
+                    .data(status, MediaType.APPLICATION_JSON));
+            if (status.getStatus().isTerminal()) {
+                emitter.complete();
+            }
+        } catch (IOException ex) {
+            log.debug("Status stream of order id={} closed by client", status.getOrderId());
+            emitter.completeWithError(ex);
+        } catch (IllegalStateException ex) {
+            // Already completed, e.g. the initial status was terminal
+            log.debug("Status stream of order id={} already complete", status.getOrderId());
+        }
+    }
 }
@@ -3,11 +3,31 @@ package edts.adam.smartinventoryordersystem.controller;
 import edts.adam.smartinventoryordersystem.dto.ApiResponse;
 import edts.adam.smartinventoryordersystem.dto.product.request.CreateProductRequest;
 import edts.adam.smartinventoryordersystem.dto.product.request.UpdateProductRequest;
+import edts.adam.smartinventoryordersystem.dto.product.request.UpdateProductStockRequest;
+import edts.adam.smartinventoryordersystem.dto.product.request.UpdateStockBucketsRequest;
+import edts.adam.smartinventoryordersystem.dto.product.response.ForecastRunResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.LowStockProductResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductForecastResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductImportResponse;
 import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductSearchResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.StockBucketsResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.WarehouseStockResponse;
+import edts.adam.smartinventoryordersystem.enums.DataFormat;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.enums.StockAlertType;
+import edts.adam.smartinventoryordersystem.service.DemandForecastService;
+import edts.adam.smartinventoryordersystem.service.ProductImportService;
 import edts.adam.smartinventoryordersystem.service.ProductService;
+import edts.adam.smartinventoryordersystem.service.ProductVersion;
+import edts.adam.smartinventoryordersystem.service.StockBucketService;
+import edts.adam.smartinventoryordersystem.service.WarehouseService;
+import edts.adam.smartinventoryordersystem.util.HttpCaching;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
 import edts.adam.smartinventoryordersystem.util.MessageUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,7 +43,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * REST controller exposing CRUD endpoints for product management.
@@ -35,12 +63,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
     private static final Logger log = LoggerFactory.getLogger(ProductController.class);
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_LOW_STOCK_LIMIT = 1000;
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final DemandForecastService demandForecastService;
+    private final WarehouseService warehouseService;
+    private final StockBucketService stockBucketService;
     private final MessageUtil messageUtil;
 
-    public ProductController(ProductService productService, MessageUtil messageUtil) {
+    public ProductController(ProductService productService, ProductImportService productImportService,
+            DemandForecastService demandForecastService, WarehouseService warehouseService,
+            StockBucketService stockBucketService, MessageUtil messageUtil) {
         this.productService = productService;
+        this.productImportService = productImportService;
+        this.demandForecastService = demandForecastService;
+        this.warehouseService = warehouseService;
+        this.stockBucketService = stockBucketService;
         this.messageUtil = messageUtil;
     }
 
@@ -48,20 +88,32 @@ public class ProductController {
     @PostMapping
     public ResponseEntity<ApiResponse<ProductResponse>> createProduct(
             @Valid @RequestBody CreateProductRequest request) {
-        log.info("POST /products — Creating product with name: {}", request.getName());
+        log.info(LogSampling.SAMPLED, "POST /products — Creating product with name: {}", request.getName());
         ProductResponse response = productService.createProduct(request);
-        log.info("Product created successfully with id: {}", response.getId());
+        log.info(LogSampling.SAMPLED, "Product created successfully with id: {}", response.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(messageUtil.get("product.created.success"), response));
     }
 
+    @Operation(summary = "Bulk import products", description = "Streams a CSV (text/csv, header: name,category,price,stock) or NDJSON (application/x-ndjson) body. Existing names are updated, new names created. Returns a per-row error report")
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(HttpServletRequest request)
+            throws IOException {
+        DataFormat format = DataFormat.fromContentType(request.getContentType());
+        log.info("POST /products/import — Importing products as {}", format);
+        ProductImportResponse response = productImportService.importProducts(request.getInputStream(), format);
+        log.info("Product import finished: created={}, updated={}, failed={}",
+                response.getCreated(), response.getUpdated(), response.getFailed());
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("product.imported.success"), response));
+    }
+
     @Operation(summary = "Update an existing product", description = "Updates product details including stock. Price change blocked if completed orders exist; deactivation blocked if pending orders exist")
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> updateProduct(@PathVariable Long id,
             @Valid @RequestBody UpdateProductRequest request) {
-        log.info("PUT /products/{} — Updating product", id);
+        log.info(LogSampling.SAMPLED, "PUT /products/{} — Updating product", id);
         ProductResponse response = productService.updateProduct(id, request);
-        log.info("Product id: {} updated successfully", id);
+        log.info(LogSampling.SAMPLED, "Product id: {} updated successfully", id);
         return ResponseEntity.ok(ApiResponse.success(messageUtil.get("product.updated.success"), response));
     }
 
@@ -69,28 +121,133 @@ public class ProductController {
     @GetMapping
     public ResponseEntity<ApiResponse<Page<ProductResponse>>> getAllProducts(
             @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        log.info("GET /products — Fetching products page: {}, size: {}", pageable.getPageNumber(),
-                pageable.getPageSize());
+        log.info(LogSampling.SAMPLED, "GET /products — Fetching products page: {}, size: {}",
+                pageable.getPageNumber(), pageable.getPageSize());
         Page<ProductResponse> response = productService.getAllProducts(pageable);
-        log.info("Returned {} products (page {} of {})", response.getNumberOfElements(),
-                pageable.getPageNumber(), response.getTotalPages());
+        log.info(LogSampling.SAMPLED, "Returned {} products (page {} of {})",
+                response.getNumberOfElements(), pageable.getPageNumber(), response.getTotalPages());
         return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
     }
 
-    @Operation(summary = "Get product by ID")
+    @Operation(summary = "Search products", description = "Full-text search on product name (last term matched as prefix) with category and price filters. Returns top-N results with category and price-range facet counts")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<ProductSearchResponse>> searchProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) ProductCategory category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info(LogSampling.SAMPLED, "GET /products/search — q: '{}', category: {}, price: [{}, {}]",
+                q, category, minPrice, maxPrice);
+        int limit = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        ProductSearchResponse response = productService.searchProducts(q, category, minPrice, maxPrice, limit);
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "List low-stock products", description = "Active products at or below their reorder point (LOW_STOCK) or out of stock (OUT_OF_STOCK), lowest stock first. Served from memory")
+    @GetMapping("/low-stock")
+    public ResponseEntity<ApiResponse<List<LowStockProductResponse>>> getLowStockProducts(
+            @RequestParam(required = false) StockAlertType status,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info(LogSampling.SAMPLED, "GET /products/low-stock — status: {}, limit: {}", status, limit);
+        List<LowStockProductResponse> response = productService.getLowStockProducts(status,
+                Math.max(1, Math.min(limit, MAX_LOW_STOCK_LIMIT)));
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Get product by ID", description = "Sends ETag/Last-Modified validators (ETag only for striped products, whose stock moves without updatedAt); answers If-None-Match / If-Modified-Since with 304 Not Modified without loading the product")
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProductResponse>> getProductById(@PathVariable Long id) {
-        log.info("GET /products/{} — Fetching product", id);
+    public ResponseEntity<ApiResponse<ProductResponse>> getProductById(@PathVariable Long id,
+            WebRequest webRequest) {
+        log.info(LogSampling.SAMPLED, "GET /products/{} — Fetching product", id);
+        Optional<ProductVersion> version = productService.getProductVersion(id);
+        Instant lastModified = version.map(ProductVersion::lastModified).orElse(null);
+        if (version.isPresent()) {
+            String eTag = HttpCaching.productETag(id, version.get().updatedAt(), version.get().stock(), webRequest);
+            boolean notModified = lastModified != null
+                    ? webRequest.checkNotModified(eTag, lastModified.toEpochMilli())
+                    : webRequest.checkNotModified(eTag);
+            if (notModified) {
+                log.debug("Product id: {} not modified", id);
+                return productValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTag, lastModified)
+                        .build();
+            }
+        }
         ProductResponse response = productService.getProductById(id);
+        String eTag = HttpCaching.productETag(id, response.getUpdatedAt(), response.getStock(), webRequest);
+        return productValidators(ResponseEntity.ok(), eTag, lastModified != null ? response.getUpdatedAt() : null)
+                .body(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Get product demand forecast", description = "Latest moving-average and exponentially smoothed daily demand of the product, and the units expected to sell over the forecast horizon")
+    @GetMapping("/{id}/forecast")
+    public ResponseEntity<ApiResponse<ProductForecastResponse>> getProductForecast(@PathVariable Long id) {
+        log.info(LogSampling.SAMPLED, "GET /products/{}/forecast — Fetching demand forecast", id);
+        ProductForecastResponse response = demandForecastService.getForecast(id);
         return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
     }
 
+    @Operation(summary = "Recompute demand forecasts", description = "Runs the nightly forecast batch job now: streams paid order history per product-id partition in parallel and replaces all forecasts. Rejected while a run is in progress")
+    @PostMapping("/forecast/run")
+    public ResponseEntity<ApiResponse<ForecastRunResponse>> runForecast() {
+        log.info("POST /products/forecast/run — Recomputing demand forecasts");
+        ForecastRunResponse response = demandForecastService.run();
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("product.forecast.success"), response));
+    }
+
+    @Operation(summary = "Get product stock per warehouse", description = "Returns the product's stock at each warehouse. Empty if the product is not warehouse-managed")
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<ApiResponse<List<WarehouseStockResponse>>> getProductStock(@PathVariable Long id) {
+        log.info(LogSampling.SAMPLED, "GET /products/{}/stock — Fetching warehouse stock", id);
+        List<WarehouseStockResponse> response = warehouseService.getProductStock(id);
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Set product stock per warehouse", description = "Replaces the product's stock split across warehouses and sets its total stock. The product becomes warehouse-managed: orders ship from the nearest warehouses holding stock and its stock can no longer be edited through PUT /products/{id}")
+    @PutMapping("/{id}/stock")
+    public ResponseEntity<ApiResponse<List<WarehouseStockResponse>>> setProductStock(@PathVariable Long id,
+            @Valid @RequestBody UpdateProductStockRequest request) {
+        log.info(LogSampling.SAMPLED, "PUT /products/{}/stock — Setting stock for {} warehouse(s)", id,
+                request.getWarehouses().size());
+        List<WarehouseStockResponse> response = warehouseService.setProductStock(id, request);
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("product.stock.updated.success"), response));
+    }
+
+    @Operation(summary = "Get product stock buckets", description = "Returns the product's stock per bucket. Empty if the product is not striped")
+    @GetMapping("/{id}/buckets")
+    public ResponseEntity<ApiResponse<StockBucketsResponse>> getStockBuckets(@PathVariable Long id) {
+        log.info(LogSampling.SAMPLED, "GET /products/{}/buckets — Fetching stock buckets", id);
+        StockBucketsResponse response = stockBucketService.getBuckets(id);
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Stripe product stock into buckets", description = "Spreads the product's stock (or a new total) evenly over N bucket rows so concurrent orders for a hot product lock different rows. Orders take from one bucket and fall back to the others on shortfall; buckets are rebalanced periodically. One bucket merges the stock back into the product")
+    @PutMapping("/{id}/buckets")
+    public ResponseEntity<ApiResponse<StockBucketsResponse>> setStockBuckets(@PathVariable Long id,
+            @Valid @RequestBody UpdateStockBucketsRequest request) {
+        log.info(LogSampling.SAMPLED, "PUT /products/{}/buckets — Striping stock into {} bucket(s)", id,
+                request.getBuckets());
+        StockBucketsResponse response = stockBucketService.setBuckets(id, request);
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("product.buckets.updated.success"), response));
+    }
+
     @Operation(summary = "Soft-delete a product", description = "Sets product active=false. Only allowed if stock is zero")
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> deleteProduct(@PathVariable Long id) {
-        log.info("DELETE /products/{} — Soft-deleting product", id);
+        log.info(LogSampling.SAMPLED, "DELETE /products/{} — Soft-deleting product", id);
         ProductResponse response = productService.deleteProduct(id);
-        log.info("Product id: {} soft-deleted successfully", id);
+        log.info(LogSampling.SAMPLED, "Product id: {} soft-deleted successfully", id);
         return ResponseEntity.ok(ApiResponse.success(messageUtil.get("product.deleted.success"), response));
     }
+
+    /** Adds the product validators and caching headers; no Last-Modified if {@code lastModified} is null. */
+    private static <B extends ResponseEntity.HeadersBuilder<B>> B productValidators(B builder, String eTag,
+            Instant lastModified) {
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder.eTag(eTag)
+                .cacheControl(HttpCaching.productCacheControl())
+                .varyBy(HttpCaching.VARY);
+    }
 }
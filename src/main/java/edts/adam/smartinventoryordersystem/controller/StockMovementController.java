@@ -0,0 +1,62 @@
+package edts.adam.smartinventoryordersystem.controller;
+
+import edts.adam.smartinventoryordersystem.dto.ApiResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.StockMovementResponse;
+import edts.adam.smartinventoryordersystem.service.StockJournal;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller exposing the stock movement journal: a tailing read by
+ * sequence number and the per-product balances it adds up to.
+ * All responses are wrapped in {@link ApiResponse}.
+ */
+@RestController
+@RequestMapping("/stock-movements")
+@Tag(name = "Stock Movement", description = "Stock movement journal endpoints")
+public class StockMovementController {
+
+    private static final Logger log = LoggerFactory.getLogger(StockMovementController.class);
+    private static final int MAX_LIMIT = 1000;
+
+    private final StockJournal stockJournal;
+    private final MessageUtil messageUtil;
+
+    public StockMovementController(StockJournal stockJournal, MessageUtil messageUtil) {
+        this.stockJournal = stockJournal;
+        this.messageUtil = messageUtil;
+    }
+
+    @Operation(summary = "Tail stock movements", description = "Returns movements with a sequence greater than 'after', oldest first. Pass the last sequence received to continue; movements compacted into balances are skipped")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<StockMovementResponse>>> getMovements(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info(LogSampling.SAMPLED, "GET /stock-movements — after: {}, limit: {}", after, limit);
+        List<StockMovementResponse> response = stockJournal.read(after, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(StockMovementResponse::fromMovement)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"), response));
+    }
+
+    @Operation(summary = "Get journaled stock balances", description = "Current stock per product id as recorded by the journal")
+    @GetMapping("/balances")
+    public ResponseEntity<ApiResponse<Map<Long, Integer>>> getBalances() {
+        log.info(LogSampling.SAMPLED, "GET /stock-movements/balances — Computing balances");
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"),
+                stockJournal.balances()));
+    }
+}
@@ -0,0 +1,61 @@
+package edts.adam.smartinventoryordersystem.controller;
+
+import edts.adam.smartinventoryordersystem.dto.ApiResponse;
+import edts.adam.smartinventoryordersystem.dto.warehouse.request.CreateWarehouseRequest;
+import edts.adam.smartinventoryordersystem.dto.warehouse.response.WarehouseResponse;
+import edts.adam.smartinventoryordersystem.service.WarehouseService;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller exposing endpoints for warehouse registration and listing.
+ * All responses are wrapped in {@link ApiResponse}.
+ */
+@RestController
+@RequestMapping("/warehouses")
+@Tag(name = "Warehouse", description = "Warehouse management endpoints")
+public class WarehouseController {
+
+    private static final Logger log = LoggerFactory.getLogger(WarehouseController.class);
+
+    private final WarehouseService warehouseService;
+    private final MessageUtil messageUtil;
+
+    public WarehouseController(WarehouseService warehouseService, MessageUtil messageUtil) {
+        this.warehouseService = warehouseService;
+        this.messageUtil = messageUtil;
+    }
+
+    @Operation(summary = "Register a new warehouse", description = "Creates a warehouse with a unique code and its location, used to pick the nearest stock for orders")
+    @PostMapping
+    public ResponseEntity<ApiResponse<WarehouseResponse>> createWarehouse(
+            @Valid @RequestBody CreateWarehouseRequest request) {
+        log.info(LogSampling.SAMPLED, "POST /warehouses — Creating warehouse with code: {}", request.getCode());
+        WarehouseResponse response = warehouseService.createWarehouse(request);
+        log.info(LogSampling.SAMPLED, "Warehouse created successfully with id: {}", response.getId());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(messageUtil.get("warehouse.created.success"), response));
+    }
+
+    @Operation(summary = "List warehouses", description = "Returns all warehouses with their locations")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<WarehouseResponse>>> getAllWarehouses() {
+        log.info(LogSampling.SAMPLED, "GET /warehouses — Listing warehouses");
+        return ResponseEntity.ok(ApiResponse.success(messageUtil.get("api.response.success"),
+                warehouseService.getAllWarehouses()));
+    }
+}
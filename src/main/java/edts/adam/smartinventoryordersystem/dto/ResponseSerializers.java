@@ -0,0 +1,355 @@
+package edts.adam.smartinventoryordersystem.dto;
+
+import edts.adam.smartinventoryordersystem.dto.customer.response.CustomerResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderItemResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Hand-written Jackson serializers for {@link ApiResponse} and the response
+ * DTOs on the hot read paths.
+ * <p>
+ * Each serializer calls the getters directly and writes property names from
+ * pre-encoded {@link SerializedString}s, skipping bean introspection and
+ * per-property writer dispatch. The output is byte-for-byte what the default
+ * bean serializer produces: same property order ({@code @JsonPropertyOrder}),
+ * nulls kept on DTOs and dropped on {@code ApiResponse}
+ * ({@code @JsonInclude(NON_NULL)}), ISO-8601 instants, enum names. Keep these
+ * in sync when a DTO gains a field.
+ * </p>
+ */
+public final class ResponseSerializers {
+
+    private ResponseSerializers() {
+    }
+
+    /**
+     * Module registering all serializers; picked up by Spring Boot as a
+     * {@link JacksonModule} bean.
+     */
+    public static JacksonModule module() {
+        SimpleModule module = new SimpleModule("ResponseSerializers");
+        module.addSerializer(new ApiResponseSerializer());
+        module.addSerializer(new ProductResponseSerializer());
+        module.addSerializer(new OrderResponseSerializer());
+        module.addSerializer(new OrderItemResponseSerializer());
+        module.addSerializer(new CustomerResponseSerializer());
+        return module;
+    }
+
+    // === ApiResponse ===
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    static final class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+        ApiResponseSerializer() {
+            super(ApiResponse.class);
+        }
+
+        @Override
+        public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(SUCCESS);
+            gen.writeBoolean(value.isSuccess());
+            if (value.getCode() != null) {
+                gen.writeName(CODE);
+                gen.writeString(value.getCode());
+            }
+            if (value.getMessage() != null) {
+                gen.writeName(MESSAGE);
+                gen.writeString(value.getMessage());
+            }
+            if (value.getData() != null) {
+                gen.writeName(DATA);
+                ctxt.writeValue(gen, value.getData());
+            }
+            if (value.getTimestamp() != null) {
+                gen.writeName(TIMESTAMP);
+                writeInstantValue(gen, value.getTimestamp());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    // === ProductResponse ===
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString PRICE = new SerializedString("price");
+    private static final SerializableString STOCK = new SerializedString("stock");
+    private static final SerializableString REORDER_POINT = new SerializedString("reorderPoint");
+    private static final SerializableString ACTIVE = new SerializedString("active");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    static final class ProductResponseSerializer extends StdSerializer<ProductResponse> {
+
+        ProductResponseSerializer() {
+            super(ProductResponse.class);
+        }
+
+        @Override
+        public void serialize(ProductResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            writeNumber(gen, ID, value.getId());
+            writeString(gen, NAME, value.getName());
+            writeEnum(gen, CATEGORY, value.getCategory());
+            writeNumber(gen, PRICE, value.getPrice());
+            writeNumber(gen, STOCK, value.getStock());
+            writeNumber(gen, REORDER_POINT, value.getReorderPoint());
+            writeBoolean(gen, ACTIVE, value.getActive());
+            writeInstant(gen, CREATED_AT, value.getCreatedAt());
+            writeInstant(gen, UPDATED_AT, value.getUpdatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    // === OrderResponse / OrderItemResponse ===
+
+    private static final SerializableString CUSTOMER_ID = new SerializedString("customerId");
+    private static final SerializableString CUSTOMER_NAME = new SerializedString("customerName");
+    private static final SerializableString ITEMS = new SerializedString("items");
+    private static final SerializableString TOTAL_AMOUNT = new SerializedString("totalAmount");
+    private static final SerializableString DISCOUNT_AMOUNT = new SerializedString("discountAmount");
+    private static final SerializableString FINAL_AMOUNT = new SerializedString("finalAmount");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PRICE_AT_PURCHASE = new SerializedString("priceAtPurchase");
+    private static final SerializableString PRODUCT_ID = new SerializedString("productId");
+    private static final SerializableString PRODUCT_NAME = new SerializedString("productName");
+    private static final SerializableString QUANTITY = new SerializedString("quantity");
+    private static final SerializableString SUBTOTAL = new SerializedString("subtotal");
+
+    static final class OrderResponseSerializer extends StdSerializer<OrderResponse> {
+
+        OrderResponseSerializer() {
+            super(OrderResponse.class);
+        }
+
+        @Override
+        public void serialize(OrderResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            writeNumber(gen, ID, value.getId());
+            writeNumber(gen, CUSTOMER_ID, value.getCustomerId());
+            writeString(gen, CUSTOMER_NAME, value.getCustomerName());
+            gen.writeName(ITEMS);
+            List<OrderItemResponse> items = value.getItems();
+            if (items == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(items, items.size());
+                for (OrderItemResponse item : items) {
+                    if (item == null) {
+                        gen.writeNull();
+                    } else {
+                        writeOrderItem(item, gen);
+                    }
+                }
+                gen.writeEndArray();
+            }
+            writeNumber(gen, TOTAL_AMOUNT, value.getTotalAmount());
+            writeNumber(gen, DISCOUNT_AMOUNT, value.getDiscountAmount());
+            writeNumber(gen, FINAL_AMOUNT, value.getFinalAmount());
+            writeEnum(gen, STATUS, value.getStatus());
+            writeInstant(gen, CREATED_AT, value.getCreatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class OrderItemResponseSerializer extends StdSerializer<OrderItemResponse> {
+
+        OrderItemResponseSerializer() {
+            super(OrderItemResponse.class);
+        }
+
+        @Override
+        public void serialize(OrderItemResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            writeOrderItem(value, gen);
+        }
+    }
+
+    private static void writeOrderItem(OrderItemResponse value, JsonGenerator gen) {
+        gen.writeStartObject(value);
+        writeNumber(gen, PRICE_AT_PURCHASE, value.getPriceAtPurchase());
+        writeNumber(gen, PRODUCT_ID, value.getProductId());
+        writeString(gen, PRODUCT_NAME, value.getProductName());
+        writeNumber(gen, QUANTITY, value.getQuantity());
+        writeNumber(gen, SUBTOTAL, value.getSubtotal());
+        gen.writeEndObject();
+    }
+
+    // === CustomerResponse ===
+
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString MEMBERSHIP_LEVEL = new SerializedString("membershipLevel");
+    private static final SerializableString TOTAL_SPENT = new SerializedString("totalSpent");
+
+    static final class CustomerResponseSerializer extends StdSerializer<CustomerResponse> {
+
+        CustomerResponseSerializer() {
+            super(CustomerResponse.class);
+        }
+
+        @Override
+        public void serialize(CustomerResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            writeBoolean(gen, ACTIVE, value.getActive());
+            writeString(gen, EMAIL, value.getEmail());
+            writeNumber(gen, ID, value.getId());
+            writeEnum(gen, MEMBERSHIP_LEVEL, value.getMembershipLevel());
+            writeString(gen, NAME, value.getName());
+            writeNumber(gen, TOTAL_SPENT, value.getTotalSpent());
+            gen.writeEndObject();
+        }
+    }
+
+    // === Property Writers ===
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Long value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Integer value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, BigDecimal value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeBoolean(JsonGenerator gen, SerializableString name, Boolean value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(value);
+        }
+    }
+
+    private static void writeEnum(JsonGenerator gen, SerializableString name, Enum<?> value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value.name());
+        }
+    }
+
+    private static void writeInstant(JsonGenerator gen, SerializableString name, Instant value) {
+        gen.writeName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            writeInstantValue(gen, value);
+        }
+    }
+
+    /** Largest epoch second still in year 9999 (ISO_INSTANT adds a sign beyond it). */
+    private static final long MAX_FAST_EPOCH_SECOND = 253402300799L;
+
+    /**
+     * Writes the ISO-8601 form {@link Instant#toString()} would produce, without
+     * going through {@code DateTimeFormatter} (about half of all bytes
+     * allocated per product). Instants before 1970 or after 9999 take the
+     * regular path.
+     */
+    private static void writeInstantValue(JsonGenerator gen, Instant value) {
+        long epochSecond = value.getEpochSecond();
+        if (epochSecond < 0 || epochSecond > MAX_FAST_EPOCH_SECOND) {
+            gen.writeString(value.toString());
+            return;
+        }
+        char[] buf = new char[30];
+        int len = formatIsoInstant(epochSecond, value.getNano(), buf);
+        gen.writeString(buf, 0, len);
+    }
+
+    static int formatIsoInstant(long epochSecond, int nano, char[] buf) {
+        long days = epochSecond / 86_400;
+        int secondOfDay = (int) (epochSecond % 86_400);
+
+        // Civil-from-days (proleptic Gregorian), valid for non-negative epoch days
+        long z = days + 719_468;
+        long era = z / 146_097;
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        int pos = 0;
+        pos = digits(buf, pos, year, 4);
+        buf[pos++] = '-';
+        pos = digits(buf, pos, month, 2);
+        buf[pos++] = '-';
+        pos = digits(buf, pos, day, 2);
+        buf[pos++] = 'T';
+        pos = digits(buf, pos, secondOfDay / 3_600, 2);
+        buf[pos++] = ':';
+        pos = digits(buf, pos, secondOfDay / 60 % 60, 2);
+        buf[pos++] = ':';
+        pos = digits(buf, pos, secondOfDay % 60, 2);
+        if (nano != 0) {
+            buf[pos++] = '.';
+            if (nano % 1_000_000 == 0) {
+                pos = digits(buf, pos, nano / 1_000_000, 3);
+            } else if (nano % 1_000 == 0) {
+                pos = digits(buf, pos, nano / 1_000, 6);
+            } else {
+                pos = digits(buf, pos, nano, 9);
+            }
+        }
+        buf[pos++] = 'Z';
+        return pos;
+    }
+
+    private static int digits(char[] buf, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,47 @@
+package edts.adam.smartinventoryordersystem.dto.analytics.response;
+
+/**
+ * Response DTO summarizing a rebuild of the sales rollups from order history.
+ */
+public class AnalyticsBackfillResponse {
+
+    private Long orders;
+    private Integer chunks;
+    private Long durationMs;
+
+    // === Static Factory Method ===
+
+    public static AnalyticsBackfillResponse of(Long orders, Integer chunks, Long durationMs) {
+        AnalyticsBackfillResponse response = new AnalyticsBackfillResponse();
+        response.setOrders(orders);
+        response.setChunks(chunks);
+        response.setDurationMs(durationMs);
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getOrders() {
+        return orders;
+    }
+
+    public void setOrders(Long orders) {
+        this.orders = orders;
+    }
+
+    public Integer getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(Integer chunks) {
+        this.chunks = chunks;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
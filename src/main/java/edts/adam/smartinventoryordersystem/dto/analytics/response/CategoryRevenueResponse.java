@@ -0,0 +1,51 @@
+package edts.adam.smartinventoryordersystem.dto.analytics.response;
+
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import java.math.BigDecimal;
+
+/**
+ * Response DTO for paid sales of one product category. Revenue is the sum
+ * of item subtotals, before order-level discounts.
+ */
+public class CategoryRevenueResponse {
+
+    private ProductCategory category;
+    private Long unitsSold;
+    private BigDecimal revenue;
+
+    // === Static Factory Method ===
+
+    public static CategoryRevenueResponse of(ProductCategory category, Long unitsSold, BigDecimal revenue) {
+        CategoryRevenueResponse response = new CategoryRevenueResponse();
+        response.setCategory(category);
+        response.setUnitsSold(unitsSold);
+        response.setRevenue(revenue);
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public ProductCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(ProductCategory category) {
+        this.category = category;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
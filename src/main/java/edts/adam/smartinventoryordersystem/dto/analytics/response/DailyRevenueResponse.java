@@ -0,0 +1,82 @@
+package edts.adam.smartinventoryordersystem.dto.analytics.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Response DTO for one day of the daily revenue report. Orders are
+ * bucketed by the day they were placed.
+ */
+public class DailyRevenueResponse {
+
+    private LocalDate date;
+    private Long paidOrders;
+    private Long cancelledOrders;
+    private BigDecimal grossRevenue;
+    private BigDecimal discountAmount;
+    private BigDecimal netRevenue;
+
+    // === Static Factory Method ===
+
+    public static DailyRevenueResponse of(LocalDate date, Long paidOrders, Long cancelledOrders,
+            BigDecimal grossRevenue, BigDecimal discountAmount, BigDecimal netRevenue) {
+        DailyRevenueResponse response = new DailyRevenueResponse();
+        response.setDate(date);
+        response.setPaidOrders(paidOrders);
+        response.setCancelledOrders(cancelledOrders);
+        response.setGrossRevenue(grossRevenue);
+        response.setDiscountAmount(discountAmount);
+        response.setNetRevenue(netRevenue);
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Long getPaidOrders() {
+        return paidOrders;
+    }
+
+    public void setPaidOrders(Long paidOrders) {
+        this.paidOrders = paidOrders;
+    }
+
+    public Long getCancelledOrders() {
+        return cancelledOrders;
+    }
+
+    public void setCancelledOrders(Long cancelledOrders) {
+        this.cancelledOrders = cancelledOrders;
+    }
+
+    public BigDecimal getGrossRevenue() {
+        return grossRevenue;
+    }
+
+    public void setGrossRevenue(BigDecimal grossRevenue) {
+        this.grossRevenue = grossRevenue;
+    }
+
+    public BigDecimal getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public void setDiscountAmount(BigDecimal discountAmount) {
+        this.discountAmount = discountAmount;
+    }
+
+    public BigDecimal getNetRevenue() {
+        return netRevenue;
+    }
+
+    public void setNetRevenue(BigDecimal netRevenue) {
+        this.netRevenue = netRevenue;
+    }
+}
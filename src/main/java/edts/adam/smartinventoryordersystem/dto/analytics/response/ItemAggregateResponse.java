@@ -0,0 +1,118 @@
+package edts.adam.smartinventoryordersystem.dto.analytics.response;
+
+import edts.adam.smartinventoryordersystem.enums.ItemGroup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for an aggregate query over the columnar snapshot of paid order
+ * items. Revenue is quantity × price at purchase, before order-level
+ * discounts.
+ */
+public class ItemAggregateResponse {
+
+    private ItemGroup groupBy;
+    private Instant snapshotAt;
+    private long rowsScanned;
+    private long rowsMatched;
+    private List<Group> groups = new ArrayList<>();
+
+    // === Getters & Setters ===
+
+    public ItemGroup getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(ItemGroup groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public Instant getSnapshotAt() {
+        return snapshotAt;
+    }
+
+    public void setSnapshotAt(Instant snapshotAt) {
+        this.snapshotAt = snapshotAt;
+    }
+
+    public long getRowsScanned() {
+        return rowsScanned;
+    }
+
+    public void setRowsScanned(long rowsScanned) {
+        this.rowsScanned = rowsScanned;
+    }
+
+    public long getRowsMatched() {
+        return rowsMatched;
+    }
+
+    public void setRowsMatched(long rowsMatched) {
+        this.rowsMatched = rowsMatched;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Group> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * Totals of one group; {@code key} is the category, membership level, ISO
+     * date or product id, or {@code ALL} without grouping.
+     */
+    public static class Group {
+
+        private String key;
+        private long items;
+        private long unitsSold;
+        private BigDecimal revenue;
+
+        public Group() {
+        }
+
+        public Group(String key, long items, long unitsSold, BigDecimal revenue) {
+            this.key = key;
+            this.items = items;
+            this.unitsSold = unitsSold;
+            this.revenue = revenue;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public void setKey(String key) {
+            this.key = key;
+        }
+
+        public long getItems() {
+            return items;
+        }
+
+        public void setItems(long items) {
+            this.items = items;
+        }
+
+        public long getUnitsSold() {
+            return unitsSold;
+        }
+
+        public void setUnitsSold(long unitsSold) {
+            this.unitsSold = unitsSold;
+        }
+
+        public BigDecimal getRevenue() {
+            return revenue;
+        }
+
+        public void setRevenue(BigDecimal revenue) {
+            this.revenue = revenue;
+        }
+    }
+}
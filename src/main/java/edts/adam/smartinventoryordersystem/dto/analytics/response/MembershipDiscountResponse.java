@@ -0,0 +1,62 @@
+package edts.adam.smartinventoryordersystem.dto.analytics.response;
+
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import java.math.BigDecimal;
+
+/**
+ * Response DTO for the average discount granted on paid orders of one
+ * membership level.
+ */
+public class MembershipDiscountResponse {
+
+    private MembershipLevel membershipLevel;
+    private Long paidOrders;
+    private BigDecimal averageDiscount;
+    private BigDecimal averageDiscountRate;
+
+    // === Static Factory Method ===
+
+    public static MembershipDiscountResponse of(MembershipLevel membershipLevel, Long paidOrders,
+            BigDecimal averageDiscount, BigDecimal averageDiscountRate) {
+        MembershipDiscountResponse response = new MembershipDiscountResponse();
+        response.setMembershipLevel(membershipLevel);
+        response.setPaidOrders(paidOrders);
+        response.setAverageDiscount(averageDiscount);
+        response.setAverageDiscountRate(averageDiscountRate);
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public MembershipLevel getMembershipLevel() {
+        return membershipLevel;
+    }
+
+    public void setMembershipLevel(MembershipLevel membershipLevel) {
+        this.membershipLevel = membershipLevel;
+    }
+
+    public Long getPaidOrders() {
+        return paidOrders;
+    }
+
+    public void setPaidOrders(Long paidOrders) {
+        this.paidOrders = paidOrders;
+    }
+
+    public BigDecimal getAverageDiscount() {
+        return averageDiscount;
+    }
+
+    public void setAverageDiscount(BigDecimal averageDiscount) {
+        this.averageDiscount = averageDiscount;
+    }
+
+    public BigDecimal getAverageDiscountRate() {
+        return averageDiscountRate;
+    }
+
+    public void setAverageDiscountRate(BigDecimal averageDiscountRate) {
+        this.averageDiscountRate = averageDiscountRate;
+    }
+}
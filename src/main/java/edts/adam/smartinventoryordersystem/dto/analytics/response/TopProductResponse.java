@@ -0,0 +1,71 @@
+package edts.adam.smartinventoryordersystem.dto.analytics.response;
+
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import java.math.BigDecimal;
+
+/**
+ * Response DTO for one entry of the top-products report.
+ */
+public class TopProductResponse {
+
+    private Long productId;
+    private String name;
+    private ProductCategory category;
+    private Long unitsSold;
+    private BigDecimal revenue;
+
+    // === Static Factory Method ===
+
+    public static TopProductResponse of(Long productId, String name, ProductCategory category, Long unitsSold,
+            BigDecimal revenue) {
+        TopProductResponse response = new TopProductResponse();
+        response.setProductId(productId);
+        response.setName(name);
+        response.setCategory(category);
+        response.setUnitsSold(unitsSold);
+        response.setRevenue(revenue);
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ProductCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(ProductCategory category) {
+        this.category = category;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
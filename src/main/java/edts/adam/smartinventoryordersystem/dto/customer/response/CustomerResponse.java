@@ -1,11 +1,13 @@
 package edts.adam.smartinventoryordersystem.dto.customer.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import edts.adam.smartinventoryordersystem.model.Customer;
 import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
 
 import java.math.BigDecimal;
 
 /** Response DTO representing a customer entity returned to the client. */
+@JsonPropertyOrder({ "active", "email", "id", "membershipLevel", "name", "totalSpent" })
 public class CustomerResponse {
 
     private Long id;
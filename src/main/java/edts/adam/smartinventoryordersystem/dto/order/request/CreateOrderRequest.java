@@ -1,6 +1,8 @@
 package edts.adam.smartinventoryordersystem.dto.order.request;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
@@ -16,6 +18,18 @@ public class CreateOrderRequest {
     @Valid
     private List<OrderItemRequest> items;
 
+    /**
+     * Optional delivery location; when given, warehouse-managed products ship
+     * from the nearest warehouses holding stock.
+     */
+    @DecimalMin(value = "-90.0", message = "{order.shipto.latitude.range}")
+    @DecimalMax(value = "90.0", message = "{order.shipto.latitude.range}")
+    private Double shipToLatitude;
+
+    @DecimalMin(value = "-180.0", message = "{order.shipto.longitude.range}")
+    @DecimalMax(value = "180.0", message = "{order.shipto.longitude.range}")
+    private Double shipToLongitude;
+
     // === Getters & Setters ===
 
     public Long getCustomerId() {
@@ -33,4 +47,20 @@ public class CreateOrderRequest {
     public void setItems(List<OrderItemRequest> items) {
         this.items = items;
     }
+
+    public Double getShipToLatitude() {
+        return shipToLatitude;
+    }
+
+    public void setShipToLatitude(Double shipToLatitude) {
+        this.shipToLatitude = shipToLatitude;
+    }
+
+    public Double getShipToLongitude() {
+        return shipToLongitude;
+    }
+
+    public void setShipToLongitude(Double shipToLongitude) {
+        this.shipToLongitude = shipToLongitude;
+    }
 }
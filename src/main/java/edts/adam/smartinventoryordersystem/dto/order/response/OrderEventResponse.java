@@ -0,0 +1,63 @@
+package edts.adam.smartinventoryordersystem.dto.order.response;
+
+import edts.adam.smartinventoryordersystem.enums.OrderEventType;
+import edts.adam.smartinventoryordersystem.model.OrderEvent;
+import tools.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+/**
+ * Response DTO representing one entry of an order's event log.
+ */
+public class OrderEventResponse {
+
+    private Integer sequenceNumber;
+    private OrderEventType type;
+    private JsonNode payload;
+    private Instant createdAt;
+
+    // === Static Factory Method ===
+
+    public static OrderEventResponse fromEntity(OrderEvent event, JsonNode payload) {
+        OrderEventResponse response = new OrderEventResponse();
+        response.setSequenceNumber(event.getSequenceNumber());
+        response.setType(event.getType());
+        response.setPayload(payload);
+        response.setCreatedAt(event.getCreatedAt());
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Integer getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(Integer sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public OrderEventType getType() {
+        return type;
+    }
+
+    public void setType(OrderEventType type) {
+        this.type = type;
+    }
+
+    public JsonNode getPayload() {
+        return payload;
+    }
+
+    public void setPayload(JsonNode payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
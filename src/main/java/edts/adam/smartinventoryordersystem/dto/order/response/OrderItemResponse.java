@@ -1,10 +1,12 @@
 package edts.adam.smartinventoryordersystem.dto.order.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import edts.adam.smartinventoryordersystem.model.OrderItem;
 
 import java.math.BigDecimal;
 
 /** Response DTO representing a line item within an order response. */
+@JsonPropertyOrder({ "priceAtPurchase", "productId", "productName", "quantity", "subtotal" })
 public class OrderItemResponse {
 
     private Long productId;
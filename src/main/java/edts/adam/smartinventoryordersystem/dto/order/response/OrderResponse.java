@@ -1,5 +1,6 @@
 package edts.adam.smartinventoryordersystem.dto.order.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import edts.adam.smartinventoryordersystem.model.Order;
 import edts.adam.smartinventoryordersystem.enums.OrderStatus;
@@ -25,6 +26,8 @@ public class OrderResponse {
     private BigDecimal finalAmount;
     private OrderStatus status;
     private Instant createdAt;
+    /** Whether the order was rebuilt from its event log; not serialized. */
+    private boolean fromEventLog;
 
     // === Static Factory Method ===
 
@@ -118,4 +121,13 @@ public class OrderResponse {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    @JsonIgnore
+    public boolean isFromEventLog() {
+        return fromEventLog;
+    }
+
+    public void setFromEventLog(boolean fromEventLog) {
+        this.fromEventLog = fromEventLog;
+    }
 }
@@ -0,0 +1,63 @@
+package edts.adam.smartinventoryordersystem.dto.order.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.service.OrderStatusChange;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for an order's status, sent by the status stream and the
+ * status long-poll. {@code changedAt} is set when the status is reported
+ * because it just changed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"orderId", "status", "changedAt"})
+public class OrderStatusResponse {
+
+    private Long orderId;
+    private OrderStatus status;
+    private Instant changedAt;
+
+    // === Static Factory Methods ===
+
+    public static OrderStatusResponse of(Long orderId, OrderStatus status) {
+        OrderStatusResponse response = new OrderStatusResponse();
+        response.setOrderId(orderId);
+        response.setStatus(status);
+        return response;
+    }
+
+    public static OrderStatusResponse fromChange(OrderStatusChange change) {
+        OrderStatusResponse response = of(change.orderId(), change.status());
+        response.setChangedAt(change.changedAt());
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+}
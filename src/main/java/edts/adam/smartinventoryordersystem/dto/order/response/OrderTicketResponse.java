@@ -0,0 +1,77 @@
+package edts.adam.smartinventoryordersystem.dto.order.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import edts.adam.smartinventoryordersystem.enums.OrderTicketStatus;
+import edts.adam.smartinventoryordersystem.service.OrderTicket;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for an order accepted asynchronously: its token and
+ * processing status, and the created order once placed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"token", "status", "acceptedAt", "completedAt", "order"})
+public class OrderTicketResponse {
+
+    private String token;
+    private OrderTicketStatus status;
+    private Instant acceptedAt;
+    private Instant completedAt;
+    private OrderResponse order;
+
+    // === Static Factory Method ===
+
+    public static OrderTicketResponse fromTicket(OrderTicket ticket) {
+        OrderTicketResponse response = new OrderTicketResponse();
+        response.setToken(ticket.token());
+        response.setStatus(ticket.status());
+        response.setAcceptedAt(ticket.acceptedAt());
+        response.setCompletedAt(ticket.completedAt());
+        response.setOrder(ticket.order());
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public OrderTicketStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderTicketStatus status) {
+        this.status = status;
+    }
+
+    public Instant getAcceptedAt() {
+        return acceptedAt;
+    }
+
+    public void setAcceptedAt(Instant acceptedAt) {
+        this.acceptedAt = acceptedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public OrderResponse getOrder() {
+        return order;
+    }
+
+    public void setOrder(OrderResponse order) {
+        this.order = order;
+    }
+}
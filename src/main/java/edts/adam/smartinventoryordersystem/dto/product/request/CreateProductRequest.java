@@ -23,6 +23,10 @@ public class CreateProductRequest {
     @Max(value = 1000000, message = "{product.stock.max}")
     private Integer stock;
 
+    /** Optional low-stock threshold; omitted uses the configured default. */
+    @Min(value = 0, message = "{product.reorderPoint.min}")
+    private Integer reorderPoint;
+
     // === Getters & Setters ===
 
     public String getName() {
@@ -57,6 +61,14 @@ public class CreateProductRequest {
         this.stock = stock;
     }
 
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
     @Override
     public String toString() {
         return "CreateProductRequest{" +
@@ -64,6 +76,7 @@ public class CreateProductRequest {
                 ", category=" + category +
                 ", price=" + price +
                 ", stock=" + stock +
+                ", reorderPoint=" + reorderPoint +
                 '}';
     }
 }
@@ -25,6 +25,10 @@ public class UpdateProductRequest {
     @Min(value = 0, message = "{product.stock.min}")
     private Integer stock;
 
+    /** Optional low-stock threshold; omitted uses the configured default. */
+    @Min(value = 0, message = "{product.reorderPoint.min}")
+    private Integer reorderPoint;
+
     @NotNull(message = "{product.active.notnull}")
     private Boolean active;
 
@@ -62,6 +66,14 @@ public class UpdateProductRequest {
         this.stock = stock;
     }
 
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
     public Boolean getActive() {
         return active;
     }
@@ -0,0 +1,27 @@
+package edts.adam.smartinventoryordersystem.dto.product.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Request DTO replacing a product's stock per warehouse. Warehouses not listed
+ * no longer hold the product.
+ */
+public class UpdateProductStockRequest {
+
+    @NotEmpty(message = "{warehouse.stock.notempty}")
+    @Valid
+    private List<WarehouseStockRequest> warehouses;
+
+    // === Getters & Setters ===
+
+    public List<WarehouseStockRequest> getWarehouses() {
+        return warehouses;
+    }
+
+    public void setWarehouses(List<WarehouseStockRequest> warehouses) {
+        this.warehouses = warehouses;
+    }
+}
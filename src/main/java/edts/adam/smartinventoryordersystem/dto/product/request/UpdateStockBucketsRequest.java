@@ -0,0 +1,40 @@
+package edts.adam.smartinventoryordersystem.dto.product.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for striping a product's stock into buckets. One bucket merges
+ * the stock back into the product row.
+ */
+public class UpdateStockBucketsRequest {
+
+    @NotNull(message = "{product.buckets.notnull}")
+    @Min(value = 1, message = "{product.buckets.range}")
+    @Max(value = 64, message = "{product.buckets.range}")
+    private Integer buckets;
+
+    /** Optional new total stock; omitted keeps the current total. */
+    @Min(value = 0, message = "{product.stock.min}")
+    @Max(value = 1000000, message = "{product.stock.max}")
+    private Integer stock;
+
+    // === Getters & Setters ===
+
+    public Integer getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(Integer buckets) {
+        this.buckets = buckets;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+}
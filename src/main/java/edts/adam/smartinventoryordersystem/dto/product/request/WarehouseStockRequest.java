@@ -0,0 +1,35 @@
+package edts.adam.smartinventoryordersystem.dto.product.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/** Stock of a product at one warehouse, part of {@link UpdateProductStockRequest}. */
+public class WarehouseStockRequest {
+
+    @NotNull(message = "{warehouse.id.notnull}")
+    private Long warehouseId;
+
+    @NotNull(message = "{product.stock.notnull}")
+    @Min(value = 0, message = "{product.stock.min}")
+    @Max(value = 1000000, message = "{product.stock.max}")
+    private Integer quantity;
+
+    // === Getters & Setters ===
+
+    public Long getWarehouseId() {
+        return warehouseId;
+    }
+
+    public void setWarehouseId(Long warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
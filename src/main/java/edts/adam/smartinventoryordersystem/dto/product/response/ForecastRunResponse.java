@@ -0,0 +1,59 @@
+package edts.adam.smartinventoryordersystem.dto.product.response;
+
+import java.time.LocalDate;
+
+/**
+ * Response DTO summarizing a run of the demand forecast batch job.
+ */
+public class ForecastRunResponse {
+
+    private Long products;
+    private Integer partitions;
+    private LocalDate lastDay;
+    private Long durationMs;
+
+    // === Static Factory Method ===
+
+    public static ForecastRunResponse of(Long products, Integer partitions, LocalDate lastDay, Long durationMs) {
+        ForecastRunResponse response = new ForecastRunResponse();
+        response.setProducts(products);
+        response.setPartitions(partitions);
+        response.setLastDay(lastDay);
+        response.setDurationMs(durationMs);
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getProducts() {
+        return products;
+    }
+
+    public void setProducts(Long products) {
+        this.products = products;
+    }
+
+    public Integer getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(Integer partitions) {
+        this.partitions = partitions;
+    }
+
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    public void setLastDay(LocalDate lastDay) {
+        this.lastDay = lastDay;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
@@ -0,0 +1,82 @@
+package edts.adam.smartinventoryordersystem.dto.product.response;
+
+import edts.adam.smartinventoryordersystem.enums.StockAlertType;
+import edts.adam.smartinventoryordersystem.service.StockAlert;
+
+import java.time.Instant;
+
+/**
+ * Response DTO representing a product at or below its reorder point.
+ */
+public class LowStockProductResponse {
+
+    private Long productId;
+    private String name;
+    private StockAlertType status;
+    private Integer stock;
+    private Integer reorderPoint;
+    private Instant since;
+
+    // === Static Factory Method ===
+
+    public static LowStockProductResponse fromAlert(StockAlert alert) {
+        LowStockProductResponse response = new LowStockProductResponse();
+        response.setProductId(alert.productId());
+        response.setName(alert.productName());
+        response.setStatus(alert.type());
+        response.setStock(alert.stock());
+        response.setReorderPoint(alert.reorderPoint());
+        response.setSince(alert.since());
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public StockAlertType getStatus() {
+        return status;
+    }
+
+    public void setStatus(StockAlertType status) {
+        this.status = status;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
+    public Instant getSince() {
+        return since;
+    }
+
+    public void setSince(Instant since) {
+        this.since = since;
+    }
+}
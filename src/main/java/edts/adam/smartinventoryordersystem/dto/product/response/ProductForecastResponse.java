@@ -0,0 +1,111 @@
+package edts.adam.smartinventoryordersystem.dto.product.response;
+
+import edts.adam.smartinventoryordersystem.model.ProductForecast;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/** Response DTO representing the latest demand forecast of a product. */
+public class ProductForecastResponse {
+
+    private Long productId;
+    private LocalDate lastDay;
+    private Integer observedDays;
+    private Long totalUnits;
+    private BigDecimal movingAverage;
+    private BigDecimal smoothedDemand;
+    private Integer horizonDays;
+    private Integer forecastUnits;
+    private Instant generatedAt;
+
+    // === Static Factory Method ===
+
+    public static ProductForecastResponse fromEntity(ProductForecast forecast) {
+        ProductForecastResponse response = new ProductForecastResponse();
+        response.setProductId(forecast.getProductId());
+        response.setLastDay(forecast.getLastDay());
+        response.setObservedDays(forecast.getObservedDays());
+        response.setTotalUnits(forecast.getTotalUnits());
+        response.setMovingAverage(forecast.getMovingAverage());
+        response.setSmoothedDemand(forecast.getSmoothedDemand());
+        response.setHorizonDays(forecast.getHorizonDays());
+        response.setForecastUnits(forecast.getForecastUnits());
+        response.setGeneratedAt(forecast.getGeneratedAt());
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    public void setLastDay(LocalDate lastDay) {
+        this.lastDay = lastDay;
+    }
+
+    public Integer getObservedDays() {
+        return observedDays;
+    }
+
+    public void setObservedDays(Integer observedDays) {
+        this.observedDays = observedDays;
+    }
+
+    public Long getTotalUnits() {
+        return totalUnits;
+    }
+
+    public void setTotalUnits(Long totalUnits) {
+        this.totalUnits = totalUnits;
+    }
+
+    public BigDecimal getMovingAverage() {
+        return movingAverage;
+    }
+
+    public void setMovingAverage(BigDecimal movingAverage) {
+        this.movingAverage = movingAverage;
+    }
+
+    public BigDecimal getSmoothedDemand() {
+        return smoothedDemand;
+    }
+
+    public void setSmoothedDemand(BigDecimal smoothedDemand) {
+        this.smoothedDemand = smoothedDemand;
+    }
+
+    public Integer getHorizonDays() {
+        return horizonDays;
+    }
+
+    public void setHorizonDays(Integer horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
+    public Integer getForecastUnits() {
+        return forecastUnits;
+    }
+
+    public void setForecastUnits(Integer forecastUnits) {
+        this.forecastUnits = forecastUnits;
+    }
+
+    public Instant getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(Instant generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
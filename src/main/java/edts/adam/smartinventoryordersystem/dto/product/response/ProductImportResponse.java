@@ -0,0 +1,113 @@
+package edts.adam.smartinventoryordersystem.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO summarizing a bulk product import: row counts and a per-row
+ * error report (capped, see {@link #isErrorsTruncated()}).
+ */
+@JsonPropertyOrder({ "totalRows", "created", "updated", "failed", "errors", "errorsTruncated" })
+public class ProductImportResponse {
+
+    private long totalRows;
+    private long created;
+    private long updated;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    // === Getters & Setters ===
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    /** A rejected import row with its 1-based row number and reason. */
+    @JsonPropertyOrder({ "row", "name", "message" })
+    public static class RowError {
+
+        private long row;
+        private String name;
+        private String message;
+
+        public RowError() {
+        }
+
+        public RowError(long row, String name, String message) {
+            this.row = row;
+            this.name = name;
+            this.message = message;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public void setRow(long row) {
+            this.row = row;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -8,7 +8,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 
 /** Response DTO representing a product entity returned to the client. */
-@JsonPropertyOrder({ "id", "name", "category", "price", "stock", "active", "createdAt", "updatedAt" })
+@JsonPropertyOrder({ "id", "name", "category", "price", "stock", "reorderPoint", "active", "createdAt", "updatedAt" })
 public class ProductResponse {
 
     private Long id;
@@ -16,6 +16,7 @@ public class ProductResponse {
     private ProductCategory category;
     private BigDecimal price;
     private Integer stock;
+    private Integer reorderPoint;
     private Boolean active;
     private Instant createdAt;
     private Instant updatedAt;
@@ -29,6 +30,7 @@ public class ProductResponse {
         response.setCategory(product.getCategory());
         response.setPrice(product.getPrice());
         response.setStock(product.getStock());
+        response.setReorderPoint(product.getReorderPoint());
         response.setActive(product.getActive());
         response.setCreatedAt(product.getCreatedAt());
         response.setUpdatedAt(product.getUpdatedAt());
@@ -77,6 +79,14 @@ public class ProductResponse {
         this.stock = stock;
     }
 
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
     public Boolean getActive() {
         return active;
     }
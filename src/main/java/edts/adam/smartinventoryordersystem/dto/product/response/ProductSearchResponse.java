@@ -0,0 +1,55 @@
+package edts.adam.smartinventoryordersystem.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import edts.adam.smartinventoryordersystem.enums.PriceRange;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for catalog search: top-N matching products, total hit count,
+ * and facet counts per category and price range.
+ */
+@JsonPropertyOrder({ "totalHits", "items", "categoryFacets", "priceFacets" })
+public class ProductSearchResponse {
+
+    private long totalHits;
+    private List<ProductResponse> items;
+    private Map<ProductCategory, Long> categoryFacets;
+    private Map<PriceRange, Long> priceFacets;
+
+    // === Getters & Setters ===
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    public void setTotalHits(long totalHits) {
+        this.totalHits = totalHits;
+    }
+
+    public List<ProductResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponse> items) {
+        this.items = items;
+    }
+
+    public Map<ProductCategory, Long> getCategoryFacets() {
+        return categoryFacets;
+    }
+
+    public void setCategoryFacets(Map<ProductCategory, Long> categoryFacets) {
+        this.categoryFacets = categoryFacets;
+    }
+
+    public Map<PriceRange, Long> getPriceFacets() {
+        return priceFacets;
+    }
+
+    public void setPriceFacets(Map<PriceRange, Long> priceFacets) {
+        this.priceFacets = priceFacets;
+    }
+}
@@ -0,0 +1,53 @@
+package edts.adam.smartinventoryordersystem.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.List;
+
+/**
+ * Response DTO for a product's stock per bucket, in bucket order. Products
+ * that are not striped have no buckets.
+ */
+@JsonPropertyOrder({ "buckets", "productId", "stock" })
+public class StockBucketsResponse {
+
+    private Long productId;
+    private Integer stock;
+    private List<Integer> buckets;
+
+    // === Static Factory Method ===
+
+    public static StockBucketsResponse of(Long productId, Integer stock, List<Integer> buckets) {
+        StockBucketsResponse response = new StockBucketsResponse();
+        response.setProductId(productId);
+        response.setStock(stock);
+        response.setBuckets(buckets);
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
+    public List<Integer> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<Integer> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -0,0 +1,92 @@
+package edts.adam.smartinventoryordersystem.dto.product.response;
+
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+import edts.adam.smartinventoryordersystem.service.StockMovement;
+
+import java.time.Instant;
+
+/**
+ * Response DTO representing one entry of the stock movement journal.
+ */
+public class StockMovementResponse {
+
+    private Long sequence;
+    private Instant timestamp;
+    private StockMovementType type;
+    private Long productId;
+    private Long referenceId;
+    private Integer delta;
+    private Integer balance;
+
+    // === Static Factory Method ===
+
+    public static StockMovementResponse fromMovement(StockMovement movement) {
+        StockMovementResponse response = new StockMovementResponse();
+        response.setSequence(movement.sequence());
+        response.setTimestamp(movement.timestamp());
+        response.setType(movement.type());
+        response.setProductId(movement.productId());
+        response.setReferenceId(movement.referenceId() != 0 ? movement.referenceId() : null);
+        response.setDelta(movement.delta());
+        response.setBalance(movement.balance());
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public StockMovementType getType() {
+        return type;
+    }
+
+    public void setType(StockMovementType type) {
+        this.type = type;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getReferenceId() {
+        return referenceId;
+    }
+
+    public void setReferenceId(Long referenceId) {
+        this.referenceId = referenceId;
+    }
+
+    public Integer getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Integer delta) {
+        this.delta = delta;
+    }
+
+    public Integer getBalance() {
+        return balance;
+    }
+
+    public void setBalance(Integer balance) {
+        this.balance = balance;
+    }
+}
@@ -0,0 +1,48 @@
+package edts.adam.smartinventoryordersystem.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/** Response DTO for a product's stock at one warehouse. */
+@JsonPropertyOrder({ "quantity", "warehouseCode", "warehouseId" })
+public class WarehouseStockResponse {
+
+    private Long warehouseId;
+    private String warehouseCode;
+    private Integer quantity;
+
+    // === Static Factory Method ===
+
+    public static WarehouseStockResponse of(Long warehouseId, String warehouseCode, Integer quantity) {
+        WarehouseStockResponse response = new WarehouseStockResponse();
+        response.setWarehouseId(warehouseId);
+        response.setWarehouseCode(warehouseCode);
+        response.setQuantity(quantity);
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getWarehouseId() {
+        return warehouseId;
+    }
+
+    public void setWarehouseId(Long warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+
+    public String getWarehouseCode() {
+        return warehouseCode;
+    }
+
+    public void setWarehouseCode(String warehouseCode) {
+        this.warehouseCode = warehouseCode;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,62 @@
+package edts.adam.smartinventoryordersystem.dto.warehouse.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/** Request DTO for registering a warehouse and its location. */
+public class CreateWarehouseRequest {
+
+    @NotBlank(message = "{warehouse.code.notblank}")
+    @Size(max = 32, message = "{warehouse.code.size}")
+    private String code;
+
+    @NotBlank(message = "{warehouse.name.notblank}")
+    private String name;
+
+    @NotNull(message = "{warehouse.latitude.notnull}")
+    @DecimalMin(value = "-90.0", message = "{warehouse.latitude.range}")
+    @DecimalMax(value = "90.0", message = "{warehouse.latitude.range}")
+    private Double latitude;
+
+    @NotNull(message = "{warehouse.longitude.notnull}")
+    @DecimalMin(value = "-180.0", message = "{warehouse.longitude.range}")
+    @DecimalMax(value = "180.0", message = "{warehouse.longitude.range}")
+    private Double longitude;
+
+    // === Getters & Setters ===
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+}
@@ -0,0 +1,91 @@
+package edts.adam.smartinventoryordersystem.dto.warehouse.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import edts.adam.smartinventoryordersystem.model.Warehouse;
+
+import java.time.Instant;
+
+/** Response DTO representing a warehouse returned to the client. */
+@JsonPropertyOrder({ "active", "code", "createdAt", "id", "latitude", "longitude", "name" })
+public class WarehouseResponse {
+
+    private Long id;
+    private String code;
+    private String name;
+    private Double latitude;
+    private Double longitude;
+    private Boolean active;
+    private Instant createdAt;
+
+    // === Static Factory Method ===
+
+    public static WarehouseResponse fromEntity(Warehouse warehouse) {
+        WarehouseResponse response = new WarehouseResponse();
+        response.setId(warehouse.getId());
+        response.setCode(warehouse.getCode());
+        response.setName(warehouse.getName());
+        response.setLatitude(warehouse.getLatitude());
+        response.setLongitude(warehouse.getLongitude());
+        response.setActive(warehouse.getActive());
+        response.setCreatedAt(warehouse.getCreatedAt());
+        return response;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
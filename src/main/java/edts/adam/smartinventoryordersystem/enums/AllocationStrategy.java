@@ -0,0 +1,21 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * How an order item is allocated to warehouses holding the product.
+ *
+ * <ul>
+ * <li>NEAREST — the nearest warehouse that can ship the whole quantity
+ * (by stock when the order has no ship-to location)</li>
+ * <li>MOST_STOCK — the warehouse holding the most stock of the product</li>
+ * <li>SPLIT — take from warehouses nearest first until the quantity is
+ * covered</li>
+ * </ul>
+ * NEAREST and MOST_STOCK fall back to a split shipment in the same order when
+ * no single warehouse has enough.
+ */
+public enum AllocationStrategy {
+
+    NEAREST,
+    MOST_STOCK,
+    SPLIT
+}
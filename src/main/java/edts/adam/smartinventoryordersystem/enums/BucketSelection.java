@@ -0,0 +1,17 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * Which stock bucket of a striped product an order tries first.
+ *
+ * <ul>
+ * <li>RANDOM — a random bucket per order item</li>
+ * <li>CUSTOMER — a bucket derived from the customer id, so one customer's
+ * orders keep hitting the same row</li>
+ * </ul>
+ * Either way the other buckets are tried in turn on shortfall.
+ */
+public enum BucketSelection {
+
+    RANDOM,
+    CUSTOMER
+}
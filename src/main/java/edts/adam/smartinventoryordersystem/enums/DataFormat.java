@@ -0,0 +1,50 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Supported formats for streaming bulk exports and imports.
+ *
+ * <ul>
+ * <li>CSV — header row followed by comma-separated rows (RFC 4180 quoting)</li>
+ * <li>NDJSON — one JSON object per line</li>
+ * </ul>
+ */
+public enum DataFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    DataFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves the format from a request Content-Type header, ignoring
+     * parameters such as charset. Returns null if the type is not supported.
+     */
+    public static DataFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        for (DataFormat format : values()) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.parseMediaType(format.contentType))) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
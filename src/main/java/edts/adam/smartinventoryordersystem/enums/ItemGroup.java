@@ -0,0 +1,21 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * Grouping dimensions of the order item aggregate query.
+ *
+ * <ul>
+ * <li>NONE — a single total over all matching items</li>
+ * <li>CATEGORY — per product category</li>
+ * <li>MEMBERSHIP_LEVEL — per membership level the order was priced with</li>
+ * <li>DAY — per day the order was placed</li>
+ * <li>PRODUCT — per product id</li>
+ * </ul>
+ */
+public enum ItemGroup {
+
+    NONE,
+    CATEGORY,
+    MEMBERSHIP_LEVEL,
+    DAY,
+    PRODUCT
+}
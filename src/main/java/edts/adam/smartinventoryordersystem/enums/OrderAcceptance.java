@@ -0,0 +1,20 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * How {@code POST /orders} accepts an order.
+ *
+ * <ul>
+ * <li>SYNC — the order is placed in the request; the response carries the
+ * created order</li>
+ * <li>ASYNC — every order is queued and answered with 202 and a token to
+ * poll at {@code GET /orders/{token}}</li>
+ * <li>PREFER_ASYNC — orders are queued only when the client sends
+ * {@code Prefer: respond-async}; others are placed in the request</li>
+ * </ul>
+ */
+public enum OrderAcceptance {
+
+    SYNC,
+    ASYNC,
+    PREFER_ASYNC
+}
@@ -0,0 +1,18 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * Kinds of entries in the append-only order event log.
+ *
+ * <ul>
+ * <li>ORDER_CREATED — customer and amounts, always the first event</li>
+ * <li>ITEM_ADDED — one per order line, in order</li>
+ * <li>PAID / CANCELLED — terminal transitions; no events follow</li>
+ * </ul>
+ */
+public enum OrderEventType {
+
+    ORDER_CREATED,
+    ITEM_ADDED,
+    PAID,
+    CANCELLED
+}
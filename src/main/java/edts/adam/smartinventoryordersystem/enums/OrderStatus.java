@@ -35,4 +35,14 @@ public enum OrderStatus {
     public boolean canTransitionTo(OrderStatus target) {
         return VALID_TRANSITIONS.getOrDefault(this, Set.of()).contains(target);
     }
+
+    /**
+     * Checks if this status allows no further transitions. Orders in a
+     * terminal state never change again.
+     *
+     * @return true for PAID and CANCELLED
+     */
+    public boolean isTerminal() {
+        return VALID_TRANSITIONS.getOrDefault(this, Set.of()).isEmpty();
+    }
 }
@@ -0,0 +1,21 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * Processing state of an order accepted asynchronously.
+ *
+ * <ul>
+ * <li>PENDING — queued or being placed</li>
+ * <li>CREATED — the order was placed</li>
+ * <li>REJECTED — refused by a business rule (stock, unknown customer,
+ * inactive product); resubmitting the same request fails again</li>
+ * <li>FAILED — not placed because of a transient or unexpected error, such
+ * as a lock timeout; the request can be resubmitted</li>
+ * </ul>
+ */
+public enum OrderTicketStatus {
+
+    PENDING,
+    CREATED,
+    REJECTED,
+    FAILED
+}
@@ -0,0 +1,55 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed price buckets used for faceted product search.
+ * Each bucket covers [min, max) — the last bucket has no upper bound.
+ *
+ * <ul>
+ * <li>BELOW_100K — price &lt; 100,000</li>
+ * <li>FROM_100K_TO_500K — 100,000 ≤ price &lt; 500,000</li>
+ * <li>FROM_500K_TO_1M — 500,000 ≤ price &lt; 1,000,000</li>
+ * <li>FROM_1M_TO_5M — 1,000,000 ≤ price &lt; 5,000,000</li>
+ * <li>ABOVE_5M — price ≥ 5,000,000</li>
+ * </ul>
+ */
+public enum PriceRange {
+
+    BELOW_100K(BigDecimal.ZERO, new BigDecimal("100000")),
+    FROM_100K_TO_500K(new BigDecimal("100000"), new BigDecimal("500000")),
+    FROM_500K_TO_1M(new BigDecimal("500000"), new BigDecimal("1000000")),
+    FROM_1M_TO_5M(new BigDecimal("1000000"), new BigDecimal("5000000")),
+    ABOVE_5M(new BigDecimal("5000000"), null);
+
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    PriceRange(BigDecimal min, BigDecimal max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public BigDecimal getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the exclusive upper bound, or null for the open-ended bucket.
+     */
+    public BigDecimal getMax() {
+        return max;
+    }
+
+    /**
+     * Determines the bucket a given price falls into.
+     */
+    public static PriceRange fromPrice(BigDecimal price) {
+        for (PriceRange range : values()) {
+            if (range.max == null || price.compareTo(range.max) < 0) {
+                return range;
+            }
+        }
+        return ABOVE_5M;
+    }
+}
@@ -0,0 +1,15 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * Ranking metrics for the top-products report.
+ *
+ * <ul>
+ * <li>REVENUE — sum of item subtotals (before order-level discounts)</li>
+ * <li>UNITS — number of units sold</li>
+ * </ul>
+ */
+public enum SalesMetric {
+
+    REVENUE,
+    UNITS
+}
@@ -0,0 +1,17 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * Stock alert states of an active product, raised on transition only.
+ *
+ * <ul>
+ * <li>LOW_STOCK — stock fell to or below the product's reorder point</li>
+ * <li>OUT_OF_STOCK — stock reached zero</li>
+ * <li>RESTOCKED — stock rose above the reorder point again</li>
+ * </ul>
+ */
+public enum StockAlertType {
+
+    LOW_STOCK,
+    OUT_OF_STOCK,
+    RESTOCKED
+}
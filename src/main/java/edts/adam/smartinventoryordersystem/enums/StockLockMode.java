@@ -0,0 +1,21 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * How order creation and cancellation lock the product rows whose stock they
+ * change.
+ *
+ * <ul>
+ * <li>IMPLICIT — rows are read unlocked and locked by their UPDATE at flush,
+ * in basket order; two baskets sharing products in different orders can
+ * deadlock</li>
+ * <li>PESSIMISTIC — all involved rows are locked up front with one
+ * {@code SELECT ... FOR UPDATE} in ascending id order, so baskets queue
+ * instead of deadlocking</li>
+ * </ul>
+ * Warehouse-managed and striped products never lock their product row.
+ */
+public enum StockLockMode {
+
+    IMPLICIT,
+    PESSIMISTIC
+}
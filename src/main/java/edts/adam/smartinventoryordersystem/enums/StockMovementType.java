@@ -0,0 +1,23 @@
+package edts.adam.smartinventoryordersystem.enums;
+
+/**
+ * Causes of a product stock change, as recorded in the stock journal.
+ *
+ * <ul>
+ * <li>INITIAL — stock a product was created with</li>
+ * <li>ORDER_RESERVE — deducted when an order is placed</li>
+ * <li>CANCEL_RESTORE — returned when an order is cancelled</li>
+ * <li>MANUAL_ADJUST — changed through a product update</li>
+ * <li>IMPORT — set by a bulk product import</li>
+ * <li>ROLLBACK — reverses a journaled change whose transaction failed to commit</li>
+ * </ul>
+ */
+public enum StockMovementType {
+
+    INITIAL,
+    ORDER_RESERVE,
+    CANCEL_RESTORE,
+    MANUAL_ADJUST,
+    IMPORT,
+    ROLLBACK
+}
@@ -1,36 +1,42 @@
 package edts.adam.smartinventoryordersystem.exception;
 
 import edts.adam.smartinventoryordersystem.dto.ApiResponse;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.MessageSource;
-import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 
 /**
  * Centralized exception handler that translates exceptions into consistent
  * {@link ApiResponse} error responses with appropriate HTTP status codes.
- * Supports i18n message resolution via {@link MessageSource}.
+ * Supports i18n message resolution via {@link MessageUtil}.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final String UNIQUE_VIOLATION_STATE = "23505";
+    private static final String INTEGRITY_VIOLATION_STATE = "23000";
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
 
-    private final MessageSource messageSource;
+    private final MessageUtil messageUtil;
 
-    public GlobalExceptionHandler(MessageSource messageSource) {
-        this.messageSource = messageSource;
+    public GlobalExceptionHandler(MessageUtil messageUtil) {
+        this.messageUtil = messageUtil;
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
@@ -49,6 +55,22 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("DUPLICATE_RESOURCE", message));
     }
 
+    /**
+     * Unique-constraint races that slipped past the duplicate pre-checks. Any
+     * other integrity violation (foreign key, NOT NULL, check) is a bug, not
+     * a conflict, and is answered like an unexpected error.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Object>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (!isDuplicateKey(ex)) {
+            return handleGenericException(ex);
+        }
+        String message = resolveMessage("error.data.conflict");
+        logger.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("DUPLICATE_RESOURCE", message));
+    }
+
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ApiResponse<Object>> handleBadRequest(BadRequestException ex) {
         String message = resolveMessage(ex.getMessageKey(), ex.getArgs());
@@ -60,7 +82,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(InsufficientStockException.class)
     public ResponseEntity<ApiResponse<Object>> handleInsufficientStock(InsufficientStockException ex) {
         String message = resolveMessage(ex.getMessageKey(), ex.getArgs());
-        logger.warn("Insufficient stock: {}", message);
+        logger.debug("Insufficient stock: {}", message);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error("INSUFFICIENT_STOCK", message));
     }
@@ -73,6 +95,66 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("INVALID_ORDER_STATE", message));
     }
 
+    /**
+     * Lock-wait timeouts while taking stock. Retriable: the transaction was
+     * rolled back before any change became visible.
+     */
+    @ExceptionHandler(StockLockTimeoutException.class)
+    public ResponseEntity<ApiResponse<Object>> handleStockLockTimeout(StockLockTimeoutException ex) {
+        String message = resolveMessage(ex.getMessageKey(), ex.getArgs());
+        logger.warn("Stock lock timeout: {}", message);
+        return lockTimeout(message);
+    }
+
+    /**
+     * Lock-wait timeouts and deadlocks outside the explicit locking read,
+     * e.g. on flush at commit. Reported like {@link StockLockTimeoutException}.
+     */
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handlePessimisticLockingFailure(
+            PessimisticLockingFailureException ex) {
+        logger.warn("Lock acquisition failed: {}", ex.getMostSpecificCause().getMessage());
+        return lockTimeout(resolveMessage("error.lock.timeout"));
+    }
+
+    /**
+     * The asynchronous order queue is full. Retriable: the order was not
+     * accepted.
+     */
+    @ExceptionHandler(OrderQueueFullException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOrderQueueFull(OrderQueueFullException ex) {
+        String message = resolveMessage(ex.getMessageKey(), ex.getArgs());
+        logger.warn("Order queue full: {}", message);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("QUEUE_FULL", message));
+    }
+
+    /**
+     * A bounded worker pool is saturated. Retriable: the work was not started.
+     */
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServerBusy(ServerBusyException ex) {
+        String message = resolveMessage(ex.getMessageKey(), ex.getArgs());
+        logger.warn("Server busy: {}", message);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("SERVER_BUSY", message));
+    }
+
+    /**
+     * A client or customer exceeded its request rate. Retriable after the
+     * time its token bucket needs to refill.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRateLimitExceeded(RateLimitExceededException ex) {
+        String message = resolveMessage(ex.getMessageKey(), ex.getArgs());
+        logger.warn("Rate limit exceeded: {}", message);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error("RATE_LIMITED", message));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationErrors(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -106,8 +188,34 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("INTERNAL_ERROR", message));
     }
 
+    /**
+     * Spring's JDBC translation reports duplicates as
+     * {@link DuplicateKeyException}; through JPA only the SQL state tells
+     * them apart. MySQL uses 23000 for every integrity error and error code
+     * 1062 for a duplicate entry; H2 and the SQL standard use 23505.
+     */
+    private static boolean isDuplicateKey(DataIntegrityViolationException ex) {
+        if (ex instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                String sqlState = sqlException.getSQLState();
+                return UNIQUE_VIOLATION_STATE.equals(sqlState)
+                        || INTEGRITY_VIOLATION_STATE.equals(sqlState)
+                        && sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY;
+            }
+        }
+        return false;
+    }
+
+    private static ResponseEntity<ApiResponse<Object>> lockTimeout(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("LOCK_TIMEOUT", message));
+    }
+
     private String resolveMessage(String key, Object... args) {
-        Locale locale = LocaleContextHolder.getLocale();
-        return messageSource.getMessage(key, args, key, locale);
+        return messageUtil.getOrDefault(key, key, args);
     }
 }
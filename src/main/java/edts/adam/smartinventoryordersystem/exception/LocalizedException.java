@@ -4,14 +4,21 @@ package edts.adam.smartinventoryordersystem.exception;
  * Abstract base exception carrying an i18n message key and arguments.
  * Subclasses represent specific business errors resolved by
  * {@link GlobalExceptionHandler}.
+ * <p>
+ * These are expected outcomes (not found, out of stock, invalid state), so
+ * no stack trace is captured unless enabled via
+ * {@code app.exceptions.stack-traces}.
+ * </p>
  */
 public abstract class LocalizedException extends RuntimeException {
 
+    private static volatile boolean stackTraceEnabled;
+
     private final String messageKey;
     private final Object[] args;
 
     protected LocalizedException(String messageKey, Object... args) {
-        super(messageKey);
+        super(messageKey, null, false, stackTraceEnabled);
         this.messageKey = messageKey;
         this.args = args;
     }
@@ -23,4 +30,12 @@ public abstract class LocalizedException extends RuntimeException {
     public Object[] getArgs() {
         return args;
     }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
 }
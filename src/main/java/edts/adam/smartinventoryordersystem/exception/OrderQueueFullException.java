@@ -0,0 +1,12 @@
+package edts.adam.smartinventoryordersystem.exception;
+
+/**
+ * Thrown when the asynchronous order queue is full (HTTP 503). The order was
+ * not accepted, so the request can be retried.
+ */
+public class OrderQueueFullException extends LocalizedException {
+
+    public OrderQueueFullException(String messageKey, Object... args) {
+        super(messageKey, args);
+    }
+}
@@ -0,0 +1,20 @@
+package edts.adam.smartinventoryordersystem.exception;
+
+/**
+ * Thrown when a client or customer exceeds its request rate (HTTP 429). The
+ * request was not processed; it can be retried after
+ * {@link #getRetryAfterSeconds()}.
+ */
+public class RateLimitExceededException extends LocalizedException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds, String messageKey, Object... args) {
+        super(messageKey, args);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,12 @@
+package edts.adam.smartinventoryordersystem.exception;
+
+/**
+ * Thrown when a bounded worker pool cannot take more work (HTTP 503). The
+ * request was not started, so it can be retried.
+ */
+public class ServerBusyException extends LocalizedException {
+
+    public ServerBusyException(String messageKey, Object... args) {
+        super(messageKey, args);
+    }
+}
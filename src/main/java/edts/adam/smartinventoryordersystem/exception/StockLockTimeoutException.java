@@ -0,0 +1,12 @@
+package edts.adam.smartinventoryordersystem.exception;
+
+/**
+ * Thrown when product rows stay locked by other orders past the lock-wait
+ * timeout (HTTP 503). Nothing was changed, so the request can be retried.
+ */
+public class StockLockTimeoutException extends LocalizedException {
+
+    public StockLockTimeoutException(String messageKey, Object... args) {
+        super(messageKey, args);
+    }
+}
@@ -0,0 +1,114 @@
+package edts.adam.smartinventoryordersystem.model;
+
+import edts.adam.smartinventoryordersystem.enums.OrderEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for one entry of the append-only order event log.
+ * Rows are only ever inserted; an order's state is its events applied in
+ * {@code sequenceNumber} order, optionally starting from an
+ * {@link OrderSnapshot}.
+ */
+@Entity
+@Immutable
+@Table(name = "order_event", uniqueConstraints = @UniqueConstraint(columnNames = { "order_id", "sequence_number" }))
+public class OrderEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Long orderId;
+
+    @Column(name = "sequence_number", nullable = false, updatable = false)
+    private Integer sequenceNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private OrderEventType type;
+
+    /** Event data as JSON. */
+    @Lob
+    @Column(nullable = false, updatable = false)
+    private String payload;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // === Constructors ===
+
+    public OrderEvent() {
+    }
+
+    public OrderEvent(Long orderId, Integer sequenceNumber, OrderEventType type, String payload) {
+        this.orderId = orderId;
+        this.sequenceNumber = sequenceNumber;
+        this.type = type;
+        this.payload = payload;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Integer getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(Integer sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public OrderEventType getType() {
+        return type;
+    }
+
+    public void setType(OrderEventType type) {
+        this.type = type;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,81 @@
+package edts.adam.smartinventoryordersystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+/**
+ * JPA entity holding an order's state folded from its events up to and
+ * including {@code sequenceNumber}. Rebuilding the order only replays events
+ * after it.
+ */
+@Entity
+@Table(name = "order_snapshot")
+public class OrderSnapshot {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "sequence_number", nullable = false)
+    private Integer sequenceNumber;
+
+    /** Order state as JSON. */
+    @Lob
+    @Column(nullable = false)
+    private String state;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    // === Constructors ===
+
+    public OrderSnapshot() {
+    }
+
+    public OrderSnapshot(Long orderId, Integer sequenceNumber, String state) {
+        this.orderId = orderId;
+        this.sequenceNumber = sequenceNumber;
+        this.state = state;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Integer getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(Integer sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -15,6 +15,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -24,8 +25,15 @@ import java.time.Instant;
  * JPA entity representing a product in the inventory.
  * Supports soft-delete via the {@code active} flag and tracks timestamps for
  * auditing.
+ * <p>
+ * Updates write only the changed columns so that editing a warehouse-managed
+ * or striped product never overwrites the {@code stock} total that
+ * {@code StockTotalRefresher} recomputes from its {@code product_stock} or
+ * {@code product_stock_bucket} rows.
+ * </p>
  */
 @Entity
+@DynamicUpdate
 @Table(name = "product")
 public class Product {
 
@@ -52,6 +60,13 @@ public class Product {
     @Column(nullable = false)
     private Integer stock;
 
+    /**
+     * Stock level at or below which the product is reported as low on stock;
+     * {@code null} falls back to {@code app.stock-alerts.default-reorder-point}.
+     */
+    @Min(value = 0, message = "{product.reorderPoint.min}")
+    private Integer reorderPoint;
+
     @Column(nullable = false)
     private Boolean active = true;
 
@@ -118,6 +133,14 @@ public class Product {
         this.stock = stock;
     }
 
+    public Integer getReorderPoint() {
+        return reorderPoint;
+    }
+
+    public void setReorderPoint(Integer reorderPoint) {
+        this.reorderPoint = reorderPoint;
+    }
+
     public Boolean getActive() {
         return active;
     }
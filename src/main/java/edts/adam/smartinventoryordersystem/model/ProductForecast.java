@@ -0,0 +1,126 @@
+package edts.adam.smartinventoryordersystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * JPA entity holding the latest demand forecast of a product, written by the
+ * {@code DemandForecastService} batch job from its paid order history.
+ */
+@Entity
+@Table(name = "product_forecast")
+public class ProductForecast {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    /** Last full day of history the forecast is based on. */
+    @Column(nullable = false)
+    private LocalDate lastDay;
+
+    /** Days from the first sale in the history window up to lastDay. */
+    @Column(nullable = false)
+    private Integer observedDays;
+
+    @Column(nullable = false)
+    private Long totalUnits;
+
+    /** Mean daily units over the trailing moving-average window. */
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal movingAverage;
+
+    /** Exponentially smoothed daily units. */
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal smoothedDemand;
+
+    @Column(nullable = false)
+    private Integer horizonDays;
+
+    /** Units expected to sell over the next horizonDays. */
+    @Column(nullable = false)
+    private Integer forecastUnits;
+
+    @Column(nullable = false)
+    private Instant generatedAt;
+
+    // === Getters & Setters ===
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    public void setLastDay(LocalDate lastDay) {
+        this.lastDay = lastDay;
+    }
+
+    public Integer getObservedDays() {
+        return observedDays;
+    }
+
+    public void setObservedDays(Integer observedDays) {
+        this.observedDays = observedDays;
+    }
+
+    public Long getTotalUnits() {
+        return totalUnits;
+    }
+
+    public void setTotalUnits(Long totalUnits) {
+        this.totalUnits = totalUnits;
+    }
+
+    public BigDecimal getMovingAverage() {
+        return movingAverage;
+    }
+
+    public void setMovingAverage(BigDecimal movingAverage) {
+        this.movingAverage = movingAverage;
+    }
+
+    public BigDecimal getSmoothedDemand() {
+        return smoothedDemand;
+    }
+
+    public void setSmoothedDemand(BigDecimal smoothedDemand) {
+        this.smoothedDemand = smoothedDemand;
+    }
+
+    public Integer getHorizonDays() {
+        return horizonDays;
+    }
+
+    public void setHorizonDays(Integer horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
+    public Integer getForecastUnits() {
+        return forecastUnits;
+    }
+
+    public void setForecastUnits(Integer forecastUnits) {
+        this.forecastUnits = forecastUnits;
+    }
+
+    public Instant getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(Instant generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
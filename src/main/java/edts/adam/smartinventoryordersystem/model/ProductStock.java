@@ -0,0 +1,97 @@
+package edts.adam.smartinventoryordersystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * JPA entity holding a product's stock at one warehouse. A product with at
+ * least one row is warehouse-managed: orders take stock from these rows and
+ * {@link Product#getStock()} is kept as their total.
+ */
+@Entity
+@Table(name = "product_stock")
+@IdClass(ProductStock.Key.class)
+public class ProductStock {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "warehouse_id")
+    private Long warehouseId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // === Constructors ===
+
+    public ProductStock() {
+    }
+
+    public ProductStock(Long productId, Long warehouseId, Integer quantity) {
+        this.productId = productId;
+        this.warehouseId = warehouseId;
+        this.quantity = quantity;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getWarehouseId() {
+        return warehouseId;
+    }
+
+    public void setWarehouseId(Long warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * Composite primary key (product, warehouse).
+     */
+    public static class Key implements Serializable {
+
+        private Long productId;
+        private Long warehouseId;
+
+        public Key() {
+        }
+
+        public Key(Long productId, Long warehouseId) {
+            this.productId = productId;
+            this.warehouseId = warehouseId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(productId, other.productId)
+                    && Objects.equals(warehouseId, other.warehouseId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, warehouseId);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package edts.adam.smartinventoryordersystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * JPA entity holding one stripe of a product's stock. A product with bucket
+ * rows is striped: orders take stock from one of these rows instead of the
+ * product row, spreading row-lock contention on hot products, and
+ * {@link Product#getStock()} is kept as their total.
+ */
+@Entity
+@Table(name = "product_stock_bucket")
+@IdClass(ProductStockBucket.Key.class)
+public class ProductStockBucket {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    private Integer bucket;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // === Constructors ===
+
+    public ProductStockBucket() {
+    }
+
+    public ProductStockBucket(Long productId, Integer bucket, Integer quantity) {
+        this.productId = productId;
+        this.bucket = bucket;
+        this.quantity = quantity;
+    }
+
+    // === Getters & Setters ===
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(Integer bucket) {
+        this.bucket = bucket;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * Composite primary key (product, bucket).
+     */
+    public static class Key implements Serializable {
+
+        private Long productId;
+        private Integer bucket;
+
+        public Key() {
+        }
+
+        public Key(Long productId, Integer bucket) {
+            this.productId = productId;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(productId, other.productId)
+                    && Objects.equals(bucket, other.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, bucket);
+        }
+    }
+}
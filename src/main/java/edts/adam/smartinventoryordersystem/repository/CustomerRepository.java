@@ -1,15 +1,24 @@
 package edts.adam.smartinventoryordersystem.repository;
 
 import edts.adam.smartinventoryordersystem.model.Customer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Spring Data JPA repository for {@link Customer} entities.
- * Provides a custom query for email uniqueness validation.
+ * Provides custom queries for email uniqueness validation and keyset batches
+ * of emails used to warm the duplicate-check filter.
  */
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     boolean existsByEmail(String email);
+
+    @Query("select c.id as id, c.email as uniqueKey from Customer c where c.id > :afterId order by c.id")
+    List<UniqueKeyView> findEmailsAfterId(@Param("afterId") Long afterId, Pageable pageable);
 }
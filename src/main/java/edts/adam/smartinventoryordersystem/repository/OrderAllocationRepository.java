@@ -0,0 +1,16 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+import edts.adam.smartinventoryordersystem.model.OrderAllocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link OrderAllocation} entities.
+ */
+@Repository
+public interface OrderAllocationRepository extends JpaRepository<OrderAllocation, Long> {
+
+    List<OrderAllocation> findByOrderId(Long orderId);
+}
@@ -0,0 +1,27 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+import edts.adam.smartinventoryordersystem.model.OrderEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for {@link OrderEvent} entries.
+ * Reads an order's events in sequence order, optionally only those after a
+ * snapshot.
+ */
+@Repository
+public interface OrderEventRepository extends JpaRepository<OrderEvent, Long> {
+
+    List<OrderEvent> findByOrderIdOrderBySequenceNumberAsc(Long orderId);
+
+    List<OrderEvent> findByOrderIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(Long orderId,
+            Integer sequenceNumber);
+
+    @Query("select max(e.sequenceNumber) from OrderEvent e where e.orderId = :orderId")
+    Optional<Integer> findLastSequenceNumber(@Param("orderId") Long orderId);
+}
@@ -3,15 +3,29 @@ package edts.adam.smartinventoryordersystem.repository;
 import edts.adam.smartinventoryordersystem.model.Order;
 import edts.adam.smartinventoryordersystem.enums.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Spring Data JPA repository for {@link Order} entities.
- * Provides a custom query to check if a product has orders with a specific
- * status.
+ * Provides custom queries to check which products have orders with a specific
+ * status, and the status lookup behind conditional GETs.
  */
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     boolean existsByOrderItems_Product_IdAndStatus(Long productId, OrderStatus status);
+
+    @Query("select distinct i.product.id from Order o join o.orderItems i "
+            + "where o.status = :status and i.product.id in :productIds")
+    List<Long> findProductIdsWithOrderStatus(@Param("productIds") Collection<Long> productIds,
+            @Param("status") OrderStatus status);
+
+    @Query("select o.status from Order o where o.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") Long id);
 }
@@ -0,0 +1,13 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+import edts.adam.smartinventoryordersystem.model.OrderSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for {@link OrderSnapshot} entities, keyed by
+ * order id.
+ */
+@Repository
+public interface OrderSnapshotRepository extends JpaRepository<OrderSnapshot, Long> {
+}
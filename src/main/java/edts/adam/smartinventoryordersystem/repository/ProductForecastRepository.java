@@ -0,0 +1,13 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+import edts.adam.smartinventoryordersystem.model.ProductForecast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for {@link ProductForecast} entities, keyed by
+ * product id.
+ */
+@Repository
+public interface ProductForecastRepository extends JpaRepository<ProductForecast, Long> {
+}
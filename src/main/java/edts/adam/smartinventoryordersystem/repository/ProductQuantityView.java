@@ -0,0 +1,11 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+/**
+ * Projection of a product id and a quantity summed over its stock rows.
+ */
+public interface ProductQuantityView {
+
+    Long getProductId();
+
+    Long getQuantity();
+}
@@ -1,17 +1,27 @@
 package edts.adam.smartinventoryordersystem.repository;
 
 import edts.adam.smartinventoryordersystem.model.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Spring Data JPA repository for {@link Product} entities.
- * Provides custom queries for name uniqueness checks and active product
- * filtering.
+ * Provides custom queries for name uniqueness checks, active product
+ * filtering, keyset batches used to warm in-memory indexes, the
+ * {@code updatedAt} lookup behind conditional GETs, and locking reads for
+ * stock changes.
  */
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -23,4 +33,39 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findByIdAndActiveTrue(Long id);
 
     Page<Product> findByActiveTrue(Pageable pageable);
+
+    Slice<Product> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select p.id as id, p.name as uniqueKey from Product p where p.id > :afterId order by p.id")
+    List<UniqueKeyView> findNamesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select p.updatedAt as updatedAt, p.stock as stock from Product p where p.id = :id")
+    Optional<ProductVersionView> findVersionById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Locks the products in ascending id order with a single
+     * {@code SELECT ... FOR UPDATE}, so concurrent callers locking
+     * overlapping sets always queue in the same order and cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :ids order by p.id")
+    List<Product> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Sets how long row-lock waits of this MySQL session last before failing.
+     * The setting outlives the transaction on the pooled connection; undo it
+     * with {@link #resetLockWaitTimeout()}.
+     */
+    @Modifying
+    @Query(value = "SET SESSION innodb_lock_wait_timeout = :seconds", nativeQuery = true)
+    void setLockWaitTimeout(@Param("seconds") long seconds);
+
+    /** Restores the server's default row-lock wait for this MySQL session. */
+    @Modifying
+    @Query(value = "SET SESSION innodb_lock_wait_timeout = DEFAULT", nativeQuery = true)
+    void resetLockWaitTimeout();
 }
@@ -0,0 +1,59 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+import edts.adam.smartinventoryordersystem.model.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link ProductStockBucket} rows. Like
+ * {@link ProductStockRepository}, the order path uses single-row conditional
+ * updates so that it locks only the bucket it takes stock from.
+ */
+@Repository
+public interface ProductStockBucketRepository extends JpaRepository<ProductStockBucket, ProductStockBucket.Key> {
+
+    List<ProductStockBucket> findByProductIdOrderByBucket(Long productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ProductStockBucket b where b.productId = :productId order by b.bucket")
+    List<ProductStockBucket> findForUpdate(@Param("productId") Long productId);
+
+    @Query("select coalesce(sum(b.quantity), 0) from ProductStockBucket b where b.productId = :productId")
+    long sumQuantity(@Param("productId") Long productId);
+
+    @Query("select b.productId as productId, sum(b.quantity) as quantity from ProductStockBucket b "
+            + "where b.productId in :productIds group by b.productId")
+    List<ProductQuantityView> sumQuantities(@Param("productIds") Collection<Long> productIds);
+
+    @Query("select b.productId as productId, count(b) as quantity from ProductStockBucket b group by b.productId")
+    List<ProductQuantityView> countBuckets();
+
+    /**
+     * Takes {@code quantity} units if the bucket still holds them.
+     *
+     * @return 1 if taken, 0 if the bucket has too little stock
+     */
+    @Modifying
+    @Query("update ProductStockBucket b set b.quantity = b.quantity - :quantity "
+            + "where b.productId = :productId and b.bucket = :bucket and b.quantity >= :quantity")
+    int decrement(@Param("productId") Long productId, @Param("bucket") int bucket,
+            @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update ProductStockBucket b set b.quantity = b.quantity + :quantity "
+            + "where b.productId = :productId and b.bucket = :bucket")
+    int increment(@Param("productId") Long productId, @Param("bucket") int bucket,
+            @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("delete from ProductStockBucket b where b.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+}
@@ -0,0 +1,38 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+import edts.adam.smartinventoryordersystem.model.ProductStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link ProductStock} rows. The order path
+ * changes quantities with single-row conditional updates so that it locks
+ * only the (product, warehouse) rows it takes stock from.
+ */
+@Repository
+public interface ProductStockRepository extends JpaRepository<ProductStock, ProductStock.Key> {
+
+    List<ProductStock> findByProductIdOrderByWarehouseId(Long productId);
+
+    /**
+     * Takes {@code quantity} units if the row still holds them.
+     *
+     * @return 1 if taken, 0 if the row has too little stock
+     */
+    @Modifying
+    @Query("update ProductStock s set s.quantity = s.quantity - :quantity "
+            + "where s.productId = :productId and s.warehouseId = :warehouseId and s.quantity >= :quantity")
+    int decrement(@Param("productId") Long productId, @Param("warehouseId") Long warehouseId,
+            @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update ProductStock s set s.quantity = s.quantity + :quantity "
+            + "where s.productId = :productId and s.warehouseId = :warehouseId")
+    int increment(@Param("productId") Long productId, @Param("warehouseId") Long warehouseId,
+            @Param("quantity") int quantity);
+}
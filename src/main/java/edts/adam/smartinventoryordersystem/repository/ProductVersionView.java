@@ -0,0 +1,14 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+import java.time.Instant;
+
+/**
+ * Projection of the product columns that identify a product version for
+ * conditional GETs, read without loading the entity.
+ */
+public interface ProductVersionView {
+
+    Instant getUpdatedAt();
+
+    Integer getStock();
+}
@@ -0,0 +1,13 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+/**
+ * Projection of an entity id and one of its unique columns (product name,
+ * customer email), used to warm in-memory duplicate-check filters in keyset
+ * batches without loading full entities.
+ */
+public interface UniqueKeyView {
+
+    Long getId();
+
+    String getUniqueKey();
+}
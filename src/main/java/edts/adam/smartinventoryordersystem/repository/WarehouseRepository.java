@@ -0,0 +1,14 @@
+package edts.adam.smartinventoryordersystem.repository;
+
+import edts.adam.smartinventoryordersystem.model.Warehouse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for {@link Warehouse} entities.
+ */
+@Repository
+public interface WarehouseRepository extends JpaRepository<Warehouse, Long> {
+
+    boolean existsByCode(String code);
+}
@@ -0,0 +1,87 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
+import edts.adam.smartinventoryordersystem.exception.ServerBusyException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variants of the product listing and order lookup for the
+ * {@code /async} read endpoints.
+ * <p>
+ * JDBC has no non-blocking driver here, so the blocking reads of
+ * {@link ProductService} and {@link OrderService} run on a small fixed pool
+ * of {@code app.async-read.threads} DB threads and complete a
+ * {@link CompletableFuture}. The HTTP thread is returned to the container as
+ * soon as the read is queued, so the number of open read requests is bounded
+ * by connections, not by container threads, while DB concurrency stays at the
+ * pool size. Reads waiting beyond {@code app.async-read.queue-capacity} are
+ * refused with {@link ServerBusyException} instead of queueing without limit.
+ * </p>
+ */
+@Service
+public class AsyncReadService {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncReadService.class);
+
+    private final ProductService productService;
+    private final OrderService orderService;
+    private final ThreadPoolExecutor executor;
+
+    public AsyncReadService(ProductService productService,
+            OrderService orderService,
+            @Value("${app.async-read.threads:8}") int threads,
+            @Value("${app.async-read.queue-capacity:2000}") int queueCapacity) {
+        this.productService = productService;
+        this.orderService = orderService;
+        AtomicInteger threadNumber = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "async-read-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public CompletableFuture<Page<ProductResponse>> getAllProducts(Pageable pageable) {
+        return submit(() -> productService.getAllProducts(pageable));
+    }
+
+    public CompletableFuture<OrderResponse> getOrderById(Long id) {
+        return submit(() -> orderService.getOrderById(id));
+    }
+
+    /** Reads queued for or running on a DB thread. */
+    public int pendingReads() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> read) {
+        try {
+            return CompletableFuture.supplyAsync(read, executor);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Async read queue full ({} waiting), refusing read", executor.getQueue().size());
+            return CompletableFuture.failedFuture(new ServerBusyException("error.server.busy"));
+        }
+    }
+}
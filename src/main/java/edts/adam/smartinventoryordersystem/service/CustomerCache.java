@@ -0,0 +1,109 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import edts.adam.smartinventoryordersystem.model.Customer;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of the customer data order placement needs, so placing an
+ * order for a known customer runs no customer query.
+ * <ul>
+ * <li>name and email per customer id — never changed after registration,
+ * so never invalidated</li>
+ * <li>membership level per customer id — only replaced when a payment
+ * actually upgrades it ({@link #onMembershipUpgrade}), after the payment
+ * commits</li>
+ * </ul>
+ * Levels are only ever upgraded, so a cached level is merged as the higher
+ * of the two: a load that read the level just before an upgrade committed
+ * cannot put the old level back.
+ * <p>
+ * At most {@code app.customers.cache.max-size} customers are held; beyond
+ * that further customers are looked up in the database as before. The cache
+ * is per instance: a level upgraded through another instance is seen here
+ * only after a restart.
+ * </p>
+ */
+@Component
+public class CustomerCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerCache.class);
+
+    private final int maxSize;
+    private final Map<Long, Identity> identities = new ConcurrentHashMap<>();
+    private final Map<Long, MembershipLevel> membershipLevels = new ConcurrentHashMap<>();
+
+    public CustomerCache(@Value("${app.customers.cache.max-size:100000}") int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+    }
+
+    // Public API Methods
+
+    /**
+     * Returns a detached {@link Customer} carrying the cached id, name, email
+     * and membership level, or empty if the customer is not cached. It is a
+     * reference to associate with an order, not a copy to update:
+     * {@code totalSpent} is not cached and is left null, so saving it fails
+     * validation instead of overwriting the real total.
+     */
+    public Optional<Customer> find(Long customerId) {
+        Identity identity = identities.get(customerId);
+        MembershipLevel membershipLevel = membershipLevels.get(customerId);
+        if (identity == null || membershipLevel == null) {
+            return Optional.empty();
+        }
+        Customer customer = new Customer(identity.name(), identity.email());
+        customer.setId(customerId);
+        customer.setMembershipLevel(membershipLevel);
+        customer.setTotalSpent(null);
+        return Optional.of(customer);
+    }
+
+    /**
+     * Caches a customer read from the database, unless the cache is full.
+     */
+    public void put(Customer customer) {
+        Long id = customer.getId();
+        if (!identities.containsKey(id) && identities.size() >= maxSize) {
+            return;
+        }
+        identities.putIfAbsent(id, new Identity(customer.getName(), customer.getEmail()));
+        membershipLevels.merge(id, customer.getMembershipLevel(), CustomerCache::higher);
+    }
+
+    /**
+     * Records a customer's upgraded level once the current transaction
+     * commits; nothing changes if it rolls back. The level is kept even if
+     * the customer is not cached yet, so a load that read the old level
+     * concurrently cannot cache it afterwards; {@link #find} still needs the
+     * customer's identity.
+     */
+    public void onMembershipUpgrade(Long customerId, MembershipLevel membershipLevel) {
+        TransactionHooks.afterCommit(() -> {
+            membershipLevels.merge(customerId, membershipLevel, CustomerCache::higher);
+            log.debug("Cached membership of customer id={} upgraded to {}", customerId, membershipLevel);
+        });
+    }
+
+    public int size() {
+        return identities.size();
+    }
+
+    // Helpers
+
+    private static MembershipLevel higher(MembershipLevel first, MembershipLevel second) {
+        return first.ordinal() >= second.ordinal() ? first : second;
+    }
+
+    /** The customer fields that never change after registration. */
+    private record Identity(String name, String email) {
+    }
+}
@@ -21,15 +21,19 @@ public class CustomerService {
     private static final Logger log = LoggerFactory.getLogger(CustomerService.class);
 
     private final CustomerRepository customerRepository;
+    private final DuplicateCheckFilter duplicateCheckFilter;
 
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(CustomerRepository customerRepository,
+            DuplicateCheckFilter duplicateCheckFilter) {
         this.customerRepository = customerRepository;
+        this.duplicateCheckFilter = duplicateCheckFilter;
     }
 
     @Transactional
     public CustomerResponse createCustomer(CreateCustomerRequest request) {
         log.debug("Checking for duplicate email: {}", request.getEmail());
-        if (customerRepository.existsByEmail(request.getEmail())) {
+        if (duplicateCheckFilter.mightContainCustomerEmail(request.getEmail())
+                && customerRepository.existsByEmail(request.getEmail())) {
             log.warn("Duplicate email detected: {}", request.getEmail());
             throw new DuplicateResourceException("customer.email.duplicate", request.getEmail());
         }
@@ -39,6 +43,7 @@ public class CustomerService {
         customer.setEmail(request.getEmail());
 
         Customer saved = customerRepository.save(customer);
+        duplicateCheckFilter.addCustomerEmail(saved.getEmail());
         log.info("Customer created: id={}, name={}, email={}", saved.getId(), saved.getName(), saved.getEmail());
         return CustomerResponse.fromEntity(saved);
     }
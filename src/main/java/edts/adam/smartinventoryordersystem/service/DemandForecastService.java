@@ -0,0 +1,350 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.product.response.ForecastRunResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductForecastResponse;
+import edts.adam.smartinventoryordersystem.exception.BadRequestException;
+import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.repository.ProductForecastRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Batch job forecasting per-product daily demand from paid order history.
+ * <p>
+ * The product id space is split by a fork-join task into partitions of
+ * {@code app.forecast.partition-size} ids. Each partition streams its paid
+ * order items ordered by product and time, folds them into daily totals and
+ * runs a trailing moving average and simple exponential smoothing over them,
+ * keeping only one product's {@code window-days} ring buffer in memory at a
+ * time. The partition's forecasts then replace its rows in
+ * {@code product_forecast} in one transaction, so readers always see a
+ * complete forecast per product.
+ * </p>
+ * <p>
+ * Partitions do blocking JDBC work, so the pool is sized by
+ * {@code app.forecast.parallelism} (at most one connection per worker) rather
+ * than by core count.
+ * </p>
+ */
+@Service
+public class DemandForecastService {
+
+    private static final Logger log = LoggerFactory.getLogger(DemandForecastService.class);
+
+    private static final String HISTORY_SQL = """
+            SELECT oi.product_id, o.created_at, oi.quantity
+            FROM order_items oi
+            JOIN orders o ON o.id = oi.order_id
+            WHERE oi.product_id BETWEEN :from AND :to AND o.status = 'PAID'
+              AND o.created_at >= :since AND o.created_at < :until
+            ORDER BY oi.product_id, o.created_at
+            """;
+    private static final String DELETE_SQL = "DELETE FROM product_forecast WHERE product_id BETWEEN :from AND :to";
+    private static final String INSERT_SQL = """
+            INSERT INTO product_forecast (product_id, last_day, observed_days, total_units, moving_average,
+                smoothed_demand, horizon_days, forecast_units, generated_at)
+            VALUES (:productId, :lastDay, :observedDays, :totalUnits, :movingAverage,
+                :smoothedDemand, :horizonDays, :forecastUnits, :generatedAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductForecastRepository productForecastRepository;
+    private final ZoneId zone;
+    private final int parallelism;
+    private final int partitionSize;
+    private final int historyDays;
+    private final int windowDays;
+    private final double smoothing;
+    private final int horizonDays;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public DemandForecastService(DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ProductForecastRepository productForecastRepository,
+            @Value("${app.analytics.time-zone:Asia/Jakarta}") ZoneId zone,
+            @Value("${app.forecast.parallelism:4}") int parallelism,
+            @Value("${app.forecast.partition-size:1000}") int partitionSize,
+            @Value("${app.forecast.fetch-size:1000}") int fetchSize,
+            @Value("${app.forecast.history-days:730}") int historyDays,
+            @Value("${app.forecast.window-days:28}") int windowDays,
+            @Value("${app.forecast.smoothing:0.3}") double smoothing,
+            @Value("${app.forecast.horizon-days:14}") int horizonDays) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.jdbcTemplate.getJdbcTemplate().setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.productForecastRepository = productForecastRepository;
+        this.zone = zone;
+        this.parallelism = Math.max(1, parallelism);
+        this.partitionSize = Math.max(1, partitionSize);
+        this.historyDays = Math.max(1, historyDays);
+        this.windowDays = Math.max(1, windowDays);
+        this.smoothing = Math.min(1.0, Math.max(0.01, smoothing));
+        this.horizonDays = Math.max(1, horizonDays);
+    }
+
+    // Public API Methods
+
+    @Transactional(readOnly = true)
+    public ProductForecastResponse getForecast(Long productId) {
+        return productForecastRepository.findById(productId)
+                .map(ProductForecastResponse::fromEntity)
+                .orElseThrow(() -> {
+                    log.warn("No forecast for product id={}", productId);
+                    return new ResourceNotFoundException("product.forecast.not.found", productId);
+                });
+    }
+
+    @Scheduled(cron = "${app.forecast.cron:0 30 1 * * *}", zone = "${app.analytics.time-zone:Asia/Jakarta}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (BadRequestException ex) {
+            log.info("Skipping scheduled demand forecast: a run is already in progress");
+        } catch (RuntimeException ex) {
+            log.error("Scheduled demand forecast failed", ex);
+        }
+    }
+
+    /**
+     * Recomputes the forecasts of every product from the history ending at
+     * the start of today.
+     *
+     * @throws BadRequestException if a run is already in progress
+     */
+    public ForecastRunResponse run() {
+        return run(LocalDate.now(zone).minusDays(1));
+    }
+
+    ForecastRunResponse run(LocalDate lastDay) {
+        if (!runLock.tryLock()) {
+            throw new BadRequestException("product.forecast.running");
+        }
+        long start = System.nanoTime();
+        try {
+            MapSqlParameterSource noParams = new MapSqlParameterSource();
+            Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM product", noParams, Long.class);
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM product", noParams, Long.class);
+
+            Run run = new Run(lastDay, Instant.now());
+            Result result = Result.EMPTY;
+            if (minId != null) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try {
+                    result = pool.invoke(new PartitionTask(run, minId, maxId));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            log.info("Demand forecast finished: {} product(s) in {} partition(s) up to {} in {} ms",
+                    result.products(), result.partitions(), lastDay, durationMs);
+            return ForecastRunResponse.of(result.products(), result.partitions(), lastDay, durationMs);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    // Partitions
+
+    private record Run(LocalDate lastDay, Instant generatedAt) {
+    }
+
+    private record Result(long products, int partitions) {
+
+        static final Result EMPTY = new Result(0, 0);
+
+        Result plus(Result other) {
+            return new Result(products + other.products, partitions + other.partitions);
+        }
+    }
+
+    /**
+     * Splits the id range in halves until it fits a partition.
+     */
+    private final class PartitionTask extends RecursiveTask<Result> {
+
+        private final Run run;
+        private final long from;
+        private final long to;
+
+        PartitionTask(Run run, long from, long to) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from < partitionSize) {
+                return forecastPartition(run, from, to);
+            }
+            long middle = from + (to - from) / 2;
+            PartitionTask left = new PartitionTask(run, from, middle);
+            left.fork();
+            Result right = new PartitionTask(run, middle + 1, to).compute();
+            return right.plus(left.join());
+        }
+    }
+
+    private Result forecastPartition(Run run, long from, long to) {
+        LocalDate firstDay = run.lastDay().minusDays(historyDays - 1L);
+        MapSqlParameterSource params = new MapSqlParameterSource("from", from)
+                .addValue("to", to)
+                .addValue("since", Timestamp.from(firstDay.atStartOfDay(zone).toInstant()))
+                .addValue("until", Timestamp.from(run.lastDay().plusDays(1).atStartOfDay(zone).toInstant()));
+
+        List<MapSqlParameterSource> rows = new ArrayList<>();
+        long lastDay = run.lastDay().toEpochDay();
+        DemandSeries[] series = new DemandSeries[1];
+        jdbcTemplate.query(HISTORY_SQL, params, rs -> {
+            long productId = rs.getLong("product_id");
+            if (series[0] == null || series[0].productId != productId) {
+                if (series[0] != null) {
+                    rows.add(toRow(series[0].finish(lastDay), run));
+                }
+                series[0] = new DemandSeries(productId, windowDays, smoothing);
+            }
+            series[0].add(rs.getTimestamp("created_at").toInstant().atZone(zone).toLocalDate().toEpochDay(),
+                    rs.getInt("quantity"));
+        });
+        if (series[0] != null) {
+            rows.add(toRow(series[0].finish(lastDay), run));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("from", from).addValue("to", to));
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows.toArray(MapSqlParameterSource[]::new));
+            }
+        });
+        log.debug("Forecast partition [{}, {}]: {} product(s)", from, to, rows.size());
+        return new Result(rows.size(), 1);
+    }
+
+    private MapSqlParameterSource toRow(DemandSeries series, Run run) {
+        return new MapSqlParameterSource("productId", series.productId)
+                .addValue("lastDay", Date.valueOf(run.lastDay()))
+                .addValue("observedDays", (int) series.days)
+                .addValue("totalUnits", series.totalUnits)
+                .addValue("movingAverage", decimal(series.movingAverage()))
+                .addValue("smoothedDemand", decimal(series.level))
+                .addValue("horizonDays", horizonDays)
+                .addValue("forecastUnits", (int) Math.ceil(series.level * horizonDays - 1e-9))
+                .addValue("generatedAt", Timestamp.from(run.generatedAt()));
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Daily unit series of one product, consumed in time order. Days without
+     * sales count as zero demand; runs of them are applied in one step.
+     */
+    static final class DemandSeries {
+
+        final long productId;
+        private final double alpha;
+        private final long[] recent;
+        private int next;
+        private long windowSum;
+        private long currentDay = Long.MIN_VALUE;
+        private long currentUnits;
+
+        long days;
+        long totalUnits;
+        double level;
+
+        DemandSeries(long productId, int windowDays, double alpha) {
+            this.productId = productId;
+            this.alpha = alpha;
+            this.recent = new long[windowDays];
+        }
+
+        /**
+         * Adds units sold on {@code epochDay}; days must not decrease.
+         */
+        void add(long epochDay, int units) {
+            if (epochDay != currentDay) {
+                if (currentDay != Long.MIN_VALUE) {
+                    close(epochDay);
+                }
+                currentDay = epochDay;
+            }
+            currentUnits += units;
+        }
+
+        /**
+         * Closes the series at {@code lastEpochDay}, counting the days after
+         * the last sale as zero demand.
+         */
+        DemandSeries finish(long lastEpochDay) {
+            if (currentDay != Long.MIN_VALUE) {
+                close(lastEpochDay + 1);
+                currentDay = Long.MIN_VALUE;
+            }
+            return this;
+        }
+
+        double movingAverage() {
+            return days == 0 ? 0 : (double) windowSum / Math.min(days, recent.length);
+        }
+
+        /** Observes the current day, then the zero days before {@code nextDay}. */
+        private void close(long nextDay) {
+            observe(currentUnits);
+            currentUnits = 0;
+            long zeros = nextDay - currentDay - 1;
+            if (zeros > 0) {
+                level *= Math.pow(1 - alpha, zeros);
+                days += zeros;
+                if (zeros >= recent.length) {
+                    Arrays.fill(recent, 0);
+                    windowSum = 0;
+                } else {
+                    for (long i = 0; i < zeros; i++) {
+                        push(0);
+                    }
+                }
+            }
+        }
+
+        private void observe(long units) {
+            level = days == 0 ? units : alpha * units + (1 - alpha) * level;
+            days++;
+            totalUnits += units;
+            push(units);
+        }
+
+        private void push(long units) {
+            windowSum += units - recent[next];
+            recent[next] = units;
+            next = (next + 1) % recent.length;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.repository.CustomerRepository;
+import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import edts.adam.smartinventoryordersystem.repository.UniqueKeyView;
+import edts.adam.smartinventoryordersystem.util.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+/**
+ * In-memory Bloom filters over product names and customer emails that let
+ * duplicate checks skip the database for definite negatives.
+ * <p>
+ * A {@code false} answer means the value has never been written and the
+ * {@code existsBy...} query can be skipped; {@code true} means "maybe" and the
+ * caller must still ask the database. Until the startup warm-up finishes every
+ * check answers {@code true}. The unique constraints remain the source of
+ * truth for concurrent writers.
+ * </p>
+ */
+@Component
+public class DuplicateCheckFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateCheckFilter.class);
+    private static final int WARM_UP_BATCH_SIZE = 5000;
+
+    private final ProductRepository productRepository;
+    private final CustomerRepository customerRepository;
+    private final BloomFilter productNames;
+    private final BloomFilter customerEmails;
+    private volatile boolean ready;
+
+    public DuplicateCheckFilter(ProductRepository productRepository,
+            CustomerRepository customerRepository,
+            @Value("${app.duplicate-check.expected-products:2000000}") long expectedProducts,
+            @Value("${app.duplicate-check.expected-customers:2000000}") long expectedCustomers,
+            @Value("${app.duplicate-check.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.productRepository = productRepository;
+        this.customerRepository = customerRepository;
+        this.productNames = new BloomFilter(expectedProducts, falsePositiveRate);
+        this.customerEmails = new BloomFilter(expectedCustomers, falsePositiveRate);
+    }
+
+    /**
+     * Loads every existing product name and customer email. Writes that happen
+     * during warm-up are recorded too, so nothing is missed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        long products = load(productRepository::findNamesAfterId, productNames);
+        long customers = load(customerRepository::findEmailsAfterId, customerEmails);
+        ready = true;
+        log.info("Duplicate-check filters warmed: {} product name(s), {} customer email(s) in {} ms",
+                products, customers, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean mightContainProductName(String name) {
+        return !ready || productNames.mightContain(normalize(name));
+    }
+
+    public void addProductName(String name) {
+        productNames.put(normalize(name));
+    }
+
+    public boolean mightContainCustomerEmail(String email) {
+        return !ready || customerEmails.mightContain(normalize(email));
+    }
+
+    public void addCustomerEmail(String email) {
+        customerEmails.put(normalize(email));
+    }
+
+    private long load(BiFunction<Long, PageRequest, List<UniqueKeyView>> batchLoader, BloomFilter filter) {
+        long lastId = 0L;
+        long count = 0;
+        List<UniqueKeyView> batch;
+        do {
+            batch = batchLoader.apply(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+            for (UniqueKeyView row : batch) {
+                filter.put(normalize(row.getUniqueKey()));
+                lastId = row.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == WARM_UP_BATCH_SIZE);
+        return count;
+    }
+
+    /**
+     * Matches the case-insensitive unique indexes on product.name and
+     * customer.email.
+     */
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,238 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.DataFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Locale;
+
+/**
+ * Service layer for full-table exports of the product catalog and order items.
+ * <p>
+ * Rows are read through a JDBC cursor (driver fetch size) and written one at a
+ * time to the caller's {@link OutputStream}, so memory use is constant
+ * regardless of table size. No entities, pages or COUNT queries are involved.
+ * </p>
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String PRODUCT_EXPORT_SQL = """
+            SELECT id, name, category, price, stock, active, created_at, updated_at
+            FROM product
+            ORDER BY id""";
+
+    /**
+     * One row per order item, driven by order_items primary key order so the
+     * database can stream without a filesort.
+     */
+    private static final String ORDER_EXPORT_SQL = """
+            SELECT oi.order_id, o.customer_id, o.status, o.total_amount, o.discount_amount,
+                   o.final_amount, o.created_at, oi.product_id, oi.quantity, oi.price_at_purchase
+            FROM order_items oi
+            JOIN orders o ON o.id = oi.order_id
+            ORDER BY oi.id""";
+
+    private final JdbcTemplate exportJdbcTemplate;
+
+    public ExportService(DataSource dataSource,
+            @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Streams every product row to {@code out}.
+     *
+     * @return the number of rows written
+     */
+    public long exportProducts(OutputStream out, DataFormat format) {
+        return export("products", PRODUCT_EXPORT_SQL, out, format);
+    }
+
+    /**
+     * Streams every order item row, joined with its order, to {@code out}.
+     *
+     * @return the number of rows written
+     */
+    public long exportOrders(OutputStream out, DataFormat format) {
+        return export("orders", ORDER_EXPORT_SQL, out, format);
+    }
+
+    private long export(String name, String sql, OutputStream out, DataFormat format) {
+        long start = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        Long rows = exportJdbcTemplate.query(sql, rs -> {
+            try {
+                return writeRows(rs, writer, format);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        long count = rows != null ? rows : 0L;
+        log.info("Export {} ({}) completed: {} row(s) in {} ms",
+                name, format, count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private long writeRows(ResultSet rs, Writer writer, DataFormat format) throws SQLException, IOException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        String[] labels = new String[columnCount];
+        int[] types = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+            types[i] = metaData.getColumnType(i + 1);
+        }
+
+        if (format == DataFormat.CSV) {
+            for (int i = 0; i < columnCount; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(labels[i]);
+            }
+            writer.write('\n');
+        }
+
+        long count = 0;
+        while (rs.next()) {
+            if (format == DataFormat.CSV) {
+                writeCsvRow(rs, types, writer);
+            } else {
+                writeJsonRow(rs, labels, types, writer);
+            }
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    // Row Formatting
+
+    private static void writeCsvRow(ResultSet rs, int[] types, Writer writer) throws SQLException, IOException {
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = readValue(rs, i + 1, types[i]);
+            if (value != null) {
+                writeCsvValue(value, writer);
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static void writeJsonRow(ResultSet rs, String[] labels, int[] types, Writer writer)
+            throws SQLException, IOException {
+        writer.write('{');
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeJsonString(labels[i], writer);
+            writer.write(':');
+            String value = readValue(rs, i + 1, types[i]);
+            if (value == null) {
+                writer.write("null");
+            } else if (isNumericOrBoolean(types[i])) {
+                writer.write(value);
+            } else {
+                writeJsonString(value, writer);
+            }
+        }
+        writer.write("}\n");
+    }
+
+    /**
+     * Reads a column as its export text: plain-string decimals, ISO-8601
+     * instants, and true/false booleans. Returns null for SQL NULL.
+     */
+    private static String readValue(ResultSet rs, int column, int type) throws SQLException {
+        String value;
+        switch (type) {
+            case Types.DECIMAL, Types.NUMERIC -> {
+                BigDecimal decimal = rs.getBigDecimal(column);
+                value = decimal != null ? decimal.toPlainString() : null;
+            }
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> {
+                Timestamp timestamp = rs.getTimestamp(column);
+                value = timestamp != null ? timestamp.toInstant().toString() : null;
+            }
+            case Types.BIT, Types.BOOLEAN -> value = String.valueOf(rs.getBoolean(column));
+            default -> value = rs.getString(column);
+        }
+        return rs.wasNull() ? null : value;
+    }
+
+    private static boolean isNumericOrBoolean(int type) {
+        return switch (type) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT,
+                    Types.DECIMAL, Types.NUMERIC, Types.BIT, Types.BOOLEAN -> true;
+            default -> false;
+        };
+    }
+
+    private static void writeCsvValue(String value, Writer writer) throws IOException {
+        boolean needsQuoting = false;
+        for (int i = 0; i < value.length() && !needsQuoting; i++) {
+            char c = value.charAt(i);
+            needsQuoting = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuoting) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void writeJsonString(String value, Writer writer) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,27 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.StockAlertType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default {@link StockAlertSink} that writes every alert to the application
+ * log: low-stock and stockout alerts at WARN, restocks at INFO.
+ */
+@Component
+public class LoggingStockAlertSink implements StockAlertSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingStockAlertSink.class);
+
+    @Override
+    public void publish(StockAlert alert) {
+        if (alert.type() == StockAlertType.RESTOCKED) {
+            log.info("Product restocked: id={}, name={}, stock={}, reorderPoint={}",
+                    alert.productId(), alert.productName(), alert.stock(), alert.reorderPoint());
+        } else {
+            log.warn("Stock alert {}: id={}, name={}, stock={}, reorderPoint={}", alert.type(),
+                    alert.productId(), alert.productName(), alert.stock(), alert.reorderPoint());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.exception.ServerBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive cap on orders placed concurrently in request threads, shedding
+ * load with 503 once order latency shows the database is saturated instead
+ * of letting every request queue for a connection.
+ * <p>
+ * The limit follows AIMD: an order slower than
+ * {@code app.admission.orders.latency-target} cuts it by a tenth (at most
+ * once per target interval, so one slow burst is one cut), while orders
+ * within the target while at least half the limit is in use raise it by
+ * about one per limit's worth of orders. It stays between
+ * {@code min-limit} and {@code max-limit}.
+ * </p>
+ */
+@Component
+public class OrderConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderConcurrencyLimiter.class);
+    private static final double DECREASE_FACTOR = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejections;
+    private volatile double limit;
+    private long lastDecreaseNanos; // guarded by this
+
+    public OrderConcurrencyLimiter(MeterRegistry meterRegistry,
+            @Value("${app.admission.orders.initial-limit:10}") int initialLimit,
+            @Value("${app.admission.orders.min-limit:2}") int minLimit,
+            @Value("${app.admission.orders.max-limit:50}") int maxLimit,
+            @Value("${app.admission.orders.latency-target:PT0.25S}") Duration latencyTarget) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.lastDecreaseNanos = System.nanoTime() - latencyTargetNanos;
+        this.rejections = meterRegistry.counter(RateLimiter.REJECTIONS_METER,
+                "limit", "concurrency", "endpoint", "POST /orders");
+        Gauge.builder("admission.orders.limit", this, OrderConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("admission.orders.in.flight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // Public API Methods
+
+    /**
+     * Admits one order; close the permit when it is done.
+     *
+     * @throws ServerBusyException if the limit is reached
+     */
+    public Permit acquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= getLimit()) {
+                rejections.increment();
+                log.debug("Order concurrency limit {} reached, shedding order", getLimit());
+                throw new ServerBusyException("error.server.busy");
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return new Permit(current + 1);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // Helpers
+
+    private void release(long latencyNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (latencyNanos > latencyTargetNanos) {
+                if (now - lastDecreaseNanos >= latencyTargetNanos) {
+                    lastDecreaseNanos = now;
+                    double decreased = Math.max(minLimit, limit * DECREASE_FACTOR);
+                    log.debug("Order took {} ms, lowering concurrency limit {} -> {}",
+                            latencyNanos / 1_000_000, (int) limit, (int) decreased);
+                    limit = decreased;
+                }
+            } else if (inFlightAtStart * 2 >= limit) {
+                // Only grow a limit that is actually used, or it drifts to max when idle
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    /** One admitted order; closing it records the latency. Idempotent. */
+    public final class Permit implements AutoCloseable {
+
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(System.nanoTime() - startNanos, inFlightAtStart);
+            }
+        }
+    }
+}
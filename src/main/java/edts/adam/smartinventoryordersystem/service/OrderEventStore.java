@@ -0,0 +1,213 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderEventResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderItemResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.enums.OrderEventType;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.model.Order;
+import edts.adam.smartinventoryordersystem.model.OrderEvent;
+import edts.adam.smartinventoryordersystem.model.OrderItem;
+import edts.adam.smartinventoryordersystem.model.OrderSnapshot;
+import edts.adam.smartinventoryordersystem.repository.OrderEventRepository;
+import edts.adam.smartinventoryordersystem.repository.OrderSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Append-only event log of orders with periodic snapshots.
+ * <p>
+ * Every order write appends events ({@link OrderEventType}) in the same
+ * transaction as the {@code orders} row, giving a full audit trail that can be
+ * replayed. An order is rebuilt from its latest {@link OrderSnapshot} plus the
+ * events after it; snapshots are written every
+ * {@code app.orders.snapshot-interval} events and whenever an order reaches a
+ * terminal status, so reading a paid or cancelled order is a single snapshot
+ * lookup. Customer and product names are recorded as they were when the order
+ * was placed.
+ * </p>
+ * <p>
+ * Orders placed before the log existed have no events; they are skipped here
+ * and read from the {@code orders} table instead.
+ * </p>
+ */
+@Service
+public class OrderEventStore {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderEventStore.class);
+    private static final String EMPTY_PAYLOAD = "{}";
+
+    private final OrderEventRepository eventRepository;
+    private final OrderSnapshotRepository snapshotRepository;
+    private final JsonMapper jsonMapper;
+    private final ObjectReader payloadReader;
+    private final int snapshotInterval;
+
+    public OrderEventStore(OrderEventRepository eventRepository,
+            OrderSnapshotRepository snapshotRepository,
+            JsonMapper jsonMapper,
+            @Value("${app.orders.snapshot-interval:20}") int snapshotInterval) {
+        this.eventRepository = eventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.jsonMapper = jsonMapper;
+        // Keep amounts exact (and their scale) when payloads are shown as trees
+        this.payloadReader = jsonMapper.readerFor(JsonNode.class)
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    // Event Payloads
+
+    public record OrderCreated(Long customerId, String customerName, BigDecimal totalAmount,
+            BigDecimal discountAmount, BigDecimal finalAmount, Instant createdAt) {
+    }
+
+    public record ItemAdded(Long productId, String productName, Integer quantity,
+            BigDecimal priceAtPurchase, BigDecimal subtotal) {
+    }
+
+    // Public API Methods
+
+    /**
+     * Appends ORDER_CREATED and one ITEM_ADDED per line for a newly saved
+     * order.
+     */
+    @Transactional
+    public void recordCreated(Order order) {
+        Long orderId = order.getId();
+        List<OrderEvent> events = new ArrayList<>(order.getOrderItems().size() + 1);
+        // Stored at the database's precision so rebuilt orders match the table
+        Instant createdAt = order.getCreatedAt() != null ? order.getCreatedAt().truncatedTo(ChronoUnit.MICROS) : null;
+        events.add(new OrderEvent(orderId, 1, OrderEventType.ORDER_CREATED, write(new OrderCreated(
+                order.getCustomer().getId(), order.getCustomer().getName(), order.getTotalAmount(),
+                order.getDiscountAmount(), order.getFinalAmount(), createdAt))));
+        for (OrderItem item : order.getOrderItems()) {
+            events.add(new OrderEvent(orderId, events.size() + 1, OrderEventType.ITEM_ADDED, write(new ItemAdded(
+                    item.getProduct().getId(), item.getProduct().getName(), item.getQuantity(),
+                    item.getPriceAtPurchase(), item.getSubtotal()))));
+        }
+        eventRepository.saveAll(events);
+
+        if (events.size() >= snapshotInterval) {
+            OrderResponse state = null;
+            for (OrderEvent event : events) {
+                state = apply(state, event);
+            }
+            saveSnapshot(orderId, events.size(), state);
+        }
+    }
+
+    /**
+     * Appends PAID or CANCELLED for an order that reached that status, and
+     * snapshots it since no further events can follow.
+     */
+    @Transactional
+    public void recordStatusChange(Order order) {
+        OrderEventType type = switch (order.getStatus()) {
+            case PAID -> OrderEventType.PAID;
+            case CANCELLED -> OrderEventType.CANCELLED;
+            default -> throw new IllegalArgumentException("No event for order status " + order.getStatus());
+        };
+        Optional<Rebuilt> current = rebuild(order.getId());
+        if (current.isEmpty()) {
+            log.debug("Order id={} predates the event log, not recording {}", order.getId(), type);
+            return;
+        }
+        OrderEvent event = new OrderEvent(order.getId(), current.get().sequenceNumber() + 1, type, EMPTY_PAYLOAD);
+        eventRepository.save(event);
+        saveSnapshot(order.getId(), event.getSequenceNumber(), apply(current.get().order(), event));
+    }
+
+    /**
+     * Rebuilds an order from its snapshot and the events after it, or returns
+     * empty if the order has no events.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findOrder(Long orderId) {
+        return rebuild(orderId).map(Rebuilt::order);
+    }
+
+    /**
+     * Returns the full event log of an order, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderEventResponse> getEvents(Long orderId) {
+        return eventRepository.findByOrderIdOrderBySequenceNumberAsc(orderId).stream()
+                .map(event -> OrderEventResponse.fromEntity(event, payloadReader.readValue(event.getPayload())))
+                .toList();
+    }
+
+    // Replay
+
+    private record Rebuilt(OrderResponse order, int sequenceNumber) {
+    }
+
+    private Optional<Rebuilt> rebuild(Long orderId) {
+        Optional<OrderSnapshot> snapshot = snapshotRepository.findById(orderId);
+        OrderResponse state = snapshot.map(s -> jsonMapper.readValue(s.getState(), OrderResponse.class))
+                .orElse(null);
+        int sequenceNumber = snapshot.map(OrderSnapshot::getSequenceNumber).orElse(0);
+
+        List<OrderEvent> events = eventRepository
+                .findByOrderIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(orderId, sequenceNumber);
+        for (OrderEvent event : events) {
+            state = apply(state, event);
+            sequenceNumber = event.getSequenceNumber();
+        }
+        return state != null ? Optional.of(new Rebuilt(state, sequenceNumber)) : Optional.empty();
+    }
+
+    private OrderResponse apply(OrderResponse state, OrderEvent event) {
+        switch (event.getType()) {
+            case ORDER_CREATED -> {
+                OrderCreated created = jsonMapper.readValue(event.getPayload(), OrderCreated.class);
+                state = new OrderResponse();
+                state.setId(event.getOrderId());
+                state.setCustomerId(created.customerId());
+                state.setCustomerName(created.customerName());
+                state.setItems(new ArrayList<>());
+                state.setTotalAmount(created.totalAmount());
+                state.setDiscountAmount(created.discountAmount());
+                state.setFinalAmount(created.finalAmount());
+                state.setStatus(OrderStatus.CREATED);
+                state.setCreatedAt(created.createdAt());
+            }
+            case ITEM_ADDED -> {
+                ItemAdded added = jsonMapper.readValue(event.getPayload(), ItemAdded.class);
+                OrderItemResponse item = new OrderItemResponse();
+                item.setProductId(added.productId());
+                item.setProductName(added.productName());
+                item.setQuantity(added.quantity());
+                item.setPriceAtPurchase(added.priceAtPurchase());
+                item.setSubtotal(added.subtotal());
+                state.getItems().add(item);
+            }
+            case PAID -> state.setStatus(OrderStatus.PAID);
+            case CANCELLED -> state.setStatus(OrderStatus.CANCELLED);
+        }
+        return state;
+    }
+
+    private void saveSnapshot(Long orderId, int sequenceNumber, OrderResponse state) {
+        snapshotRepository.save(new OrderSnapshot(orderId, sequenceNumber, write(state)));
+        log.debug("Snapshot of order id={} saved at event {}", orderId, sequenceNumber);
+    }
+
+    private String write(Object value) {
+        return jsonMapper.writeValueAsString(value);
+    }
+}
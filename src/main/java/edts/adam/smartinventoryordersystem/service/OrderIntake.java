@@ -0,0 +1,307 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.order.request.CreateOrderRequest;
+import edts.adam.smartinventoryordersystem.enums.OrderAcceptance;
+import edts.adam.smartinventoryordersystem.enums.OrderTicketStatus;
+import edts.adam.smartinventoryordersystem.exception.InsufficientStockException;
+import edts.adam.smartinventoryordersystem.exception.LocalizedException;
+import edts.adam.smartinventoryordersystem.exception.OrderQueueFullException;
+import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.exception.StockLockTimeoutException;
+import edts.adam.smartinventoryordersystem.util.LongPolling;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous order acceptance: {@code POST /orders} enqueues the request
+ * and answers 202 with a token instead of holding an HTTP thread and a DB
+ * connection through the whole order transaction.
+ * <p>
+ * Requests wait in a bounded in-memory queue of
+ * {@code app.orders.intake.queue-capacity}; when it is full new orders are
+ * refused with 503 rather than buffered without limit. A fixed pool of
+ * {@code app.orders.intake.workers} threads drains it in micro-batches of up
+ * to {@code batch-size} requests and places each through
+ * {@link OrderService#placeOrder} in its own transaction, so the number of
+ * connections order placement holds is capped by the worker count whatever
+ * the HTTP concurrency.
+ * </p>
+ * <p>
+ * Tickets are kept in memory for {@code result-ttl} after completion for
+ * clients to poll. The queue is not durable: orders still queued at shutdown
+ * are reported as FAILED to waiting pollers and are not placed.
+ * </p>
+ */
+@Component
+public class OrderIntake {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIntake.class);
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    private final OrderService orderService;
+    private final OrderAcceptance acceptance;
+    private final BlockingQueue<Submission> queue;
+    private final Map<String, Submission> submissions = new ConcurrentHashMap<>();
+    private final int workerCount;
+    private final int batchSize;
+    private final Duration resultTtl;
+    private final Duration maxWait;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public OrderIntake(OrderService orderService,
+            @Value("${app.orders.intake.acceptance:PREFER_ASYNC}") OrderAcceptance acceptance,
+            @Value("${app.orders.intake.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.orders.intake.workers:4}") int workerCount,
+            @Value("${app.orders.intake.batch-size:20}") int batchSize,
+            @Value("${app.orders.intake.result-ttl:PT10M}") Duration resultTtl,
+            @Value("${app.orders.intake.max-wait:PT30S}") Duration maxWait) {
+        this.orderService = orderService;
+        this.acceptance = acceptance;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.workerCount = Math.max(1, workerCount);
+        this.batchSize = Math.max(1, batchSize);
+        this.resultTtl = resultTtl;
+        this.maxWait = maxWait;
+    }
+
+    // Public API Methods
+
+    /**
+     * Whether a request with the given {@code Prefer} header is queued rather
+     * than placed in the request.
+     */
+    public boolean isQueued(String prefer) {
+        return switch (acceptance) {
+            case SYNC -> false;
+            case ASYNC -> true;
+            case PREFER_ASYNC -> prefer != null && prefer.toLowerCase().contains(RESPOND_ASYNC);
+        };
+    }
+
+    /**
+     * Queues an order for placement.
+     *
+     * @return the pending ticket whose token the client polls
+     * @throws OrderQueueFullException if the queue is full
+     */
+    public OrderTicket submit(CreateOrderRequest request) {
+        OrderTicket pending = OrderTicket.pending(UUID.randomUUID().toString(), Instant.now());
+        Submission submission = new Submission(request, pending);
+        String token = pending.token();
+        submissions.put(token, submission);
+        if (!queue.offer(submission)) {
+            submissions.remove(token);
+            log.warn("Order queue full ({} pending), refusing order for customerId: {}",
+                    queue.size(), request.getCustomerId());
+            throw new OrderQueueFullException("order.queue.full");
+        }
+        log.debug("Queued order token={} for customerId: {}", token, request.getCustomerId());
+        // Not submission.ticket: a worker may already have replaced it
+        return pending;
+    }
+
+    /**
+     * @throws ResourceNotFoundException if the token is unknown or its result
+     *                                   has expired
+     */
+    public OrderTicket getTicket(String token) {
+        return findOrThrow(token).ticket;
+    }
+
+    /**
+     * Completes with the ticket once its order is placed, rejected or failed;
+     * already complete for finished tickets.
+     *
+     * @throws ResourceNotFoundException if the token is unknown or its result
+     *                                   has expired
+     */
+    public CompletableFuture<OrderTicket> whenDone(String token) {
+        return findOrThrow(token).completion;
+    }
+
+    /**
+     * Clamps a requested long-poll wait to {@code app.orders.intake.max-wait}.
+     */
+    public Duration longPollWait(long waitSeconds) {
+        return LongPolling.clampWait(waitSeconds, maxWait);
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    // Workers
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running || acceptance == OrderAcceptance.SYNC) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "order-intake-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Started {} order intake worker(s), queue capacity {}", workerCount, queue.remainingCapacity());
+    }
+
+    /**
+     * Stops the workers after the order each is placing; not interrupted, so
+     * no order transaction is cut short. Orders still queued are failed.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+
+        List<Submission> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(OrderIntake::abandon);
+        if (!abandoned.isEmpty()) {
+            log.warn("Order intake stopped with {} queued order(s) not placed", abandoned.size());
+        }
+    }
+
+    private void work() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // Timed poll so an idle worker notices stop() without an interrupt
+                Submission first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                for (Submission submission : batch) {
+                    if (running) {
+                        process(submission);
+                    } else {
+                        abandon(submission);
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(Submission submission) {
+        OrderTicket ticket = submission.ticket;
+        OrderTicket done;
+        try {
+            OrderResult result = orderService.placeOrder(submission.request);
+            if (result instanceof OrderResult.Rejected rejected) {
+                done = ticket.completed(OrderTicketStatus.REJECTED, "INSUFFICIENT_STOCK",
+                        rejected.messageKey(), rejected.args());
+            } else {
+                done = ticket.created(((OrderResult.Created) result).order());
+            }
+        } catch (StockLockTimeoutException ex) {
+            done = ticket.completed(OrderTicketStatus.FAILED, "LOCK_TIMEOUT", ex.getMessageKey(), ex.getArgs());
+        } catch (PessimisticLockingFailureException ex) {
+            done = ticket.completed(OrderTicketStatus.FAILED, "LOCK_TIMEOUT", "error.lock.timeout");
+        } catch (LocalizedException ex) {
+            done = ticket.completed(OrderTicketStatus.REJECTED, errorCode(ex), ex.getMessageKey(), ex.getArgs());
+        } catch (RuntimeException ex) {
+            log.error("Queued order token={} failed", ticket.token(), ex);
+            done = ticket.completed(OrderTicketStatus.FAILED, "INTERNAL_ERROR", "error.unexpected");
+        }
+        submission.complete(done);
+        log.debug("Queued order token={} completed: {}", done.token(), done.status());
+    }
+
+    /**
+     * Drops finished tickets older than {@code app.orders.intake.result-ttl}.
+     * Pending tickets are kept however long they wait.
+     */
+    @Scheduled(fixedDelayString = "${app.orders.intake.purge-interval:PT1M}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(resultTtl);
+        int before = submissions.size();
+        submissions.values().removeIf(submission -> submission.ticket.isDone()
+                && submission.ticket.completedAt().isBefore(cutoff));
+        int purged = before - submissions.size();
+        if (purged > 0) {
+            log.debug("Purged {} expired order ticket(s)", purged);
+        }
+    }
+
+    // Helpers
+
+    private Submission findOrThrow(String token) {
+        Submission submission = submissions.get(token);
+        if (submission == null) {
+            log.warn("Order ticket not found: token={}", token);
+            throw new ResourceNotFoundException("order.ticket.not.found", token);
+        }
+        return submission;
+    }
+
+    private static void abandon(Submission submission) {
+        submission.complete(submission.ticket.completed(
+                OrderTicketStatus.FAILED, "QUEUE_SHUTDOWN", "order.queue.shutdown"));
+    }
+
+    /** The error code {@code GlobalExceptionHandler} answers the exception with. */
+    private static String errorCode(LocalizedException ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            return "RESOURCE_NOT_FOUND";
+        }
+        if (ex instanceof InsufficientStockException) {
+            return "INSUFFICIENT_STOCK";
+        }
+        return "BUSINESS_ERROR";
+    }
+
+    /** A queued request and its current ticket. */
+    private static final class Submission {
+
+        private final CreateOrderRequest request;
+        private final CompletableFuture<OrderTicket> completion = new CompletableFuture<>();
+        private volatile OrderTicket ticket;
+
+        Submission(CreateOrderRequest request, OrderTicket ticket) {
+            this.request = request;
+            this.ticket = ticket;
+        }
+
+        void complete(OrderTicket done) {
+            ticket = done;
+            completion.complete(done);
+        }
+    }
+}
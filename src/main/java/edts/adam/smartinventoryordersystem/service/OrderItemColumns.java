@@ -0,0 +1,486 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.analytics.response.ItemAggregateResponse;
+import edts.adam.smartinventoryordersystem.enums.ItemGroup;
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Columnar in-memory snapshot of paid order items for ad-hoc aggregate
+ * queries that never touch the database.
+ * <p>
+ * Every item is one row across six primitive columns (product id, quantity,
+ * unit price in cents, order day, category ordinal, membership level ordinal)
+ * stored in fixed-size blocks. A query scans the blocks in parallel, one tight
+ * filter-and-sum loop per block over the columns it needs, and merges the
+ * per-block totals.
+ * </p>
+ * <p>
+ * The snapshot is refreshed every {@code app.analytics.columnar.refresh-interval}
+ * and each refresh is incremental: it reads orders above the last id
+ * watermark, ids that were not yet visible at the previous refresh, and the
+ * open orders {@link OrderService} has since paid or cancelled (reported via
+ * {@link #recordClosed}). It appends the newly paid items and publishes a new
+ * snapshot that shares all full blocks with the old one. Orders that stay open
+ * cost one bit each and are never re-read.
+ * </p>
+ */
+@Component
+public class OrderItemColumns {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderItemColumns.class);
+
+    static final int BLOCK_SIZE = 64 * 1024;
+    private static final int RECHECK_BATCH_SIZE = 1000;
+    /** Refreshes that re-read an unseen id before giving up on it. */
+    private static final int GAP_RETRIES = 3;
+    /**
+     * Only ids this close to the newest one can belong to a transaction still
+     * in flight; older holes are rollbacks or sequence gaps.
+     */
+    private static final long GAP_WINDOW = 1000;
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+    private static final MembershipLevel[] LEVELS = MembershipLevel.values();
+
+    private static final String SELECT = """
+            SELECT o.id, o.status, o.created_at, o.total_amount, o.discount_amount,
+                   oi.product_id, oi.quantity, oi.price_at_purchase, p.category
+            FROM orders o
+            LEFT JOIN order_items oi ON oi.order_id = o.id AND o.status = 'PAID'
+            LEFT JOIN product p ON p.id = oi.product_id
+            """;
+    private static final String RANGE_SQL = SELECT + "WHERE o.id > :from AND o.id <= :to";
+    private static final String IDS_SQL = SELECT + "WHERE o.id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ZoneId zone;
+    private final int chunkSize;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), 0, null);
+
+    /** Orders paid or cancelled since the last refresh, added after commit. */
+    private final Queue<Long> closedOrders = new ConcurrentLinkedQueue<>();
+
+    // Refresh state, guarded by this
+    private long watermark;
+    /** Orders at or below the watermark that were CREATED when last read, by id. */
+    private final BitSet openOrders = new BitSet();
+    /** Ids at or below the watermark not seen yet (uncommitted or rolled back), with retries left. */
+    private final Map<Long, Integer> gaps = new HashMap<>();
+
+    public OrderItemColumns(DataSource dataSource,
+            @Value("${app.analytics.time-zone:Asia/Jakarta}") ZoneId zone,
+            @Value("${app.analytics.backfill-chunk-size:10000}") int chunkSize) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.zone = zone;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // Refresh
+
+    /**
+     * Reports an order leaving CREATED, so that the next refresh re-reads it.
+     * Takes effect once the transaction commits.
+     */
+    public void recordClosed(Long orderId) {
+        TransactionHooks.afterCommit(() -> closedOrders.add(orderId));
+    }
+
+    /**
+     * Appends items of orders paid since the last refresh. The first refresh
+     * loads the whole history.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.columnar.refresh-interval:PT5M}")
+    public synchronized void refresh() {
+        long start = System.nanoTime();
+        Snapshot current = snapshot;
+        Appender appender = new Appender(current.blocks());
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", new MapSqlParameterSource(),
+                Long.class);
+        long target = maxId != null ? Math.max(maxId, watermark) : watermark;
+
+        // Open orders closed since, and orders missing last time. A closed
+        // order whose bit is clear was read after it closed, or lies above
+        // the watermark and is read with the new orders below.
+        List<Long> recheck = new ArrayList<>(gaps.keySet());
+        for (Long id; (id = closedOrders.poll()) != null;) {
+            if (openOrders.get(Math.toIntExact(id))) {
+                recheck.add(id);
+            }
+        }
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < recheck.size(); i += RECHECK_BATCH_SIZE) {
+            List<Long> ids = recheck.subList(i, Math.min(recheck.size(), i + RECHECK_BATCH_SIZE));
+            jdbcTemplate.query(IDS_SQL, new MapSqlParameterSource("ids", ids), rowHandler(appender, seen::add));
+        }
+        for (Iterator<Map.Entry<Long, Integer>> it = gaps.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Long, Integer> gap = it.next();
+            if (seen.contains(gap.getKey()) || gap.getValue() <= 1) {
+                it.remove();
+            } else {
+                gap.setValue(gap.getValue() - 1);
+            }
+        }
+
+        // New orders, in primary-key chunks
+        for (long from = watermark; from < target; from += chunkSize) {
+            long chunkStart = from;
+            long to = Math.min(target, from + chunkSize);
+            BitSet chunkSeen = new BitSet((int) (to - from));
+            jdbcTemplate.query(RANGE_SQL, new MapSqlParameterSource("from", from).addValue("to", to),
+                    rowHandler(appender, id -> chunkSeen.set((int) (id - chunkStart - 1))));
+            for (int gap = chunkSeen.nextClearBit(0); gap < to - from; gap = chunkSeen.nextClearBit(gap + 1)) {
+                long id = chunkStart + gap + 1;
+                if (id > target - GAP_WINDOW) {
+                    gaps.put(id, GAP_RETRIES);
+                }
+            }
+        }
+        watermark = target;
+
+        snapshot = new Snapshot(appender.finish(), current.rows() + appender.appended, Instant.now());
+        log.info("Order item columns refreshed: +{} row(s), {} total, {} open order(s), watermark {} in {} ms",
+                appender.appended, snapshot.rows(), openOrders.cardinality(), watermark,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private interface IdSink {
+        void accept(long orderId);
+    }
+
+    /**
+     * Appends paid items and tracks which orders are still open. A paid order
+     * yields one row per item, so the status bookkeeping is idempotent.
+     */
+    private RowCallbackHandler rowHandler(Appender appender, IdSink seen) {
+        return rs -> {
+            long orderId = rs.getLong("id");
+            seen.accept(orderId);
+            OrderStatus status = OrderStatus.valueOf(rs.getString("status"));
+            if (status == OrderStatus.CREATED) {
+                openOrders.set(Math.toIntExact(orderId));
+                return;
+            }
+            openOrders.clear(Math.toIntExact(orderId));
+            if (status == OrderStatus.PAID && rs.getObject("product_id") != null) {
+                appendRow(appender, rs);
+            }
+        };
+    }
+
+    private void appendRow(Appender appender, ResultSet rs) throws SQLException {
+        MembershipLevel level = SalesAnalytics.pricedLevel(rs.getBigDecimal("total_amount"),
+                rs.getBigDecimal("discount_amount"));
+        appender.append(rs.getLong("product_id"), rs.getInt("quantity"),
+                SalesAnalytics.cents(rs.getBigDecimal("price_at_purchase")),
+                (int) rs.getTimestamp("created_at").toInstant().atZone(zone).toLocalDate().toEpochDay(),
+                (byte) ProductCategory.valueOf(rs.getString("category")).ordinal(),
+                (byte) level.ordinal());
+    }
+
+    // Queries
+
+    /**
+     * Sums items, units and revenue of the paid items matching every given
+     * filter ({@code null} = any), grouped by {@code groupBy}. Groups without
+     * matches are omitted.
+     */
+    public ItemAggregateResponse aggregate(LocalDate from, LocalDate to, ProductCategory category,
+            MembershipLevel membershipLevel, Long productId, ItemGroup groupBy) {
+        Snapshot current = snapshot;
+        Filter filter = new Filter(
+                from != null ? (int) from.toEpochDay() : Integer.MIN_VALUE,
+                to != null ? (int) to.toEpochDay() : Integer.MAX_VALUE,
+                category != null ? category.ordinal() : -1,
+                membershipLevel != null ? membershipLevel.ordinal() : -1,
+                productId != null ? productId : Long.MIN_VALUE);
+
+        Totals totals = current.blocks().parallelStream()
+                .map(block -> scan(block, filter, groupBy))
+                .reduce(Totals::merge)
+                .orElseGet(() -> new Totals());
+
+        ItemAggregateResponse response = new ItemAggregateResponse();
+        response.setGroupBy(groupBy);
+        response.setSnapshotAt(current.builtAt());
+        response.setRowsScanned(current.rows());
+        response.setRowsMatched(totals.matched);
+        totals.groups.forEach((key, group) -> response.getGroups().add(new ItemAggregateResponse.Group(
+                label(groupBy, key), group[0], group[1], BigDecimal.valueOf(group[2], 2))));
+        return response;
+    }
+
+    public long size() {
+        return snapshot.rows();
+    }
+
+    private record Filter(int fromDay, int toDay, int category, int membership, long productId) {
+    }
+
+    /**
+     * Branch-light scan of one block: every filter is a comparison on a
+     * primitive column, combined with non-short-circuit {@code &}.
+     */
+    private static Totals scan(Block block, Filter filter, ItemGroup groupBy) {
+        Totals totals = new Totals();
+        int fromDay = filter.fromDay();
+        int toDay = filter.toDay();
+        int category = filter.category();
+        int membership = filter.membership();
+        long productId = filter.productId();
+        boolean anyProduct = productId == Long.MIN_VALUE;
+
+        long[] products = block.productId;
+        int[] quantities = block.quantity;
+        long[] prices = block.priceCents;
+        int[] days = block.day;
+        byte[] categories = block.category;
+        byte[] levels = block.membership;
+
+        if (groupBy == ItemGroup.NONE) {
+            long matched = 0;
+            long units = 0;
+            long revenue = 0;
+            for (int i = 0; i < block.size; i++) {
+                boolean match = days[i] >= fromDay & days[i] <= toDay
+                        & (category < 0 | categories[i] == category)
+                        & (membership < 0 | levels[i] == membership)
+                        & (anyProduct | products[i] == productId);
+                int m = match ? 1 : 0;
+                matched += m;
+                units += (long) quantities[i] * m;
+                revenue += quantities[i] * prices[i] * m;
+            }
+            if (matched > 0) {
+                totals.add(0L, matched, units, revenue);
+            }
+            return totals;
+        }
+
+        if (groupBy == ItemGroup.PRODUCT) {
+            for (int i = 0; i < block.size; i++) {
+                boolean match = days[i] >= fromDay & days[i] <= toDay
+                        & (category < 0 | categories[i] == category)
+                        & (membership < 0 | levels[i] == membership)
+                        & (anyProduct | products[i] == productId);
+                if (match) {
+                    totals.add(products[i], 1, quantities[i], quantities[i] * prices[i]);
+                }
+            }
+            return totals;
+        }
+
+        // Category, membership and day keys are small and dense: sum into
+        // flat arrays indexed by key and fold them into the map once.
+        int base = 0;
+        int width;
+        if (groupBy == ItemGroup.DAY) {
+            if (block.size == 0) {
+                return totals;
+            }
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < block.size; i++) {
+                min = Math.min(min, days[i]);
+                max = Math.max(max, days[i]);
+            }
+            base = min;
+            width = max - min + 1;
+        } else {
+            width = groupBy == ItemGroup.CATEGORY ? CATEGORIES.length : LEVELS.length;
+        }
+        long[] items = new long[width];
+        long[] units = new long[width];
+        long[] revenue = new long[width];
+        for (int i = 0; i < block.size; i++) {
+            boolean match = days[i] >= fromDay & days[i] <= toDay
+                    & (category < 0 | categories[i] == category)
+                    & (membership < 0 | levels[i] == membership)
+                    & (anyProduct | products[i] == productId);
+            int m = match ? 1 : 0;
+            int key = switch (groupBy) {
+                case CATEGORY -> categories[i];
+                case MEMBERSHIP_LEVEL -> levels[i];
+                default -> days[i] - base;
+            };
+            items[key] += m;
+            units[key] += (long) quantities[i] * m;
+            revenue[key] += quantities[i] * prices[i] * m;
+        }
+        for (int key = 0; key < width; key++) {
+            if (items[key] > 0) {
+                totals.add(base + key, items[key], units[key], revenue[key]);
+            }
+        }
+        return totals;
+    }
+
+    private static String label(ItemGroup groupBy, long key) {
+        return switch (groupBy) {
+            case NONE -> "ALL";
+            case CATEGORY -> CATEGORIES[(int) key].name();
+            case MEMBERSHIP_LEVEL -> LEVELS[(int) key].name();
+            case DAY -> LocalDate.ofEpochDay(key).toString();
+            case PRODUCT -> Long.toString(key);
+        };
+    }
+
+    /**
+     * Per-group {items, units, revenue in cents}, ordered by key.
+     */
+    private static final class Totals {
+
+        final TreeMap<Long, long[]> groups = new TreeMap<>();
+        long matched;
+
+        void add(long key, long items, long units, long revenue) {
+            long[] group = groups.computeIfAbsent(key, k -> new long[3]);
+            group[0] += items;
+            group[1] += units;
+            group[2] += revenue;
+            matched += items;
+        }
+
+        Totals merge(Totals other) {
+            other.groups.forEach((key, group) -> {
+                long[] merged = groups.computeIfAbsent(key, k -> new long[3]);
+                merged[0] += group[0];
+                merged[1] += group[1];
+                merged[2] += group[2];
+            });
+            matched += other.matched;
+            return this;
+        }
+    }
+
+    // Column Storage
+
+    private record Snapshot(List<Block> blocks, long rows, Instant builtAt) {
+    }
+
+    /**
+     * Up to {@link #BLOCK_SIZE} rows; never modified once published.
+     */
+    private static final class Block {
+
+        final long[] productId;
+        final int[] quantity;
+        final long[] priceCents;
+        final int[] day;
+        final byte[] category;
+        final byte[] membership;
+        int size;
+
+        Block(int capacity) {
+            productId = new long[capacity];
+            quantity = new int[capacity];
+            priceCents = new long[capacity];
+            day = new int[capacity];
+            category = new byte[capacity];
+            membership = new byte[capacity];
+        }
+
+        Block(Block source) {
+            productId = Arrays.copyOf(source.productId, BLOCK_SIZE);
+            quantity = Arrays.copyOf(source.quantity, BLOCK_SIZE);
+            priceCents = Arrays.copyOf(source.priceCents, BLOCK_SIZE);
+            day = Arrays.copyOf(source.day, BLOCK_SIZE);
+            category = Arrays.copyOf(source.category, BLOCK_SIZE);
+            membership = Arrays.copyOf(source.membership, BLOCK_SIZE);
+            size = source.size;
+        }
+
+        /**
+         * Copy trimmed to its rows, for the last partly filled block.
+         */
+        Block trimmed() {
+            return new Block(size, Arrays.copyOf(productId, size), Arrays.copyOf(quantity, size),
+                    Arrays.copyOf(priceCents, size), Arrays.copyOf(day, size), Arrays.copyOf(category, size),
+                    Arrays.copyOf(membership, size));
+        }
+
+        private Block(int size, long[] productId, int[] quantity, long[] priceCents, int[] day, byte[] category,
+                byte[] membership) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.priceCents = priceCents;
+            this.day = day;
+            this.category = category;
+            this.membership = membership;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Builds the next block list: full blocks are shared with the previous
+     * snapshot, the partly filled last block is copied before appending.
+     */
+    private static final class Appender {
+
+        private final List<Block> blocks;
+        private Block tail;
+        long appended;
+
+        Appender(List<Block> published) {
+            blocks = new ArrayList<>(published);
+            if (!blocks.isEmpty() && blocks.get(blocks.size() - 1).size < BLOCK_SIZE) {
+                tail = new Block(blocks.remove(blocks.size() - 1));
+            }
+        }
+
+        void append(long productId, int quantity, long priceCents, int day, byte category, byte membership) {
+            if (tail == null || tail.size == BLOCK_SIZE) {
+                if (tail != null) {
+                    blocks.add(tail);
+                }
+                tail = new Block(BLOCK_SIZE);
+            }
+            int i = tail.size++;
+            tail.productId[i] = productId;
+            tail.quantity[i] = quantity;
+            tail.priceCents[i] = priceCents;
+            tail.day[i] = day;
+            tail.category[i] = category;
+            tail.membership[i] = membership;
+            appended++;
+        }
+
+        List<Block> finish() {
+            if (tail != null) {
+                blocks.add(tail.size == BLOCK_SIZE ? tail : tail.trimmed());
+            }
+            return List.copyOf(blocks);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+
+/**
+ * Outcome of {@link OrderService#placeOrder}: either the created order or
+ * an expected rejection (insufficient stock) described by an i18n message
+ * key and arguments.
+ */
+public sealed interface OrderResult {
+
+    record Created(OrderResponse order) implements OrderResult {
+    }
+
+    record Rejected(String messageKey, Object... args) implements OrderResult {
+    }
+}
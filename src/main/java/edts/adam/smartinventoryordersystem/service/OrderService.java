@@ -2,29 +2,43 @@ package edts.adam.smartinventoryordersystem.service;
 
 import edts.adam.smartinventoryordersystem.dto.order.request.CreateOrderRequest;
 import edts.adam.smartinventoryordersystem.dto.order.request.OrderItemRequest;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderEventResponse;
 import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
 import edts.adam.smartinventoryordersystem.model.Customer;
 import edts.adam.smartinventoryordersystem.model.Order;
 import edts.adam.smartinventoryordersystem.model.OrderItem;
 import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
 import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.StockLockMode;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
 import edts.adam.smartinventoryordersystem.exception.BadRequestException;
 import edts.adam.smartinventoryordersystem.exception.InsufficientStockException;
 import edts.adam.smartinventoryordersystem.exception.InvalidOrderStateException;
 import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.exception.StockLockTimeoutException;
 import edts.adam.smartinventoryordersystem.repository.CustomerRepository;
 import edts.adam.smartinventoryordersystem.repository.OrderRepository;
 import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service layer for order lifecycle management.
@@ -35,40 +49,127 @@ import java.util.Map;
 public class OrderService {
 
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
-    private static final BigDecimal EXTRA_DISCOUNT_THRESHOLD = new BigDecimal("5000000");
-    private static final BigDecimal EXTRA_DISCOUNT_RATE = new BigDecimal("0.05");
+    static final BigDecimal EXTRA_DISCOUNT_THRESHOLD = new BigDecimal("5000000");
+    static final BigDecimal EXTRA_DISCOUNT_RATE = new BigDecimal("0.05");
     private static final BigDecimal MAX_DISCOUNT_RATE = new BigDecimal("0.30");
 
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
+    private final CustomerCache customerCache;
     private final ProductRepository productRepository;
+    private final OrderEventStore orderEventStore;
+    private final StockJournal stockJournal;
+    private final SalesAnalytics salesAnalytics;
+    private final OrderItemColumns orderItemColumns;
+    private final StockAlertMonitor stockAlertMonitor;
+    private final WarehouseAllocator warehouseAllocator;
+    private final StockBuckets stockBuckets;
+    private final OrderStatusNotifier orderStatusNotifier;
+    private final StockLockMode stockLockMode;
+    private final Duration lockWaitTimeout;
 
     public OrderService(OrderRepository orderRepository,
             CustomerRepository customerRepository,
-            ProductRepository productRepository) {
+            CustomerCache customerCache,
+            ProductRepository productRepository,
+            OrderEventStore orderEventStore,
+            StockJournal stockJournal,
+            SalesAnalytics salesAnalytics,
+            OrderItemColumns orderItemColumns,
+            StockAlertMonitor stockAlertMonitor,
+            WarehouseAllocator warehouseAllocator,
+            StockBuckets stockBuckets,
+            OrderStatusNotifier orderStatusNotifier,
+            @Value("${app.orders.stock-lock-mode:IMPLICIT}") StockLockMode stockLockMode,
+            @Value("${app.orders.lock-wait-timeout:0s}") Duration lockWaitTimeout) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
+        this.customerCache = customerCache;
         this.productRepository = productRepository;
+        this.orderEventStore = orderEventStore;
+        this.stockJournal = stockJournal;
+        this.salesAnalytics = salesAnalytics;
+        this.orderItemColumns = orderItemColumns;
+        this.stockAlertMonitor = stockAlertMonitor;
+        this.warehouseAllocator = warehouseAllocator;
+        this.stockBuckets = stockBuckets;
+        this.orderStatusNotifier = orderStatusNotifier;
+        this.stockLockMode = stockLockMode;
+        this.lockWaitTimeout = lockWaitTimeout;
     }
 
     // Public API Methods
 
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
-        Customer customer = findCustomerOrThrow(request.getCustomerId());
-        Order order = new Order(customer);
+        OrderResult result = placeOrder(request);
+        if (result instanceof OrderResult.Rejected rejected) {
+            throw new InsufficientStockException(rejected.messageKey(), rejected.args());
+        }
+        return ((OrderResult.Created) result).order();
+    }
 
+    /**
+     * Same as {@link #createOrder} but reports insufficient stock as
+     * {@link OrderResult.Rejected} instead of throwing. Stock is checked for
+     * every item before any is deducted, so a rejection leaves nothing to roll
+     * back. Warehouse-managed and striped products are taken from their
+     * warehouses (see {@link WarehouseAllocator}) or stock buckets (see
+     * {@link StockBuckets}) without locking the product row.
+     *
+     * @throws StockLockTimeoutException in {@link StockLockMode#PESSIMISTIC}
+     *                                   mode, if the product rows stay locked
+     *                                   past the lock-wait timeout
+     */
+    @Transactional
+    public OrderResult placeOrder(CreateOrderRequest request) {
+        Customer customer = findOrderingCustomerOrThrow(request.getCustomerId());
         Map<Long, Integer> mergedItems = mergeOrderItems(request.getItems());
-        BigDecimal totalAmount = processOrderItems(order, mergedItems);
+        Map<Long, Product> lockedProducts = lockProducts(mergedItems.keySet());
+
+        List<OrderItem> orderItems = new ArrayList<>(mergedItems.size());
+        Map<Long, Integer> stockAfter = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : mergedItems.entrySet()) {
+            Product product = findOrderableProductOrThrow(entry.getKey(), lockedProducts);
+            int quantity = entry.getValue();
+            int available = availableStock(product);
+            if (available < quantity) {
+                log.debug("Insufficient stock for product id={}: available={}, requested={}",
+                        product.getId(), available, quantity);
+                return new OrderResult.Rejected("order.insufficient.stock",
+                        product.getName(), available, quantity);
+            }
+            orderItems.add(new OrderItem(product, quantity, product.getPrice()));
+            stockAfter.put(product.getId(), available - quantity);
+        }
+
+        Order order = new Order(customer);
+        Map<Long, List<StockAllocation>> allocations = new LinkedHashMap<>();
+        BigDecimal totalAmount = processOrderItems(order, orderItems, request, allocations);
         applyDiscount(order, customer, totalAmount);
 
         order.setStatus(OrderStatus.CREATED);
         Order saved = orderRepository.save(order);
+        orderEventStore.recordCreated(saved);
+        allocations.forEach((productId, allocated) ->
+                warehouseAllocator.saveAllocations(saved.getId(), productId, allocated));
+        for (OrderItem item : saved.getOrderItems()) {
+            Product product = item.getProduct();
+            int remaining = stockAfter.get(product.getId());
+            stockJournal.record(StockMovementType.ORDER_RESERVE, product.getId(), saved.getId(),
+                    -item.getQuantity(), remaining);
+            stockAlertMonitor.onStockChange(product, remaining);
+        }
 
-        log.info("Order created: id={}, customerId={}, items={}, total={}, discount={}, final={}",
-                saved.getId(), customer.getId(), saved.getOrderItems().size(),
-                order.getTotalAmount(), order.getDiscountAmount(), order.getFinalAmount());
-        return OrderResponse.fromEntity(saved);
+        log.atInfo().addMarker(LogSampling.SAMPLED)
+                .addKeyValue("orderId", saved.getId())
+                .addKeyValue("customerId", customer.getId())
+                .addKeyValue("items", saved.getOrderItems().size())
+                .addKeyValue("total", order.getTotalAmount())
+                .addKeyValue("discount", order.getDiscountAmount())
+                .addKeyValue("final", order.getFinalAmount())
+                .log("Order created");
+        return new OrderResult.Created(OrderResponse.fromEntity(saved));
     }
 
     @Transactional
@@ -79,12 +180,26 @@ public class OrderService {
         order.setStatus(OrderStatus.PAID);
 
         Customer customer = order.getCustomer();
+        MembershipLevel previousLevel = customer.getMembershipLevel();
         customer.addSpent(order.getFinalAmount());
         customerRepository.save(customer);
         log.debug("Customer id={} totalSpent updated to {}", customer.getId(), customer.getTotalSpent());
+        if (customer.getMembershipLevel() != previousLevel) {
+            log.debug("Customer id={} membership upgraded {} -> {}",
+                    customer.getId(), previousLevel, customer.getMembershipLevel());
+            customerCache.onMembershipUpgrade(customer.getId(), customer.getMembershipLevel());
+        }
 
         Order saved = orderRepository.save(order);
-        log.info("Order paid: id={}, finalAmount={}, customerId={}", id, order.getFinalAmount(), customer.getId());
+        orderEventStore.recordStatusChange(saved);
+        salesAnalytics.recordPaid(saved);
+        orderItemColumns.recordClosed(saved.getId());
+        orderStatusNotifier.publish(saved.getId(), saved.getStatus());
+        log.atInfo().addMarker(LogSampling.SAMPLED)
+                .addKeyValue("orderId", id)
+                .addKeyValue("customerId", customer.getId())
+                .addKeyValue("finalAmount", order.getFinalAmount())
+                .log("Order paid");
         return OrderResponse.fromEntity(saved);
     }
 
@@ -93,23 +208,91 @@ public class OrderService {
         Order order = findOrderOrThrow(id);
         validateStatusTransition(order, OrderStatus.CANCELLED, "order.cancel.invalid.status");
 
-        restoreStock(order.getOrderItems());
+        lockProducts(order.getOrderItems().stream().map(item -> item.getProduct().getId()).toList());
+        restoreStock(order);
         order.setStatus(OrderStatus.CANCELLED);
 
         Order saved = orderRepository.save(order);
-        log.info("Order cancelled: id={}, {} item(s) stock restored", id, order.getOrderItems().size());
+        orderEventStore.recordStatusChange(saved);
+        salesAnalytics.recordCancelled(saved);
+        orderItemColumns.recordClosed(saved.getId());
+        orderStatusNotifier.publish(saved.getId(), saved.getStatus());
+        log.atInfo().addMarker(LogSampling.SAMPLED)
+                .addKeyValue("orderId", id)
+                .addKeyValue("restoredItems", order.getOrderItems().size())
+                .log("Order cancelled");
         return OrderResponse.fromEntity(saved);
     }
 
+    /**
+     * Rebuilds the order from the event log, falling back to the
+     * {@code orders} table for orders placed before the log existed. Only
+     * responses rebuilt from the log are marked
+     * {@link OrderResponse#isFromEventLog()}: fallback responses carry the
+     * live customer and product names, which can still change.
+     */
     @Transactional(readOnly = true)
     public OrderResponse getOrderById(Long id) {
+        Optional<OrderResponse> fromEvents = orderEventStore.findOrder(id);
+        if (fromEvents.isPresent()) {
+            log.debug("Order retrieved from event log: id={}, status={}", id, fromEvents.get().getStatus());
+            fromEvents.get().setFromEventLog(true);
+            return fromEvents.get();
+        }
         Order order = findOrderOrThrow(id);
         log.debug("Order retrieved: id={}, status={}", order.getId(), order.getStatus());
         return OrderResponse.fromEntity(order);
     }
 
+    @Transactional(readOnly = true)
+    public List<OrderEventResponse> getOrderEvents(Long id) {
+        if (!orderRepository.existsById(id)) {
+            log.warn("Order not found: id={}", id);
+            throw new ResourceNotFoundException("order.not.found", id);
+        }
+        return orderEventStore.getEvents(id);
+    }
+
+    /**
+     * Returns the order's status without loading the order or its items, or
+     * empty if it does not exist. Used to answer conditional GETs.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderStatus> getOrderStatus(Long id) {
+        return orderRepository.findStatusById(id);
+    }
+
+    /**
+     * Returns the order's status without loading the order or its items.
+     *
+     * @throws ResourceNotFoundException if the order does not exist
+     */
+    @Transactional(readOnly = true)
+    public OrderStatus getExistingOrderStatus(Long id) {
+        return orderRepository.findStatusById(id)
+                .orElseThrow(() -> {
+                    log.warn("Order not found: id={}", id);
+                    return new ResourceNotFoundException("order.not.found", id);
+                });
+    }
+
     // Entity Lookup Helpers
 
+    /**
+     * The customer placing an order, from {@link CustomerCache} when cached:
+     * a detached reference good for the order's foreign key and discount,
+     * not for updating.
+     */
+    private Customer findOrderingCustomerOrThrow(Long customerId) {
+        Optional<Customer> cached = customerCache.find(customerId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Customer customer = findCustomerOrThrow(customerId);
+        customerCache.put(customer);
+        return customer;
+    }
+
     private Customer findCustomerOrThrow(Long customerId) {
         log.debug("Looking up customer id={}", customerId);
         return customerRepository.findById(customerId)
@@ -136,6 +319,49 @@ public class OrderService {
     }
 
 
+    /**
+     * In {@link StockLockMode#PESSIMISTIC} mode, locks the rows of the given
+     * products whose stock lives in the product row, in ascending id order
+     * with one query. Must run before the products are otherwise loaded in
+     * the transaction, so the returned entities carry the locked state.
+     * A positive {@code app.orders.lock-wait-timeout} bounds the wait of this
+     * one query; the session setting is restored right after it, so other
+     * work on the pooled connection keeps the server default.
+     *
+     * @return the locked products by id; empty in {@link StockLockMode#IMPLICIT}
+     *         mode
+     */
+    private Map<Long, Product> lockProducts(Collection<Long> productIds) {
+        if (stockLockMode != StockLockMode.PESSIMISTIC) {
+            return Map.of();
+        }
+        List<Long> ids = productIds.stream()
+                .filter(id -> !warehouseAllocator.isManaged(id) && !stockBuckets.isStriped(id))
+                .sorted()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        boolean boundedWait = !lockWaitTimeout.isZero() && !lockWaitTimeout.isNegative();
+        if (boundedWait) {
+            // innodb_lock_wait_timeout takes whole seconds, at least one
+            productRepository.setLockWaitTimeout(Math.max(1, lockWaitTimeout.toSeconds()));
+        }
+        try {
+            List<Product> products = productRepository.findAllByIdForUpdate(ids);
+            log.debug("Locked product rows {}", ids);
+            return products.stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+        } catch (PessimisticLockingFailureException ex) {
+            log.warn("Timed out waiting for product row locks {}", ids);
+            throw new StockLockTimeoutException("order.lock.timeout");
+        } finally {
+            if (boundedWait) {
+                productRepository.resetLockWaitTimeout();
+            }
+        }
+    }
+
+
     // Order Item Processing
 
     /**
@@ -152,15 +378,39 @@ public class OrderService {
     }
 
     /**
-     * Validates, deducts stock, and creates OrderItems for each merged entry.
+     * Deducts stock for each validated item and attaches it to the order.
+     * Warehouse-managed and striped products are taken from their warehouses
+     * or buckets and their {@link Product} rows are left untouched.
      *
+     * @param allocations receives the warehouse allocations per product id
      * @return the total amount before discount
+     * @throws InsufficientStockException if warehouse or bucket stock ran out
+     *                                    since the availability check
      */
-    private BigDecimal processOrderItems(Order order, Map<Long, Integer> mergedItems) {
+    private BigDecimal processOrderItems(Order order, List<OrderItem> orderItems, CreateOrderRequest request,
+            Map<Long, List<StockAllocation>> allocations) {
         BigDecimal totalAmount = BigDecimal.ZERO;
 
-        for (Map.Entry<Long, Integer> entry : mergedItems.entrySet()) {
-            OrderItem orderItem = createValidatedOrderItem(entry.getKey(), entry.getValue());
+        for (OrderItem orderItem : orderItems) {
+            Product product = orderItem.getProduct();
+            int quantity = orderItem.getQuantity();
+            if (warehouseAllocator.isManaged(product.getId())) {
+                List<StockAllocation> allocated = warehouseAllocator.allocate(product, quantity,
+                        request.getShipToLatitude(), request.getShipToLongitude());
+                if (allocated.isEmpty()) {
+                    throw new InsufficientStockException("order.insufficient.stock",
+                            product.getName(), warehouseAllocator.available(product.getId()), quantity);
+                }
+                allocations.put(product.getId(), allocated);
+                log.debug("Stock allocated for product id={}: {}", product.getId(), allocated);
+            } else if (stockBuckets.isStriped(product.getId())) {
+                stockBuckets.take(product, quantity, order.getCustomer().getId());
+            } else {
+                product.setStock(product.getStock() - quantity);
+                productRepository.save(product);
+                log.debug("Stock reduced for product id={}: new stock={}", product.getId(), product.getStock());
+            }
+
             order.addOrderItem(orderItem);
             totalAmount = totalAmount.add(orderItem.getSubtotal());
         }
@@ -169,29 +419,28 @@ public class OrderService {
     }
 
     /**
-     * Validates a single product (exists, active, sufficient stock),
-     * deducts stock, and returns a new OrderItem with a price snapshot.
+     * Looks up a product, unless already locked, and checks that it can be
+     * ordered (exists, active).
      */
-    private OrderItem createValidatedOrderItem(Long productId, int quantity) {
-        Product product = findProductOrThrow(productId);
+    private Product findOrderableProductOrThrow(Long productId, Map<Long, Product> lockedProducts) {
+        Product product = lockedProducts.containsKey(productId)
+                ? lockedProducts.get(productId)
+                : findProductOrThrow(productId);
 
         if (!product.getActive()) {
             log.warn("Attempted to order inactive product: id={}, name={}", product.getId(), product.getName());
             throw new BadRequestException("order.product.not.active", product.getName());
         }
+        return product;
+    }
 
-        if (product.getStock() < quantity) {
-            log.warn("Insufficient stock for product id={}: available={}, requested={}",
-                    product.getId(), product.getStock(), quantity);
-            throw new InsufficientStockException("order.insufficient.stock",
-                    product.getName(), product.getStock(), quantity);
+    private int availableStock(Product product) {
+        if (warehouseAllocator.isManaged(product.getId())) {
+            return warehouseAllocator.available(product.getId());
         }
-
-        product.setStock(product.getStock() - quantity);
-        productRepository.save(product);
-        log.debug("Stock reduced for product id={}: new stock={}", product.getId(), product.getStock());
-
-        return new OrderItem(product, quantity, product.getPrice());
+        return stockBuckets.isStriped(product.getId())
+                ? stockBuckets.available(product.getId())
+                : product.getStock();
     }
 
 
@@ -240,16 +489,31 @@ public class OrderService {
     }
 
     /**
-     * Restores stock for all items in a cancelled order.
+     * Restores stock for all items in a cancelled order. Items that were
+     * allocated from warehouses go back to those warehouses; striped products
+     * get the stock back in one of their buckets.
      */
-    private void restoreStock(List<OrderItem> orderItems) {
-        for (OrderItem item : orderItems) {
+    private void restoreStock(Order order) {
+        Map<Long, Integer> released = warehouseAllocator.release(order.getId());
+        for (OrderItem item : order.getOrderItems()) {
             Product product = item.getProduct();
             int restoredQty = item.getQuantity();
-            product.setStock(product.getStock() + restoredQty);
-            productRepository.save(product);
+            int newStock;
+            if (released.containsKey(product.getId())) {
+                newStock = warehouseAllocator.available(product.getId()) + restoredQty;
+            } else if (stockBuckets.isStriped(product.getId())) {
+                stockBuckets.release(product.getId(), restoredQty, order.getCustomer().getId());
+                newStock = stockBuckets.available(product.getId());
+            } else {
+                product.setStock(product.getStock() + restoredQty);
+                productRepository.save(product);
+                newStock = product.getStock();
+            }
+            stockJournal.record(StockMovementType.CANCEL_RESTORE, product.getId(), order.getId(),
+                    restoredQty, newStock);
+            stockAlertMonitor.onStockChange(product, newStock);
             log.debug("Stock restored for product id={}: +{} (new stock={})",
-                    product.getId(), restoredQty, product.getStock());
+                    product.getId(), restoredQty, newStock);
         }
     }
 }
@@ -0,0 +1,12 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+
+import java.time.Instant;
+
+/**
+ * A committed order status transition, as delivered by
+ * {@link OrderStatusNotifier}.
+ */
+public record OrderStatusChange(Long orderId, OrderStatus status, Instant changedAt) {
+}
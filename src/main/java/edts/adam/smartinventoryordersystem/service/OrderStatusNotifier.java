@@ -0,0 +1,180 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.util.LongPolling;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * In-process publish/subscribe of order status transitions, so clients
+ * waiting for an order to be paid or cancelled are told instead of polling
+ * {@code GET /orders/{id}}.
+ * <p>
+ * {@link OrderService} publishes each transition; subscribers are notified
+ * once its transaction commits. Each subscriber is notified by its own task on
+ * a pool of {@code app.orders.status-events.send-threads} sender threads, so a
+ * slow client connection delays neither the committing request nor the other
+ * subscribers. A send still running after
+ * {@code app.orders.status-events.send-timeout} drops its subscriber; the
+ * blocked thread is freed once the connection's write fails. A subscriber
+ * costs one set entry until it is cancelled; the web layer holds the
+ * connection with an async request, not a thread.
+ * </p>
+ * <p>
+ * Subscriptions exist only on this instance: behind a load balancer a
+ * transition committed on another node is not seen, and subscribers fall
+ * back to their timeout and re-read the status.
+ * </p>
+ */
+@Component
+public class OrderStatusNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusNotifier.class);
+    private static final int SEND_QUEUE_CAPACITY = 10_000;
+
+    private final Map<Long, Set<Consumer<OrderStatusChange>>> subscribers = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+    private final Duration streamTimeout;
+    private final Duration sendTimeout;
+    private final ThreadPoolExecutor sender;
+
+    public OrderStatusNotifier(@Value("${app.orders.status-events.max-wait:PT30S}") Duration maxWait,
+            @Value("${app.orders.status-events.stream-timeout:PT5M}") Duration streamTimeout,
+            @Value("${app.orders.status-events.send-timeout:PT10S}") Duration sendTimeout,
+            @Value("${app.orders.status-events.send-threads:8}") int sendThreads) {
+        this.maxWait = maxWait;
+        this.streamTimeout = streamTimeout;
+        this.sendTimeout = sendTimeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        int poolSize = Math.max(1, sendThreads);
+        this.sender = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "order-status-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // Public API Methods
+
+    /**
+     * Registers a listener for the order's status transitions.
+     *
+     * @return the subscription; cancel it once the listener is done
+     */
+    public Subscription subscribe(Long orderId, Consumer<OrderStatusChange> listener) {
+        subscribers.compute(orderId, (id, listeners) -> {
+            Set<Consumer<OrderStatusChange>> target = listeners != null ? listeners : ConcurrentHashMap.newKeySet();
+            target.add(listener);
+            return target;
+        });
+        return () -> unsubscribe(orderId, listener);
+    }
+
+    /**
+     * Completes with the order's next status transition. Cancelling the
+     * future drops the subscription.
+     */
+    public CompletableFuture<OrderStatusChange> nextChange(Long orderId) {
+        CompletableFuture<OrderStatusChange> next = new CompletableFuture<>();
+        Subscription subscription = subscribe(orderId, next::complete);
+        next.whenComplete((change, ex) -> subscription.cancel());
+        return next;
+    }
+
+    /**
+     * Notifies the order's subscribers of its new status once the current
+     * transaction commits.
+     */
+    public void publish(Long orderId, OrderStatus status) {
+        TransactionHooks.afterCommit(() -> {
+            Set<Consumer<OrderStatusChange>> listeners = subscribers.get(orderId);
+            if (listeners == null) {
+                return;
+            }
+            OrderStatusChange change = new OrderStatusChange(orderId, status, Instant.now());
+            for (Consumer<OrderStatusChange> listener : listeners) {
+                deliver(change, listener);
+            }
+            log.debug("Queued status {} of order id={} for {} subscriber(s)", status, orderId, listeners.size());
+        });
+    }
+
+    /**
+     * Clamps a requested long-poll wait to
+     * {@code app.orders.status-events.max-wait}.
+     */
+    public Duration longPollWait(long waitSeconds) {
+        return LongPolling.clampWait(waitSeconds, maxWait);
+    }
+
+    /**
+     * How long a status stream stays open before the client has to reconnect,
+     * bounding the lifetime of subscribers whose client silently went away.
+     */
+    public Duration getStreamTimeout() {
+        return streamTimeout;
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdown();
+    }
+
+    // Helpers
+
+    private void deliver(OrderStatusChange change, Consumer<OrderStatusChange> listener) {
+        Long orderId = change.orderId();
+        CompletableFuture<Void> send;
+        try {
+            send = CompletableFuture.runAsync(() -> listener.accept(change), sender);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Status senders saturated or stopped, dropping change of order id={}", orderId);
+            return;
+        }
+        send.orTimeout(sendTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((result, ex) -> {
+            if (ex instanceof TimeoutException) {
+                log.warn("Status send to a subscriber of order id={} exceeded {}; dropping it", orderId, sendTimeout);
+                unsubscribe(orderId, listener);
+            } else if (ex != null) {
+                log.warn("Status listener failed for order id={}", orderId, ex.getCause());
+            }
+        });
+    }
+
+    private void unsubscribe(Long orderId, Consumer<OrderStatusChange> listener) {
+        subscribers.computeIfPresent(orderId, (id, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    /** A registered listener; {@link #cancel()} is idempotent. */
+    @FunctionalInterface
+    public interface Subscription {
+
+        void cancel();
+    }
+}
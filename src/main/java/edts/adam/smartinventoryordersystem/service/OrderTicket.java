@@ -0,0 +1,32 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.enums.OrderTicketStatus;
+
+import java.time.Instant;
+
+/**
+ * State of an order accepted by {@link OrderIntake}, identified by its token.
+ * Once placed, {@code order} holds the created order; once rejected or
+ * failed, {@code errorCode} and the i18n {@code messageKey}/{@code args}
+ * describe why, as the synchronous endpoint would have reported it.
+ */
+public record OrderTicket(String token, OrderTicketStatus status, Instant acceptedAt, Instant completedAt,
+        OrderResponse order, String errorCode, String messageKey, Object[] args) {
+
+    static OrderTicket pending(String token, Instant acceptedAt) {
+        return new OrderTicket(token, OrderTicketStatus.PENDING, acceptedAt, null, null, null, null, null);
+    }
+
+    OrderTicket created(OrderResponse order) {
+        return new OrderTicket(token, OrderTicketStatus.CREATED, acceptedAt, Instant.now(), order, null, null, null);
+    }
+
+    OrderTicket completed(OrderTicketStatus status, String errorCode, String messageKey, Object... args) {
+        return new OrderTicket(token, status, acceptedAt, Instant.now(), null, errorCode, messageKey, args);
+    }
+
+    public boolean isDone() {
+        return status != OrderTicketStatus.PENDING;
+    }
+}
@@ -0,0 +1,461 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.product.request.CreateProductRequest;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductImportResponse;
+import edts.adam.smartinventoryordersystem.enums.DataFormat;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+import edts.adam.smartinventoryordersystem.exception.BadRequestException;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.repository.OrderRepository;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service layer for bulk product imports from CSV or NDJSON streams.
+ * <p>
+ * Rows are parsed one at a time, validated with the same rules as
+ * {@link ProductService#createProduct} (bean validation and FOOD price cap),
+ * de-duplicated by name within the import, and written in chunks: one lookup
+ * of existing names, one multi-row INSERT for new products and one batched
+ * UPDATE for existing ones, each chunk in its own transaction. Invalid rows
+ * are reported, never thrown, so one bad row does not abort the import.
+ * </p>
+ */
+@Service
+public class ProductImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+    private static final List<String> CSV_COLUMNS = List.of("name", "category", "price", "stock");
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderRepository orderRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final DuplicateCheckFilter duplicateCheckFilter;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final MessageUtil messageUtil;
+    private final StockJournal stockJournal;
+    private final StockAlertMonitor stockAlertMonitor;
+    private final WarehouseAllocator warehouseAllocator;
+    private final StockBuckets stockBuckets;
+    private final int chunkSize;
+
+    public ProductImportService(DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            OrderRepository orderRepository,
+            ProductSearchIndex productSearchIndex,
+            DuplicateCheckFilter duplicateCheckFilter,
+            Validator validator,
+            JsonMapper jsonMapper,
+            MessageUtil messageUtil,
+            StockJournal stockJournal,
+            StockAlertMonitor stockAlertMonitor,
+            WarehouseAllocator warehouseAllocator,
+            StockBuckets stockBuckets,
+            @Value("${app.import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.orderRepository = orderRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.duplicateCheckFilter = duplicateCheckFilter;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.messageUtil = messageUtil;
+        this.stockJournal = stockJournal;
+        this.stockAlertMonitor = stockAlertMonitor;
+        this.warehouseAllocator = warehouseAllocator;
+        this.stockBuckets = stockBuckets;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports products from the given stream. Rows whose name already exists
+     * update category, price and stock and keep their reorder point; other rows
+     * create new active products. Rows changing the stock of a
+     * warehouse-managed or striped product are rejected.
+     */
+    public ProductImportResponse importProducts(InputStream in, DataFormat format) {
+        long start = System.nanoTime();
+        ProductImportResponse report = new ProductImportResponse();
+        Map<String, Long> seenNames = new HashMap<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            int[] columnIndexes = format == DataFormat.CSV ? readCsvHeader(reader) : null;
+            long rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                rowNumber++;
+                report.setTotalRows(rowNumber);
+
+                CreateProductRequest request;
+                try {
+                    request = format == DataFormat.CSV
+                            ? parseCsvRow(line, columnIndexes)
+                            : jsonMapper.readValue(line, CreateProductRequest.class);
+                    if (request == null) {
+                        throw new IllegalArgumentException(line);
+                    }
+                } catch (RuntimeException e) {
+                    fail(report, rowNumber, null, messageUtil.get("product.import.row.malformed", e.getMessage()));
+                    continue;
+                }
+
+                String error = validate(request);
+                if (error != null) {
+                    fail(report, rowNumber, request.getName(), error);
+                    continue;
+                }
+
+                Long firstSeen = seenNames.putIfAbsent(normalize(request.getName()), rowNumber);
+                if (firstSeen != null) {
+                    fail(report, rowNumber, request.getName(),
+                            messageUtil.get("product.import.row.duplicate", request.getName(), firstSeen));
+                    continue;
+                }
+
+                chunk.add(new ImportRow(rowNumber, request));
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, report);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Product import ({}) completed: rows={}, created={}, updated={}, failed={} in {} ms",
+                format, report.getTotalRows(), report.getCreated(), report.getUpdated(), report.getFailed(),
+                (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    // Parsing & Validation
+
+    private int[] readCsvHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        List<String> columns = header == null ? List.of()
+                : parseCsvLine(header).stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+        int[] indexes = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            indexes[i] = columns.indexOf(CSV_COLUMNS.get(i));
+            if (indexes[i] < 0) {
+                log.warn("Import rejected — CSV header {} is missing column '{}'", columns, CSV_COLUMNS.get(i));
+                throw new BadRequestException("product.import.header.invalid", String.join(",", CSV_COLUMNS));
+            }
+        }
+        return indexes;
+    }
+
+    private CreateProductRequest parseCsvRow(String line, int[] columnIndexes) {
+        List<String> fields = parseCsvLine(line);
+        CreateProductRequest request = new CreateProductRequest();
+        request.setName(field(fields, columnIndexes[0]));
+        String category = field(fields, columnIndexes[1]);
+        request.setCategory(category == null ? null : ProductCategory.valueOf(category.trim().toUpperCase(Locale.ROOT)));
+        String price = field(fields, columnIndexes[2]);
+        request.setPrice(price == null ? null : new BigDecimal(price.trim()));
+        String stock = field(fields, columnIndexes[3]);
+        request.setStock(stock == null ? null : Integer.valueOf(stock.trim()));
+        return request;
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    /**
+     * Splits a single CSV line, honouring double-quoted fields and escaped
+     * quotes. Multi-line quoted values are not supported.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the first validation error for the row, or null if it is valid.
+     */
+    private String validate(CreateProductRequest request) {
+        Set<ConstraintViolation<CreateProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (request.getCategory() == ProductCategory.FOOD
+                && request.getPrice().compareTo(ProductService.FOOD_MAX_PRICE) > 0) {
+            return messageUtil.get("product.food.price.exceeded");
+        }
+        return null;
+    }
+
+    // Chunk Writing
+
+    private void writeChunk(List<ImportRow> chunk, ProductImportResponse report) {
+        try {
+            ChunkResult result = transactionTemplate.execute(status -> upsertChunk(chunk));
+            report.setCreated(report.getCreated() + result.created());
+            report.setUpdated(report.getUpdated() + result.updated());
+            for (ImportRow rejected : result.priceLocked()) {
+                fail(report, rejected.rowNumber(), rejected.request().getName(),
+                        messageUtil.get("product.price.update.completed.orders"));
+            }
+            for (ImportRow rejected : result.stockManaged()) {
+                fail(report, rejected.rowNumber(), rejected.request().getName(),
+                        messageUtil.get("product.stock.managed.by.warehouses"));
+            }
+            for (ImportRow rejected : result.stockStriped()) {
+                fail(report, rejected.rowNumber(), rejected.request().getName(),
+                        messageUtil.get("product.stock.striped"));
+            }
+        } catch (DataAccessException e) {
+            log.error("Import chunk of {} row(s) starting at row {} failed", chunk.size(), chunk.get(0).rowNumber(), e);
+            String message = messageUtil.get("product.import.chunk.failed");
+            for (ImportRow row : chunk) {
+                fail(report, row.rowNumber(), row.request().getName(), message);
+            }
+        }
+    }
+
+    private ChunkResult upsertChunk(List<ImportRow> chunk) {
+        Map<String, ExistingProduct> existing = findExisting(chunk.stream()
+                .map(row -> row.request().getName()).toList());
+
+        List<ImportRow> inserts = new ArrayList<>();
+        List<ImportRow> updates = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            (existing.containsKey(normalize(row.request().getName())) ? updates : inserts).add(row);
+        }
+
+        // Price changes are blocked for products that already have PAID orders
+        List<Long> repricedIds = new ArrayList<>();
+        for (ImportRow row : updates) {
+            ExistingProduct product = existing.get(normalize(row.request().getName()));
+            if (product.price().compareTo(row.request().getPrice()) != 0) {
+                repricedIds.add(product.id());
+            }
+        }
+        Set<Long> priceLocked = repricedIds.isEmpty() ? Set.of()
+                : new HashSet<>(orderRepository.findProductIdsWithOrderStatus(repricedIds, OrderStatus.PAID));
+        List<ImportRow> rejected = new ArrayList<>();
+        if (!priceLocked.isEmpty()) {
+            updates.removeIf(row -> {
+                boolean locked = priceLocked.contains(existing.get(normalize(row.request().getName())).id());
+                if (locked) {
+                    rejected.add(row);
+                }
+                return locked;
+            });
+        }
+
+        // Stock of warehouse-managed and striped products is only set per warehouse or bucket
+        List<ImportRow> stockManaged = new ArrayList<>();
+        List<ImportRow> stockStriped = new ArrayList<>();
+        updates.removeIf(row -> {
+            ExistingProduct product = existing.get(normalize(row.request().getName()));
+            if (product.stock() == row.request().getStock()) {
+                return false;
+            }
+            if (warehouseAllocator.isManaged(product.id())) {
+                stockManaged.add(row);
+                return true;
+            }
+            if (stockBuckets.isStriped(product.id())) {
+                stockStriped.add(row);
+                return true;
+            }
+            return false;
+        });
+
+        Timestamp now = Timestamp.from(Instant.now());
+        insertRows(inserts, now);
+        updateRows(updates, existing, now);
+        publish(inserts, updates, existing);
+
+        return new ChunkResult(inserts.size(), updates.size(), rejected, stockManaged, stockStriped);
+    }
+
+    private Map<String, ExistingProduct> findExisting(List<String> names) {
+        return jdbcTemplate.query("SELECT id, name, price, stock, reorder_point, active FROM product WHERE name IN (:names)",
+                        new MapSqlParameterSource("names", names),
+                        (rs, rowNum) -> new ExistingProduct(rs.getLong("id"), rs.getString("name"),
+                                rs.getBigDecimal("price"), rs.getInt("stock"), rs.getObject("reorder_point", Integer.class),
+                                rs.getBoolean("active")))
+                .stream()
+                .collect(Collectors.toMap(product -> normalize(product.name()), product -> product, (a, b) -> a));
+    }
+
+    /**
+     * Inserts all new rows with a single multi-row INSERT statement.
+     */
+    private void insertRows(List<ImportRow> inserts, Timestamp now) {
+        if (inserts.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO product (name, category, price, stock, reorder_point, active, created_at, updated_at) VALUES ");
+        MapSqlParameterSource params = new MapSqlParameterSource("now", now);
+        for (int i = 0; i < inserts.size(); i++) {
+            CreateProductRequest request = inserts.get(i).request();
+            if (i > 0) {
+                sql.append(", ");
+            }
+            duplicateCheckFilter.addProductName(request.getName());
+            sql.append("(:name").append(i).append(", :category").append(i).append(", :price").append(i)
+                    .append(", :stock").append(i).append(", :reorderPoint").append(i).append(", TRUE, :now, :now)");
+            params.addValue("name" + i, request.getName())
+                    .addValue("category" + i, request.getCategory().name())
+                    .addValue("price" + i, request.getPrice())
+                    .addValue("stock" + i, request.getStock())
+                    .addValue("reorderPoint" + i, request.getReorderPoint());
+        }
+        jdbcTemplate.update(sql.toString(), params);
+    }
+
+    private void updateRows(List<ImportRow> updates, Map<String, ExistingProduct> existing, Timestamp now) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] batch = updates.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("id", existing.get(normalize(row.request().getName())).id())
+                        .addValue("category", row.request().getCategory().name())
+                        .addValue("price", row.request().getPrice())
+                        .addValue("stock", row.request().getStock())
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+                "UPDATE product SET category = :category, price = :price, stock = :stock, updated_at = :now "
+                        + "WHERE id = :id",
+                batch);
+    }
+
+    /**
+     * Pushes written rows into the search index and their stock changes into
+     * the stock journal and the stock alert monitor (all applied after commit).
+     */
+    private void publish(List<ImportRow> inserts, List<ImportRow> updates, Map<String, ExistingProduct> existing) {
+        Map<String, ExistingProduct> inserted = inserts.isEmpty() ? Map.of()
+                : findExisting(inserts.stream().map(row -> row.request().getName()).toList());
+        for (ImportRow row : inserts) {
+            ExistingProduct product = inserted.get(normalize(row.request().getName()));
+            if (product != null) {
+                Product written = toProduct(product.id(), row.request(), product.reorderPoint(), true);
+                productSearchIndex.index(written);
+                stockAlertMonitor.onStockChange(written);
+                int stock = row.request().getStock();
+                stockJournal.record(StockMovementType.IMPORT, product.id(), null, stock, stock);
+            }
+        }
+        for (ImportRow row : updates) {
+            ExistingProduct product = existing.get(normalize(row.request().getName()));
+            Product written = toProduct(product.id(), row.request(), product.reorderPoint(), product.active());
+            productSearchIndex.index(written);
+            stockAlertMonitor.onStockChange(written);
+            int delta = row.request().getStock() - product.stock();
+            if (delta != 0) {
+                stockJournal.record(StockMovementType.IMPORT, product.id(), null, delta, row.request().getStock());
+            }
+        }
+    }
+
+    private static Product toProduct(Long id, CreateProductRequest request, Integer reorderPoint, boolean active) {
+        Product product = new Product(request.getName(), request.getCategory(), request.getPrice(), request.getStock());
+        product.setId(id);
+        product.setReorderPoint(reorderPoint);
+        product.setActive(active);
+        return product;
+    }
+
+    private static void fail(ProductImportResponse report, long rowNumber, String name, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new ProductImportResponse.RowError(rowNumber, name, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    /**
+     * Name key matching the case-insensitive unique index on product.name.
+     */
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record ImportRow(long rowNumber, CreateProductRequest request) {
+    }
+
+    private record ExistingProduct(Long id, String name, BigDecimal price, int stock, Integer reorderPoint,
+            boolean active) {
+    }
+
+    private record ChunkResult(int created, int updated, List<ImportRow> priceLocked,
+            List<ImportRow> stockManaged, List<ImportRow> stockStriped) {
+    }
+}
@@ -0,0 +1,310 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.PriceRange;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over active products used by the catalog search
+ * endpoint.
+ * <p>
+ * Holds tokenized product names (prefix-searchable for search-as-you-type),
+ * category facets and {@link PriceRange} buckets as {@link BitSet} postings
+ * keyed by product id. A search intersects the postings for its filters and
+ * counts facets from them, so only products in a price bucket partly covered
+ * by the price filter are looked at one by one. The index is built at startup
+ * from the product table and kept up to date by {@link ProductService} writes,
+ * applied after the surrounding transaction commits.
+ * </p>
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+    private static final int WARM_UP_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, BitSet> postings = new TreeMap<>();
+    private final Map<ProductCategory, BitSet> categories = new EnumMap<>(ProductCategory.class);
+    private final Map<PriceRange, BitSet> priceRanges = new EnumMap<>(PriceRange.class);
+    private final Map<Long, IndexedProduct> documents = new HashMap<>();
+    private final BitSet allDocuments = new BitSet();
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+        for (ProductCategory category : ProductCategory.values()) {
+            categories.put(category, new BitSet());
+        }
+        for (PriceRange range : PriceRange.values()) {
+            priceRanges.put(range, new BitSet());
+        }
+    }
+
+    /**
+     * Loads all active products into the index using keyset pagination so
+     * that only one batch is held in memory at a time.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        long lastId = 0L;
+        int count = 0;
+        Slice<Product> batch;
+        do {
+            batch = productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(lastId,
+                    PageRequest.of(0, WARM_UP_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (Product product : batch) {
+                    apply(IndexedProduct.from(product));
+                    lastId = product.getId();
+                    count++;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } while (batch.hasNext());
+        log.info("Product search index built: {} product(s) in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Adds or replaces a product in the index. Inactive products are removed.
+     * When called inside a transaction the change is applied after commit.
+     */
+    public void index(Product product) {
+        IndexedProduct document = IndexedProduct.from(product);
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (document.active()) {
+                    apply(document);
+                } else {
+                    evict(document.id());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param query    free text; every term must match, the last term is
+     *                 matched as a prefix. Blank matches all products.
+     * @param category optional category filter
+     * @param minPrice optional inclusive lower price bound
+     * @param maxPrice optional inclusive upper price bound
+     * @param limit    maximum number of product ids to return
+     * @return matching ids ordered by id, total hit count and facet counts
+     */
+    public SearchResult search(String query, ProductCategory category,
+            BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+        List<String> terms = tokenize(query);
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = matchTerms(terms);
+            BitSet inCategory = category == null ? matches : intersect(matches, categories.get(category));
+            BitSet inPrice = matchPrice(matches, minPrice, maxPrice);
+
+            // Each facet counts hits filtered by the other facet only
+            Map<ProductCategory, Long> categoryFacets = new EnumMap<>(ProductCategory.class);
+            categories.forEach((facet, posting) -> countInto(categoryFacets, facet, inPrice, posting));
+            Map<PriceRange, Long> priceFacets = new EnumMap<>(PriceRange.class);
+            priceRanges.forEach((facet, posting) -> countInto(priceFacets, facet, inCategory, posting));
+
+            BitSet hits = intersect(inCategory, inPrice);
+            List<Long> ids = new ArrayList<>(Math.min(limit, 128));
+            for (int docId = hits.nextSetBit(0); docId >= 0 && ids.size() < limit;
+                    docId = hits.nextSetBit(docId + 1)) {
+                ids.add((long) docId);
+            }
+            return new SearchResult(ids, hits.cardinality(), categoryFacets, priceFacets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed products.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Index Maintenance (caller holds the write lock)
+
+    private void apply(IndexedProduct document) {
+        evict(document.id());
+        int docId = toDocId(document.id());
+        documents.put(document.id(), document);
+        allDocuments.set(docId);
+        categories.get(document.category()).set(docId);
+        priceRanges.get(document.priceRange()).set(docId);
+        for (String term : document.terms()) {
+            postings.computeIfAbsent(term, t -> new BitSet()).set(docId);
+        }
+    }
+
+    private void evict(Long id) {
+        IndexedProduct previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        int docId = toDocId(id);
+        allDocuments.clear(docId);
+        categories.get(previous.category()).clear(docId);
+        priceRanges.get(previous.priceRange()).clear(docId);
+        for (String term : previous.terms()) {
+            BitSet posting = postings.get(term);
+            if (posting != null) {
+                posting.clear(docId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // Query Helpers (caller holds the read lock)
+
+    /**
+     * Intersects postings of all terms; the last term is expanded as a prefix.
+     */
+    private BitSet matchTerms(List<String> terms) {
+        BitSet result = (BitSet) allDocuments.clone();
+        for (int i = 0; i < terms.size() && !result.isEmpty(); i++) {
+            String term = terms.get(i);
+            if (i == terms.size() - 1) {
+                BitSet prefixMatches = new BitSet();
+                for (BitSet posting : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                    prefixMatches.or(posting);
+                }
+                result.and(prefixMatches);
+            } else {
+                result.and(postings.getOrDefault(term, new BitSet()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Narrows {@code matches} to an inclusive price window. Buckets inside the
+     * window are taken whole from their postings; only products in the
+     * buckets it cuts through are checked one by one.
+     */
+    private BitSet matchPrice(BitSet matches, BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return matches;
+        }
+        BitSet result = new BitSet();
+        for (PriceRange range : PriceRange.values()) {
+            boolean aboveWindow = maxPrice != null && range.getMin().compareTo(maxPrice) > 0;
+            boolean belowWindow = minPrice != null && range.getMax() != null
+                    && range.getMax().compareTo(minPrice) <= 0;
+            if (aboveWindow || belowWindow) {
+                continue;
+            }
+            BitSet candidates = intersect(matches, priceRanges.get(range));
+            boolean insideWindow = (minPrice == null || range.getMin().compareTo(minPrice) >= 0)
+                    && (maxPrice == null || range.getMax() != null && range.getMax().compareTo(maxPrice) <= 0);
+            if (!insideWindow) {
+                for (int docId = candidates.nextSetBit(0); docId >= 0; docId = candidates.nextSetBit(docId + 1)) {
+                    BigDecimal price = documents.get((long) docId).price();
+                    if (minPrice != null && price.compareTo(minPrice) < 0
+                            || maxPrice != null && price.compareTo(maxPrice) > 0) {
+                        candidates.clear(docId);
+                    }
+                }
+            }
+            result.or(candidates);
+        }
+        return result;
+    }
+
+    private static BitSet intersect(BitSet first, BitSet second) {
+        BitSet result = (BitSet) first.clone();
+        result.and(second);
+        return result;
+    }
+
+    private static <K> void countInto(Map<K, Long> facets, K facet, BitSet hits, BitSet posting) {
+        long count = intersect(hits, posting).cardinality();
+        if (count > 0) {
+            facets.put(facet, count);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private static int toDocId(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    /**
+     * Immutable snapshot of the product fields the index needs.
+     */
+    private record IndexedProduct(Long id, List<String> terms, ProductCategory category,
+            BigDecimal price, PriceRange priceRange, boolean active) {
+
+        static IndexedProduct from(Product product) {
+            return new IndexedProduct(product.getId(), tokenize(product.getName()), product.getCategory(),
+                    product.getPrice(), PriceRange.fromPrice(product.getPrice()),
+                    Boolean.TRUE.equals(product.getActive()));
+        }
+    }
+
+    /**
+     * Result of an index lookup: ordered product ids plus facet counts.
+     */
+    public record SearchResult(List<Long> ids, long totalHits,
+            Map<ProductCategory, Long> categoryFacets, Map<PriceRange, Long> priceFacets) {
+
+        public SearchResult {
+            ids = Collections.unmodifiableList(ids);
+        }
+    }
+}
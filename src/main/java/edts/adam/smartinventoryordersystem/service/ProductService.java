@@ -2,10 +2,14 @@ package edts.adam.smartinventoryordersystem.service;
 
 import edts.adam.smartinventoryordersystem.dto.product.request.CreateProductRequest;
 import edts.adam.smartinventoryordersystem.dto.product.request.UpdateProductRequest;
+import edts.adam.smartinventoryordersystem.dto.product.response.LowStockProductResponse;
 import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductSearchResponse;
 import edts.adam.smartinventoryordersystem.model.Product;
 import edts.adam.smartinventoryordersystem.enums.OrderStatus;
 import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.enums.StockAlertType;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
 import edts.adam.smartinventoryordersystem.exception.BadRequestException;
 import edts.adam.smartinventoryordersystem.exception.DuplicateResourceException;
 import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
@@ -19,6 +23,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service layer for product management.
@@ -30,21 +39,40 @@ import java.math.BigDecimal;
 public class ProductService {
 
     private static final Logger log = LoggerFactory.getLogger(ProductService.class);
-    private static final BigDecimal FOOD_MAX_PRICE = new BigDecimal("1000000");
+    static final BigDecimal FOOD_MAX_PRICE = new BigDecimal("1000000");
 
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final DuplicateCheckFilter duplicateCheckFilter;
+    private final StockJournal stockJournal;
+    private final StockAlertMonitor stockAlertMonitor;
+    private final WarehouseAllocator warehouseAllocator;
+    private final StockBuckets stockBuckets;
 
     public ProductService(ProductRepository productRepository,
-            OrderRepository orderRepository) {
+            OrderRepository orderRepository,
+            ProductSearchIndex productSearchIndex,
+            DuplicateCheckFilter duplicateCheckFilter,
+            StockJournal stockJournal,
+            StockAlertMonitor stockAlertMonitor,
+            WarehouseAllocator warehouseAllocator,
+            StockBuckets stockBuckets) {
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.duplicateCheckFilter = duplicateCheckFilter;
+        this.stockJournal = stockJournal;
+        this.stockAlertMonitor = stockAlertMonitor;
+        this.warehouseAllocator = warehouseAllocator;
+        this.stockBuckets = stockBuckets;
     }
 
     @Transactional
     public ProductResponse createProduct(CreateProductRequest request) {
         log.debug("Checking for duplicate product name: {}", request.getName());
-        if (productRepository.existsByName(request.getName())) {
+        if (duplicateCheckFilter.mightContainProductName(request.getName())
+                && productRepository.existsByName(request.getName())) {
             log.warn("Duplicate product name detected: {}", request.getName());
             throw new DuplicateResourceException("product.name.duplicate", request.getName());
         }
@@ -60,9 +88,14 @@ public class ProductService {
         product.setCategory(request.getCategory());
         product.setPrice(request.getPrice());
         product.setStock(request.getStock());
+        product.setReorderPoint(request.getReorderPoint());
         product.setActive(true);
 
         Product saved = productRepository.save(product);
+        duplicateCheckFilter.addProductName(saved.getName());
+        productSearchIndex.index(saved);
+        stockJournal.record(StockMovementType.INITIAL, saved.getId(), null, saved.getStock(), saved.getStock());
+        stockAlertMonitor.onStockChange(saved);
         log.info("Product created: id={}, name={}, category={}, stock={}",
                 saved.getId(), saved.getName(), saved.getCategory(), saved.getStock());
         return ProductResponse.fromEntity(saved);
@@ -76,7 +109,8 @@ public class ProductService {
                     return new ResourceNotFoundException("product.not.found", id);
                 });
 
-        if (productRepository.existsByNameAndIdNot(request.getName(), id)) {
+        if (duplicateCheckFilter.mightContainProductName(request.getName())
+                && productRepository.existsByNameAndIdNot(request.getName(), id)) {
             log.warn("Duplicate product name on update: {}", request.getName());
             throw new DuplicateResourceException("product.name.duplicate", request.getName());
         }
@@ -107,23 +141,84 @@ public class ProductService {
             }
         }
 
+        int stockDelta = request.getStock() - product.getStock();
+        if (stockDelta != 0 && warehouseAllocator.isManaged(id)) {
+            log.warn("Cannot set stock of product id={} — stock is managed per warehouse", id);
+            throw new BadRequestException("product.stock.managed.by.warehouses");
+        }
+        if (stockDelta != 0 && stockBuckets.isStriped(id)) {
+            log.warn("Cannot set stock of product id={} — stock is split into buckets", id);
+            throw new BadRequestException("product.stock.striped");
+        }
         product.setName(request.getName());
         product.setCategory(request.getCategory());
         product.setPrice(request.getPrice());
         product.setStock(request.getStock());
+        product.setReorderPoint(request.getReorderPoint());
         product.setActive(request.getActive());
 
         Product saved = productRepository.save(product);
+        duplicateCheckFilter.addProductName(saved.getName());
+        productSearchIndex.index(saved);
+        if (stockDelta != 0) {
+            stockJournal.record(StockMovementType.MANUAL_ADJUST, saved.getId(), null, stockDelta, saved.getStock());
+        }
+        stockAlertMonitor.onStockChange(saved);
         log.info("Product updated: id={}, name={}, price={}, active={}",
                 saved.getId(), saved.getName(), saved.getPrice(), saved.getActive());
         return ProductResponse.fromEntity(saved);
     }
 
+    /**
+     * Lists active products. Striped products report the current sum of their
+     * stock buckets rather than the periodically refreshed total.
+     */
     @Transactional(readOnly = true)
     public Page<ProductResponse> getAllProducts(Pageable pageable) {
         log.debug("Fetching products — page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
-        return productRepository.findByActiveTrue(pageable)
+        Page<ProductResponse> page = productRepository.findByActiveTrue(pageable)
                 .map(ProductResponse::fromEntity);
+        applyBucketTotals(page.getContent());
+        return page;
+    }
+
+    /**
+     * Searches active products via the in-memory {@link ProductSearchIndex}.
+     * Matching and facet counting happen in memory; only the top-N hits are
+     * loaded by primary key so stock and timestamps are always current.
+     */
+    @Transactional(readOnly = true)
+    public ProductSearchResponse searchProducts(String query, ProductCategory category,
+            BigDecimal minPrice, BigDecimal maxPrice, int size) {
+        ProductSearchIndex.SearchResult result = productSearchIndex.search(query, category, minPrice, maxPrice, size);
+        log.debug("Search '{}' matched {} product(s), returning {}", query, result.totalHits(), result.ids().size());
+
+        Map<Long, Product> productsById = productRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<ProductResponse> items = result.ids().stream()
+                .map(productsById::get)
+                .filter(product -> product != null && product.getActive())
+                .map(ProductResponse::fromEntity)
+                .toList();
+
+        ProductSearchResponse response = new ProductSearchResponse();
+        response.setTotalHits(result.totalHits());
+        response.setItems(items);
+        response.setCategoryFacets(result.categoryFacets());
+        response.setPriceFacets(result.priceFacets());
+        return response;
+    }
+
+    /**
+     * Lists products at or below their reorder point from the in-memory
+     * {@link StockAlertMonitor}, lowest stock first.
+     */
+    public List<LowStockProductResponse> getLowStockProducts(StockAlertType status, int limit) {
+        List<LowStockProductResponse> items = stockAlertMonitor.getBelowThreshold(status, limit).stream()
+                .map(LowStockProductResponse::fromAlert)
+                .toList();
+        log.debug("Low-stock listing for status {} returned {} product(s)", status, items.size());
+        return items;
     }
 
     @Transactional(readOnly = true)
@@ -134,7 +229,23 @@ public class ProductService {
                     return new ResourceNotFoundException("product.not.found", id);
                 });
         log.debug("Product retrieved: id={}, name={}", product.getId(), product.getName());
-        return ProductResponse.fromEntity(product);
+        ProductResponse response = ProductResponse.fromEntity(product);
+        applyBucketTotals(List.of(response));
+        return response;
+    }
+
+    /**
+     * Returns the product's version without loading the entity, or empty if
+     * it does not exist. Used to answer conditional GETs; the stock is the one
+     * {@link #getProductById} shows, so a striped product changes version as
+     * soon as its buckets move.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProductVersion> getProductVersion(Long id) {
+        boolean striped = stockBuckets.isStriped(id);
+        return productRepository.findVersionById(id)
+                .map(view -> new ProductVersion(view.getUpdatedAt(),
+                        striped ? stockBuckets.available(id) : view.getStock(), striped));
     }
 
     @Transactional
@@ -145,14 +256,40 @@ public class ProductService {
                     return new ResourceNotFoundException("product.not.found", id);
                 });
 
-        if (product.getStock() > 0) {
-            log.warn("Cannot delete product id={} — stock is {}", id, product.getStock());
-            throw new BadRequestException("product.delete.stock.not.zero", product.getStock());
+        int stock = currentStock(product);
+        if (stock > 0) {
+            log.warn("Cannot delete product id={} — stock is {}", id, stock);
+            throw new BadRequestException("product.delete.stock.not.zero", stock);
         }
 
         product.setActive(false);
         Product saved = productRepository.save(product);
+        productSearchIndex.index(saved);
+        stockAlertMonitor.onStockChange(saved);
         log.info("Product soft-deleted: id={}", id);
         return ProductResponse.fromEntity(saved);
     }
+
+    /**
+     * Live stock of a product. The {@code stock} column of striped and
+     * warehouse-managed products trails their buckets and warehouse rows
+     * until {@link StockTotalRefresher} flushes it.
+     */
+    private int currentStock(Product product) {
+        if (stockBuckets.isStriped(product.getId())) {
+            return stockBuckets.available(product.getId());
+        }
+        if (warehouseAllocator.isManaged(product.getId())) {
+            return warehouseAllocator.available(product.getId());
+        }
+        return product.getStock();
+    }
+
+    private void applyBucketTotals(List<ProductResponse> responses) {
+        Map<Long, Integer> totals = stockBuckets.totals(responses.stream().map(ProductResponse::getId).toList());
+        if (!totals.isEmpty()) {
+            responses.forEach(response -> response.setStock(totals.getOrDefault(response.getId(),
+                    response.getStock())));
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import java.time.Instant;
+
+/**
+ * Version of a product as served by {@code GET /products/{id}}: the row's
+ * {@code updatedAt} and the stock shown in the body. For striped products
+ * ({@code liveStock}) the stock is the live bucket total, which moves before
+ * {@link StockTotalRefresher} bumps {@code updatedAt}, so both are needed to
+ * tell two representations apart.
+ */
+public record ProductVersion(Instant updatedAt, int stock, boolean liveStock) {
+
+    /**
+     * The {@code Last-Modified} validator, or {@code null} when the stock can
+     * change without {@code updatedAt} and only the ETag is reliable.
+     */
+    public Instant lastModified() {
+        return liveStock ? null : updatedAt;
+    }
+}
@@ -0,0 +1,121 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.config.RateLimitProperties;
+import edts.adam.smartinventoryordersystem.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory request rate limits with one {@link TokenBucket} per key: per
+ * client IP and endpoint, checked by {@code RateLimitInterceptor}, and per
+ * customer for order placement. Limits come from {@link RateLimitProperties}.
+ * <p>
+ * Buckets are created on first use and dropped once full again, so memory
+ * follows the keys active within the refill time. Rejections are counted in
+ * the {@code admission.rejections} meter (tagged by limit and endpoint) and
+ * per key on the bucket, listed by {@link #topRejectedKeys}.
+ * </p>
+ * <p>
+ * Limits are per instance: with N instances behind a balancer a client gets
+ * up to N times the configured rate.
+ * </p>
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+    static final String REJECTIONS_METER = "admission.rejections";
+    private static final String ANY_ENDPOINT = "*";
+
+    private final boolean enabled;
+    private final RateLimitProperties.Limit customerLimit;
+    private final Map<String, RateLimitProperties.Limit> ipLimits;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.customerLimit = properties.customer();
+        this.ipLimits = properties.ip().stream().collect(Collectors.toMap(
+                RateLimitProperties.EndpointLimit::endpoint, RateLimitProperties.EndpointLimit::limit,
+                (first, second) -> first));
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Public API Methods
+
+    /**
+     * Takes a token for a request from the client IP to the endpoint (HTTP
+     * method + route pattern).
+     *
+     * @throws RateLimitExceededException if the client's bucket is empty
+     */
+    public void checkIp(String endpoint, String ip) {
+        RateLimitProperties.Limit limit = ipLimits.getOrDefault(endpoint, ipLimits.get(ANY_ENDPOINT));
+        if (enabled && limit != null) {
+            acquire("ip", endpoint, "ip:" + ip + " " + endpoint, limit);
+        }
+    }
+
+    /**
+     * Takes a token for an order placed by the customer.
+     *
+     * @throws RateLimitExceededException if the customer's bucket is empty
+     */
+    public void checkCustomer(Long customerId) {
+        if (enabled && customerLimit != null && customerId != null) {
+            acquire("customer", "POST /orders", "customer:" + customerId, customerLimit);
+        }
+    }
+
+    /**
+     * The keys with the most rejections among those currently limited, most
+     * first.
+     */
+    public Map<String, Long> topRejectedKeys(int limit) {
+        return buckets.entrySet().stream()
+                .filter(entry -> entry.getValue().rejections() > 0)
+                .sorted(Comparator.comparingLong((Map.Entry<String, TokenBucket> entry) -> entry.getValue().rejections())
+                        .reversed())
+                .limit(limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().rejections(),
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+    /**
+     * Drops buckets that have refilled completely; a new bucket for the same
+     * key starts full, so this forgets nothing but the rejection count.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limits.evict-interval:PT1M}")
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        log.debug("Evicted {} full rate limit bucket(s), {} active", before - buckets.size(), buckets.size());
+    }
+
+    // Helpers
+
+    private void acquire(String limitName, String endpoint, String key, RateLimitProperties.Limit limit) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.computeIfAbsent(key,
+                ignored -> new TokenBucket(limit.capacity(), limit.refillPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            meterRegistry.counter(REJECTIONS_METER, "limit", limitName, "endpoint", endpoint).increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.debug("Rate limit exceeded for {}, retry after {}s", key, retryAfter);
+            throw new RateLimitExceededException(retryAfter, "error.rate.limited", retryAfter);
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.analytics.response.AnalyticsBackfillResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.CategoryRevenueResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.DailyRevenueResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.MembershipDiscountResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.TopProductResponse;
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.enums.SalesMetric;
+import edts.adam.smartinventoryordersystem.exception.BadRequestException;
+import edts.adam.smartinventoryordersystem.model.Order;
+import edts.adam.smartinventoryordersystem.model.OrderItem;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory sales rollups behind the {@code /analytics} endpoints: revenue per
+ * day, units and revenue per {@link ProductCategory} and per product, and
+ * discounts per {@link MembershipLevel}.
+ * <p>
+ * The rollups are kept up to date by {@link OrderService} on pay and cancel,
+ * applied after the surrounding transaction commits, so every report is
+ * answered from a few small maps and costs the same whatever the number of
+ * orders. They are built from order history at startup (and on demand) by a
+ * backfill that scans the orders table in parallel primary-key chunks; orders
+ * paid or cancelled while it runs are reconciled so none is counted twice.
+ * </p>
+ */
+@Component
+public class SalesAnalytics {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesAnalytics.class);
+
+    /**
+     * One row per item of every paid order (one row per cancelled order). A
+     * single statement per chunk reads the order and its items from the same
+     * snapshot.
+     */
+    private static final String BACKFILL_SQL = """
+            SELECT o.id, o.status, o.created_at, o.total_amount, o.discount_amount, o.final_amount,
+                   oi.product_id, oi.quantity, oi.price_at_purchase, p.name, p.category
+            FROM orders o
+            LEFT JOIN order_items oi ON oi.order_id = o.id AND o.status = 'PAID'
+            LEFT JOIN product p ON p.id = oi.product_id
+            WHERE o.id BETWEEN :from AND :to AND o.status IN ('PAID', 'CANCELLED')
+            ORDER BY o.id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ZoneId zone;
+    private final int backfillThreads;
+    private final int backfillChunkSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock backfillLock = new ReentrantLock();
+
+    // Guarded by lock
+    private Rollups rollups = new Rollups();
+    /** Changes applied while a backfill runs; null otherwise. */
+    private List<OrderDelta> pending;
+
+    public SalesAnalytics(DataSource dataSource,
+            @Value("${app.analytics.time-zone:Asia/Jakarta}") ZoneId zone,
+            @Value("${app.analytics.backfill-threads:4}") int backfillThreads,
+            @Value("${app.analytics.backfill-chunk-size:10000}") int backfillChunkSize) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.zone = zone;
+        this.backfillThreads = Math.max(1, backfillThreads);
+        this.backfillChunkSize = Math.max(1, backfillChunkSize);
+    }
+
+    // Incremental Updates
+
+    /**
+     * Adds a paid order to the rollups once the transaction commits.
+     */
+    public void recordPaid(Order order) {
+        record(OrderDelta.from(order, zone));
+    }
+
+    /**
+     * Counts a cancelled order once the transaction commits.
+     */
+    public void recordCancelled(Order order) {
+        record(OrderDelta.from(order, zone));
+    }
+
+    private void record(OrderDelta delta) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                rollups.add(delta);
+                if (pending != null) {
+                    pending.add(delta);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Reports
+
+    /**
+     * Revenue for every day in {@code [from, to]}, including days without
+     * sales.
+     */
+    public List<DailyRevenueResponse> getDailyRevenue(LocalDate from, LocalDate to) {
+        List<DailyRevenueResponse> days = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                DayTotals totals = rollups.days.getOrDefault(day, DayTotals.EMPTY);
+                days.add(DailyRevenueResponse.of(day, totals.paidOrders, totals.cancelledOrders,
+                        amount(totals.gross), amount(totals.discount), amount(totals.net)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return days;
+    }
+
+    public List<CategoryRevenueResponse> getCategoryRevenue() {
+        List<CategoryRevenueResponse> categories = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (ProductCategory category : ProductCategory.values()) {
+                ItemTotals totals = rollups.categories.getOrDefault(category, ItemTotals.EMPTY);
+                categories.add(CategoryRevenueResponse.of(category, totals.units, amount(totals.revenue)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return categories;
+    }
+
+    /**
+     * Best-selling products by the given metric, highest first.
+     */
+    public List<TopProductResponse> getTopProducts(SalesMetric metric, int limit) {
+        Comparator<ProductTotals> order = metric == SalesMetric.UNITS
+                ? Comparator.comparingLong(ProductTotals::units)
+                : Comparator.comparingLong(ProductTotals::revenue);
+        order = order.thenComparing(Comparator.comparingLong(ProductTotals::productId).reversed());
+
+        // Bounded min-heap: O(products × log limit)
+        PriorityQueue<ProductTotals> top = new PriorityQueue<>(limit + 1, order);
+        List<TopProductResponse> products = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            for (ProductTotals totals : rollups.products.values()) {
+                top.add(totals);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            while (!top.isEmpty()) {
+                ProductTotals totals = top.poll();
+                products.add(TopProductResponse.of(totals.productId, totals.name, totals.category, totals.units,
+                        amount(totals.revenue)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Collections.reverse(products);
+        return products;
+    }
+
+    public List<MembershipDiscountResponse> getMembershipDiscounts() {
+        List<MembershipDiscountResponse> levels = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (MembershipLevel level : MembershipLevel.values()) {
+                DiscountTotals totals = rollups.discounts.getOrDefault(level, DiscountTotals.EMPTY);
+                BigDecimal averageDiscount = totals.orders == 0 ? BigDecimal.ZERO.setScale(2)
+                        : amount(totals.discount).divide(BigDecimal.valueOf(totals.orders), 2, RoundingMode.HALF_UP);
+                BigDecimal averageRate = totals.gross == 0 ? BigDecimal.ZERO.setScale(4)
+                        : BigDecimal.valueOf(totals.discount).divide(BigDecimal.valueOf(totals.gross), 4,
+                                RoundingMode.HALF_UP);
+                levels.add(MembershipDiscountResponse.of(level, totals.orders, averageDiscount, averageRate));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return levels;
+    }
+
+    // Backfill
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            backfill();
+        } catch (RuntimeException ex) {
+            log.error("Sales analytics backfill failed; reports cover live changes only", ex);
+        }
+    }
+
+    /**
+     * Rebuilds the rollups from order history. The orders table is split into
+     * primary-key ranges of {@code app.analytics.backfill-chunk-size} that are
+     * aggregated concurrently on {@code app.analytics.backfill-threads}
+     * threads and then merged. Reports keep serving the previous rollups until
+     * the new ones are swapped in.
+     *
+     * @throws BadRequestException if a backfill is already running
+     */
+    public AnalyticsBackfillResponse backfill() {
+        if (!backfillLock.tryLock()) {
+            throw new BadRequestException("analytics.backfill.running");
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = null;
+        try {
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            MapSqlParameterSource noParams = new MapSqlParameterSource();
+            Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM orders", noParams, Long.class);
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", noParams, Long.class);
+
+            List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+            if (minId != null) {
+                executor = Executors.newFixedThreadPool(backfillThreads, new BackfillThreadFactory());
+                for (long from = minId; from <= maxId; from += backfillChunkSize) {
+                    long chunkStart = from;
+                    long chunkEnd = Math.min(maxId, from + backfillChunkSize - 1);
+                    futures.add(CompletableFuture.supplyAsync(() -> scan(chunkStart, chunkEnd), executor));
+                }
+            }
+
+            Rollups rebuilt = new Rollups();
+            List<Chunk> chunks = new ArrayList<>(futures.size());
+            long orders = 0;
+            for (CompletableFuture<Chunk> future : futures) {
+                Chunk chunk = future.join();
+                rebuilt.merge(chunk.rollups());
+                chunks.add(chunk);
+                orders += chunk.counted().cardinality();
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (OrderDelta delta : pending) {
+                    if (!countedByBackfill(chunks, delta.orderId())) {
+                        rebuilt.add(delta);
+                    }
+                }
+                rollups = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            log.info("Sales analytics backfilled: {} order(s) in {} chunk(s) on {} thread(s) in {} ms",
+                    orders, chunks.size(), backfillThreads, durationMs);
+            return AnalyticsBackfillResponse.of(orders, chunks.size(), durationMs);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (executor != null) {
+                executor.shutdown();
+            }
+            backfillLock.unlock();
+        }
+    }
+
+    /**
+     * Aggregates one primary-key range; remembers which orders it counted so
+     * that changes recorded during the backfill are not added twice.
+     */
+    private Chunk scan(long from, long to) {
+        Rollups chunkRollups = new Rollups();
+        BitSet counted = new BitSet((int) (to - from + 1));
+        OrderDelta.Builder[] current = new OrderDelta.Builder[1];
+
+        jdbcTemplate.query(BACKFILL_SQL, new MapSqlParameterSource("from", from).addValue("to", to), rs -> {
+            long orderId = rs.getLong("id");
+            if (current[0] == null || current[0].orderId != orderId) {
+                if (current[0] != null) {
+                    chunkRollups.add(current[0].build());
+                }
+                current[0] = OrderDelta.builder(rs, zone);
+                counted.set((int) (orderId - from));
+            }
+            if (rs.getObject("product_id") != null) {
+                current[0].addItem(rs);
+            }
+        });
+        if (current[0] != null) {
+            chunkRollups.add(current[0].build());
+        }
+        return new Chunk(from, to, chunkRollups, counted);
+    }
+
+    private static boolean countedByBackfill(List<Chunk> chunks, long orderId) {
+        for (Chunk chunk : chunks) {
+            if (orderId >= chunk.from() && orderId <= chunk.to()) {
+                return chunk.counted().get((int) (orderId - chunk.from()));
+            }
+        }
+        return false;
+    }
+
+    private record Chunk(long from, long to, Rollups rollups, BitSet counted) {
+    }
+
+    private static class BackfillThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "analytics-backfill-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    // Rollup State
+
+    /**
+     * Amounts are held as cents in {@code long}s; order amounts have scale 2.
+     */
+    static long cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * The membership level an order was priced with, recovered from its
+     * discount rate (less the large-order extra discount), so history and live
+     * orders are attributed alike whatever the customer's level is today.
+     */
+    static MembershipLevel pricedLevel(BigDecimal totalAmount, BigDecimal discountAmount) {
+        if (totalAmount.signum() == 0) {
+            return MembershipLevel.REGULAR;
+        }
+        BigDecimal rate = discountAmount.divide(totalAmount, 4, RoundingMode.HALF_UP);
+        if (totalAmount.compareTo(OrderService.EXTRA_DISCOUNT_THRESHOLD) > 0) {
+            rate = rate.subtract(OrderService.EXTRA_DISCOUNT_RATE);
+        }
+        MembershipLevel closest = MembershipLevel.REGULAR;
+        for (MembershipLevel level : MembershipLevel.values()) {
+            if (rate.subtract(level.getDiscountPercentage()).abs()
+                    .compareTo(rate.subtract(closest.getDiscountPercentage()).abs()) < 0) {
+                closest = level;
+            }
+        }
+        return closest;
+    }
+
+    private record ItemDelta(long productId, String name, ProductCategory category, int quantity, long subtotal) {
+    }
+
+    /**
+     * What one paid or cancelled order contributes to the rollups.
+     */
+    private record OrderDelta(long orderId, OrderStatus status, LocalDate day, long gross, long discount, long net,
+            MembershipLevel level, List<ItemDelta> items) {
+
+        static OrderDelta from(Order order, ZoneId zone) {
+            List<ItemDelta> items = new ArrayList<>(order.getOrderItems().size());
+            for (OrderItem item : order.getOrderItems()) {
+                items.add(new ItemDelta(item.getProduct().getId(), item.getProduct().getName(),
+                        item.getProduct().getCategory(), item.getQuantity(), cents(item.getSubtotal())));
+            }
+            return new OrderDelta(order.getId(), order.getStatus(), order.getCreatedAt().atZone(zone).toLocalDate(),
+                    cents(order.getTotalAmount()), cents(order.getDiscountAmount()), cents(order.getFinalAmount()),
+                    pricedLevel(order.getTotalAmount(), order.getDiscountAmount()), List.copyOf(items));
+        }
+
+        static Builder builder(ResultSet rs, ZoneId zone) throws SQLException {
+            BigDecimal total = rs.getBigDecimal("total_amount");
+            BigDecimal discount = rs.getBigDecimal("discount_amount");
+            return new Builder(rs.getLong("id"), OrderStatus.valueOf(rs.getString("status")),
+                    rs.getTimestamp("created_at").toInstant().atZone(zone).toLocalDate(),
+                    cents(total), cents(discount), cents(rs.getBigDecimal("final_amount")),
+                    pricedLevel(total, discount));
+        }
+
+        static final class Builder {
+
+            private final long orderId;
+            private final OrderStatus status;
+            private final LocalDate day;
+            private final long gross;
+            private final long discount;
+            private final long net;
+            private final MembershipLevel level;
+            private final List<ItemDelta> items = new ArrayList<>();
+
+            private Builder(long orderId, OrderStatus status, LocalDate day, long gross, long discount, long net,
+                    MembershipLevel level) {
+                this.orderId = orderId;
+                this.status = status;
+                this.day = day;
+                this.gross = gross;
+                this.discount = discount;
+                this.net = net;
+                this.level = level;
+            }
+
+            void addItem(ResultSet rs) throws SQLException {
+                int quantity = rs.getInt("quantity");
+                items.add(new ItemDelta(rs.getLong("product_id"), rs.getString("name"),
+                        ProductCategory.valueOf(rs.getString("category")), quantity,
+                        cents(rs.getBigDecimal("price_at_purchase").multiply(BigDecimal.valueOf(quantity)))));
+            }
+
+            OrderDelta build() {
+                return new OrderDelta(orderId, status, day, gross, discount, net, level, items);
+            }
+        }
+    }
+
+    private static final class DayTotals {
+
+        static final DayTotals EMPTY = new DayTotals();
+
+        long paidOrders;
+        long cancelledOrders;
+        long gross;
+        long discount;
+        long net;
+
+        void add(DayTotals other) {
+            paidOrders += other.paidOrders;
+            cancelledOrders += other.cancelledOrders;
+            gross += other.gross;
+            discount += other.discount;
+            net += other.net;
+        }
+    }
+
+    private static final class ItemTotals {
+
+        static final ItemTotals EMPTY = new ItemTotals();
+
+        long units;
+        long revenue;
+    }
+
+    private static final class ProductTotals {
+
+        final long productId;
+        String name;
+        ProductCategory category;
+        long units;
+        long revenue;
+
+        ProductTotals(long productId) {
+            this.productId = productId;
+        }
+
+        long productId() {
+            return productId;
+        }
+
+        long units() {
+            return units;
+        }
+
+        long revenue() {
+            return revenue;
+        }
+    }
+
+    private static final class DiscountTotals {
+
+        static final DiscountTotals EMPTY = new DiscountTotals();
+
+        long orders;
+        long gross;
+        long discount;
+    }
+
+    /**
+     * The aggregates themselves; not thread-safe on their own.
+     */
+    private static final class Rollups {
+
+        final TreeMap<LocalDate, DayTotals> days = new TreeMap<>();
+        final Map<ProductCategory, ItemTotals> categories = new EnumMap<>(ProductCategory.class);
+        final Map<Long, ProductTotals> products = new HashMap<>();
+        final Map<MembershipLevel, DiscountTotals> discounts = new EnumMap<>(MembershipLevel.class);
+
+        void add(OrderDelta delta) {
+            DayTotals day = days.computeIfAbsent(delta.day(), key -> new DayTotals());
+            if (delta.status() == OrderStatus.CANCELLED) {
+                day.cancelledOrders++;
+                return;
+            }
+            if (delta.status() != OrderStatus.PAID) {
+                return;
+            }
+            day.paidOrders++;
+            day.gross += delta.gross();
+            day.discount += delta.discount();
+            day.net += delta.net();
+
+            DiscountTotals discount = discounts.computeIfAbsent(delta.level(), key -> new DiscountTotals());
+            discount.orders++;
+            discount.gross += delta.gross();
+            discount.discount += delta.discount();
+
+            for (ItemDelta item : delta.items()) {
+                ItemTotals category = categories.computeIfAbsent(item.category(), key -> new ItemTotals());
+                category.units += item.quantity();
+                category.revenue += item.subtotal();
+
+                ProductTotals product = products.computeIfAbsent(item.productId(), ProductTotals::new);
+                product.name = item.name();
+                product.category = item.category();
+                product.units += item.quantity();
+                product.revenue += item.subtotal();
+            }
+        }
+
+        void merge(Rollups other) {
+            other.days.forEach((key, totals) -> days.computeIfAbsent(key, k -> new DayTotals()).add(totals));
+            other.categories.forEach((key, totals) -> {
+                ItemTotals merged = categories.computeIfAbsent(key, k -> new ItemTotals());
+                merged.units += totals.units;
+                merged.revenue += totals.revenue;
+            });
+            other.products.forEach((key, totals) -> {
+                ProductTotals merged = products.computeIfAbsent(key, ProductTotals::new);
+                merged.name = totals.name;
+                merged.category = totals.category;
+                merged.units += totals.units;
+                merged.revenue += totals.revenue;
+            });
+            other.discounts.forEach((key, totals) -> {
+                DiscountTotals merged = discounts.computeIfAbsent(key, k -> new DiscountTotals());
+                merged.orders += totals.orders;
+                merged.gross += totals.gross;
+                merged.discount += totals.discount;
+            });
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.StockAlertType;
+
+import java.time.Instant;
+
+/**
+ * A product's stock alert state as published by {@link StockAlertMonitor}.
+ *
+ * @param type         alert state
+ * @param productId    product concerned
+ * @param productName  product name at the time of the change
+ * @param stock        current stock
+ * @param reorderPoint effective reorder point (product value or default)
+ * @param since        when the product entered this state
+ */
+public record StockAlert(StockAlertType type, long productId, String productName, int stock, int reorderPoint,
+        Instant since) {
+}
@@ -0,0 +1,160 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.StockAlertType;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Watches product stock against per-product reorder points.
+ * <p>
+ * Only active products at or below their reorder point are held in memory,
+ * keyed by product id, so the low-stock listing never touches the product
+ * table. The set is loaded once at startup; after that every stock write
+ * ({@link OrderService}, {@link ProductService}, {@link ProductImportService})
+ * re-evaluates just the product it changed, after the transaction commits.
+ * An alert is published to the {@link StockAlertSink}s only when a product
+ * changes state, so repeated orders against a low product do not repeat the
+ * alert. Startup loading restores state without publishing.
+ * </p>
+ */
+@Component
+public class StockAlertMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(StockAlertMonitor.class);
+
+    private static final String BELOW_THRESHOLD_SQL = """
+            SELECT id, name, stock, reorder_point FROM product
+            WHERE active = TRUE AND stock <= COALESCE(reorder_point, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<StockAlertSink> sinks;
+    private final int defaultReorderPoint;
+    private final Map<Long, StockAlert> belowThreshold = new ConcurrentHashMap<>();
+
+    public StockAlertMonitor(DataSource dataSource, List<StockAlertSink> sinks,
+            @Value("${app.stock-alerts.default-reorder-point:0}") int defaultReorderPoint) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.sinks = sinks;
+        this.defaultReorderPoint = Math.max(0, defaultReorderPoint);
+    }
+
+    /**
+     * Loads the products currently at or below their reorder point.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        belowThreshold.clear();
+        jdbcTemplate.query(BELOW_THRESHOLD_SQL, rs -> {
+            int reorderPoint = rs.getObject("reorder_point") != null ? rs.getInt("reorder_point")
+                    : defaultReorderPoint;
+            int stock = rs.getInt("stock");
+            long id = rs.getLong("id");
+            belowThreshold.put(id, new StockAlert(level(stock, reorderPoint), id, rs.getString("name"), stock,
+                    reorderPoint, now));
+        }, defaultReorderPoint);
+        log.info("Stock alert monitor loaded: {} product(s) below reorder point in {} ms", belowThreshold.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Re-evaluates a product whose stock, reorder point or active flag may
+     * have changed. Inside a transaction the check runs after commit, so a
+     * rolled-back change never raises an alert.
+     */
+    public void onStockChange(Product product) {
+        onStockChange(product, product.getStock());
+    }
+
+    /**
+     * Same as {@link #onStockChange(Product)} with the stock given explicitly,
+     * for warehouse-managed products whose {@code stock} total is refreshed
+     * in the background.
+     */
+    public void onStockChange(Product product, int stock) {
+        long id = product.getId();
+        String name = product.getName();
+        int reorderPoint = product.getReorderPoint() != null ? product.getReorderPoint() : defaultReorderPoint;
+        boolean active = Boolean.TRUE.equals(product.getActive());
+        TransactionHooks.afterCommit(() -> evaluate(id, name, stock, reorderPoint, active));
+    }
+
+    /**
+     * Products at or below their reorder point, lowest stock first.
+     *
+     * @param type  {@code LOW_STOCK} or {@code OUT_OF_STOCK}, or {@code null}
+     *              for both
+     * @param limit maximum number of entries
+     */
+    public List<StockAlert> getBelowThreshold(StockAlertType type, int limit) {
+        return belowThreshold.values().stream()
+                .filter(alert -> type == null || alert.type() == type)
+                .sorted(Comparator.comparingInt(StockAlert::stock).thenComparingLong(StockAlert::productId))
+                .limit(limit)
+                .toList();
+    }
+
+    public int size() {
+        return belowThreshold.size();
+    }
+
+    // Evaluation
+
+    private void evaluate(long id, String name, int stock, int reorderPoint, boolean active) {
+        StockAlertType level = active ? level(stock, reorderPoint) : null;
+        StockAlert[] previous = new StockAlert[1];
+        StockAlert current = belowThreshold.compute(id, (key, existing) -> {
+            previous[0] = existing;
+            if (level == null) {
+                return null;
+            }
+            Instant since = existing != null && existing.type() == level ? existing.since() : Instant.now();
+            return new StockAlert(level, id, name, stock, reorderPoint, since);
+        });
+
+        StockAlertType before = previous[0] != null ? previous[0].type() : null;
+        if (level == before) {
+            return;
+        }
+        if (current != null) {
+            publish(current);
+        } else if (active) {
+            publish(new StockAlert(StockAlertType.RESTOCKED, id, name, stock, reorderPoint, Instant.now()));
+        }
+    }
+
+    private static StockAlertType level(int stock, int reorderPoint) {
+        if (stock <= 0) {
+            return StockAlertType.OUT_OF_STOCK;
+        }
+        return stock <= reorderPoint ? StockAlertType.LOW_STOCK : null;
+    }
+
+    private void publish(StockAlert alert) {
+        for (StockAlertSink sink : sinks) {
+            try {
+                sink.publish(alert);
+            } catch (RuntimeException ex) {
+                log.error("Stock alert sink {} failed for product id={}", sink.getClass().getSimpleName(),
+                        alert.productId(), ex);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package edts.adam.smartinventoryordersystem.service;
+
+/**
+ * Receives stock alerts raised by {@link StockAlertMonitor}. Every Spring bean
+ * implementing this interface is notified.
+ * <p>
+ * Alerts are delivered on the thread that committed the stock change, once
+ * per state transition; implementations that call out to other systems
+ * should hand the alert off instead of blocking. Exceptions are logged and
+ * do not affect other sinks.
+ * </p>
+ */
+public interface StockAlertSink {
+
+    void publish(StockAlert alert);
+}
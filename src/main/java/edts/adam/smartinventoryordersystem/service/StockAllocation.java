@@ -0,0 +1,10 @@
+package edts.adam.smartinventoryordersystem.service;
+
+/**
+ * Units of an order item taken from one warehouse.
+ *
+ * @param warehouseId warehouse shipping the units
+ * @param quantity    units taken
+ */
+public record StockAllocation(long warehouseId, int quantity) {
+}
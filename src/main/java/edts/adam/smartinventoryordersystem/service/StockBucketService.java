@@ -0,0 +1,114 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.product.request.UpdateStockBucketsRequest;
+import edts.adam.smartinventoryordersystem.dto.product.response.StockBucketsResponse;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+import edts.adam.smartinventoryordersystem.exception.BadRequestException;
+import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.model.ProductStockBucket;
+import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import edts.adam.smartinventoryordersystem.repository.ProductStockBucketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Service layer for striping a product's stock into buckets (see
+ * {@link StockBuckets}) and merging it back.
+ */
+@Service
+public class StockBucketService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockBucketService.class);
+
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository bucketRepository;
+    private final StockBuckets stockBuckets;
+    private final WarehouseAllocator warehouseAllocator;
+    private final StockJournal stockJournal;
+    private final StockAlertMonitor stockAlertMonitor;
+
+    public StockBucketService(ProductRepository productRepository,
+            ProductStockBucketRepository bucketRepository,
+            StockBuckets stockBuckets,
+            WarehouseAllocator warehouseAllocator,
+            StockJournal stockJournal,
+            StockAlertMonitor stockAlertMonitor) {
+        this.productRepository = productRepository;
+        this.bucketRepository = bucketRepository;
+        this.stockBuckets = stockBuckets;
+        this.warehouseAllocator = warehouseAllocator;
+        this.stockJournal = stockJournal;
+        this.stockAlertMonitor = stockAlertMonitor;
+    }
+
+    @Transactional(readOnly = true)
+    public StockBucketsResponse getBuckets(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> {
+                    log.warn("Product not found: id={}", productId);
+                    return new ResourceNotFoundException("product.not.found", productId);
+                });
+        List<Integer> buckets = bucketRepository.findByProductIdOrderByBucket(productId).stream()
+                .map(ProductStockBucket::getQuantity)
+                .toList();
+        int stock = buckets.isEmpty() ? product.getStock() : buckets.stream().mapToInt(Integer::intValue).sum();
+        return StockBucketsResponse.of(productId, stock, buckets);
+    }
+
+    /**
+     * Spreads the product's stock evenly over the requested number of
+     * buckets, optionally setting a new total. The product row and its
+     * buckets are locked while the stock moves.
+     */
+    @Transactional
+    public StockBucketsResponse setBuckets(Long productId, UpdateStockBucketsRequest request) {
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> {
+                    log.warn("Product not found: id={}", productId);
+                    return new ResourceNotFoundException("product.not.found", productId);
+                });
+        if (warehouseAllocator.isManaged(productId)) {
+            log.warn("Cannot stripe product id={} — stock is managed per warehouse", productId);
+            throw new BadRequestException("product.stock.buckets.warehouse.managed");
+        }
+
+        List<ProductStockBucket> existing = bucketRepository.findForUpdate(productId);
+        int previousTotal = existing.isEmpty()
+                ? product.getStock()
+                : existing.stream().mapToInt(ProductStockBucket::getQuantity).sum();
+        int total = request.getStock() != null ? request.getStock() : previousTotal;
+        int buckets = request.getBuckets() > 1 ? request.getBuckets() : 0;
+
+        // Reuse rows in place; drop surplus buckets and add missing ones
+        int[] target = StockBuckets.spread(total, buckets);
+        List<ProductStockBucket> added = new ArrayList<>();
+        for (ProductStockBucket row : existing) {
+            if (row.getBucket() < buckets) {
+                row.setQuantity(target[row.getBucket()]);
+            } else {
+                bucketRepository.delete(row);
+            }
+        }
+        for (int bucket = existing.size(); bucket < buckets; bucket++) {
+            added.add(new ProductStockBucket(productId, bucket, target[bucket]));
+        }
+        bucketRepository.saveAll(added);
+
+        product.setStock(total);
+        Product saved = productRepository.save(product);
+        if (total != previousTotal) {
+            stockJournal.record(StockMovementType.MANUAL_ADJUST, productId, null, total - previousTotal, total);
+        }
+        stockAlertMonitor.onStockChange(saved);
+        stockBuckets.setBucketCount(productId, buckets);
+        log.info("Stock buckets set for product id={}: {} bucket(s), total={}", productId, buckets, total);
+        return StockBucketsResponse.of(productId, total, Arrays.stream(target).boxed().toList());
+    }
+}
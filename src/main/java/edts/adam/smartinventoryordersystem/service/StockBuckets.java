@@ -0,0 +1,255 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.BucketSelection;
+import edts.adam.smartinventoryordersystem.exception.InsufficientStockException;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.model.ProductStockBucket;
+import edts.adam.smartinventoryordersystem.repository.ProductQuantityView;
+import edts.adam.smartinventoryordersystem.repository.ProductStockBucketRepository;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Takes order stock from striped products.
+ * <p>
+ * A striped product keeps its stock in N {@code product_stock_bucket} rows.
+ * Each order item first tries a single bucket chosen by
+ * {@code app.stock-buckets.selection}, then the other buckets in turn, and
+ * only on shortfall takes what each bucket has. Every attempt is a conditional
+ * single-row update, so concurrent orders for a hot product mostly lock
+ * different rows instead of queueing on the product row.
+ * </p>
+ * <p>
+ * Orders drain buckets unevenly; {@link #rebalance()} periodically spreads a
+ * skewed product's stock evenly again under a short lock on its buckets.
+ * {@code product.stock} is refreshed by {@link StockTotalRefresher}; reads that
+ * need the exact figure use {@link #totals(Collection)}.
+ * </p>
+ */
+@Component
+public class StockBuckets {
+
+    private static final Logger log = LoggerFactory.getLogger(StockBuckets.class);
+
+    private final ProductStockBucketRepository bucketRepository;
+    private final StockTotalRefresher stockTotalRefresher;
+    private final TransactionTemplate transactionTemplate;
+    private final BucketSelection selection;
+
+    /** Bucket count of each striped product. */
+    private final Map<Long, Integer> bucketCounts = new ConcurrentHashMap<>();
+
+    public StockBuckets(ProductStockBucketRepository bucketRepository,
+            StockTotalRefresher stockTotalRefresher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.stock-buckets.selection:RANDOM}") BucketSelection selection) {
+        this.bucketRepository = bucketRepository;
+        this.stockTotalRefresher = stockTotalRefresher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.selection = selection;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        bucketCounts.clear();
+        for (ProductQuantityView view : bucketRepository.countBuckets()) {
+            bucketCounts.put(view.getProductId(), view.getQuantity().intValue());
+        }
+        log.info("Stock buckets loaded: {} striped product(s)", bucketCounts.size());
+    }
+
+    // Public API Methods
+
+    public boolean isStriped(Long productId) {
+        return bucketCounts.containsKey(productId);
+    }
+
+    /**
+     * Current stock of a striped product, summed over its buckets.
+     */
+    public int available(Long productId) {
+        return (int) bucketRepository.sumQuantity(productId);
+    }
+
+    /**
+     * Current stock of the striped products among {@code productIds}; other
+     * products are absent. Runs no query if none is striped.
+     */
+    public Map<Long, Integer> totals(Collection<Long> productIds) {
+        List<Long> striped = productIds.stream().filter(bucketCounts::containsKey).toList();
+        if (striped.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> totals = new HashMap<>();
+        for (ProductQuantityView view : bucketRepository.sumQuantities(striped)) {
+            totals.put(view.getProductId(), view.getQuantity().intValue());
+        }
+        return totals;
+    }
+
+    /**
+     * Takes {@code quantity} units of a striped product.
+     *
+     * @param customerId ordering customer, used by {@code CUSTOMER} selection
+     * @throws InsufficientStockException if the buckets together hold too
+     *                                    little; units already taken are
+     *                                    returned when the caller's
+     *                                    transaction rolls back
+     */
+    public void take(Product product, int quantity, Long customerId) {
+        long productId = product.getId();
+        int buckets = bucketCounts.getOrDefault(productId, 0);
+        int first = firstBucket(buckets, customerId);
+        stockTotalRefresher.markStale(productId);
+        for (int i = 0; i < buckets; i++) {
+            if (bucketRepository.decrement(productId, (first + i) % buckets, quantity) == 1) {
+                log.debug("Took {} unit(s) of product id={} from bucket {}", quantity, productId,
+                        (first + i) % buckets);
+                return;
+            }
+        }
+
+        // No single bucket holds the quantity: take what each one has
+        List<ProductStockBucket> rows = bucketRepository.findByProductIdOrderByBucket(productId);
+        int remaining = quantity;
+        for (int i = 0; i < rows.size() && remaining > 0; i++) {
+            ProductStockBucket row = rows.get((first + i) % rows.size());
+            int taken = Math.min(remaining, row.getQuantity());
+            if (taken > 0 && bucketRepository.decrement(productId, row.getBucket(), taken) == 1) {
+                remaining -= taken;
+            }
+        }
+        if (remaining > 0) {
+            int available = rows.stream().mapToInt(ProductStockBucket::getQuantity).sum();
+            log.debug("Insufficient bucket stock for product id={}: available={}, requested={}",
+                    productId, available, quantity);
+            throw new InsufficientStockException("order.insufficient.stock", product.getName(), available,
+                    quantity);
+        }
+        log.debug("Took {} unit(s) of product id={} across buckets", quantity, productId);
+    }
+
+    /**
+     * Returns {@code quantity} units of a striped product to one of its
+     * buckets.
+     */
+    public void release(Long productId, int quantity, Long customerId) {
+        int buckets = bucketCounts.getOrDefault(productId, 0);
+        if (bucketRepository.increment(productId, firstBucket(buckets, customerId), quantity) == 0) {
+            bucketRepository.increment(productId, 0, quantity);
+        }
+        stockTotalRefresher.markStale(productId);
+    }
+
+    /**
+     * Records the product's new bucket count once the current transaction
+     * commits; {@code 0} marks it as no longer striped.
+     */
+    public void setBucketCount(Long productId, int buckets) {
+        TransactionHooks.afterCommit(() -> {
+            if (buckets > 0) {
+                bucketCounts.put(productId, buckets);
+            } else {
+                bucketCounts.remove(productId);
+            }
+        });
+    }
+
+    // Rebalancing
+
+    /**
+     * Spreads the stock of striped products whose buckets have drifted apart
+     * evenly over their buckets again. Skew is checked without locks; only
+     * skewed products lock their buckets, for one short transaction each.
+     */
+    @Scheduled(fixedDelayString = "${app.stock-buckets.rebalance-interval:PT10S}")
+    public void rebalance() {
+        int rebalanced = 0;
+        for (Long productId : bucketCounts.keySet()) {
+            try {
+                if (!isSkewed(quantities(bucketRepository.findByProductIdOrderByBucket(productId)))) {
+                    continue;
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<ProductStockBucket> rows = bucketRepository.findForUpdate(productId);
+                    int[] target = spread(sum(quantities(rows)), rows.size());
+                    for (int i = 0; i < rows.size(); i++) {
+                        rows.get(i).setQuantity(target[i]);
+                    }
+                });
+                rebalanced++;
+            } catch (RuntimeException ex) {
+                log.warn("Failed to rebalance stock buckets of product id={}", productId, ex);
+            }
+        }
+        if (rebalanced > 0) {
+            log.debug("Rebalanced stock buckets of {} product(s)", rebalanced);
+        }
+    }
+
+    /**
+     * Whether some bucket holds less than half its fair share.
+     */
+    static boolean isSkewed(int[] quantities) {
+        if (quantities.length < 2) {
+            return false;
+        }
+        int fairShare = sum(quantities) / quantities.length;
+        for (int quantity : quantities) {
+            if (quantity * 2 < fairShare) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code total} spread over {@code buckets}, the first buckets taking the
+     * remainder one unit each.
+     */
+    static int[] spread(int total, int buckets) {
+        int[] quantities = new int[buckets];
+        for (int i = 0; i < buckets; i++) {
+            quantities[i] = total / buckets + (i < total % buckets ? 1 : 0);
+        }
+        return quantities;
+    }
+
+    // Helpers
+
+    private int firstBucket(int buckets, Long customerId) {
+        if (buckets <= 1) {
+            return 0;
+        }
+        return selection == BucketSelection.CUSTOMER && customerId != null
+                ? (int) Math.floorMod(customerId, (long) buckets)
+                : ThreadLocalRandom.current().nextInt(buckets);
+    }
+
+    private static int[] quantities(List<ProductStockBucket> rows) {
+        return rows.stream().mapToInt(ProductStockBucket::getQuantity).toArray();
+    }
+
+    private static int sum(int[] quantities) {
+        int total = 0;
+        for (int quantity : quantities) {
+            total += quantity;
+        }
+        return total;
+    }
+}
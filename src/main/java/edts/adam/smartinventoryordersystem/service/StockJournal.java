@@ -0,0 +1,435 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of every product stock change, kept in memory-mapped
+ * segment files under {@code app.stock-journal.directory}.
+ * <p>
+ * Each movement is a fixed-size 48-byte record (sequence, timestamp, product,
+ * reference, delta, balance, type, CRC32C) written straight into the mapped
+ * segment, so an append is a few hundred nanoseconds and no system call. The
+ * pages belong to the OS page cache, so written records survive a crash of
+ * the process; {@code app.stock-journal.force} additionally syncs every record
+ * to disk for power-loss durability at the cost of an fsync. On startup the
+ * last segment is scanned and the tail is cut at the first record whose
+ * sequence or checksum does not match, dropping a torn final write.
+ * </p>
+ * <p>
+ * Segments roll when full. Once more than
+ * {@code app.stock-journal.retained-segments} full segments exist, the oldest
+ * are folded into a per-product balance file in the background and deleted;
+ * {@link #read} then starts at the oldest retained movement.
+ * </p>
+ */
+@Component
+public class StockJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(StockJournal.class);
+
+    static final int RECORD_SIZE = 48;
+    private static final int CHECKSUMMED_BYTES = 44;
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String BALANCES_FILE = "balances.snapshot";
+    private static final long BALANCES_MAGIC = 0x53494F5342414C31L;
+    private static final StockMovementType[] TYPES = StockMovementType.values();
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int retainedSegments;
+    private final boolean force;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object compactionLock = new Object();
+
+    // Guarded by this
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32C checksum = new CRC32C();
+    private Segment active;
+    private int writeIndex;
+
+    /** Oldest first, the active segment last; replaced, never modified. */
+    private volatile List<Segment> segments;
+    private volatile long lastSequence;
+    private volatile Balances compacted;
+
+    public StockJournal(@Value("${app.stock-journal.directory:data/stock-journal}") Path directory,
+            @Value("${app.stock-journal.segment-size:16MB}") DataSize segmentSize,
+            @Value("${app.stock-journal.retained-segments:4}") int retainedSegments,
+            @Value("${app.stock-journal.force:false}") boolean force) {
+        this.directory = directory;
+        this.recordsPerSegment = (int) Math.max(1, Math.min(segmentSize.toBytes(), Integer.MAX_VALUE) / RECORD_SIZE);
+        this.retainedSegments = Math.max(0, retainedSegments);
+        this.force = force;
+        try {
+            open();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open stock journal in " + directory, ex);
+        }
+    }
+
+    // Public API Methods
+
+    /**
+     * Journals a stock change just before the current transaction commits
+     * (right away outside a transaction). The changed rows are still locked
+     * then, so movements of one product are journaled in commit order. If the
+     * commit fails afterwards, a {@link StockMovementType#ROLLBACK} movement
+     * reverses the change. A journal failure is logged and never fails the
+     * business operation.
+     *
+     * @param referenceId order id for order movements, or {@code null}
+     * @param balance     product stock after the change
+     */
+    public void record(StockMovementType type, Long productId, Long referenceId, int delta, int balance) {
+        long reference = referenceId != null ? referenceId : 0L;
+        TransactionHooks.beforeCommit(
+                () -> appendQuietly(type, productId, reference, delta, balance),
+                () -> appendQuietly(StockMovementType.ROLLBACK, productId, reference, -delta, balance - delta));
+    }
+
+    /**
+     * Appends a movement immediately and returns its sequence number.
+     */
+    public synchronized long append(StockMovementType type, long productId, long referenceId, int delta,
+            int balance) {
+        if (writeIndex == active.capacity()) {
+            roll();
+        }
+        long sequence = lastSequence + 1;
+        Instant now = Instant.now();
+        record.putLong(0, sequence)
+                .putLong(8, now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000)
+                .putLong(16, productId)
+                .putLong(24, referenceId)
+                .putInt(32, delta)
+                .putInt(36, balance)
+                .putInt(40, type.ordinal());
+        checksum.reset();
+        checksum.update(record.array(), 0, CHECKSUMMED_BYTES);
+        record.putInt(CHECKSUMMED_BYTES, (int) checksum.getValue());
+
+        int offset = writeIndex * RECORD_SIZE;
+        active.buffer().put(offset, record.array());
+        if (force) {
+            active.buffer().force(offset, RECORD_SIZE);
+        }
+        writeIndex++;
+        // Publishes the record to readers
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Returns up to {@code limit} movements with a sequence greater than
+     * {@code afterSequence}, oldest first. Movements already compacted away
+     * are skipped.
+     */
+    public List<StockMovement> read(long afterSequence, int limit) {
+        long last = lastSequence;
+        List<Segment> current = segments;
+        List<StockMovement> movements = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        long next = Math.max(afterSequence + 1, 1);
+        for (Segment segment : current) {
+            if (movements.size() >= limit || next > last) {
+                break;
+            }
+            long end = segment.baseSequence() + segment.capacity() - 1;
+            if (next > end) {
+                continue;
+            }
+            next = Math.max(next, segment.baseSequence());
+            while (next <= end && next <= last && movements.size() < limit) {
+                movements.add(decode(segment, (int) (next - segment.baseSequence())));
+                next++;
+            }
+        }
+        return movements;
+    }
+
+    /**
+     * Current stock of every journaled product: the compacted balances plus
+     * the deltas of the movements retained after them. A product's first
+     * movement supplies its starting balance.
+     */
+    public Map<Long, Integer> balances() {
+        // Segments before balances: compaction publishes balances first
+        List<Segment> current = segments;
+        long last = lastSequence;
+        Balances base = compacted;
+        Map<Long, Integer> balances = new TreeMap<>(base.stock());
+        for (Segment segment : current) {
+            foldInto(balances, segment, base.sequence(), last);
+        }
+        return balances;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Folds full segments beyond the retained count into the balance file and
+     * deletes them. Runs in the background after a roll; safe to call at any
+     * time.
+     */
+    public void compact() {
+        synchronized (compactionLock) {
+            List<Segment> current = segments;
+            int sealed = current.size() - 1;
+            if (sealed <= retainedSegments) {
+                return;
+            }
+            List<Segment> folded = current.subList(0, sealed - retainedSegments);
+            Balances base = compacted;
+            Map<Long, Integer> stock = new HashMap<>(base.stock());
+            long sequence = base.sequence();
+            for (Segment segment : folded) {
+                foldInto(stock, segment, sequence, Long.MAX_VALUE);
+                sequence = Math.max(sequence, segment.baseSequence() + segment.capacity() - 1);
+            }
+            try {
+                writeBalances(sequence, stock);
+            } catch (IOException ex) {
+                log.error("Stock journal compaction failed; segments kept", ex);
+                return;
+            }
+            compacted = new Balances(sequence, Map.copyOf(stock));
+            synchronized (this) {
+                segments = List.copyOf(segments.subList(folded.size(), segments.size()));
+            }
+            for (Segment segment : folded) {
+                try {
+                    Files.deleteIfExists(segment.path());
+                } catch (IOException ex) {
+                    log.warn("Cannot delete compacted stock journal segment {}", segment.path(), ex);
+                }
+            }
+            log.info("Stock journal compacted {} segment(s) up to sequence {} ({} products)",
+                    folded.size(), sequence, stock.size());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        compactor.shutdown();
+        synchronized (this) {
+            active.buffer().force();
+        }
+    }
+
+    private void appendQuietly(StockMovementType type, long productId, long referenceId, int delta, int balance) {
+        try {
+            append(type, productId, referenceId, delta, balance);
+        } catch (RuntimeException ex) {
+            log.error("Failed to journal {} of {} for product id={}", type, delta, productId, ex);
+        }
+    }
+
+    // Segment Management
+
+    private record Segment(long baseSequence, Path path, MappedByteBuffer buffer, int capacity) {
+    }
+
+    private record Balances(long sequence, Map<Long, Integer> stock) {
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        compacted = readBalances();
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        List<Segment> opened = new ArrayList<>(files.size() + 1);
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            opened.add(map(file, Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), 0));
+        }
+        if (opened.isEmpty()) {
+            opened.add(createSegment(compacted.sequence() + 1));
+        }
+
+        active = opened.get(opened.size() - 1);
+        writeIndex = recover(active);
+        lastSequence = active.baseSequence() + writeIndex - 1;
+        segments = List.copyOf(opened);
+        log.info("Stock journal opened in {}: {} segment(s), last sequence {}", directory, opened.size(),
+                lastSequence);
+    }
+
+    /**
+     * Counts the intact records at the start of a segment.
+     */
+    private int recover(Segment segment) {
+        CRC32C crc = new CRC32C();
+        byte[] bytes = new byte[CHECKSUMMED_BYTES];
+        for (int index = 0; index < segment.capacity(); index++) {
+            int offset = index * RECORD_SIZE;
+            MappedByteBuffer buffer = segment.buffer();
+            if (buffer.getLong(offset) != segment.baseSequence() + index) {
+                return index;
+            }
+            buffer.get(offset, bytes);
+            crc.reset();
+            crc.update(bytes, 0, CHECKSUMMED_BYTES);
+            if (buffer.getInt(offset + CHECKSUMMED_BYTES) != (int) crc.getValue()) {
+                log.warn("Stock journal {} has a torn record at sequence {}; truncating",
+                        segment.path().getFileName(), segment.baseSequence() + index);
+                return index;
+            }
+        }
+        return segment.capacity();
+    }
+
+    private void roll() {
+        try {
+            Segment next = createSegment(lastSequence + 1);
+            if (!force) {
+                // Sealed segments are never written again; sync them once
+                active.buffer().force();
+            }
+            active = next;
+            writeIndex = 0;
+            List<Segment> rolled = new ArrayList<>(segments);
+            rolled.add(next);
+            segments = List.copyOf(rolled);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot roll stock journal segment", ex);
+        }
+        if (segments.size() - 1 > retainedSegments) {
+            compactor.execute(this::compact);
+        }
+    }
+
+    private Segment createSegment(long baseSequence) throws IOException {
+        return map(directory.resolve(String.format("%020d%s", baseSequence, SEGMENT_SUFFIX)), baseSequence,
+                (long) recordsPerSegment * RECORD_SIZE);
+    }
+
+    /**
+     * Maps a segment file; {@code size} 0 maps an existing file at its length.
+     */
+    private static Segment map(Path path, long baseSequence, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long length = size > 0 ? size : channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            return new Segment(baseSequence, path, buffer, (int) (length / RECORD_SIZE));
+        }
+    }
+
+    // Record Decoding
+
+    private static StockMovement decode(Segment segment, int index) {
+        MappedByteBuffer buffer = segment.buffer();
+        int offset = index * RECORD_SIZE;
+        long micros = buffer.getLong(offset + 8);
+        return new StockMovement(
+                buffer.getLong(offset),
+                Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L),
+                TYPES[buffer.getInt(offset + 40)],
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getInt(offset + 32),
+                buffer.getInt(offset + 36));
+    }
+
+    private static void foldInto(Map<Long, Integer> balances, Segment segment, long afterSequence,
+            long lastSequence) {
+        MappedByteBuffer buffer = segment.buffer();
+        for (int index = 0; index < segment.capacity(); index++) {
+            long sequence = segment.baseSequence() + index;
+            if (sequence > lastSequence) {
+                return;
+            }
+            if (sequence > afterSequence) {
+                int offset = index * RECORD_SIZE;
+                int delta = buffer.getInt(offset + 32);
+                balances.merge(buffer.getLong(offset + 16), buffer.getInt(offset + 36),
+                        (stock, balance) -> stock + delta);
+            }
+        }
+    }
+
+    // Balance File
+
+    private Balances readBalances() throws IOException {
+        Path file = directory.resolve(BALANCES_FILE);
+        if (!Files.exists(file)) {
+            return new Balances(0, Map.of());
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readLong() != BALANCES_MAGIC) {
+                throw new IOException("Not a stock balance file: " + file);
+            }
+            long sequence = in.readLong();
+            int count = in.readInt();
+            Map<Long, Integer> stock = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                stock.put(in.readLong(), in.readInt());
+            }
+            return new Balances(sequence, Map.copyOf(stock));
+        }
+    }
+
+    /**
+     * Writes the balance file atomically: a crash leaves the old or the new
+     * file, never a partial one.
+     */
+    private void writeBalances(long sequence, Map<Long, Integer> stock) throws IOException {
+        Path temp = directory.resolve(BALANCES_FILE + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeLong(BALANCES_MAGIC);
+            out.writeLong(sequence);
+            out.writeInt(stock.size());
+            for (Map.Entry<Long, Integer> entry : stock.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(BALANCES_FILE), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+}
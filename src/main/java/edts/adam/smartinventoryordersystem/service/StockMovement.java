@@ -0,0 +1,20 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+
+import java.time.Instant;
+
+/**
+ * One stock change read back from the {@link StockJournal}.
+ *
+ * @param sequence    position in the journal, starting at 1
+ * @param timestamp   when the change was journaled (microsecond precision)
+ * @param type        cause of the change
+ * @param productId   product whose stock changed
+ * @param referenceId order id for order movements, 0 otherwise
+ * @param delta       signed change in units
+ * @param balance     product stock after the change
+ */
+public record StockMovement(long sequence, Instant timestamp, StockMovementType type, long productId,
+        long referenceId, int delta, int balance) {
+}
@@ -0,0 +1,85 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@code product.stock} equal to the total of the rows that hold a
+ * product's stock when it is split, i.e. its {@code product_stock} warehouse
+ * rows or its {@code product_stock_bucket} rows (a product has at most one
+ * kind).
+ * <p>
+ * The order path changes only those rows so that it never locks the product
+ * row. Totals of the products it touched are recomputed every
+ * {@code app.stock-totals.flush-interval}, in one short statement per batch
+ * instead of once per order.
+ * </p>
+ */
+@Component
+public class StockTotalRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(StockTotalRefresher.class);
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private static final String TOTAL_SQL = """
+            (SELECT COALESCE(SUM(s.quantity), 0) FROM product_stock s WHERE s.product_id = product.id)
+              + (SELECT COALESCE(SUM(b.quantity), 0) FROM product_stock_bucket b WHERE b.product_id = product.id)""";
+
+    private static final String FLUSH_TOTALS_SQL = "UPDATE product SET stock = " + TOTAL_SQL
+            + ", updated_at = :now WHERE id IN (:ids) AND stock <> " + TOTAL_SQL;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Set<Long> staleTotals = ConcurrentHashMap.newKeySet();
+
+    public StockTotalRefresher(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    /**
+     * Marks the product's total for recomputation once the current
+     * transaction commits.
+     */
+    public void markStale(long productId) {
+        TransactionHooks.afterCommit(() -> staleTotals.add(productId));
+    }
+
+    /**
+     * Recomputes {@code product.stock} (and bumps {@code updated_at}) for the
+     * products marked since the last run.
+     */
+    @Scheduled(fixedDelayString = "${app.stock-totals.flush-interval:PT1S}")
+    public void flush() {
+        if (staleTotals.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(staleTotals);
+        staleTotals.removeAll(ids);
+        ids.sort(null);
+        int updated = 0;
+        try {
+            for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(ids.size(), from + FLUSH_BATCH_SIZE));
+                updated += jdbcTemplate.update(FLUSH_TOTALS_SQL, new MapSqlParameterSource("ids", batch)
+                        .addValue("now", Timestamp.from(Instant.now())));
+            }
+        } catch (RuntimeException ex) {
+            staleTotals.addAll(ids);
+            log.error("Failed to refresh stock totals of {} product(s); will retry", ids.size(), ex);
+            return;
+        }
+        log.debug("Refreshed stock totals: {} of {} product(s) changed", updated, ids.size());
+    }
+}
@@ -0,0 +1,61 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket of {@code capacity} tokens refilled at
+ * {@code refillPerSecond}, for one rate-limited key.
+ * <p>
+ * Implemented as the generic cell rate algorithm: instead of a token count
+ * and a refill timestamp the whole state is one "theoretical arrival time",
+ * the instant the bucket would be full again, advanced by one emission
+ * interval per admitted request with a CAS. A request is admitted while that
+ * instant is at most {@code capacity} intervals ahead of now, which is
+ * exactly a token bucket with that many tokens. Times are
+ * {@link System#nanoTime()} values.
+ * </p>
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+    private final LongAdder rejections = new LongAdder();
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / Math.max(refillPerSecond, 1e-9)));
+        this.burstNanos = Math.max(1, capacity) * intervalNanos;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return 0 if admitted, otherwise the nanoseconds until a token is
+     *         available
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                rejections.increment();
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Whether the bucket is full again, i.e. forgetting it changes nothing. */
+    boolean isFull(long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+
+    long rejections() {
+        return rejections.sum();
+    }
+}
@@ -0,0 +1,140 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.AllocationStrategy;
+import edts.adam.smartinventoryordersystem.exception.InsufficientStockException;
+import edts.adam.smartinventoryordersystem.model.OrderAllocation;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.repository.OrderAllocationRepository;
+import edts.adam.smartinventoryordersystem.repository.ProductStockRepository;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Takes order stock from warehouse-managed products.
+ * <p>
+ * {@link WarehouseStockIndex} picks the warehouses using
+ * {@code app.warehouses.allocation}; each pick is then applied as a
+ * conditional single-row update on {@code product_stock}. The order
+ * transaction therefore locks only the (product, warehouse) rows it ships
+ * from and never the product row, so orders for a hot product served from
+ * different warehouses do not wait for each other.
+ * </p>
+ * <p>
+ * {@code product.stock} stays the total over all warehouses for every other
+ * reader; {@link StockTotalRefresher} recomputes it shortly after each change.
+ * </p>
+ */
+@Component
+public class WarehouseAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(WarehouseAllocator.class);
+
+    private final ProductStockRepository productStockRepository;
+    private final OrderAllocationRepository orderAllocationRepository;
+    private final WarehouseStockIndex warehouseStockIndex;
+    private final StockTotalRefresher stockTotalRefresher;
+    private final AllocationStrategy strategy;
+
+    public WarehouseAllocator(ProductStockRepository productStockRepository,
+            OrderAllocationRepository orderAllocationRepository,
+            WarehouseStockIndex warehouseStockIndex,
+            StockTotalRefresher stockTotalRefresher,
+            @Value("${app.warehouses.allocation:NEAREST}") AllocationStrategy strategy) {
+        this.productStockRepository = productStockRepository;
+        this.orderAllocationRepository = orderAllocationRepository;
+        this.warehouseStockIndex = warehouseStockIndex;
+        this.stockTotalRefresher = stockTotalRefresher;
+        this.strategy = strategy;
+    }
+
+    // Public API Methods
+
+    public boolean isManaged(Long productId) {
+        return warehouseStockIndex.isManaged(productId);
+    }
+
+    /**
+     * Stock of a warehouse-managed product across active warehouses.
+     */
+    public int available(Long productId) {
+        return warehouseStockIndex.available(productId);
+    }
+
+    /**
+     * Takes {@code quantity} units of a warehouse-managed product.
+     *
+     * @param latitude  ship-to latitude, or {@code null}
+     * @param longitude ship-to longitude, or {@code null}
+     * @return the units taken per warehouse, or an empty list (nothing taken)
+     *         if the warehouses hold too little stock
+     * @throws InsufficientStockException if a planned warehouse no longer
+     *                                    holds the stock; the caller's
+     *                                    transaction must roll back
+     */
+    public List<StockAllocation> allocate(Product product, int quantity, Double latitude, Double longitude) {
+        long productId = product.getId();
+        List<StockAllocation> plan = warehouseStockIndex.plan(productId, quantity, strategy, latitude, longitude);
+        for (StockAllocation allocation : plan) {
+            if (productStockRepository.decrement(productId, allocation.warehouseId(), allocation.quantity()) == 0) {
+                log.debug("Stale stock index for product id={} at warehouse id={}", productId,
+                        allocation.warehouseId());
+                TransactionHooks.afterCompletion(() -> warehouseStockIndex.reload(productId));
+                throw new InsufficientStockException("order.insufficient.stock", product.getName(),
+                        warehouseStockIndex.available(productId), quantity);
+            }
+        }
+        if (!plan.isEmpty()) {
+            log.debug("Allocated {} unit(s) of product id={} from {}", quantity, productId, plan);
+            TransactionHooks.afterCommit(() -> apply(productId, plan, -1));
+            stockTotalRefresher.markStale(productId);
+        }
+        return plan;
+    }
+
+    public void saveAllocations(Long orderId, Long productId, List<StockAllocation> allocations) {
+        List<OrderAllocation> rows = new ArrayList<>(allocations.size());
+        for (StockAllocation allocation : allocations) {
+            rows.add(new OrderAllocation(orderId, productId, allocation.warehouseId(), allocation.quantity()));
+        }
+        orderAllocationRepository.saveAll(rows);
+    }
+
+    /**
+     * Returns an order's warehouse allocations to their warehouses.
+     *
+     * @return units restored per product id; products the order did not take
+     *         from warehouses are absent
+     */
+    public Map<Long, Integer> release(Long orderId) {
+        Map<Long, List<StockAllocation>> byProduct = new LinkedHashMap<>();
+        for (OrderAllocation allocation : orderAllocationRepository.findByOrderId(orderId)) {
+            productStockRepository.increment(allocation.getProductId(), allocation.getWarehouseId(),
+                    allocation.getQuantity());
+            byProduct.computeIfAbsent(allocation.getProductId(), id -> new ArrayList<>())
+                    .add(new StockAllocation(allocation.getWarehouseId(), allocation.getQuantity()));
+        }
+        Map<Long, Integer> restored = new LinkedHashMap<>();
+        byProduct.forEach((productId, allocations) -> {
+            restored.put(productId, allocations.stream().mapToInt(StockAllocation::quantity).sum());
+            TransactionHooks.afterCommit(() -> apply(productId, allocations, 1));
+            stockTotalRefresher.markStale(productId);
+        });
+        return restored;
+    }
+
+    private void apply(long productId, List<StockAllocation> allocations, int sign) {
+        for (StockAllocation allocation : allocations) {
+            warehouseStockIndex.adjust(productId, allocation.warehouseId(), sign * allocation.quantity());
+        }
+    }
+
+
+}
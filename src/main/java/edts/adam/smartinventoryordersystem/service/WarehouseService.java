@@ -0,0 +1,175 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.product.request.UpdateProductStockRequest;
+import edts.adam.smartinventoryordersystem.dto.product.request.WarehouseStockRequest;
+import edts.adam.smartinventoryordersystem.dto.product.response.WarehouseStockResponse;
+import edts.adam.smartinventoryordersystem.dto.warehouse.request.CreateWarehouseRequest;
+import edts.adam.smartinventoryordersystem.dto.warehouse.response.WarehouseResponse;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+import edts.adam.smartinventoryordersystem.exception.BadRequestException;
+import edts.adam.smartinventoryordersystem.exception.DuplicateResourceException;
+import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.model.ProductStock;
+import edts.adam.smartinventoryordersystem.model.Warehouse;
+import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import edts.adam.smartinventoryordersystem.repository.ProductStockRepository;
+import edts.adam.smartinventoryordersystem.repository.WarehouseRepository;
+import edts.adam.smartinventoryordersystem.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service layer for warehouses and the per-warehouse split of product stock.
+ * Setting a product's split makes it warehouse-managed: from then on orders
+ * take its stock through {@link WarehouseAllocator}.
+ */
+@Service
+public class WarehouseService {
+
+    private static final Logger log = LoggerFactory.getLogger(WarehouseService.class);
+
+    private final WarehouseRepository warehouseRepository;
+    private final ProductStockRepository productStockRepository;
+    private final ProductRepository productRepository;
+    private final WarehouseStockIndex warehouseStockIndex;
+    private final StockBuckets stockBuckets;
+    private final StockJournal stockJournal;
+    private final StockAlertMonitor stockAlertMonitor;
+
+    public WarehouseService(WarehouseRepository warehouseRepository,
+            ProductStockRepository productStockRepository,
+            ProductRepository productRepository,
+            WarehouseStockIndex warehouseStockIndex,
+            StockBuckets stockBuckets,
+            StockJournal stockJournal,
+            StockAlertMonitor stockAlertMonitor) {
+        this.warehouseRepository = warehouseRepository;
+        this.productStockRepository = productStockRepository;
+        this.productRepository = productRepository;
+        this.warehouseStockIndex = warehouseStockIndex;
+        this.stockBuckets = stockBuckets;
+        this.stockJournal = stockJournal;
+        this.stockAlertMonitor = stockAlertMonitor;
+    }
+
+    // Warehouses
+
+    @Transactional
+    public WarehouseResponse createWarehouse(CreateWarehouseRequest request) {
+        if (warehouseRepository.existsByCode(request.getCode())) {
+            log.warn("Duplicate warehouse code detected: {}", request.getCode());
+            throw new DuplicateResourceException("warehouse.code.duplicate", request.getCode());
+        }
+
+        Warehouse warehouse = new Warehouse();
+        warehouse.setCode(request.getCode());
+        warehouse.setName(request.getName());
+        warehouse.setLatitude(request.getLatitude());
+        warehouse.setLongitude(request.getLongitude());
+        warehouse.setActive(true);
+
+        Warehouse saved = warehouseRepository.save(warehouse);
+        TransactionHooks.afterCommit(() -> warehouseStockIndex.putWarehouse(saved));
+        log.info("Warehouse created: id={}, code={}, location=({}, {})",
+                saved.getId(), saved.getCode(), saved.getLatitude(), saved.getLongitude());
+        return WarehouseResponse.fromEntity(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WarehouseResponse> getAllWarehouses() {
+        return warehouseRepository.findAll().stream()
+                .map(WarehouseResponse::fromEntity)
+                .toList();
+    }
+
+    // Product Stock per Warehouse
+
+    @Transactional(readOnly = true)
+    public List<WarehouseStockResponse> getProductStock(Long productId) {
+        findProductOrThrow(productId);
+        Map<Long, Warehouse> warehouses = warehousesById();
+        return productStockRepository.findByProductIdOrderByWarehouseId(productId).stream()
+                .map(stock -> WarehouseStockResponse.of(stock.getWarehouseId(),
+                        warehouses.get(stock.getWarehouseId()).getCode(), stock.getQuantity()))
+                .toList();
+    }
+
+    /**
+     * Replaces the product's stock per warehouse and sets
+     * {@link Product#getStock()} to the new total.
+     */
+    @Transactional
+    public List<WarehouseStockResponse> setProductStock(Long productId, UpdateProductStockRequest request) {
+        Product product = findProductOrThrow(productId);
+        if (stockBuckets.isStriped(productId)) {
+            log.warn("Cannot assign warehouses to product id={} — stock is split into buckets", productId);
+            throw new BadRequestException("warehouse.stock.product.striped");
+        }
+        Map<Long, Warehouse> warehouses = warehousesById();
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (WarehouseStockRequest entry : request.getWarehouses()) {
+            if (!warehouses.containsKey(entry.getWarehouseId())) {
+                log.warn("Warehouse not found: id={}", entry.getWarehouseId());
+                throw new ResourceNotFoundException("warehouse.not.found", entry.getWarehouseId());
+            }
+            if (quantities.putIfAbsent(entry.getWarehouseId(), entry.getQuantity()) != null) {
+                log.warn("Warehouse id={} listed twice for product id={}", entry.getWarehouseId(), productId);
+                throw new BadRequestException("warehouse.stock.duplicate", entry.getWarehouseId());
+            }
+        }
+
+        List<ProductStock> existing = productStockRepository.findByProductIdOrderByWarehouseId(productId);
+        int previousTotal = existing.isEmpty()
+                ? product.getStock()
+                : existing.stream().mapToInt(ProductStock::getQuantity).sum();
+        List<ProductStock> removed = existing.stream()
+                .filter(stock -> !quantities.containsKey(stock.getWarehouseId()))
+                .toList();
+        productStockRepository.deleteAll(removed);
+        productStockRepository.saveAll(quantities.entrySet().stream()
+                .map(entry -> new ProductStock(productId, entry.getKey(), entry.getValue()))
+                .toList());
+
+        int total = quantities.values().stream().mapToInt(Integer::intValue).sum();
+        product.setStock(total);
+        Product saved = productRepository.save(product);
+        if (total != previousTotal) {
+            stockJournal.record(StockMovementType.MANUAL_ADJUST, productId, null, total - previousTotal, total);
+        }
+        stockAlertMonitor.onStockChange(saved);
+        TransactionHooks.afterCommit(() -> warehouseStockIndex.replace(productId, quantities));
+        log.info("Warehouse stock set for product id={}: {} warehouse(s), total={}",
+                productId, quantities.size(), total);
+
+        return quantities.entrySet().stream()
+                .map(entry -> WarehouseStockResponse.of(entry.getKey(),
+                        warehouses.get(entry.getKey()).getCode(), entry.getValue()))
+                .toList();
+    }
+
+    // Helpers
+
+    private Product findProductOrThrow(Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> {
+                    log.warn("Product not found: id={}", productId);
+                    return new ResourceNotFoundException("product.not.found", productId);
+                });
+    }
+
+    private Map<Long, Warehouse> warehousesById() {
+        return warehouseRepository.findAll().stream()
+                .collect(Collectors.toMap(Warehouse::getId, Function.identity()));
+    }
+
+}
@@ -0,0 +1,235 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.AllocationStrategy;
+import edts.adam.smartinventoryordersystem.model.Warehouse;
+import edts.adam.smartinventoryordersystem.repository.WarehouseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-product stock by warehouse, used to plan allocations without
+ * reading {@code product_stock} on the order path.
+ * <p>
+ * Loaded at startup and kept current by {@link WarehouseAllocator} and
+ * {@link WarehouseService} after their transactions commit. The database
+ * stays authoritative: allocations are applied with conditional updates, so a
+ * plan made from a momentarily stale entry fails safely instead of
+ * overselling.
+ * </p>
+ */
+@Component
+public class WarehouseStockIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(WarehouseStockIndex.class);
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final WarehouseRepository warehouseRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Active warehouses by id. */
+    private final Map<Long, Location> warehouses = new ConcurrentHashMap<>();
+    /** Warehouse-managed products by id; values are replaced, never modified. */
+    private final Map<Long, Stocks> products = new ConcurrentHashMap<>();
+
+    public WarehouseStockIndex(WarehouseRepository warehouseRepository, DataSource dataSource) {
+        this.warehouseRepository = warehouseRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        warehouses.clear();
+        warehouseRepository.findAll().forEach(this::putWarehouse);
+
+        products.clear();
+        long[] current = { 0L };
+        List<long[]> rows = new ArrayList<>();
+        jdbcTemplate.query("SELECT product_id, warehouse_id, quantity FROM product_stock "
+                + "ORDER BY product_id, warehouse_id", rs -> {
+                    long productId = rs.getLong("product_id");
+                    if (productId != current[0] && !rows.isEmpty()) {
+                        products.put(current[0], Stocks.of(rows));
+                        rows.clear();
+                    }
+                    current[0] = productId;
+                    rows.add(new long[] { rs.getLong("warehouse_id"), rs.getInt("quantity") });
+                });
+        if (!rows.isEmpty()) {
+            products.put(current[0], Stocks.of(rows));
+        }
+        log.info("Warehouse stock index built: {} warehouse(s), {} managed product(s) in {} ms",
+                warehouses.size(), products.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Queries
+
+    public boolean isManaged(long productId) {
+        return products.containsKey(productId);
+    }
+
+    /**
+     * Stock of the product across active warehouses.
+     */
+    public int available(long productId) {
+        Stocks stocks = products.get(productId);
+        if (stocks == null) {
+            return 0;
+        }
+        int total = 0;
+        for (int i = 0; i < stocks.warehouseIds().length; i++) {
+            if (warehouses.containsKey(stocks.warehouseIds()[i])) {
+                total += stocks.quantities()[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Plans which warehouses ship {@code quantity} units of the product.
+     *
+     * @param latitude  ship-to latitude, or {@code null}
+     * @param longitude ship-to longitude, or {@code null}
+     * @return the allocations, or an empty list if active warehouses hold
+     *         too little stock
+     */
+    public List<StockAllocation> plan(long productId, int quantity, AllocationStrategy strategy,
+            Double latitude, Double longitude) {
+        Stocks stocks = products.get(productId);
+        return stocks == null ? List.of() : plan(stocks, warehouses, quantity, strategy, latitude, longitude);
+    }
+
+    static List<StockAllocation> plan(Stocks stocks, Map<Long, Location> warehouses, int quantity,
+            AllocationStrategy strategy, Double latitude, Double longitude) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < stocks.warehouseIds().length; i++) {
+            Location location = warehouses.get(stocks.warehouseIds()[i]);
+            if (location != null && stocks.quantities()[i] > 0) {
+                double distance = latitude != null && longitude != null
+                        ? distanceKm(latitude, longitude, location.latitude(), location.longitude())
+                        : 0;
+                candidates.add(new Candidate(location.id(), stocks.quantities()[i], distance));
+            }
+        }
+        boolean byDistance = strategy != AllocationStrategy.MOST_STOCK && latitude != null && longitude != null;
+        candidates.sort(byDistance
+                ? Comparator.comparingDouble(Candidate::distance).thenComparingLong(Candidate::warehouseId)
+                : Comparator.comparingInt(Candidate::quantity).reversed().thenComparingLong(Candidate::warehouseId));
+
+        if (strategy != AllocationStrategy.SPLIT) {
+            for (Candidate candidate : candidates) {
+                if (candidate.quantity() >= quantity) {
+                    return List.of(new StockAllocation(candidate.warehouseId(), quantity));
+                }
+            }
+        }
+        List<StockAllocation> allocations = new ArrayList<>();
+        int remaining = quantity;
+        for (Candidate candidate : candidates) {
+            int taken = Math.min(remaining, candidate.quantity());
+            allocations.add(new StockAllocation(candidate.warehouseId(), taken));
+            remaining -= taken;
+            if (remaining == 0) {
+                return allocations;
+            }
+        }
+        return List.of();
+    }
+
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(Math.toRadians(lat1))
+                * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+
+    // Updates (callers apply them after commit)
+
+    public void putWarehouse(Warehouse warehouse) {
+        if (Boolean.TRUE.equals(warehouse.getActive())) {
+            warehouses.put(warehouse.getId(), new Location(warehouse.getId(), warehouse.getLatitude(),
+                    warehouse.getLongitude()));
+        } else {
+            warehouses.remove(warehouse.getId());
+        }
+    }
+
+    /**
+     * Adds {@code delta} units to the product's stock at the warehouse.
+     */
+    public void adjust(long productId, long warehouseId, int delta) {
+        products.computeIfPresent(productId, (id, stocks) -> stocks.adjusted(warehouseId, delta));
+    }
+
+    /**
+     * Replaces the product's whole warehouse split.
+     */
+    public void replace(long productId, Map<Long, Integer> quantities) {
+        List<long[]> rows = new ArrayList<>();
+        quantities.forEach((warehouseId, quantity) -> rows.add(new long[] { warehouseId, quantity }));
+        rows.sort(Comparator.comparingLong(row -> row[0]));
+        products.put(productId, Stocks.of(rows));
+    }
+
+    /**
+     * Reloads the product's split from the database, e.g. after a plan
+     * turned out to be stale.
+     */
+    public void reload(long productId) {
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT warehouse_id, quantity FROM product_stock WHERE product_id = ? ORDER BY warehouse_id",
+                (rs, rowNum) -> new long[] { rs.getLong("warehouse_id"), rs.getInt("quantity") }, productId);
+        if (rows.isEmpty()) {
+            products.remove(productId);
+        } else {
+            products.put(productId, Stocks.of(rows));
+        }
+    }
+
+    // Index Entries
+
+    record Location(long id, double latitude, double longitude) {
+    }
+
+    private record Candidate(long warehouseId, int quantity, double distance) {
+    }
+
+    /**
+     * A product's stock per warehouse, ordered by warehouse id.
+     */
+    record Stocks(long[] warehouseIds, int[] quantities) {
+
+        static Stocks of(List<long[]> rows) {
+            long[] ids = new long[rows.size()];
+            int[] quantities = new int[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                ids[i] = rows.get(i)[0];
+                quantities[i] = (int) rows.get(i)[1];
+            }
+            return new Stocks(ids, quantities);
+        }
+
+        Stocks adjusted(long warehouseId, int delta) {
+            int index = Arrays.binarySearch(warehouseIds, warehouseId);
+            if (index < 0) {
+                return this;
+            }
+            int[] copy = quantities.clone();
+            copy[index] = Math.max(0, copy[index] + delta);
+            return new Stocks(warehouseIds, copy);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package edts.adam.smartinventoryordersystem.util;
+
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validators and {@code Cache-Control} policies for conditional GETs on
+ * products and orders.
+ * <p>
+ * ETags are derived from the resource version (product {@code updatedAt} and
+ * stock, order status) plus the negotiated representation: the response message is
+ * localized and the body may be JSON, CBOR or Smile, so each variant gets its
+ * own tag and responses carry {@code Vary: Accept, Accept-Language}. Requests
+ * that will receive a gzip body are marked with {@link #GZIP_ATTRIBUTE} and
+ * get a separate tag as well.
+ * </p>
+ *
+ * <pre>
+ * if (webRequest.checkNotModified(HttpCaching.productETag(id, updatedAt, stock, webRequest), millis)) {
+ *     return null; // 304 Not Modified
+ * }
+ * </pre>
+ */
+public final class HttpCaching {
+
+    /** Request headers that select the response representation. */
+    public static final String[] VARY = { HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE };
+
+    /** Request attribute set when the response body may be gzip-compressed. */
+    public static final String GZIP_ATTRIBUTE = HttpCaching.class.getName() + ".gzip";
+
+    /** Terminal orders never change; let clients keep them for a year. */
+    private static final long IMMUTABLE_MAX_AGE_DAYS = 365;
+
+    private HttpCaching() {
+    }
+
+    /**
+     * Strong ETag for a product, changing whenever the row is updated or the
+     * stock it is served with changes. The stock of a striped product is read
+     * from its buckets and moves before {@code updatedAt} does.
+     */
+    public static String productETag(Long id, Instant updatedAt, int stock, WebRequest request) {
+        return '"' + "p" + id + "-" + Long.toHexString(updatedAt.getEpochSecond())
+                + "." + Integer.toHexString(updatedAt.getNano()) + "." + Integer.toHexString(stock)
+                + "-" + variant(request) + '"';
+    }
+
+    /**
+     * Strong ETag for an order. Only the status changes after an order is
+     * created, so id and status identify its content.
+     */
+    public static String orderETag(Long id, OrderStatus status, WebRequest request) {
+        return '"' + "o" + id + "-" + status.name() + "-" + variant(request) + '"';
+    }
+
+    /**
+     * Products change at any time: shared caches may store them but must
+     * revalidate on every use.
+     */
+    public static CacheControl productCacheControl() {
+        return CacheControl.noCache().cachePublic();
+    }
+
+    /**
+     * Orders are customer data and stay out of shared caches. PAID and
+     * CANCELLED orders are immutable; CREATED ones are revalidated.
+     */
+    public static CacheControl orderCacheControl(OrderStatus status) {
+        if (status.isTerminal()) {
+            return CacheControl.maxAge(IMMUTABLE_MAX_AGE_DAYS, TimeUnit.DAYS).cachePrivate().immutable();
+        }
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    /**
+     * Orders read from the {@code orders} table instead of the event log show
+     * live customer and product names, so whatever their status they are
+     * never immutable and must be revalidated.
+     */
+    public static CacheControl liveOrderCacheControl() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    private static String variant(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String format = "json";
+        if (accept != null) {
+            if (accept.contains("cbor")) {
+                format = "cbor";
+            } else if (accept.contains("smile")) {
+                format = "smile";
+            }
+        }
+        String encoding = request.getAttribute(GZIP_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null
+                ? "-gz" : "";
+        return format + "-" + LocaleContextHolder.getLocale().toLanguageTag() + encoding;
+    }
+}
@@ -0,0 +1,27 @@
+package edts.adam.smartinventoryordersystem.util;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Marker and MDC key for sampled success-path logging.
+ * <p>
+ * INFO (and lower) events tagged with {@link #SAMPLED} are dropped for
+ * requests that the per-endpoint sampler did not pick. Warnings, errors and
+ * untagged events are always written.
+ * </p>
+ *
+ * <pre>
+ * log.info(LogSampling.SAMPLED, "GET /products/{} — Fetching product", id);
+ * </pre>
+ */
+public final class LogSampling {
+
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    /** MDC entry present while the current request is not sampled. */
+    public static final String SKIP_MDC_KEY = "log.sampling.skip";
+
+    private LogSampling() {
+    }
+}
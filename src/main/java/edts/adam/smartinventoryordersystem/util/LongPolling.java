@@ -0,0 +1,21 @@
+package edts.adam.smartinventoryordersystem.util;
+
+import java.time.Duration;
+
+/**
+ * Helpers for long-poll endpoints, which hold a request open until something
+ * changes or the client's {@code wait} elapses.
+ */
+public final class LongPolling {
+
+    private LongPolling() {
+    }
+
+    /**
+     * Clamps a client-requested wait in seconds to {@code [0, maxWait]}.
+     */
+    public static Duration clampWait(long waitSeconds, Duration maxWait) {
+        Duration wait = Duration.ofSeconds(Math.max(0, waitSeconds));
+        return wait.compareTo(maxWait) > 0 ? maxWait : wait;
+    }
+}
@@ -1,8 +1,23 @@
 package edts.adam.smartinventoryordersystem.util;
 
+import edts.adam.smartinventoryordersystem.config.MessageConfig;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 
 /**
  * Centralized utility for resolving i18n messages from {@link MessageSource}.
@@ -10,6 +25,13 @@ import org.springframework.stereotype.Component;
  * Provides convenient methods for message resolution, eliminating the need
  * to inject {@code MessageSource} and handle locale resolution in every class.
  * </p>
+ * <p>
+ * Every key of the message bundle is resolved once at startup for each locale
+ * supported by the {@link LocaleResolver}: messages without arguments are kept
+ * as ready strings, messages with placeholders as pre-parsed
+ * {@link MessageFormat}s. Lookups for unknown keys or locales fall back to the
+ * {@code MessageSource}, so results are identical to calling it directly.
+ * </p>
  *
  * <p>
  * Usage example:
@@ -27,18 +49,99 @@ import org.springframework.stereotype.Component;
 public class MessageUtil {
 
     private final MessageSource messageSource;
+    private final Map<Locale, Map<String, CompiledMessage>> messages;
 
-    public MessageUtil(MessageSource messageSource) {
+    public MessageUtil(MessageSource messageSource, LocaleResolver localeResolver) {
         this.messageSource = messageSource;
+        this.messages = compile(messageSource, supportedLocales(localeResolver));
     }
 
 
     public String get(String key) {
-        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+        Locale locale = LocaleContextHolder.getLocale();
+        CompiledMessage message = lookup(key, locale);
+        return message != null ? message.text() : messageSource.getMessage(key, null, locale);
     }
 
 
     public String get(String key, Object... args) {
-        return messageSource.getMessage(key, args, LocaleContextHolder.getLocale());
+        return get(LocaleContextHolder.getLocale(), key, args);
+    }
+
+    /**
+     * Resolves a message for an explicit locale, for code completing a request
+     * outside the request thread.
+     */
+    public String get(Locale locale, String key, Object... args) {
+        CompiledMessage message = lookup(key, locale);
+        return message != null ? message.format(args) : messageSource.getMessage(key, args, locale);
+    }
+
+    /**
+     * Resolves a message, returning {@code defaultMessage} instead of throwing
+     * when the key does not exist.
+     */
+    public String getOrDefault(String key, String defaultMessage, Object... args) {
+        Locale locale = LocaleContextHolder.getLocale();
+        CompiledMessage message = lookup(key, locale);
+        return message != null ? message.format(args) : messageSource.getMessage(key, args, defaultMessage, locale);
+    }
+
+    private CompiledMessage lookup(String key, Locale locale) {
+        Map<String, CompiledMessage> localeMessages = messages.get(locale);
+        return localeMessages != null ? localeMessages.get(key) : null;
+    }
+
+    // Startup Compilation
+
+    private static Set<Locale> supportedLocales(LocaleResolver localeResolver) {
+        if (localeResolver instanceof AcceptHeaderLocaleResolver resolver) {
+            return new LinkedHashSet<>(resolver.getSupportedLocales());
+        }
+        return Set.of();
+    }
+
+    private static Map<Locale, Map<String, CompiledMessage>> compile(MessageSource messageSource, Set<Locale> locales) {
+        Properties bundle;
+        try {
+            bundle = PropertiesLoaderUtils.loadProperties(
+                    new ClassPathResource(MessageConfig.MESSAGES_BASENAME + ".properties"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<Locale, Map<String, CompiledMessage>> compiled = new HashMap<>();
+        for (Locale locale : locales) {
+            Map<String, CompiledMessage> localeMessages = new HashMap<>();
+            for (String key : bundle.stringPropertyNames()) {
+                // Without arguments the MessageSource returns the raw pattern
+                String pattern = messageSource.getMessage(key, null, locale);
+                localeMessages.put(key, CompiledMessage.of(pattern, locale));
+            }
+            compiled.put(locale, Map.copyOf(localeMessages));
+        }
+        return Map.copyOf(compiled);
+    }
+
+    /**
+     * A resolved message: the raw text returned for zero-argument lookups and,
+     * if the pattern has placeholders or quotes, its parsed format.
+     */
+    private record CompiledMessage(String text, MessageFormat format) {
+
+        static CompiledMessage of(String pattern, Locale locale) {
+            boolean needsFormat = pattern.indexOf('{') >= 0 || pattern.indexOf('\'') >= 0;
+            return new CompiledMessage(pattern, needsFormat ? new MessageFormat(pattern, locale) : null);
+        }
+
+        String format(Object... args) {
+            if (format == null || args == null || args.length == 0) {
+                return text;
+            }
+            // MessageFormat is not thread-safe; same guard Spring's MessageSourceSupport uses
+            synchronized (format) {
+                return format.format(args);
+            }
+        }
     }
 }
@@ -0,0 +1,72 @@
+package edts.adam.smartinventoryordersystem.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs work at the end of the current Spring-managed transaction. In-memory
+ * indexes, caches and notifications use it so they only reflect committed
+ * changes. Outside a transaction the work runs immediately.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /** Runs {@code action} once the current transaction has committed; not at all on rollback. */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs {@code action} just before the current transaction commits, while
+     * its row locks are still held, so work done for concurrent transactions
+     * runs in the order they locked. If the commit then fails, {@code undo}
+     * runs once the transaction has rolled back.
+     */
+    public static void beforeCommit(Runnable action, Runnable undo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean done;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    action.run();
+                    done = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (done && status != STATUS_COMMITTED) {
+                        undo.run();
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /** Runs {@code action} once the current transaction has committed or rolled back. */
+    public static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package edts.adam.smartinventoryordersystem.benchmark;
+
+import edts.adam.smartinventoryordersystem.dto.ApiResponse;
+import edts.adam.smartinventoryordersystem.dto.ResponseSerializers;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializes a 100-item {@code GET /products} page the way
+ * {@code CompressionFilter} sends it: straight into a gzip stream at the given
+ * deflate level (0 = uncompressed). {@link #main} first prints the
+ * bytes-on-wire of every variant, then JMH measures the time per page.
+ * <p>
+ * Run with:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=edts.adam.smartinventoryordersystem.benchmark.CompressionBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({ "json", "cbor" })
+    private String format;
+
+    @Param({ "0", "1", "6" })
+    private int level;
+
+    private final ByteArrayOutputStream wire = new ByteArrayOutputStream(64 * 1024);
+
+    private ObjectMapper mapper;
+    private ApiResponse<Page<ProductResponse>> response;
+
+    @Setup
+    public void setUp() {
+        mapper = mapper(format);
+        response = page();
+    }
+
+    @Benchmark
+    public int writePage() throws IOException {
+        wire.reset();
+        return writeTo(wire, mapper, response, level);
+    }
+
+    private static int writeTo(ByteArrayOutputStream wire, ObjectMapper mapper, Object value, int level)
+            throws IOException {
+        if (level == 0) {
+            mapper.writeValue(wire, value);
+        } else {
+            try (OutputStream gzip = new GZIPOutputStream(wire, 8 * 1024) {
+                {
+                    def.setLevel(level);
+                }
+            }) {
+                mapper.writeValue(gzip, value);
+            }
+        }
+        return wire.size();
+    }
+
+    private static ObjectMapper mapper(String format) {
+        return "cbor".equals(format)
+                ? CBORMapper.builder().addModule(ResponseSerializers.module()).build()
+                : JsonMapper.builder().addModule(ResponseSerializers.module()).build();
+    }
+
+    private static ApiResponse<Page<ProductResponse>> page() {
+        List<ProductResponse> products = new ArrayList<>(PAGE_SIZE);
+        Instant now = Instant.now();
+        for (int i = 1; i <= PAGE_SIZE; i++) {
+            ProductResponse product = new ProductResponse();
+            product.setId((long) i);
+            product.setName("Product " + i);
+            product.setCategory(ProductCategory.values()[i % ProductCategory.values().length]);
+            product.setPrice(new BigDecimal("25000.00").add(BigDecimal.valueOf(i)));
+            product.setStock(i * 3);
+            product.setActive(true);
+            product.setCreatedAt(now.minusSeconds(i * 3_600L));
+            product.setUpdatedAt(now.minusMillis(i * 7_919L));
+            products.add(product);
+        }
+        return ApiResponse.success("Data retrieved successfully",
+                new PageImpl<>(products, PageRequest.of(0, PAGE_SIZE), 10_000));
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        ApiResponse<Page<ProductResponse>> page = page();
+        System.out.printf("Bytes on wire for a %d-item page:%n", PAGE_SIZE);
+        for (String format : new String[] { "json", "cbor" }) {
+            for (int level : new int[] { 0, 1, 6 }) {
+                int bytes = writeTo(new ByteArrayOutputStream(), mapper(format), page, level);
+                System.out.printf("  %-4s level %d: %,7d bytes%n", format, level, bytes);
+            }
+        }
+        new Runner(new OptionsBuilder()
+                .include(CompressionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,86 @@
+package edts.adam.smartinventoryordersystem.benchmark;
+
+import edts.adam.smartinventoryordersystem.config.MessageConfig;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MessageUtil} against calling the {@link MessageSource}
+ * directly, for a zero-argument success message and the argument-bearing
+ * "product not found" message returned on 404s.
+ * <p>
+ * Run with:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=edts.adam.smartinventoryordersystem.benchmark.MessageUtilBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageUtilBenchmark {
+
+    @Param({"en", "id"})
+    private String language;
+
+    private MessageSource messageSource;
+    private MessageUtil messageUtil;
+
+    @Setup
+    public void setUp() {
+        MessageConfig config = new MessageConfig();
+        messageSource = config.messageSource();
+        messageUtil = new MessageUtil(messageSource, config.localeResolver());
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(language));
+    }
+
+    @Benchmark
+    public String messageSourceWithoutArgs() {
+        return messageSource.getMessage("api.response.success", null, LocaleContextHolder.getLocale());
+    }
+
+    @Benchmark
+    public String messageUtilWithoutArgs() {
+        return messageUtil.get("api.response.success");
+    }
+
+    @Benchmark
+    public String messageSourceWithArgs() {
+        return messageSource.getMessage("product.not.found", new Object[] {42L}, LocaleContextHolder.getLocale());
+    }
+
+    @Benchmark
+    public String messageUtilWithArgs() {
+        return messageUtil.get("product.not.found", 42L);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessageUtilBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
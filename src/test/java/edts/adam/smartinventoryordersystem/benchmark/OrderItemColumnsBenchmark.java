@@ -0,0 +1,109 @@
+package edts.adam.smartinventoryordersystem.benchmark;
+
+import edts.adam.smartinventoryordersystem.dto.analytics.response.ItemAggregateResponse;
+import edts.adam.smartinventoryordersystem.enums.ItemGroup;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.service.OrderItemColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ad-hoc queries against {@link OrderItemColumns}: a full-snapshot
+ * revenue-by-category scan and a 30-day, single-category scan grouped by day,
+ * over a year of synthetic paid orders (four items each) loaded into an
+ * embedded H2.
+ * <p>
+ * Run with:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=edts.adam.smartinventoryordersystem.benchmark.OrderItemColumnsBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderItemColumnsBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Jakarta");
+    private static final LocalDate END = LocalDate.of(2026, 12, 31);
+
+    @Param({ "250000" })
+    private int orders;
+
+    private EmbeddedDatabase database;
+    private OrderItemColumns columns;
+
+    @Setup
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, category VARCHAR(255) NOT NULL)");
+        jdbc.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, status VARCHAR(255) NOT NULL, "
+                + "created_at TIMESTAMP(6) NOT NULL, total_amount DECIMAL(19,2) NOT NULL, "
+                + "discount_amount DECIMAL(19,2) NOT NULL)");
+        jdbc.execute("CREATE TABLE order_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, order_id BIGINT NOT NULL, "
+                + "product_id BIGINT NOT NULL, quantity INT NOT NULL, price_at_purchase DECIMAL(19,2) NOT NULL)");
+        jdbc.execute("CREATE INDEX idx_order_items_order ON order_items (order_id)");
+        ProductCategory[] categories = ProductCategory.values();
+        for (int i = 1; i <= 200; i++) {
+            jdbc.update("INSERT INTO product VALUES (?, ?)", i, categories[i % categories.length].name());
+        }
+        jdbc.update("INSERT INTO orders SELECT X, 'PAID', DATEADD('MINUTE', -X * 2, TIMESTAMP '2026-12-31 12:00:00'), "
+                + "MOD(X, 40) * 25000, 0 FROM SYSTEM_RANGE(1, ?)", orders);
+        jdbc.update("INSERT INTO order_items (order_id, product_id, quantity, price_at_purchase) "
+                + "SELECT o.X, MOD(o.X * 7 + i.X, 200) + 1, i.X, 12500.00 "
+                + "FROM SYSTEM_RANGE(1, ?) o CROSS JOIN SYSTEM_RANGE(1, 4) i", orders);
+        columns = new OrderItemColumns(database, ZONE, 10_000);
+        columns.refresh();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public ItemAggregateResponse revenueByCategory() {
+        return columns.aggregate(null, null, null, null, null, ItemGroup.CATEGORY);
+    }
+
+    @Benchmark
+    public ItemAggregateResponse foodLastMonthByDay() {
+        return columns.aggregate(END.minusDays(29), END, ProductCategory.FOOD, null, null, ItemGroup.DAY);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderItemColumnsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
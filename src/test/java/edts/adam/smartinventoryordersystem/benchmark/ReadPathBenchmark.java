@@ -0,0 +1,162 @@
+package edts.adam.smartinventoryordersystem.benchmark;
+
+import edts.adam.smartinventoryordersystem.SmartInventoryOrderSystemApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Side-by-side comparison of the blocking {@code GET /products} and the
+ * non-blocking {@code GET /async/products} on a real Tomcat (H2, test
+ * profile) limited to {@value #CONTAINER_THREADS} container threads, with
+ * the async DB pool the same size.
+ * <ul>
+ * <li>{@code burst} — throughput of {@code concurrency} simultaneous page
+ * reads</li>
+ * <li>{@code probeDuringBurst} — latency of an in-memory request
+ * ({@code GET /products/low-stock}) sent while such a burst is in flight. On
+ * the blocking path it queues behind the page reads for a container thread;
+ * on the async path the container threads are free</li>
+ * </ul>
+ * <p>
+ * Run with:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=edts.adam.smartinventoryordersystem.benchmark.ReadPathBenchmark
+ * </pre>
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    static final int CONTAINER_THREADS = 8;
+    private static final int PRODUCTS = 500;
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"BLOCKING", "ASYNC"})
+        String path;
+
+        @Param({"64", "512"})
+        int concurrency;
+
+        private ConfigurableApplicationContext context;
+        private ExecutorService clientExecutor;
+        private HttpClient client;
+        private HttpRequest pageRequest;
+        private HttpRequest probeRequest;
+
+        @Setup(Level.Trial)
+        public void start() throws Exception {
+            context = new SpringApplicationBuilder(SmartInventoryOrderSystemApplication.class).run(
+                    "--spring.profiles.active=test",
+                    "--server.port=0",
+                    "--server.tomcat.threads.max=" + CONTAINER_THREADS,
+                    "--server.tomcat.threads.min-spare=" + CONTAINER_THREADS,
+                    "--app.async-read.threads=" + CONTAINER_THREADS,
+                    "--app.async-read.queue-capacity=10000",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN");
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            clientExecutor = Executors.newFixedThreadPool(4);
+            client = HttpClient.newBuilder().executor(clientExecutor).build();
+
+            for (int i = 0; i < PRODUCTS; i++) {
+                String body = "{\"name\":\"Product " + i + "\",\"category\":\"FOOD\",\"price\":1000,\"stock\":"
+                        + (i % 20) + "}";
+                client.send(HttpRequest.newBuilder(URI.create(base + "/products"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+            }
+            String pagePath = "ASYNC".equals(path) ? "/async/products" : "/products";
+            pageRequest = HttpRequest.newBuilder(URI.create(base + pagePath + "?size=100")).GET().build();
+            probeRequest = HttpRequest.newBuilder(URI.create(base + "/products/low-stock?limit=10")).GET().build();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+            clientExecutor.shutdown();
+        }
+
+        List<CompletableFuture<HttpResponse<Void>>> fireBurst() {
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                responses.add(client.sendAsync(pageRequest, HttpResponse.BodyHandlers.discarding()));
+            }
+            return responses;
+        }
+    }
+
+    /** A burst of page reads kept in flight around each probe. */
+    @State(Scope.Thread)
+    public static class Background {
+
+        private List<CompletableFuture<HttpResponse<Void>>> burst;
+
+        @Setup(Level.Invocation)
+        public void fire(Server server) {
+            burst = server.fireBurst();
+        }
+
+        @TearDown(Level.Invocation)
+        public void drain() {
+            CompletableFuture.allOf(burst.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int burst(Server server) {
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : server.fireBurst()) {
+            ok += response.join().statusCode() == 200 ? 1 : 0;
+        }
+        return ok;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int probeDuringBurst(Server server, Background background) throws Exception {
+        return server.client.send(server.probeRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReadPathBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,105 @@
+package edts.adam.smartinventoryordersystem.benchmark;
+
+import edts.adam.smartinventoryordersystem.dto.ApiResponse;
+import edts.adam.smartinventoryordersystem.dto.ResponseSerializers;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a {@code GET /products} page envelope with the default bean
+ * serializers and with {@link ResponseSerializers}. Run with the GC profiler
+ * (enabled in {@link #main}) and compare {@code gc.alloc.rate.norm}, the
+ * bytes allocated per serialized page.
+ * <p>
+ * Run with:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=edts.adam.smartinventoryordersystem.benchmark.ResponseSerializationBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private final JsonMapper beanMapper = JsonMapper.builder().build();
+    private final JsonMapper directMapper = JsonMapper.builder().addModule(ResponseSerializers.module()).build();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+
+    private ApiResponse<Page<ProductResponse>> response;
+
+    @Setup
+    public void setUp() {
+        List<ProductResponse> products = new ArrayList<>(pageSize);
+        Instant now = Instant.now();
+        for (int i = 1; i <= pageSize; i++) {
+            ProductResponse product = new ProductResponse();
+            product.setId((long) i);
+            product.setName("Product " + i);
+            product.setCategory(ProductCategory.values()[i % ProductCategory.values().length]);
+            product.setPrice(new BigDecimal("25000.00").add(BigDecimal.valueOf(i)));
+            product.setStock(i * 3);
+            product.setActive(true);
+            product.setCreatedAt(now);
+            product.setUpdatedAt(now);
+            products.add(product);
+        }
+        response = ApiResponse.success("data retrieved successfully",
+                new PageImpl<>(products, PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @Benchmark
+    public int beanSerializers() {
+        buffer.reset();
+        beanMapper.writeValue(buffer, response);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int directSerializers() {
+        buffer.reset();
+        directMapper.writeValue(buffer, response);
+        return buffer.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResponseSerializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
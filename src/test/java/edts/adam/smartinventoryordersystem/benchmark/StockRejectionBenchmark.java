@@ -0,0 +1,101 @@
+package edts.adam.smartinventoryordersystem.benchmark;
+
+import edts.adam.smartinventoryordersystem.exception.InsufficientStockException;
+import edts.adam.smartinventoryordersystem.exception.LocalizedException;
+import edts.adam.smartinventoryordersystem.service.OrderResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejection throughput for an out-of-stock order: throwing
+ * {@link InsufficientStockException} with and without stack capture, versus
+ * returning {@link OrderResult.Rejected}. The rejection is raised
+ * {@code depth} frames down to approximate the servlet, proxy and service
+ * frames above a real stock check.
+ * <p>
+ * Run with:
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=edts.adam.smartinventoryordersystem.benchmark.StockRejectionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StockRejectionBenchmark {
+
+    @Param({"20", "120"})
+    private int depth;
+
+    @Param({"false", "true"})
+    private boolean stackTraces;
+
+    private int available = 3;
+    private int requested = 5;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalizedException.setStackTraceEnabled(stackTraces);
+    }
+
+    @Benchmark
+    public Object throwAndCatch() {
+        try {
+            return throwAt(depth);
+        } catch (InsufficientStockException ex) {
+            return ex.getArgs();
+        }
+    }
+
+    @Benchmark
+    public Object returnResult() {
+        OrderResult result = rejectAt(depth);
+        return result instanceof OrderResult.Rejected rejected ? rejected.args() : result;
+    }
+
+    private Object throwAt(int frames) {
+        if (frames > 0) {
+            return throwAt(frames - 1);
+        }
+        if (available < requested) {
+            throw new InsufficientStockException("order.insufficient.stock", "Es Teh", available, requested);
+        }
+        return null;
+    }
+
+    private OrderResult rejectAt(int frames) {
+        if (frames > 0) {
+            return rejectAt(frames - 1);
+        }
+        if (available < requested) {
+            return new OrderResult.Rejected("order.insufficient.stock", "Es Teh", available, requested);
+        }
+        return null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StockRejectionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
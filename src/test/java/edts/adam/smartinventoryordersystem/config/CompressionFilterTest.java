@@ -0,0 +1,164 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.util.HttpCaching;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompressionFilter Unit Tests")
+class CompressionFilterTest {
+
+    private final CompressionFilter filter = new CompressionFilter(1024, 4096, 1);
+
+    private static String json(int length) {
+        StringBuilder body = new StringBuilder("{\"data\":\"");
+        while (body.length() < length - 2) {
+            body.append("product ");
+        }
+        return body.append("\"}").toString();
+    }
+
+    private MockHttpServletResponse execute(String acceptEncoding, String contentType, byte[] body,
+            boolean useWriter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(contentType);
+                if (useWriter) {
+                    resp.setCharacterEncoding("UTF-8");
+                    resp.getWriter().write(new String(body, StandardCharsets.UTF_8));
+                } else {
+                    // Written in small chunks, like a streaming serializer
+                    for (int offset = 0; offset < body.length; offset += 100) {
+                        resp.getOutputStream().write(body, offset, Math.min(100, body.length - offset));
+                    }
+                    resp.getOutputStream().flush();
+                }
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    // =========================================================================
+    // COMPRESSION
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Compression")
+    class Compression {
+
+        @Test
+        @DisplayName("Should gzip JSON bodies above the text threshold")
+        void shouldCompressLargeJson() throws Exception {
+            byte[] body = json(20_000).getBytes(StandardCharsets.UTF_8);
+
+            MockHttpServletResponse response = execute("gzip, deflate, br", "application/json", body, false);
+
+            assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+            assertThat(response.getHeaders("Vary")).contains("Accept-Encoding");
+            assertThat(response.getContentAsByteArray().length).isLessThan(body.length / 4);
+            assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+        }
+
+        @Test
+        @DisplayName("Should gzip bodies written through the writer")
+        void shouldCompressWriterOutput() throws Exception {
+            byte[] body = json(5_000).getBytes(StandardCharsets.UTF_8);
+
+            MockHttpServletResponse response = execute("gzip", "application/json", body, true);
+
+            assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+            assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+        }
+
+        @Test
+        @DisplayName("Should mark the request so ETags get a gzip variant")
+        void shouldMarkGzipRequests() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+            request.addHeader("Accept-Encoding", "gzip");
+
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            assertThat(request.getAttribute(HttpCaching.GZIP_ATTRIBUTE)).isEqualTo(Boolean.TRUE);
+        }
+    }
+
+    // =========================================================================
+    // PASS-THROUGH
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Pass-through")
+    class PassThrough {
+
+        @Test
+        @DisplayName("Should send small JSON bodies uncompressed with a Content-Length")
+        void shouldNotCompressSmallJson() throws Exception {
+            byte[] body = json(500).getBytes(StandardCharsets.UTF_8);
+
+            MockHttpServletResponse response = execute("gzip", "application/json", body, false);
+
+            assertThat(response.getHeader("Content-Encoding")).isNull();
+            assertThat(response.getContentAsByteArray()).isEqualTo(body);
+            assertThat(response.getHeaders("Vary")).contains("Accept-Encoding");
+        }
+
+        @Test
+        @DisplayName("Should apply the higher threshold to binary formats")
+        void shouldUseBinaryThreshold() throws Exception {
+            byte[] body = new byte[2_000];
+
+            MockHttpServletResponse response = execute("gzip", "application/cbor", body, false);
+
+            assertThat(response.getHeader("Content-Encoding")).isNull();
+            assertThat(response.getContentAsByteArray()).isEqualTo(body);
+        }
+
+        @Test
+        @DisplayName("Should not compress when the client does not accept gzip")
+        void shouldRespectAcceptEncoding() throws Exception {
+            byte[] body = json(20_000).getBytes(StandardCharsets.UTF_8);
+
+            assertThat(execute(null, "application/json", body, false).getContentAsByteArray()).isEqualTo(body);
+            assertThat(execute("gzip;q=0, identity", "application/json", body, false)
+                    .getHeader("Content-Encoding")).isNull();
+        }
+
+        @Test
+        @DisplayName("Should not compress other content types")
+        void shouldSkipOtherTypes() throws Exception {
+            byte[] body = new byte[20_000];
+
+            MockHttpServletResponse response = execute("gzip", "application/gzip", body, false);
+
+            assertThat(response.getHeader("Content-Encoding")).isNull();
+            assertThat(response.getHeaders("Vary")).doesNotContain("Accept-Encoding");
+            assertThat(response.getContentAsByteArray()).isEqualTo(body);
+        }
+    }
+}
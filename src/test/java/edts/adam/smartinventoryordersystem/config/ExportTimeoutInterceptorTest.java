@@ -0,0 +1,47 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import edts.adam.smartinventoryordersystem.controller.ExportController;
+import edts.adam.smartinventoryordersystem.enums.DataFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExportTimeoutInterceptor Unit Tests")
+class ExportTimeoutInterceptorTest {
+
+    private final ExportTimeoutInterceptor interceptor = new ExportTimeoutInterceptor(Duration.ofHours(1));
+
+    /** Runs the interceptor and starts async processing with a 60s default; returns the applied timeout. */
+    private long asyncTimeout(HandlerMethod handler) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/exports/products");
+        request.setAsyncSupported(true);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        StandardServletAsyncWebRequest asyncRequest =
+                new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncRequest.setTimeout(60_000L);
+
+        interceptor.beforeConcurrentHandling(asyncRequest, () -> null);
+        asyncRequest.startAsync();
+
+        return request.getAsyncContext().getTimeout();
+    }
+
+    @Test
+    @DisplayName("Should apply the export timeout to export streams only")
+    void shouldApplyTimeoutToExportsOnly() throws Exception {
+        HandlerMethod export = new HandlerMethod(new ExportController(null), "exportProducts",
+                DataFormat.class, boolean.class);
+        HandlerMethod other = new HandlerMethod(new Object(), "toString");
+
+        assertThat(asyncTimeout(export)).isEqualTo(Duration.ofHours(1).toMillis());
+        assertThat(asyncTimeout(other)).isEqualTo(60_000L);
+    }
+}
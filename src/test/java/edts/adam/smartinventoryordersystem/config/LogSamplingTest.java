@@ -0,0 +1,131 @@
+package edts.adam.smartinventoryordersystem.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.core.spi.FilterReply;
+import edts.adam.smartinventoryordersystem.util.LogSampling;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Log sampling Unit Tests")
+class LogSamplingTest {
+
+    private final LogSamplingFilter filter = new LogSamplingFilter();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    private MockHttpServletRequest request(String method, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/ignored");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    // =========================================================================
+    // INTERCEPTOR
+    // =========================================================================
+
+    @Nested
+    @DisplayName("LogSamplingInterceptor")
+    class Interceptor {
+
+        @Test
+        @DisplayName("Should sample one in N requests independently per endpoint")
+        void shouldSamplePerEndpoint() {
+            LogSamplingInterceptor interceptor = new LogSamplingInterceptor(4);
+
+            long sampledProducts = IntStream.range(0, 40)
+                    .filter(i -> interceptor.isSampled("GET /products/{id}")).count();
+            assertThat(sampledProducts).isEqualTo(10);
+            assertThat(interceptor.isSampled("POST /orders")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should mark skipped requests in MDC and clear it after completion")
+        void shouldMarkAndClearMdc() {
+            LogSamplingInterceptor interceptor = new LogSamplingInterceptor(2);
+            MockHttpServletRequest request = request("GET", "/products/{id}");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            interceptor.preHandle(request, response, new Object());
+            assertThat(MDC.get(LogSampling.SKIP_MDC_KEY)).isNull();
+            interceptor.afterCompletion(request, response, new Object(), null);
+
+            interceptor.preHandle(request, response, new Object());
+            assertThat(MDC.get(LogSampling.SKIP_MDC_KEY)).isEqualTo("true");
+            interceptor.afterCompletion(request, response, new Object(), null);
+            assertThat(MDC.get(LogSampling.SKIP_MDC_KEY)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should clear MDC when async handling starts and reuse the decision on the async dispatch")
+        void shouldHandleAsyncRequests() {
+            LogSamplingInterceptor interceptor = new LogSamplingInterceptor(2);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            interceptor.isSampled("GET /orders/{id:\\d+}/events");
+
+            MockHttpServletRequest request = request("GET", "/orders/{id:\\d+}/events");
+            interceptor.preHandle(request, response, new Object());
+            assertThat(MDC.get(LogSampling.SKIP_MDC_KEY)).isEqualTo("true");
+            interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+            assertThat(MDC.get(LogSampling.SKIP_MDC_KEY)).isNull();
+
+            request.setDispatcherType(DispatcherType.ASYNC);
+            interceptor.preHandle(request, response, new Object());
+            assertThat(MDC.get(LogSampling.SKIP_MDC_KEY)).isEqualTo("true");
+            interceptor.afterCompletion(request, response, new Object(), null);
+
+            // The async dispatch did not count as a request: the next one is sampled
+            assertThat(interceptor.isSampled("GET /orders/{id:\\d+}/events")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not let a key left on the thread silence the next request")
+        void shouldClearStaleMdc() {
+            LogSamplingInterceptor interceptor = new LogSamplingInterceptor(2);
+            MDC.put(LogSampling.SKIP_MDC_KEY, "true");
+
+            interceptor.preHandle(request("GET", "/products/{id}"), new MockHttpServletResponse(), new Object());
+
+            assertThat(MDC.get(LogSampling.SKIP_MDC_KEY)).isNull();
+        }
+    }
+
+    // =========================================================================
+    // FILTER
+    // =========================================================================
+
+    @Nested
+    @DisplayName("LogSamplingFilter")
+    class Filter {
+
+        @Test
+        @DisplayName("Should deny only sampled INFO events of skipped requests")
+        void shouldDenySampledInfoOnly() {
+            MDC.put(LogSampling.SKIP_MDC_KEY, "true");
+
+            assertThat(filter.decide(LogSampling.SAMPLED, null, Level.INFO, "msg", null, null))
+                    .isEqualTo(FilterReply.DENY);
+            assertThat(filter.decide(LogSampling.SAMPLED, null, Level.WARN, "msg", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, null, Level.INFO, "msg", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+
+            MDC.remove(LogSampling.SKIP_MDC_KEY);
+            assertThat(filter.decide(LogSampling.SAMPLED, null, Level.INFO, "msg", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package edts.adam.smartinventoryordersystem.dto;
+
+import edts.adam.smartinventoryordersystem.dto.customer.response.CustomerResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderItemResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseSerializers Unit Tests")
+class ResponseSerializersTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T08:15:30.125Z");
+
+    private final JsonMapper beanMapper = JsonMapper.builder().build();
+    private final JsonMapper directMapper = JsonMapper.builder().addModule(ResponseSerializers.module()).build();
+
+    private void assertSameJson(Object value) {
+        assertThat(directMapper.writeValueAsString(value)).isEqualTo(beanMapper.writeValueAsString(value));
+    }
+
+    private <T> ApiResponse<T> envelope(T data) {
+        ApiResponse<T> response = ApiResponse.success("ok", data);
+        response.setTimestamp(NOW);
+        return response;
+    }
+
+    private ProductResponse product(long id) {
+        ProductResponse product = new ProductResponse();
+        product.setId(id);
+        product.setName("Kopi \"Susu\" Gula Aren");
+        product.setCategory(ProductCategory.FOOD);
+        product.setPrice(new BigDecimal("18000.50"));
+        product.setStock(7);
+        product.setActive(true);
+        product.setCreatedAt(NOW);
+        product.setUpdatedAt(NOW.plusSeconds(60));
+        return product;
+    }
+
+    private OrderItemResponse item() {
+        OrderItemResponse item = new OrderItemResponse();
+        item.setProductId(1L);
+        item.setProductName("Nasi Goreng");
+        item.setQuantity(2);
+        item.setPriceAtPurchase(new BigDecimal("25000"));
+        item.setSubtotal(new BigDecimal("50000"));
+        return item;
+    }
+
+    // =========================================================================
+    // POPULATED
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Populated DTOs")
+    class Populated {
+
+        @Test
+        @DisplayName("Should match bean serialization for a product page envelope")
+        void shouldMatchProductPage() {
+            assertSameJson(envelope(new PageImpl<>(List.of(product(1), product(2)), PageRequest.of(0, 10), 2)));
+        }
+
+        @Test
+        @DisplayName("Should match bean serialization for an order with items")
+        void shouldMatchOrder() {
+            OrderResponse order = new OrderResponse();
+            order.setId(10L);
+            order.setCustomerId(3L);
+            order.setCustomerName("Budi");
+            order.setItems(Arrays.asList(item(), null));
+            order.setTotalAmount(new BigDecimal("50000.00"));
+            order.setDiscountAmount(new BigDecimal("5000.00"));
+            order.setFinalAmount(new BigDecimal("45000.00"));
+            order.setStatus(OrderStatus.PAID);
+            order.setCreatedAt(NOW);
+
+            assertSameJson(envelope(order));
+        }
+
+        @Test
+        @DisplayName("Should match bean serialization for a customer and non-DTO payloads")
+        void shouldMatchCustomerAndMaps() {
+            CustomerResponse customer = new CustomerResponse();
+            customer.setId(5L);
+            customer.setName("Siti");
+            customer.setEmail("siti@example.com");
+            customer.setMembershipLevel(MembershipLevel.GOLD);
+            customer.setTotalSpent(new BigDecimal("1E+7"));
+            customer.setActive(true);
+
+            assertSameJson(envelope(customer));
+            assertSameJson(envelope(Map.of("name", "must not be blank")));
+        }
+    }
+
+    // =========================================================================
+    // INSTANTS
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Instant formatting")
+    class Instants {
+
+        @Test
+        @DisplayName("Should format instants exactly like Instant.toString()")
+        void shouldMatchInstantToString() {
+            List<Instant> instants = new ArrayList<>(List.of(
+                    Instant.EPOCH,
+                    Instant.parse("2000-02-29T23:59:59Z"),
+                    Instant.parse("2026-12-31T00:00:00.100Z"),
+                    Instant.parse("2026-06-15T12:30:45.123456Z"),
+                    Instant.parse("2026-06-15T12:30:45.000000001Z"),
+                    Instant.parse("9999-12-31T23:59:59.999999999Z"),
+                    Instant.parse("1969-12-31T23:59:59Z")));
+            Random random = new Random(42);
+            for (int i = 0; i < 10_000; i++) {
+                instants.add(Instant.ofEpochSecond(random.nextLong(253_402_300_800L), random.nextInt(1_000_000_000)));
+            }
+
+            for (Instant instant : instants) {
+                ProductResponse product = new ProductResponse();
+                product.setCreatedAt(instant);
+                assertSameJson(product);
+            }
+        }
+    }
+
+    // =========================================================================
+    // NULLS
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Null handling")
+    class Nulls {
+
+        @Test
+        @DisplayName("Should keep null DTO fields and drop null envelope fields")
+        void shouldMatchNulls() {
+            assertSameJson(new ProductResponse());
+            assertSameJson(new OrderResponse());
+            assertSameJson(new OrderItemResponse());
+            assertSameJson(new CustomerResponse());
+
+            ApiResponse<Object> error = ApiResponse.error("RESOURCE_NOT_FOUND", "Product not found with id: 9");
+            error.setTimestamp(NOW);
+            assertSameJson(error);
+        }
+    }
+
+    // =========================================================================
+    // BINARY FORMATS
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Binary formats")
+    class BinaryFormats {
+
+        @Test
+        @DisplayName("Should encode the same envelope structure in CBOR and Smile as in JSON")
+        void shouldMatchJsonStructure() {
+            ApiResponse<?> response = envelope(new PageImpl<>(List.of(product(1), product(2)), PageRequest.of(0, 10), 2));
+            ObjectMapper cbor = CBORMapper.builder().addModule(ResponseSerializers.module()).build();
+            ObjectMapper smile = SmileMapper.builder().addModule(ResponseSerializers.module()).build();
+
+            JsonMapper json = JsonMapper.builder()
+                    .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .build();
+
+            Object expected = json.readTree(directMapper.writeValueAsBytes(response));
+            assertThat(cbor.readTree(cbor.writeValueAsBytes(response))).isEqualTo(expected);
+            assertThat(smile.readTree(smile.writeValueAsBytes(response))).isEqualTo(expected);
+        }
+    }
+}
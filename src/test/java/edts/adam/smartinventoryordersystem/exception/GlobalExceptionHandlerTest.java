@@ -0,0 +1,76 @@
+package edts.adam.smartinventoryordersystem.exception;
+
+import edts.adam.smartinventoryordersystem.config.MessageConfig;
+import edts.adam.smartinventoryordersystem.dto.ApiResponse;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GlobalExceptionHandler Unit Tests")
+class GlobalExceptionHandlerTest {
+
+    private GlobalExceptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MessageConfig config = new MessageConfig();
+        handler = new GlobalExceptionHandler(new MessageUtil(config.messageSource(), config.localeResolver()));
+    }
+
+    private static DataIntegrityViolationException violation(String sqlState, int errorCode) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException(new SQLException("constraint violated", sqlState, errorCode)));
+    }
+
+    // =========================================================================
+    // DATA INTEGRITY VIOLATIONS
+    // =========================================================================
+
+    @Nested
+    @DisplayName("handleDataIntegrityViolation()")
+    class DataIntegrityViolation {
+
+        @Test
+        @DisplayName("Should answer 409 for a translated duplicate key")
+        void shouldConflictOnDuplicateKeyException() {
+            ResponseEntity<ApiResponse<Object>> response = handler.handleDataIntegrityViolation(
+                    new DuplicateKeyException("Duplicate entry"));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(response.getBody().getCode()).isEqualTo("DUPLICATE_RESOURCE");
+        }
+
+        @Test
+        @DisplayName("Should answer 409 for MySQL and H2 unique-key violations")
+        void shouldConflictOnUniqueViolation() {
+            assertThat(handler.handleDataIntegrityViolation(violation("23000", 1062)).getStatusCode())
+                    .isEqualTo(HttpStatus.CONFLICT);
+            assertThat(handler.handleDataIntegrityViolation(violation("23505", 23505)).getStatusCode())
+                    .isEqualTo(HttpStatus.CONFLICT);
+        }
+
+        @Test
+        @DisplayName("Should answer 500 for other integrity violations")
+        void shouldFailOnOtherViolations() {
+            // MySQL: foreign key (1452) and NOT NULL (1048) share SQL state 23000
+            ResponseEntity<ApiResponse<Object>> foreignKey = handler.handleDataIntegrityViolation(
+                    violation("23000", 1452));
+            ResponseEntity<ApiResponse<Object>> notNull = handler.handleDataIntegrityViolation(
+                    violation("23000", 1048));
+
+            assertThat(foreignKey.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat(foreignKey.getBody().getCode()).isEqualTo("INTERNAL_ERROR");
+            assertThat(notNull.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.exception.ServerBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncReadService Unit Tests")
+class AsyncReadServiceTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private OrderService orderService;
+
+    private AsyncReadService asyncReadService;
+
+    @BeforeEach
+    void setUp() {
+        asyncReadService = new AsyncReadService(productService, orderService, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncReadService.close();
+    }
+
+    @Test
+    @DisplayName("Should complete with the order read on the DB pool")
+    void shouldReadOrderOffThread() throws Exception {
+        OrderResponse order = new OrderResponse();
+        order.setId(1L);
+        when(orderService.getOrderById(1L)).thenReturn(order);
+
+        assertThat(asyncReadService.getOrderById(1L).get(5, TimeUnit.SECONDS)).isSameAs(order);
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally with the read's business exception")
+    void shouldPropagateReadFailure() {
+        when(orderService.getOrderById(99L)).thenThrow(new ResourceNotFoundException("order.not.found", 99L));
+
+        assertThatThrownBy(() -> asyncReadService.getOrderById(99L).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should refuse reads with ServerBusyException once the queue is full")
+    void shouldRefuseWhenSaturated() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.getOrderById(1L)).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new OrderResponse();
+        });
+
+        CompletableFuture<OrderResponse> running = asyncReadService.getOrderById(1L);
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<OrderResponse> queued = asyncReadService.getOrderById(1L);
+        CompletableFuture<OrderResponse> refused = asyncReadService.getOrderById(1L);
+        release.countDown();
+
+        assertThatThrownBy(refused::join).hasCauseInstanceOf(ServerBusyException.class);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+}
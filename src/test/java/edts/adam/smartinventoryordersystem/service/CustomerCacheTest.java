@@ -0,0 +1,71 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import edts.adam.smartinventoryordersystem.model.Customer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CustomerCache Unit Tests")
+class CustomerCacheTest {
+
+    private final CustomerCache customerCache = new CustomerCache(2);
+
+    private static Customer customer(Long id, MembershipLevel membershipLevel) {
+        Customer customer = new Customer("User " + id, "user" + id + "@example.com");
+        customer.setId(id);
+        customer.setMembershipLevel(membershipLevel);
+        return customer;
+    }
+
+    @Test
+    @DisplayName("Should return a detached reference with the cached fields and no totalSpent")
+    void shouldReturnCachedReference() {
+        customerCache.put(customer(1L, MembershipLevel.GOLD));
+
+        Customer cached = customerCache.find(1L).orElseThrow();
+
+        assertThat(cached.getId()).isEqualTo(1L);
+        assertThat(cached.getName()).isEqualTo("User 1");
+        assertThat(cached.getEmail()).isEqualTo("user1@example.com");
+        assertThat(cached.getMembershipLevel()).isEqualTo(MembershipLevel.GOLD);
+        assertThat(cached.getTotalSpent()).isNull();
+        assertThat(customerCache.find(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply an upgrade, and never let a stale load put a lower level back")
+    void shouldKeepHighestLevel() {
+        customerCache.put(customer(1L, MembershipLevel.REGULAR));
+
+        customerCache.onMembershipUpgrade(1L, MembershipLevel.PLATINUM);
+        customerCache.put(customer(1L, MembershipLevel.GOLD));
+
+        assertThat(customerCache.find(1L).orElseThrow().getMembershipLevel()).isEqualTo(MembershipLevel.PLATINUM);
+    }
+
+    @Test
+    @DisplayName("Should keep an upgrade that commits before a concurrent load is cached")
+    void shouldKeepUpgradeOfUncached() {
+        customerCache.onMembershipUpgrade(1L, MembershipLevel.GOLD);
+
+        assertThat(customerCache.find(1L)).isEmpty();
+
+        customerCache.put(customer(1L, MembershipLevel.REGULAR));
+
+        assertThat(customerCache.find(1L).orElseThrow().getMembershipLevel()).isEqualTo(MembershipLevel.GOLD);
+    }
+
+    @Test
+    @DisplayName("Should not admit customers beyond max-size")
+    void shouldRespectMaxSize() {
+        customerCache.put(customer(1L, MembershipLevel.REGULAR));
+        customerCache.put(customer(2L, MembershipLevel.REGULAR));
+        customerCache.put(customer(3L, MembershipLevel.REGULAR));
+
+        assertThat(customerCache.size()).isEqualTo(2);
+        assertThat(customerCache.find(3L)).isEmpty();
+        assertThat(customerCache.find(1L)).isPresent();
+    }
+}
@@ -22,6 +22,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,6 +35,9 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private DuplicateCheckFilter duplicateCheckFilter;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -40,6 +45,8 @@ class CustomerServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(duplicateCheckFilter.mightContainCustomerEmail(anyString())).thenReturn(true);
+
         sampleCustomer = new Customer();
         sampleCustomer.setId(1L);
         sampleCustomer.setName("John Doe");
@@ -99,6 +106,20 @@ class CustomerServiceTest {
             verify(customerRepository, never()).save(any(Customer.class));
         }
 
+        @Test
+        @DisplayName("Should skip email query when duplicate-check filter rules the email out")
+        void shouldSkipEmailQueryWhenFilterNegative() {
+            CreateCustomerRequest request = createRequest("John Doe", "john@example.com");
+
+            when(duplicateCheckFilter.mightContainCustomerEmail("john@example.com")).thenReturn(false);
+            when(customerRepository.save(any(Customer.class))).thenReturn(sampleCustomer);
+
+            customerService.createCustomer(request);
+
+            verify(customerRepository, never()).existsByEmail(anyString());
+            verify(duplicateCheckFilter).addCustomerEmail("john@example.com");
+        }
+
         @Test
         @DisplayName("Should set default membership to REGULAR")
         void shouldSetDefaultMembership() {
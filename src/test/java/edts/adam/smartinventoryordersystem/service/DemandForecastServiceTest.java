@@ -0,0 +1,178 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.product.response.ForecastRunResponse;
+import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.repository.ProductForecastRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DemandForecastService Unit Tests")
+class DemandForecastServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Jakarta");
+    private static final LocalDate LAST_DAY = LocalDate.of(2026, 3, 31);
+
+    @Mock
+    private ProductForecastRepository productForecastRepository;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private DemandForecastService demandForecastService;
+    private long nextOrderId = 1;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE product (id BIGINT PRIMARY KEY)");
+        jdbc.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, status VARCHAR(255) NOT NULL, "
+                + "created_at TIMESTAMP(6) NOT NULL)");
+        jdbc.execute("CREATE TABLE order_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, order_id BIGINT NOT NULL, "
+                + "product_id BIGINT NOT NULL, quantity INT NOT NULL)");
+        jdbc.execute("CREATE TABLE product_forecast (product_id BIGINT PRIMARY KEY, last_day DATE NOT NULL, "
+                + "observed_days INT NOT NULL, total_units BIGINT NOT NULL, moving_average DECIMAL(19,4) NOT NULL, "
+                + "smoothed_demand DECIMAL(19,4) NOT NULL, horizon_days INT NOT NULL, forecast_units INT NOT NULL, "
+                + "generated_at TIMESTAMP(6) NOT NULL)");
+        jdbc.update("INSERT INTO product VALUES (1), (2), (3), (4), (5)");
+
+        demandForecastService = new DemandForecastService(database, new DataSourceTransactionManager(database),
+                productForecastRepository, ZONE, 2, 2, 100, 90, 7, 0.5, 14);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private void sell(long productId, LocalDate day, int quantity, String status) {
+        long orderId = nextOrderId++;
+        jdbc.update("INSERT INTO orders VALUES (?, ?, ?)", orderId, status,
+                Timestamp.from(day.atTime(23, 30).atZone(ZONE).toInstant()));
+        jdbc.update("INSERT INTO order_items (order_id, product_id, quantity) VALUES (?, ?, ?)",
+                orderId, productId, quantity);
+    }
+
+    private Map<String, Object> forecastOf(long productId) {
+        return jdbc.queryForMap("SELECT * FROM product_forecast WHERE product_id = ?", productId);
+    }
+
+    // =========================================================================
+    // RUN
+    // =========================================================================
+
+    @Nested
+    @DisplayName("run()")
+    class Run {
+
+        @Test
+        @DisplayName("Should forecast steady demand from daily totals across partitions")
+        void shouldForecastSteadyDemand() {
+            for (int i = 0; i < 10; i++) {
+                sell(1L, LAST_DAY.minusDays(i), 1, "PAID");
+                sell(1L, LAST_DAY.minusDays(i), 1, "PAID");
+            }
+            sell(5L, LAST_DAY, 3, "PAID");
+            sell(3L, LAST_DAY, 4, "CREATED");
+            sell(4L, LAST_DAY.plusDays(1), 4, "PAID");
+
+            ForecastRunResponse response = demandForecastService.run(LAST_DAY);
+
+            assertThat(response.getProducts()).isEqualTo(2);
+            assertThat(response.getPartitions()).isEqualTo(3);
+            Map<String, Object> steady = forecastOf(1L);
+            assertThat(steady.get("OBSERVED_DAYS")).isEqualTo(10);
+            assertThat(steady.get("TOTAL_UNITS")).isEqualTo(20L);
+            assertThat((BigDecimal) steady.get("MOVING_AVERAGE")).isEqualByComparingTo("2");
+            assertThat((BigDecimal) steady.get("SMOOTHED_DEMAND")).isEqualByComparingTo("2");
+            assertThat(steady.get("FORECAST_UNITS")).isEqualTo(28);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM product_forecast WHERE product_id IN (3, 4)",
+                    Integer.class)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should decay demand over days without sales and replace earlier forecasts")
+        void shouldDecayAndReplace() {
+            sell(2L, LAST_DAY.minusDays(3), 8, "PAID");
+            demandForecastService.run(LAST_DAY.minusDays(3));
+            assertThat(forecastOf(2L).get("FORECAST_UNITS")).isEqualTo(112);
+
+            demandForecastService.run(LAST_DAY);
+
+            Map<String, Object> decayed = forecastOf(2L);
+            assertThat(decayed.get("OBSERVED_DAYS")).isEqualTo(4);
+            assertThat((BigDecimal) decayed.get("SMOOTHED_DEMAND")).isEqualByComparingTo("1");
+            assertThat((BigDecimal) decayed.get("MOVING_AVERAGE")).isEqualByComparingTo("2");
+            assertThat(decayed.get("FORECAST_UNITS")).isEqualTo(14);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM product_forecast", Integer.class)).isEqualTo(1);
+        }
+    }
+
+    // =========================================================================
+    // DEMAND SERIES
+    // =========================================================================
+
+    @Nested
+    @DisplayName("DemandSeries")
+    class Series {
+
+        @Test
+        @DisplayName("Should empty the moving-average window after a long gap")
+        void shouldClearWindowAfterGap() {
+            DemandForecastService.DemandSeries series = new DemandForecastService.DemandSeries(1L, 3, 0.5);
+            series.add(100, 6);
+            series.add(101, 6);
+            series.add(110, 3);
+            series.finish(110);
+
+            assertThat(series.days).isEqualTo(11);
+            assertThat(series.totalUnits).isEqualTo(15);
+            assertThat(series.movingAverage()).isEqualTo(1.0);
+            assertThat(series.level).isCloseTo(1.5 + 6 * Math.pow(0.5, 9), within(1e-9));
+        }
+    }
+
+    // =========================================================================
+    // GET FORECAST
+    // =========================================================================
+
+    @Nested
+    @DisplayName("getForecast()")
+    class GetForecast {
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when no forecast exists")
+        void shouldThrowWhenMissing() {
+            when(productForecastRepository.findById(9L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> demandForecastService.getForecast(9L))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.repository.CustomerRepository;
+import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import edts.adam.smartinventoryordersystem.repository.UniqueKeyView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DuplicateCheckFilter Unit Tests")
+class DuplicateCheckFilterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private DuplicateCheckFilter duplicateCheckFilter;
+
+    @BeforeEach
+    void setUp() {
+        duplicateCheckFilter = new DuplicateCheckFilter(productRepository, customerRepository, 10_000, 10_000, 0.01);
+    }
+
+    private UniqueKeyView row(Long id, String key) {
+        return new UniqueKeyView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUniqueKey() {
+                return key;
+            }
+        };
+    }
+
+    private void warmUp(List<UniqueKeyView> names, List<UniqueKeyView> emails) {
+        when(productRepository.findNamesAfterId(eq(0L), any(Pageable.class))).thenReturn(names);
+        when(customerRepository.findEmailsAfterId(eq(0L), any(Pageable.class))).thenReturn(emails);
+        duplicateCheckFilter.warmUp();
+    }
+
+    @Test
+    @DisplayName("Should answer 'maybe' for everything before warm-up")
+    void shouldAnswerMaybeBeforeWarmUp() {
+        assertThat(duplicateCheckFilter.mightContainProductName("Anything")).isTrue();
+        assertThat(duplicateCheckFilter.mightContainCustomerEmail("any@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should never report a loaded or added value as absent, ignoring case")
+    void shouldHaveNoFalseNegatives() {
+        warmUp(List.of(row(1L, "Nasi Goreng")), List.of(row(1L, "John@Example.com")));
+        duplicateCheckFilter.addProductName("Mie Goreng");
+
+        assertThat(duplicateCheckFilter.mightContainProductName("nasi goreng")).isTrue();
+        assertThat(duplicateCheckFilter.mightContainProductName("Mie Goreng")).isTrue();
+        assertThat(duplicateCheckFilter.mightContainCustomerEmail("john@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rule out most values that were never added")
+    void shouldRuleOutUnknownValues() {
+        warmUp(List.of(row(1L, "Nasi Goreng")), List.of());
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> duplicateCheckFilter.mightContainCustomerEmail("user" + i + "@example.com"))
+                .count();
+
+        assertThat(falsePositives).isLessThan(100);
+    }
+}
@@ -0,0 +1,111 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.DataFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExportService Unit Tests")
+class ExportServiceTest {
+
+    private EmbeddedDatabase database;
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, name VARCHAR(255), category VARCHAR(255), "
+                + "price DECIMAL(19,2), stock INT, active BOOLEAN, created_at TIMESTAMP(6), updated_at TIMESTAMP(6))");
+        jdbc.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, customer_id BIGINT, status VARCHAR(255), "
+                + "total_amount DECIMAL(19,2), discount_amount DECIMAL(19,2), final_amount DECIMAL(19,2), "
+                + "created_at TIMESTAMP(6))");
+        jdbc.execute("CREATE TABLE order_items (id BIGINT PRIMARY KEY, order_id BIGINT, product_id BIGINT, "
+                + "quantity INT, price_at_purchase DECIMAL(19,2))");
+        jdbc.update("INSERT INTO product VALUES (1, 'Nasi Goreng', 'FOOD', 25000.00, 100, TRUE, "
+                + "TIMESTAMP '2024-01-01 00:00:00', TIMESTAMP '2024-01-02 00:00:00')");
+        jdbc.update("INSERT INTO product VALUES (2, 'Kaos \"Polos\", Hitam', 'FASHION', 75000.50, 0, FALSE, "
+                + "TIMESTAMP '2024-01-01 00:00:00', TIMESTAMP '2024-01-02 00:00:00')");
+        jdbc.update("INSERT INTO orders VALUES (10, 5, 'PAID', 50000.00, 0.00, 50000.00, TIMESTAMP '2024-02-01 00:00:00')");
+        jdbc.update("INSERT INTO order_items VALUES (100, 10, 1, 2, 25000.00)");
+
+        exportService = new ExportService(database, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private String export(boolean products, DataFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = products ? exportService.exportProducts(out, format) : exportService.exportOrders(out, format);
+        assertThat(rows).isPositive();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    // =========================================================================
+    // CSV
+    // =========================================================================
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("Should write header and quote values containing commas or quotes")
+        void shouldWriteHeaderAndQuote() {
+            String[] lines = export(true, DataFormat.CSV).split("\n");
+
+            assertThat(lines).hasSize(3);
+            assertThat(lines[0]).isEqualTo("id,name,category,price,stock,active,created_at,updated_at");
+            assertThat(lines[1]).startsWith("1,Nasi Goreng,FOOD,25000.00,100,true,");
+            assertThat(lines[2]).startsWith("2,\"Kaos \"\"Polos\"\", Hitam\",FASHION,75000.50,0,false,");
+        }
+
+        @Test
+        @DisplayName("Should export one row per order item joined with its order")
+        void shouldExportOrderItems() {
+            String[] lines = export(false, DataFormat.CSV).split("\n");
+
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).isEqualTo("order_id,customer_id,status,total_amount,discount_amount,"
+                    + "final_amount,created_at,product_id,quantity,price_at_purchase");
+            assertThat(lines[1]).startsWith("10,5,PAID,50000.00,0.00,50000.00,").endsWith(",1,2,25000.00");
+        }
+    }
+
+    // =========================================================================
+    // NDJSON
+    // =========================================================================
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("Should write one JSON object per line with typed values")
+        void shouldWriteJsonLines() {
+            String[] lines = export(true, DataFormat.NDJSON).split("\n");
+
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).startsWith("{\"id\":1,\"name\":\"Nasi Goreng\",\"category\":\"FOOD\","
+                    + "\"price\":25000.00,\"stock\":100,\"active\":true,\"created_at\":\"");
+            assertThat(lines[1]).contains("\"name\":\"Kaos \\\"Polos\\\", Hitam\"");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.exception.ServerBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderConcurrencyLimiter Unit Tests")
+class OrderConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should shed orders beyond the limit with ServerBusyException until a permit is closed")
+    void shouldShedBeyondLimit() {
+        OrderConcurrencyLimiter limiter = new OrderConcurrencyLimiter(meterRegistry, 2, 1, 4, Duration.ofSeconds(10));
+
+        OrderConcurrencyLimiter.Permit first = limiter.acquire();
+        limiter.acquire();
+        assertThatThrownBy(limiter::acquire).isInstanceOf(ServerBusyException.class);
+        assertThat(meterRegistry.get(RateLimiter.REJECTIONS_METER).tag("limit", "concurrency").counter().count())
+                .isEqualTo(1);
+
+        first.close();
+        first.close();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        limiter.acquire();
+    }
+
+    @Test
+    @DisplayName("Should lower the limit when orders exceed the latency target, not below the minimum")
+    void shouldDecreaseOnSlowOrders() throws Exception {
+        OrderConcurrencyLimiter limiter = new OrderConcurrencyLimiter(meterRegistry, 10, 8, 20, Duration.ofMillis(1));
+
+        for (int i = 0; i < 5; i++) {
+            OrderConcurrencyLimiter.Permit permit = limiter.acquire();
+            Thread.sleep(5);
+            permit.close();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should raise a limit in use while orders stay within the target, up to the maximum")
+    void shouldIncreaseOnFastOrders() {
+        OrderConcurrencyLimiter limiter = new OrderConcurrencyLimiter(meterRegistry, 2, 1, 4, Duration.ofSeconds(10));
+
+        for (int i = 0; i < 100; i++) {
+            OrderConcurrencyLimiter.Permit first = limiter.acquire();
+            OrderConcurrencyLimiter.Permit second = limiter.acquire();
+            second.close();
+            first.close();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not raise an idle limit")
+    void shouldNotIncreaseWhenUnderused() {
+        OrderConcurrencyLimiter limiter = new OrderConcurrencyLimiter(meterRegistry, 10, 1, 20, Duration.ofSeconds(10));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire().close();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,228 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderEventResponse;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.enums.OrderEventType;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.model.Customer;
+import edts.adam.smartinventoryordersystem.model.Order;
+import edts.adam.smartinventoryordersystem.model.OrderEvent;
+import edts.adam.smartinventoryordersystem.model.OrderItem;
+import edts.adam.smartinventoryordersystem.model.OrderSnapshot;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.repository.OrderEventRepository;
+import edts.adam.smartinventoryordersystem.repository.OrderSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderEventStore Unit Tests")
+class OrderEventStoreTest {
+
+    private static final int SNAPSHOT_INTERVAL = 5;
+
+    @Mock
+    private OrderEventRepository eventRepository;
+
+    @Mock
+    private OrderSnapshotRepository snapshotRepository;
+
+    private OrderEventStore eventStore;
+
+    /** Backing storage for the mocked repositories. */
+    private final List<OrderEvent> log = new ArrayList<>();
+    private final Map<Long, OrderSnapshot> snapshots = new HashMap<>();
+    private final List<Integer> replayedFrom = new ArrayList<>();
+
+    private Customer customer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventStore = new OrderEventStore(eventRepository, snapshotRepository, JsonMapper.builder().build(),
+                SNAPSHOT_INTERVAL);
+
+        lenient().when(eventRepository.saveAll(any())).thenAnswer(invocation -> {
+            ((Iterable<OrderEvent>) invocation.getArgument(0)).forEach(log::add);
+            return invocation.getArgument(0);
+        });
+        lenient().when(eventRepository.save(any(OrderEvent.class))).thenAnswer(invocation -> {
+            log.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(eventRepository.findByOrderIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(anyLong(),
+                anyInt())).thenAnswer(invocation -> {
+                    Long orderId = invocation.getArgument(0);
+                    int after = invocation.getArgument(1);
+                    replayedFrom.add(after);
+                    return log.stream()
+                            .filter(e -> e.getOrderId().equals(orderId) && e.getSequenceNumber() > after)
+                            .sorted(Comparator.comparing(OrderEvent::getSequenceNumber))
+                            .toList();
+                });
+        lenient().when(eventRepository.findByOrderIdOrderBySequenceNumberAsc(anyLong())).thenAnswer(invocation -> log
+                .stream().filter(e -> e.getOrderId().equals(invocation.getArgument(0))).toList());
+        lenient().when(snapshotRepository.save(any(OrderSnapshot.class))).thenAnswer(invocation -> {
+            OrderSnapshot snapshot = invocation.getArgument(0);
+            snapshots.put(snapshot.getOrderId(), snapshot);
+            return snapshot;
+        });
+        lenient().when(snapshotRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(snapshots.get(invocation.getArgument(0))));
+
+        customer = new Customer();
+        customer.setId(7L);
+        customer.setName("Siti");
+    }
+
+    private Order order(Long id, int itemCount) {
+        Order order = new Order(customer);
+        order.setId(id);
+        order.setCreatedAt(Instant.parse("2026-03-01T08:15:30.123456789Z"));
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 1; i <= itemCount; i++) {
+            Product product = new Product("Product " + i, ProductCategory.FOOD, new BigDecimal("1000.50"), 10);
+            product.setId((long) i);
+            OrderItem item = new OrderItem(product, i, product.getPrice());
+            order.addOrderItem(item);
+            total = total.add(item.getSubtotal());
+        }
+        order.setTotalAmount(total);
+        order.setDiscountAmount(new BigDecimal("100.00"));
+        order.setFinalAmount(total.subtract(new BigDecimal("100.00")));
+        return order;
+    }
+
+    // =========================================================================
+    // RECORDING
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Recording")
+    class Recording {
+
+        @Test
+        @DisplayName("Should append ORDER_CREATED then one ITEM_ADDED per line")
+        void shouldAppendCreatedAndItems() {
+            eventStore.recordCreated(order(1L, 2));
+
+            assertThat(log).extracting(OrderEvent::getType).containsExactly(
+                    OrderEventType.ORDER_CREATED, OrderEventType.ITEM_ADDED, OrderEventType.ITEM_ADDED);
+            assertThat(log).extracting(OrderEvent::getSequenceNumber).containsExactly(1, 2, 3);
+            assertThat(snapshots).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should append the terminal event and snapshot the order")
+        void shouldSnapshotTerminalOrders() {
+            Order order = order(1L, 2);
+            eventStore.recordCreated(order);
+            order.setStatus(OrderStatus.PAID);
+
+            eventStore.recordStatusChange(order);
+
+            assertThat(log.get(log.size() - 1).getType()).isEqualTo(OrderEventType.PAID);
+            assertThat(snapshots.get(1L).getSequenceNumber()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should snapshot large orders at creation")
+        void shouldSnapshotLargeOrders() {
+            eventStore.recordCreated(order(1L, SNAPSHOT_INTERVAL));
+
+            assertThat(snapshots.get(1L).getSequenceNumber()).isEqualTo(SNAPSHOT_INTERVAL + 1);
+        }
+
+        @Test
+        @DisplayName("Should skip orders placed before the event log existed")
+        void shouldSkipOrdersWithoutEvents() {
+            Order order = order(1L, 1);
+            order.setStatus(OrderStatus.CANCELLED);
+
+            eventStore.recordStatusChange(order);
+
+            assertThat(log).isEmpty();
+            assertThat(snapshots).isEmpty();
+        }
+    }
+
+    // =========================================================================
+    // REBUILDING
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Rebuilding")
+    class Rebuilding {
+
+        @Test
+        @DisplayName("Should rebuild the same order the entity produces")
+        void shouldRebuildFromEvents() {
+            Order order = order(1L, 3);
+            eventStore.recordCreated(order);
+
+            OrderResponse rebuilt = eventStore.findOrder(1L).orElseThrow();
+
+            OrderResponse expected = OrderResponse.fromEntity(order);
+            expected.setCreatedAt(Instant.parse("2026-03-01T08:15:30.123456Z"));
+            JsonMapper mapper = JsonMapper.builder().build();
+            assertThat(mapper.writeValueAsString(rebuilt)).isEqualTo(mapper.writeValueAsString(expected));
+        }
+
+        @Test
+        @DisplayName("Should only replay events after the snapshot")
+        void shouldReplayFromSnapshot() {
+            Order order = order(1L, 2);
+            eventStore.recordCreated(order);
+            order.setStatus(OrderStatus.CANCELLED);
+            eventStore.recordStatusChange(order);
+            replayedFrom.clear();
+
+            OrderResponse rebuilt = eventStore.findOrder(1L).orElseThrow();
+
+            assertThat(rebuilt.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(rebuilt.getItems()).hasSize(2);
+            assertThat(replayedFrom).containsExactly(4);
+        }
+
+        @Test
+        @DisplayName("Should return empty for orders without events")
+        void shouldReturnEmptyWithoutEvents() {
+            assertThat(eventStore.findOrder(42L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should expose the audit trail with exact amounts")
+        void shouldExposeEvents() {
+            eventStore.recordCreated(order(1L, 1));
+
+            List<OrderEventResponse> events = eventStore.getEvents(1L);
+
+            assertThat(events).hasSize(2);
+            assertThat(events.get(1).getPayload().get("priceAtPurchase").decimalValue())
+                    .isEqualByComparingTo("1000.50");
+            assertThat(events.get(1).getPayload().get("priceAtPurchase").toString()).isEqualTo("1000.50");
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.order.request.CreateOrderRequest;
+import edts.adam.smartinventoryordersystem.dto.order.request.OrderItemRequest;
+import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
+import edts.adam.smartinventoryordersystem.enums.OrderAcceptance;
+import edts.adam.smartinventoryordersystem.enums.OrderTicketStatus;
+import edts.adam.smartinventoryordersystem.exception.OrderQueueFullException;
+import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.exception.StockLockTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIntake Unit Tests")
+class OrderIntakeTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderIntake orderIntake;
+
+    @AfterEach
+    void tearDown() {
+        if (orderIntake != null) {
+            orderIntake.stop();
+        }
+    }
+
+    private OrderIntake intake(OrderAcceptance acceptance, int queueCapacity) {
+        orderIntake = new OrderIntake(orderService, acceptance, queueCapacity, 1, 20,
+                Duration.ofMinutes(10), Duration.ofSeconds(30));
+        return orderIntake;
+    }
+
+    private CreateOrderRequest request(Long customerId) {
+        OrderItemRequest item = new OrderItemRequest();
+        item.setProductId(1L);
+        item.setQuantity(2);
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(customerId);
+        request.setItems(List.of(item));
+        return request;
+    }
+
+    private OrderTicket awaitDone(OrderTicket ticket) throws Exception {
+        return orderIntake.whenDone(ticket.token()).get(5, TimeUnit.SECONDS);
+    }
+
+    // =========================================================================
+    // ACCEPTANCE MODE
+    // =========================================================================
+
+    @Nested
+    @DisplayName("isQueued()")
+    class IsQueued {
+
+        @Test
+        @DisplayName("Should queue only on Prefer: respond-async in PREFER_ASYNC mode")
+        void shouldHonourPreferHeader() {
+            OrderIntake intake = intake(OrderAcceptance.PREFER_ASYNC, 10);
+
+            assertThat(intake.isQueued(null)).isFalse();
+            assertThat(intake.isQueued("return=minimal")).isFalse();
+            assertThat(intake.isQueued("respond-async, wait=10")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should ignore the Prefer header in SYNC and ASYNC modes")
+        void shouldIgnorePreferHeaderInFixedModes() {
+            assertThat(intake(OrderAcceptance.SYNC, 10).isQueued("respond-async")).isFalse();
+            assertThat(intake(OrderAcceptance.ASYNC, 10).isQueued(null)).isTrue();
+        }
+    }
+
+    // =========================================================================
+    // PROCESSING
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Queued processing")
+    class Processing {
+
+        @Test
+        @DisplayName("Should place a queued order and complete its ticket with the order")
+        void shouldPlaceQueuedOrder() throws Exception {
+            OrderResponse order = new OrderResponse();
+            order.setId(7L);
+            when(orderService.placeOrder(any(CreateOrderRequest.class))).thenReturn(new OrderResult.Created(order));
+            intake(OrderAcceptance.ASYNC, 10).start();
+
+            OrderTicket pending = orderIntake.submit(request(1L));
+            OrderTicket done = awaitDone(pending);
+
+            assertThat(pending.status()).isEqualTo(OrderTicketStatus.PENDING);
+            assertThat(done.status()).isEqualTo(OrderTicketStatus.CREATED);
+            assertThat(done.order().getId()).isEqualTo(7L);
+            assertThat(done.completedAt()).isNotNull();
+            assertThat(orderIntake.getTicket(pending.token())).isSameAs(done);
+        }
+
+        @Test
+        @DisplayName("Should report stock rejections and business errors as REJECTED")
+        void shouldRejectOnBusinessErrors() throws Exception {
+            when(orderService.placeOrder(any(CreateOrderRequest.class)))
+                    .thenReturn(new OrderResult.Rejected("order.insufficient.stock", "Kopi", 1, 2))
+                    .thenThrow(new ResourceNotFoundException("customer.not.found", 99L));
+            intake(OrderAcceptance.ASYNC, 10).start();
+
+            OrderTicket shortStock = awaitDone(orderIntake.submit(request(1L)));
+            OrderTicket unknownCustomer = awaitDone(orderIntake.submit(request(99L)));
+
+            assertThat(shortStock.status()).isEqualTo(OrderTicketStatus.REJECTED);
+            assertThat(shortStock.errorCode()).isEqualTo("INSUFFICIENT_STOCK");
+            assertThat(shortStock.args()).containsExactly("Kopi", 1, 2);
+            assertThat(unknownCustomer.status()).isEqualTo(OrderTicketStatus.REJECTED);
+            assertThat(unknownCustomer.errorCode()).isEqualTo("RESOURCE_NOT_FOUND");
+            assertThat(unknownCustomer.messageKey()).isEqualTo("customer.not.found");
+        }
+
+        @Test
+        @DisplayName("Should report lock timeouts and unexpected errors as FAILED")
+        void shouldFailOnTransientErrors() throws Exception {
+            when(orderService.placeOrder(any(CreateOrderRequest.class)))
+                    .thenThrow(new StockLockTimeoutException("order.lock.timeout"))
+                    .thenThrow(new IllegalStateException("boom"));
+            intake(OrderAcceptance.ASYNC, 10).start();
+
+            OrderTicket lockTimeout = awaitDone(orderIntake.submit(request(1L)));
+            OrderTicket unexpected = awaitDone(orderIntake.submit(request(1L)));
+
+            assertThat(lockTimeout.status()).isEqualTo(OrderTicketStatus.FAILED);
+            assertThat(lockTimeout.errorCode()).isEqualTo("LOCK_TIMEOUT");
+            assertThat(unexpected.status()).isEqualTo(OrderTicketStatus.FAILED);
+            assertThat(unexpected.messageKey()).isEqualTo("error.unexpected");
+        }
+
+        @Test
+        @DisplayName("Should fail orders still queued when stopped")
+        void shouldFailQueuedOrdersOnStop() throws Exception {
+            CountDownLatch placing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(orderService.placeOrder(any(CreateOrderRequest.class))).thenAnswer(invocation -> {
+                placing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return new OrderResult.Created(new OrderResponse());
+            });
+            intake(OrderAcceptance.ASYNC, 10).start();
+
+            orderIntake.submit(request(1L));
+            assertThat(placing.await(5, TimeUnit.SECONDS)).isTrue();
+            OrderTicket queued = orderIntake.submit(request(2L));
+            release.countDown();
+            orderIntake.stop();
+
+            assertThat(awaitDone(queued).status()).isIn(OrderTicketStatus.CREATED, OrderTicketStatus.FAILED);
+            assertThat(orderIntake.queueDepth()).isZero();
+        }
+    }
+
+    // =========================================================================
+    // QUEUE LIMITS AND TICKETS
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Queue limits and tickets")
+    class Tickets {
+
+        @Test
+        @DisplayName("Should refuse orders once the queue is full")
+        void shouldRefuseWhenFull() {
+            intake(OrderAcceptance.ASYNC, 1);
+            orderIntake.submit(request(1L));
+
+            assertThatThrownBy(() -> orderIntake.submit(request(2L)))
+                    .isInstanceOf(OrderQueueFullException.class);
+            assertThat(orderIntake.queueDepth()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for unknown tokens")
+        void shouldThrowForUnknownToken() {
+            intake(OrderAcceptance.ASYNC, 10);
+
+            assertThatThrownBy(() -> orderIntake.getTicket("00000000-0000-0000-0000-000000000000"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should purge finished tickets past their TTL but keep pending ones")
+        void shouldPurgeOnlyExpiredFinishedTickets() throws Exception {
+            when(orderService.placeOrder(any(CreateOrderRequest.class)))
+                    .thenReturn(new OrderResult.Created(new OrderResponse()));
+            orderIntake = new OrderIntake(orderService, OrderAcceptance.ASYNC, 10, 1, 20,
+                    Duration.ZERO, Duration.ofSeconds(30));
+            orderIntake.start();
+            OrderTicket done = awaitDone(orderIntake.submit(request(1L)));
+            orderIntake.stop();
+            OrderTicket pending = orderIntake.submit(request(2L));
+
+            Thread.sleep(5);
+            orderIntake.purgeExpired();
+
+            assertThatThrownBy(() -> orderIntake.getTicket(done.token()))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThat(orderIntake.getTicket(pending.token()).status()).isEqualTo(OrderTicketStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("Should clamp long-poll waits to the configured maximum")
+        void shouldClampLongPollWait() {
+            intake(OrderAcceptance.ASYNC, 10);
+
+            assertThat(orderIntake.longPollWait(-5)).isEqualTo(Duration.ZERO);
+            assertThat(orderIntake.longPollWait(10)).isEqualTo(Duration.ofSeconds(10));
+            assertThat(orderIntake.longPollWait(600)).isEqualTo(Duration.ofSeconds(30));
+        }
+    }
+}
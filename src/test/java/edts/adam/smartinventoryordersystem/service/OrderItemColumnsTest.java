@@ -0,0 +1,215 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.analytics.response.ItemAggregateResponse;
+import edts.adam.smartinventoryordersystem.enums.ItemGroup;
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderItemColumns Unit Tests")
+class OrderItemColumnsTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Jakarta");
+    private static final LocalDate DAY_ONE = LocalDate.of(2026, 3, 1);
+    private static final LocalDate DAY_TWO = LocalDate.of(2026, 3, 2);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private OrderItemColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                + "category VARCHAR(255) NOT NULL)");
+        jdbc.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, status VARCHAR(255) NOT NULL, "
+                + "created_at TIMESTAMP(6) NOT NULL, total_amount DECIMAL(19,2) NOT NULL, "
+                + "discount_amount DECIMAL(19,2) NOT NULL)");
+        jdbc.execute("CREATE TABLE order_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, order_id BIGINT NOT NULL, "
+                + "product_id BIGINT NOT NULL, quantity INT NOT NULL, price_at_purchase DECIMAL(19,2) NOT NULL)");
+        jdbc.update("INSERT INTO product VALUES (1, 'Nasi Goreng', 'FOOD'), (2, 'Kaos Polos', 'FASHION')");
+
+        // REGULAR: 4 × Nasi Goreng + 1 × Kaos Polos on day one
+        insertOrder(1, OrderStatus.PAID, DAY_ONE, "175000", "0");
+        insertItem(1, 1, 4, "25000");
+        insertItem(1, 2, 1, "75000");
+        // GOLD: 2 × Kaos Polos on day two
+        insertOrder(2, OrderStatus.PAID, DAY_TWO, "150000", "15000");
+        insertItem(2, 2, 2, "75000");
+        // Not paid (yet)
+        insertOrder(3, OrderStatus.CREATED, DAY_TWO, "50000", "0");
+        insertItem(3, 1, 2, "25000");
+        insertOrder(4, OrderStatus.CANCELLED, DAY_TWO, "25000", "0");
+        insertItem(4, 1, 1, "25000");
+
+        columns = new OrderItemColumns(database, ZONE, 2);
+        columns.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private void insertOrder(long id, OrderStatus status, LocalDate day, String total, String discount) {
+        jdbc.update("INSERT INTO orders VALUES (?, ?, ?, ?, ?)", id, status.name(),
+                Timestamp.from(day.atTime(10, 0).atZone(ZONE).toInstant()), new BigDecimal(total),
+                new BigDecimal(discount));
+    }
+
+    private void insertItem(long orderId, long productId, int quantity, String price) {
+        jdbc.update("INSERT INTO order_items (order_id, product_id, quantity, price_at_purchase) VALUES (?, ?, ?, ?)",
+                orderId, productId, quantity, new BigDecimal(price));
+    }
+
+    private ItemAggregateResponse.Group only(ItemAggregateResponse response) {
+        assertThat(response.getGroups()).hasSize(1);
+        return response.getGroups().get(0);
+    }
+
+    // =========================================================================
+    // AGGREGATE
+    // =========================================================================
+
+    @Nested
+    @DisplayName("aggregate()")
+    class Aggregate {
+
+        @Test
+        @DisplayName("Should load only items of paid orders")
+        void shouldLoadPaidItems() {
+            assertThat(columns.size()).isEqualTo(3);
+
+            ItemAggregateResponse.Group total = only(columns.aggregate(null, null, null, null, null, ItemGroup.NONE));
+            assertThat(total.getKey()).isEqualTo("ALL");
+            assertThat(total.getItems()).isEqualTo(3);
+            assertThat(total.getUnitsSold()).isEqualTo(7);
+            assertThat(total.getRevenue()).isEqualByComparingTo("325000");
+        }
+
+        @Test
+        @DisplayName("Should group revenue by category")
+        void shouldGroupByCategory() {
+            ItemAggregateResponse response = columns.aggregate(null, null, null, null, null, ItemGroup.CATEGORY);
+
+            assertThat(response.getRowsScanned()).isEqualTo(3);
+            assertThat(response.getGroups()).extracting(ItemAggregateResponse.Group::getKey)
+                    .containsExactly("FOOD", "FASHION");
+            assertThat(response.getGroups().get(1).getRevenue()).isEqualByComparingTo("225000");
+        }
+
+        @Test
+        @DisplayName("Should combine day, category and membership filters")
+        void shouldFilter() {
+            ItemAggregateResponse.Group fashionDayTwo = only(columns.aggregate(DAY_TWO, DAY_TWO,
+                    ProductCategory.FASHION, null, null, ItemGroup.MEMBERSHIP_LEVEL));
+            assertThat(fashionDayTwo.getKey()).isEqualTo("GOLD");
+            assertThat(fashionDayTwo.getUnitsSold()).isEqualTo(2);
+
+            assertThat(columns.aggregate(DAY_ONE, DAY_TWO, null, MembershipLevel.PLATINUM, null, ItemGroup.NONE)
+                    .getGroups()).isEmpty();
+
+            ItemAggregateResponse byDay = columns.aggregate(null, null, null, null, 2L, ItemGroup.DAY);
+            assertThat(byDay.getGroups()).extracting(ItemAggregateResponse.Group::getKey)
+                    .containsExactly("2026-03-01", "2026-03-02");
+            assertThat(byDay.getRowsMatched()).isEqualTo(2);
+        }
+    }
+
+    // =========================================================================
+    // INCREMENTAL REFRESH
+    // =========================================================================
+
+    @Nested
+    @DisplayName("refresh()")
+    class Refresh {
+
+        @Test
+        @DisplayName("Should pick up new orders and orders paid since the last refresh once")
+        void shouldAppendIncrementally() {
+            jdbc.update("UPDATE orders SET status = 'PAID' WHERE id = 3");
+            columns.recordClosed(3L);
+            insertOrder(5, OrderStatus.PAID, DAY_TWO, "25000", "0");
+            insertItem(5, 1, 1, "25000");
+
+            columns.refresh();
+            columns.refresh();
+
+            assertThat(columns.size()).isEqualTo(5);
+            ItemAggregateResponse.Group food = only(columns.aggregate(null, null, ProductCategory.FOOD, null, null,
+                    ItemGroup.CATEGORY));
+            assertThat(food.getUnitsSold()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Should re-read only open orders reported closed")
+        void shouldRecheckReportedOrdersOnly() {
+            // Paid without a report: stays open; reported but read as paid already: skipped
+            jdbc.update("UPDATE orders SET status = 'PAID' WHERE id = 3");
+            columns.recordClosed(1L);
+            columns.refresh();
+
+            assertThat(columns.size()).isEqualTo(3);
+
+            columns.recordClosed(3L);
+            columns.refresh();
+
+            assertThat(columns.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should pick up an order that committed after its id was skipped")
+        void shouldRecheckGaps() {
+            insertOrder(7, OrderStatus.PAID, DAY_TWO, "25000", "0");
+            insertItem(7, 1, 1, "25000");
+            columns.refresh();
+
+            // Id 6 was handed out first but committed only now
+            insertOrder(6, OrderStatus.PAID, DAY_TWO, "50000", "0");
+            insertItem(6, 1, 2, "25000");
+            columns.refresh();
+
+            assertThat(columns.size()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should spread large histories over several column blocks")
+        void shouldFillSeveralBlocks() {
+            int items = OrderItemColumns.BLOCK_SIZE + 10;
+            insertOrder(5, OrderStatus.PAID, DAY_ONE, "1000", "0");
+            jdbc.update("INSERT INTO order_items (order_id, product_id, quantity, price_at_purchase) "
+                    + "SELECT 5, 1, 1, 10.00 FROM SYSTEM_RANGE(1, ?)", items);
+            columns.refresh();
+            insertOrder(6, OrderStatus.PAID, DAY_ONE, "10", "0");
+            insertItem(6, 1, 1, "10");
+            columns.refresh();
+
+            ItemAggregateResponse.Group total = only(columns.aggregate(DAY_ONE, DAY_ONE, ProductCategory.FOOD,
+                    MembershipLevel.REGULAR, 1L, ItemGroup.PRODUCT));
+            assertThat(total.getKey()).isEqualTo("1");
+            assertThat(total.getItems()).isEqualTo(items + 2L);
+            assertThat(total.getRevenue()).isEqualByComparingTo(
+                    new BigDecimal("100000").add(BigDecimal.TEN.multiply(BigDecimal.valueOf(items + 1L))));
+        }
+    }
+}
@@ -5,10 +5,13 @@ import edts.adam.smartinventoryordersystem.dto.order.request.OrderItemRequest;
 import edts.adam.smartinventoryordersystem.dto.order.response.OrderResponse;
 import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
 import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.StockLockMode;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
 import edts.adam.smartinventoryordersystem.exception.BadRequestException;
 import edts.adam.smartinventoryordersystem.exception.InsufficientStockException;
 import edts.adam.smartinventoryordersystem.exception.InvalidOrderStateException;
 import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.exception.StockLockTimeoutException;
 import edts.adam.smartinventoryordersystem.model.Customer;
 import edts.adam.smartinventoryordersystem.model.Order;
 import edts.adam.smartinventoryordersystem.model.OrderItem;
@@ -25,17 +28,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.PessimisticLockingFailureException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -50,9 +59,36 @@ class OrderServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private CustomerCache customerCache;
+
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private OrderEventStore orderEventStore;
+
+    @Mock
+    private StockJournal stockJournal;
+
+    @Mock
+    private SalesAnalytics salesAnalytics;
+
+    @Mock
+    private OrderItemColumns orderItemColumns;
+
+    @Mock
+    private StockAlertMonitor stockAlertMonitor;
+
+    @Mock
+    private WarehouseAllocator warehouseAllocator;
+
+    @Mock
+    private StockBuckets stockBuckets;
+
+    @Mock
+    private OrderStatusNotifier orderStatusNotifier;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -188,6 +224,76 @@ class OrderServiceTest {
             // Stock should be reduced
             verify(productRepository).save(any(Product.class));
             verify(orderRepository).save(any(Order.class));
+            verify(orderEventStore).recordCreated(savedOrder);
+            verify(stockJournal).record(StockMovementType.ORDER_RESERVE, activeProduct.getId(), 1L, -2,
+                    activeProduct.getStock());
+            verify(stockAlertMonitor).onStockChange(activeProduct, activeProduct.getStock());
+        }
+
+        @Test
+        @DisplayName("Should take warehouse-managed stock from warehouses without saving the product")
+        void shouldAllocateWarehouseManagedProduct() {
+            CreateOrderRequest request = createOrderRequest(1L, 1L, 30);
+            request.setShipToLatitude(-6.2);
+            request.setShipToLongitude(106.8);
+            List<StockAllocation> allocations = List.of(new StockAllocation(10L, 20), new StockAllocation(11L, 10));
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+            when(warehouseAllocator.isManaged(1L)).thenReturn(true);
+            when(warehouseAllocator.available(1L)).thenReturn(40);
+            when(warehouseAllocator.allocate(activeProduct, 30, -6.2, 106.8)).thenReturn(allocations);
+
+            Order savedOrder = buildSavedOrder(1L, regularCustomer, OrderStatus.CREATED,
+                    new BigDecimal("750000"), BigDecimal.ZERO, new BigDecimal("750000.00"),
+                    List.of(new OrderItem(activeProduct, 30, activeProduct.getPrice())));
+            when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
+
+            orderService.createOrder(request);
+
+            assertThat(activeProduct.getStock()).isEqualTo(100);
+            verify(productRepository, never()).save(any(Product.class));
+            verify(warehouseAllocator).saveAllocations(1L, 1L, allocations);
+            verify(stockJournal).record(StockMovementType.ORDER_RESERVE, 1L, 1L, -30, 10);
+            verify(stockAlertMonitor).onStockChange(activeProduct, 10);
+        }
+
+        @Test
+        @DisplayName("Should take striped stock from buckets without saving the product")
+        void shouldTakeStripedProductFromBuckets() {
+            CreateOrderRequest request = createOrderRequest(1L, 1L, 4);
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+            when(stockBuckets.isStriped(1L)).thenReturn(true);
+            when(stockBuckets.available(1L)).thenReturn(64);
+
+            Order savedOrder = buildSavedOrder(1L, regularCustomer, OrderStatus.CREATED,
+                    new BigDecimal("100000"), BigDecimal.ZERO, new BigDecimal("100000.00"),
+                    List.of(new OrderItem(activeProduct, 4, activeProduct.getPrice())));
+            when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
+
+            orderService.createOrder(request);
+
+            verify(stockBuckets).take(activeProduct, 4, 1L);
+            verify(productRepository, never()).save(any(Product.class));
+            verify(stockJournal).record(StockMovementType.ORDER_RESERVE, 1L, 1L, -4, 60);
+        }
+
+        @Test
+        @DisplayName("Should reject using warehouse stock, not the product total")
+        void shouldRejectOnWarehouseStock() {
+            CreateOrderRequest request = createOrderRequest(1L, 1L, 30);
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+            when(warehouseAllocator.isManaged(1L)).thenReturn(true);
+            when(warehouseAllocator.available(1L)).thenReturn(20);
+
+            assertThatThrownBy(() -> orderService.createOrder(request))
+                    .isInstanceOf(InsufficientStockException.class);
+            verify(warehouseAllocator, never()).allocate(any(), anyInt(), any(), any());
+            verify(orderRepository, never()).save(any(Order.class));
         }
 
         @Test
@@ -391,6 +497,84 @@ class OrderServiceTest {
         }
     }
 
+    // placeOrder
+
+
+    @Nested
+    @DisplayName("placeOrder()")
+    class PlaceOrder {
+
+        @Test
+        @DisplayName("Should return Rejected without deducting any stock when one item is short")
+        void shouldRejectWithoutThrowing() {
+            Product secondProduct = new Product();
+            secondProduct.setId(3L);
+            secondProduct.setName("Es Teh");
+            secondProduct.setPrice(new BigDecimal("5000"));
+            secondProduct.setStock(1);
+            secondProduct.setActive(true);
+            CreateOrderRequest request = createOrderRequest(1L, List.of(itemRequest(1L, 5), itemRequest(3L, 2)));
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+            when(productRepository.findById(3L)).thenReturn(Optional.of(secondProduct));
+
+            OrderResult result = orderService.placeOrder(request);
+
+            assertThat(result).isInstanceOf(OrderResult.Rejected.class);
+            assertThat(((OrderResult.Rejected) result).messageKey()).isEqualTo("order.insufficient.stock");
+            assertThat(((OrderResult.Rejected) result).args()).containsExactly("Es Teh", 1, 2);
+            assertThat(activeProduct.getStock()).isEqualTo(100);
+            verify(productRepository, never()).save(any(Product.class));
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("Should throw stackless InsufficientStockException from createOrder")
+        void shouldThrowStacklessException() {
+            CreateOrderRequest request = createOrderRequest(1L, 1L, 999);
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+
+            assertThatThrownBy(() -> orderService.createOrder(request))
+                    .isInstanceOf(InsufficientStockException.class)
+                    .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should discount from the cached customer without a customer query")
+        void shouldUseCachedCustomer() {
+            CreateOrderRequest request = createOrderRequest(2L, 1L, 4);
+
+            when(customerCache.find(2L)).thenReturn(Optional.of(goldCustomer));
+            when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            OrderResult result = orderService.placeOrder(request);
+
+            // 4 × 25000 = 100000, GOLD discount = 10%
+            assertThat(((OrderResult.Created) result).order().getDiscountAmount())
+                    .isEqualByComparingTo(new BigDecimal("10000"));
+            verify(customerRepository, never()).findById(anyLong());
+            verify(customerCache, never()).put(any(Customer.class));
+        }
+
+        @Test
+        @DisplayName("Should cache a customer loaded on a cache miss")
+        void shouldCacheCustomerOnMiss() {
+            CreateOrderRequest request = createOrderRequest(1L, 1L, 1);
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            orderService.placeOrder(request);
+
+            verify(customerCache).put(regularCustomer);
+        }
+    }
+
     // payOrder
 
     @Nested
@@ -419,6 +603,10 @@ class OrderServiceTest {
 
             verify(customerRepository).save(any(Customer.class));
             verify(orderRepository).save(any(Order.class));
+            verify(orderEventStore).recordStatusChange(paidOrder);
+            verify(salesAnalytics).recordPaid(paidOrder);
+            verify(orderItemColumns).recordClosed(paidOrder.getId());
+            verify(orderStatusNotifier).publish(paidOrder.getId(), OrderStatus.PAID);
         }
 
         @Test
@@ -442,6 +630,23 @@ class OrderServiceTest {
             // addSpent should be called, increasing totalSpent
             assertThat(regularCustomer.getTotalSpent()).isEqualByComparingTo(finalAmount);
             verify(customerRepository).save(regularCustomer);
+            verify(customerCache, never()).onMembershipUpgrade(anyLong(), any(MembershipLevel.class));
+        }
+
+        @Test
+        @DisplayName("Should update the cached membership level only when payment upgrades it")
+        void shouldUpdateCachedMembershipOnUpgrade() {
+            BigDecimal finalAmount = new BigDecimal("10000000");
+            Order order = buildSavedOrder(1L, regularCustomer, OrderStatus.CREATED,
+                    finalAmount, BigDecimal.ZERO, finalAmount, new ArrayList<>());
+
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            orderService.payOrder(1L);
+
+            assertThat(regularCustomer.getMembershipLevel()).isEqualTo(MembershipLevel.GOLD);
+            verify(customerCache).onMembershipUpgrade(1L, MembershipLevel.GOLD);
         }
 
         @Test
@@ -529,9 +734,35 @@ class OrderServiceTest {
             // Stock should be restored: 95 + 5 = 100
             assertThat(product.getStock()).isEqualTo(100);
             verify(productRepository).save(product);
+            verify(stockJournal).record(StockMovementType.CANCEL_RESTORE, 1L, 1L, 5, 100);
+            verify(stockAlertMonitor).onStockChange(product, 100);
+            verify(salesAnalytics).recordCancelled(cancelledOrder);
+            verify(orderItemColumns).recordClosed(cancelledOrder.getId());
+            verify(orderStatusNotifier).publish(cancelledOrder.getId(), OrderStatus.CANCELLED);
             verify(orderRepository).save(any(Order.class));
         }
 
+        @Test
+        @DisplayName("Should return warehouse-allocated stock to its warehouses on cancel")
+        void shouldReleaseWarehouseAllocationsOnCancel() {
+            OrderItem item = new OrderItem(activeProduct, 5, new BigDecimal("25000"));
+            Order order = buildSavedOrder(1L, regularCustomer, OrderStatus.CREATED,
+                    new BigDecimal("125000"), BigDecimal.ZERO, new BigDecimal("125000"),
+                    new ArrayList<>(List.of(item)));
+
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+            when(orderRepository.save(any(Order.class))).thenReturn(order);
+            when(warehouseAllocator.release(1L)).thenReturn(Map.of(1L, 5));
+            when(warehouseAllocator.available(1L)).thenReturn(35);
+
+            orderService.cancelOrder(1L);
+
+            assertThat(activeProduct.getStock()).isEqualTo(100);
+            verify(productRepository, never()).save(any(Product.class));
+            verify(stockJournal).record(StockMovementType.CANCEL_RESTORE, 1L, 1L, 5, 40);
+            verify(stockAlertMonitor).onStockChange(activeProduct, 40);
+        }
+
         @Test
         @DisplayName("Should throw ResourceNotFoundException when order not found for cancellation")
         void shouldThrowWhenOrderNotFoundForCancel() {
@@ -574,6 +805,118 @@ class OrderServiceTest {
         }
     }
 
+    // Pessimistic stock locking
+
+    @Nested
+    @DisplayName("StockLockMode.PESSIMISTIC")
+    class PessimisticLocking {
+
+        private OrderService lockingService;
+        private Product secondProduct;
+
+        @BeforeEach
+        void setUp() {
+            lockingService = new OrderService(orderRepository, customerRepository, customerCache, productRepository,
+                    orderEventStore, stockJournal, salesAnalytics, orderItemColumns, stockAlertMonitor, warehouseAllocator,
+                    stockBuckets, orderStatusNotifier, StockLockMode.PESSIMISTIC, Duration.ofSeconds(5));
+
+            secondProduct = new Product();
+            secondProduct.setId(3L);
+            secondProduct.setName("Es Teh");
+            secondProduct.setPrice(new BigDecimal("5000"));
+            secondProduct.setStock(10);
+            secondProduct.setActive(true);
+        }
+
+        @Test
+        @DisplayName("Should lock all product rows in ascending id order with one query")
+        void shouldLockProductRowsInIdOrder() {
+            CreateOrderRequest request = createOrderRequest(1L, List.of(itemRequest(3L, 2), itemRequest(1L, 5)));
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findAllByIdForUpdate(List.of(1L, 3L)))
+                    .thenReturn(List.of(activeProduct, secondProduct));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            lockingService.createOrder(request);
+
+            assertThat(activeProduct.getStock()).isEqualTo(95);
+            assertThat(secondProduct.getStock()).isEqualTo(8);
+            verify(productRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should not lock the rows of warehouse-managed or striped products")
+        void shouldSkipManagedAndStripedProducts() {
+            CreateOrderRequest request = createOrderRequest(1L, List.of(itemRequest(3L, 2), itemRequest(1L, 5)));
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(stockBuckets.isStriped(anyLong())).thenAnswer(invocation -> invocation.getArgument(0).equals(1L));
+            when(stockBuckets.available(1L)).thenReturn(20);
+            when(productRepository.findAllByIdForUpdate(List.of(3L))).thenReturn(List.of(secondProduct));
+            when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            lockingService.createOrder(request);
+
+            verify(stockBuckets).take(activeProduct, 5, 1L);
+            assertThat(secondProduct.getStock()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Should throw StockLockTimeoutException when the row locks time out")
+        void shouldThrowWhenLockTimesOut() {
+            CreateOrderRequest request = createOrderRequest(1L, 1L, 5);
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findAllByIdForUpdate(List.of(1L)))
+                    .thenThrow(new PessimisticLockingFailureException("Lock wait timeout exceeded"));
+
+            assertThatThrownBy(() -> lockingService.createOrder(request))
+                    .isInstanceOf(StockLockTimeoutException.class);
+            verify(orderRepository, never()).save(any(Order.class));
+            verify(productRepository).resetLockWaitTimeout();
+        }
+
+        @Test
+        @DisplayName("Should bound only the locking read by the lock-wait timeout")
+        void shouldScopeLockWaitTimeoutToLockingRead() {
+            CreateOrderRequest request = createOrderRequest(1L, 1L, 5);
+
+            when(customerRepository.findById(1L)).thenReturn(Optional.of(regularCustomer));
+            when(productRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(activeProduct));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            lockingService.createOrder(request);
+
+            var calls = inOrder(productRepository);
+            calls.verify(productRepository).setLockWaitTimeout(5);
+            calls.verify(productRepository).findAllByIdForUpdate(List.of(1L));
+            calls.verify(productRepository).resetLockWaitTimeout();
+        }
+
+        @Test
+        @DisplayName("Should lock the order's product rows before restoring stock on cancel")
+        void shouldLockBeforeRestoringOnCancel() {
+            activeProduct.setStock(95);
+            OrderItem item = new OrderItem(activeProduct, 5, new BigDecimal("25000"));
+            Order order = buildSavedOrder(1L, regularCustomer, OrderStatus.CREATED,
+                    new BigDecimal("125000"), BigDecimal.ZERO, new BigDecimal("125000"),
+                    new ArrayList<>(List.of(item)));
+
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+            when(productRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(activeProduct));
+            when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+            lockingService.cancelOrder(1L);
+
+            assertThat(activeProduct.getStock()).isEqualTo(100);
+            var calls = inOrder(productRepository);
+            calls.verify(productRepository).findAllByIdForUpdate(List.of(1L));
+            calls.verify(productRepository).save(activeProduct);
+        }
+    }
+
     // getOrderById
 
     @Nested
@@ -594,6 +937,22 @@ class OrderServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.getId()).isEqualTo(1L);
             assertThat(response.getStatus()).isEqualTo(OrderStatus.CREATED);
+            assertThat(response.isFromEventLog()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should serve the order from the event log without loading the entity")
+        void shouldReturnOrderFromEventLog() {
+            OrderResponse rebuilt = new OrderResponse();
+            rebuilt.setId(1L);
+            rebuilt.setStatus(OrderStatus.PAID);
+            when(orderEventStore.findOrder(1L)).thenReturn(Optional.of(rebuilt));
+
+            OrderResponse response = orderService.getOrderById(1L);
+
+            assertThat(response).isSameAs(rebuilt);
+            assertThat(response.isFromEventLog()).isTrue();
+            verify(orderRepository, never()).findById(any());
         }
 
         @Test
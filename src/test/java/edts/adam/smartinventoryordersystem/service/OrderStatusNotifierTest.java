@@ -0,0 +1,154 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderStatusNotifier Unit Tests")
+class OrderStatusNotifierTest {
+
+    private OrderStatusNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new OrderStatusNotifier(Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMillis(200), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notifier.close();
+    }
+
+    // =========================================================================
+    // SUBSCRIPTIONS
+    // =========================================================================
+
+    @Nested
+    @DisplayName("subscribe()")
+    class Subscribe {
+
+        @Test
+        @DisplayName("Should deliver transitions only to the order's subscribers")
+        void shouldDeliverToOrderSubscribers() throws Exception {
+            BlockingQueue<OrderStatusChange> first = new LinkedBlockingQueue<>();
+            BlockingQueue<OrderStatusChange> other = new LinkedBlockingQueue<>();
+            notifier.subscribe(1L, first::add);
+            notifier.subscribe(2L, other::add);
+
+            notifier.publish(1L, OrderStatus.PAID);
+
+            OrderStatusChange change = first.poll(5, TimeUnit.SECONDS);
+            assertThat(change).isNotNull();
+            assertThat(change.orderId()).isEqualTo(1L);
+            assertThat(change.status()).isEqualTo(OrderStatus.PAID);
+            assertThat(change.changedAt()).isNotNull();
+            assertThat(other).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should drop the order's entry once its last subscription is cancelled")
+        void shouldCleanUpCancelledSubscriptions() {
+            OrderStatusNotifier.Subscription a = notifier.subscribe(1L, change -> { });
+            OrderStatusNotifier.Subscription b = notifier.subscribe(1L, change -> { });
+            assertThat(notifier.subscriberCount()).isEqualTo(2);
+
+            a.cancel();
+            a.cancel();
+            assertThat(notifier.subscriberCount()).isEqualTo(1);
+
+            b.cancel();
+            assertThat(notifier.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep notifying other subscribers when one listener fails")
+        void shouldIsolateFailingListeners() throws Exception {
+            BlockingQueue<OrderStatusChange> received = new LinkedBlockingQueue<>();
+            notifier.subscribe(1L, change -> {
+                throw new IllegalStateException("client gone");
+            });
+            notifier.subscribe(1L, received::add);
+
+            notifier.publish(1L, OrderStatus.CANCELLED);
+
+            assertThat(received.poll(5, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should not let a blocked subscriber delay the others, and drop it after the send timeout")
+        void shouldIsolateSlowSubscribers() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            BlockingQueue<OrderStatusChange> received = new LinkedBlockingQueue<>();
+            notifier.subscribe(1L, change -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            notifier.subscribe(1L, received::add);
+
+            try {
+                notifier.publish(1L, OrderStatus.PAID);
+
+                assertThat(received.poll(5, TimeUnit.SECONDS)).isNotNull();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (notifier.subscriberCount() > 1 && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertThat(notifier.subscriberCount()).isEqualTo(1);
+            } finally {
+                release.countDown();
+            }
+        }
+    }
+
+    // =========================================================================
+    // LONG-POLL
+    // =========================================================================
+
+    @Nested
+    @DisplayName("nextChange()")
+    class NextChange {
+
+        @Test
+        @DisplayName("Should complete with the next transition and unsubscribe")
+        void shouldCompleteWithNextChange() throws Exception {
+            CompletableFuture<OrderStatusChange> next = notifier.nextChange(1L);
+
+            notifier.publish(1L, OrderStatus.PAID);
+
+            assertThat(next.get(5, TimeUnit.SECONDS).status()).isEqualTo(OrderStatus.PAID);
+            assertThat(notifier.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should unsubscribe when the wait is cancelled")
+        void shouldUnsubscribeOnCancel() {
+            CompletableFuture<OrderStatusChange> next = notifier.nextChange(1L);
+
+            next.cancel(false);
+
+            assertThat(notifier.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should clamp long-poll waits to the configured maximum")
+        void shouldClampLongPollWait() {
+            assertThat(notifier.longPollWait(-1)).isEqualTo(Duration.ZERO);
+            assertThat(notifier.longPollWait(600)).isEqualTo(Duration.ofSeconds(30));
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.config.MessageConfig;
+import edts.adam.smartinventoryordersystem.dto.product.response.ProductImportResponse;
+import edts.adam.smartinventoryordersystem.enums.DataFormat;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+import edts.adam.smartinventoryordersystem.exception.BadRequestException;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.repository.OrderRepository;
+import edts.adam.smartinventoryordersystem.util.MessageUtil;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductImportService Unit Tests")
+class ProductImportServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private DuplicateCheckFilter duplicateCheckFilter;
+
+    @Mock
+    private StockJournal stockJournal;
+
+    @Mock
+    private StockAlertMonitor stockAlertMonitor;
+
+    @Mock
+    private WarehouseAllocator warehouseAllocator;
+
+    @Mock
+    private StockBuckets stockBuckets;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE product (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE, "
+                + "category VARCHAR(255) NOT NULL, price DECIMAL(19,2) NOT NULL, stock INT NOT NULL, reorder_point INT, "
+                + "active BOOLEAN NOT NULL, created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6) NOT NULL)");
+        jdbc.update("INSERT INTO product (name, category, price, stock, active, created_at, updated_at) "
+                + "VALUES ('Nasi Goreng', 'FOOD', 25000.00, 100, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+
+        productImportService = new ProductImportService(database,
+                new DataSourceTransactionManager(database),
+                orderRepository,
+                productSearchIndex,
+                duplicateCheckFilter,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build(),
+                new MessageUtil(messageSource, new MessageConfig().localeResolver()),
+                stockJournal,
+                stockAlertMonitor,
+                warehouseAllocator,
+                stockBuckets,
+                2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private ProductImportResponse importCsv(String body) {
+        return productImportService.importProducts(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), DataFormat.CSV);
+    }
+
+    private BigDecimal priceOf(String name) {
+        return jdbc.queryForObject("SELECT price FROM product WHERE name = ?", BigDecimal.class, name);
+    }
+
+    // =========================================================================
+    // CSV
+    // =========================================================================
+
+    @Nested
+    @DisplayName("CSV import")
+    class CsvImport {
+
+        @Test
+        @DisplayName("Should insert new rows and update existing names across chunks")
+        void shouldInsertAndUpdate() {
+            ProductImportResponse response = importCsv("""
+                    name,category,price,stock
+                    Nasi Goreng,FOOD,30000,80
+                    Mie Goreng,FOOD,20000,50
+                    "Kaos Polos, Hitam",fashion,75000,10
+                    """);
+
+            assertThat(response.getTotalRows()).isEqualTo(3);
+            assertThat(response.getCreated()).isEqualTo(2);
+            assertThat(response.getUpdated()).isEqualTo(1);
+            assertThat(response.getFailed()).isZero();
+            assertThat(priceOf("Nasi Goreng")).isEqualByComparingTo("30000");
+            assertThat(priceOf("Kaos Polos, Hitam")).isEqualByComparingTo("75000");
+            verify(productSearchIndex, atLeastOnce()).index(any(Product.class));
+            verify(stockJournal).record(StockMovementType.IMPORT, 1L, null, -20, 80);
+            verify(stockAlertMonitor, times(3)).onStockChange(any(Product.class));
+        }
+
+        @Test
+        @DisplayName("Should report invalid, FOOD-capped, malformed and duplicate rows without aborting")
+        void shouldReportRowErrors() {
+            ProductImportResponse response = importCsv("""
+                    name,category,price,stock
+                    Burger,FOOD,2000000,5
+                    Laptop,UNKNOWN,100,5
+                    ,FOOD,100,5
+                    Sate,FOOD,15000,5
+                    sate,FOOD,15000,5
+                    """);
+
+            assertThat(response.getCreated()).isEqualTo(1);
+            assertThat(response.getFailed()).isEqualTo(4);
+            assertThat(response.getErrors()).extracting(ProductImportResponse.RowError::getRow)
+                    .containsExactly(1L, 2L, 3L, 5L);
+            assertThat(response.getErrors().get(0).getMessage()).contains("1,000,000");
+            assertThat(response.getErrors().get(3).getMessage()).contains("row 4");
+        }
+
+        @Test
+        @DisplayName("Should reject price change for products with PAID orders")
+        void shouldRejectPriceChangeWithPaidOrders() {
+            when(orderRepository.findProductIdsWithOrderStatus(anyCollection(), eq(OrderStatus.PAID)))
+                    .thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+            ProductImportResponse response = importCsv("""
+                    name,category,price,stock
+                    Nasi Goreng,FOOD,30000,80
+                    """);
+
+            assertThat(response.getUpdated()).isZero();
+            assertThat(response.getFailed()).isEqualTo(1);
+            assertThat(priceOf("Nasi Goreng")).isEqualByComparingTo("25000");
+        }
+
+        @Test
+        @DisplayName("Should reject stock change for warehouse-managed products")
+        void shouldRejectStockChangeForWarehouseManagedProduct() {
+            when(warehouseAllocator.isManaged(1L)).thenReturn(true);
+
+            ProductImportResponse response = importCsv("""
+                    name,category,price,stock
+                    Nasi Goreng,FOOD,30000,80
+                    """);
+
+            assertThat(response.getUpdated()).isZero();
+            assertThat(response.getFailed()).isEqualTo(1);
+            assertThat(response.getErrors().get(0).getMessage()).contains("per warehouse");
+            assertThat(priceOf("Nasi Goreng")).isEqualByComparingTo("25000");
+        }
+
+        @Test
+        @DisplayName("Should throw BadRequestException when header is missing a column")
+        void shouldRejectInvalidHeader() {
+            assertThatThrownBy(() -> importCsv("name,category,price\nTea,FOOD,100\n"))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    // =========================================================================
+    // NDJSON
+    // =========================================================================
+
+    @Nested
+    @DisplayName("NDJSON import")
+    class NdjsonImport {
+
+        @Test
+        @DisplayName("Should import one JSON object per line")
+        void shouldImportJsonLines() {
+            String body = """
+                    {"name":"Teh Manis","category":"FOOD","price":8000,"stock":40}
+                    {"name":"Kopi Susu","category":"FOOD","price":18000,"stock":30}
+                    not json
+                    """;
+
+            ProductImportResponse response = productImportService.importProducts(
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), DataFormat.NDJSON);
+
+            assertThat(response.getCreated()).isEqualTo(2);
+            assertThat(response.getFailed()).isEqualTo(1);
+            assertThat(priceOf("Kopi Susu")).isEqualByComparingTo("18000");
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.PriceRange;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSearchIndex Unit Tests")
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex.index(product(1L, "Nasi Goreng Spesial", ProductCategory.FOOD, "25000"));
+        productSearchIndex.index(product(2L, "Mie Goreng", ProductCategory.FOOD, "20000"));
+        productSearchIndex.index(product(3L, "Gaming Laptop", ProductCategory.ELECTRONICS, "15000000"));
+        productSearchIndex.index(product(4L, "Laptop Sleeve", ProductCategory.FASHION, "150000"));
+    }
+
+    private Product product(Long id, String name, ProductCategory category, String price) {
+        Product product = new Product(name, category, new BigDecimal(price), 10);
+        product.setId(id);
+        return product;
+    }
+
+    // =========================================================================
+    // search
+    // =========================================================================
+
+    @Nested
+    @DisplayName("search()")
+    class Search {
+
+        @Test
+        @DisplayName("Should match all terms, treating the last as a prefix")
+        void shouldMatchTermsWithPrefix() {
+            ProductSearchIndex.SearchResult result = productSearchIndex.search("goreng sp", null, null, null, 10);
+
+            assertThat(result.ids()).containsExactly(1L);
+            assertThat(result.totalHits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should return all products for blank query, ordered by id")
+        void shouldReturnAllForBlankQuery() {
+            ProductSearchIndex.SearchResult result = productSearchIndex.search("  ", null, null, null, 10);
+
+            assertThat(result.ids()).containsExactly(1L, 2L, 3L, 4L);
+        }
+
+        @Test
+        @DisplayName("Should limit results but count all hits")
+        void shouldLimitResults() {
+            ProductSearchIndex.SearchResult result = productSearchIndex.search(null, null, null, null, 2);
+
+            assertThat(result.ids()).containsExactly(1L, 2L);
+            assertThat(result.totalHits()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should filter by category and compute facets against the other filter")
+        void shouldFilterByCategoryWithFacets() {
+            ProductSearchIndex.SearchResult result = productSearchIndex.search("laptop", ProductCategory.FASHION,
+                    null, null, 10);
+
+            assertThat(result.ids()).containsExactly(4L);
+            assertThat(result.categoryFacets())
+                    .containsEntry(ProductCategory.ELECTRONICS, 1L)
+                    .containsEntry(ProductCategory.FASHION, 1L);
+            assertThat(result.priceFacets()).containsOnlyKeys(PriceRange.FROM_100K_TO_500K);
+        }
+
+        @Test
+        @DisplayName("Should filter by inclusive price range")
+        void shouldFilterByPriceRange() {
+            ProductSearchIndex.SearchResult result = productSearchIndex.search(null, null,
+                    new BigDecimal("20000"), new BigDecimal("150000"), 10);
+
+            assertThat(result.ids()).containsExactly(1L, 2L, 4L);
+        }
+
+        @Test
+        @DisplayName("Should take whole buckets inside the price range and check the bucket it cuts through")
+        void shouldCombineWholeAndPartialBuckets() {
+            productSearchIndex.index(product(5L, "Office Chair", ProductCategory.ELECTRONICS, "1000000"));
+            productSearchIndex.index(product(6L, "Standing Desk", ProductCategory.ELECTRONICS, "2000000"));
+
+            ProductSearchIndex.SearchResult result = productSearchIndex.search(null, null,
+                    new BigDecimal("100000"), new BigDecimal("1000000"), 10);
+
+            assertThat(result.ids()).containsExactly(4L, 5L);
+            assertThat(result.categoryFacets())
+                    .containsOnly(entry(ProductCategory.FASHION, 1L), entry(ProductCategory.ELECTRONICS, 1L));
+            assertThat(result.priceFacets()).containsEntry(PriceRange.FROM_1M_TO_5M, 2L);
+        }
+    }
+
+    // =========================================================================
+    // index
+    // =========================================================================
+
+    @Nested
+    @DisplayName("index()")
+    class Index {
+
+        @Test
+        @DisplayName("Should replace terms when a product is renamed")
+        void shouldReplaceTermsOnRename() {
+            productSearchIndex.index(product(2L, "Kwetiau Goreng", ProductCategory.FOOD, "20000"));
+
+            assertThat(productSearchIndex.search("mie", null, null, null, 10).ids()).isEmpty();
+            assertThat(productSearchIndex.search("kwetiau", null, null, null, 10).ids()).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("Should remove inactive products")
+        void shouldRemoveInactiveProducts() {
+            Product deactivated = product(3L, "Gaming Laptop", ProductCategory.ELECTRONICS, "15000000");
+            deactivated.setActive(false);
+
+            productSearchIndex.index(deactivated);
+
+            assertThat(productSearchIndex.search("laptop", null, null, null, 10).ids()).containsExactly(4L);
+            assertThat(productSearchIndex.size()).isEqualTo(3);
+        }
+    }
+
+    // =========================================================================
+    // rebuild
+    // =========================================================================
+
+    @Nested
+    @DisplayName("rebuild()")
+    class Rebuild {
+
+        @Test
+        @DisplayName("Should load active products in keyset batches")
+        void shouldLoadInBatches() {
+            Product first = product(10L, "Kopi Susu", ProductCategory.FOOD, "18000");
+            Product second = product(11L, "Teh Manis", ProductCategory.FOOD, "8000");
+
+            when(productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(first), Pageable.ofSize(1), true));
+            when(productRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(second), Pageable.ofSize(1), false));
+
+            productSearchIndex.rebuild();
+
+            assertThat(productSearchIndex.search("teh", null, null, null, 10).ids()).containsExactly(11L);
+            assertThat(productSearchIndex.size()).isEqualTo(6);
+        }
+    }
+}
@@ -5,12 +5,14 @@ import edts.adam.smartinventoryordersystem.dto.product.request.UpdateProductRequ
 import edts.adam.smartinventoryordersystem.dto.product.response.ProductResponse;
 import edts.adam.smartinventoryordersystem.enums.OrderStatus;
 import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
 import edts.adam.smartinventoryordersystem.exception.BadRequestException;
 import edts.adam.smartinventoryordersystem.exception.DuplicateResourceException;
 import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
 import edts.adam.smartinventoryordersystem.model.Product;
 import edts.adam.smartinventoryordersystem.repository.OrderRepository;
 import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import edts.adam.smartinventoryordersystem.repository.ProductVersionView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,12 +29,17 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,6 +54,24 @@ class ProductServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private DuplicateCheckFilter duplicateCheckFilter;
+
+    @Mock
+    private StockJournal stockJournal;
+
+    @Mock
+    private StockAlertMonitor stockAlertMonitor;
+
+    @Mock
+    private WarehouseAllocator warehouseAllocator;
+
+    @Mock
+    private StockBuckets stockBuckets;
+
     @InjectMocks
     private ProductService productService;
 
@@ -54,6 +79,8 @@ class ProductServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(duplicateCheckFilter.mightContainProductName(anyString())).thenReturn(true);
+
         sampleProduct = new Product();
         sampleProduct.setId(1L);
         sampleProduct.setName("Nasi Goreng");
@@ -120,6 +147,21 @@ class ProductServiceTest {
             verify(productRepository, never()).save(any(Product.class));
         }
 
+        @Test
+        @DisplayName("Should skip name query when duplicate-check filter rules the name out")
+        void shouldSkipNameQueryWhenFilterNegative() {
+            CreateProductRequest request = createRequest("Nasi Goreng", ProductCategory.FOOD,
+                    new BigDecimal("25000"), 100);
+
+            when(duplicateCheckFilter.mightContainProductName("Nasi Goreng")).thenReturn(false);
+            when(productRepository.save(any(Product.class))).thenReturn(sampleProduct);
+
+            productService.createProduct(request);
+
+            verify(productRepository, never()).existsByName(anyString());
+            verify(duplicateCheckFilter).addProductName("Nasi Goreng");
+        }
+
         @Test
         @DisplayName("Should throw BadRequestException when FOOD price exceeds 1.000.000")
         void shouldThrowWhenFoodPriceExceedsLimit() {
@@ -229,6 +271,36 @@ class ProductServiceTest {
             assertThat(response.getName()).isEqualTo("Nasi Goreng Updated");
             assertThat(response.getPrice()).isEqualByComparingTo(new BigDecimal("30000"));
             verify(productRepository).save(any(Product.class));
+            verify(stockJournal, never()).record(any(), any(), any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should journal the stock difference as a manual adjustment")
+        void shouldJournalStockAdjustment() {
+            UpdateProductRequest request = createUpdateRequest("Nasi Goreng",
+                    ProductCategory.FOOD, new BigDecimal("25000"), 130, true);
+
+            when(productRepository.findById(1L)).thenReturn(Optional.of(sampleProduct));
+            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            productService.updateProduct(1L, request);
+
+            verify(stockJournal).record(StockMovementType.MANUAL_ADJUST, 1L, null, 30, 130);
+            verify(stockAlertMonitor).onStockChange(sampleProduct);
+        }
+
+        @Test
+        @DisplayName("Should throw BadRequestException when changing stock of a warehouse-managed product")
+        void shouldRejectStockChangeForWarehouseManagedProduct() {
+            UpdateProductRequest request = createUpdateRequest("Nasi Goreng",
+                    ProductCategory.FOOD, new BigDecimal("25000"), 130, true);
+
+            when(productRepository.findById(1L)).thenReturn(Optional.of(sampleProduct));
+            when(warehouseAllocator.isManaged(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> productService.updateProduct(1L, request))
+                    .isInstanceOf(BadRequestException.class);
+            verify(productRepository, never()).save(any(Product.class));
         }
 
         @Test
@@ -424,6 +496,19 @@ class ProductServiceTest {
             verify(productRepository).findByActiveTrue(pageable);
         }
 
+        @Test
+        @DisplayName("Should report the current bucket total for striped products")
+        void shouldReportBucketTotalForStripedProducts() {
+            Pageable pageable = PageRequest.of(0, 10);
+            when(productRepository.findByActiveTrue(pageable))
+                    .thenReturn(new PageImpl<>(List.of(sampleProduct), pageable, 1));
+            when(stockBuckets.totals(List.of(1L))).thenReturn(Map.of(1L, 42));
+
+            Page<ProductResponse> result = productService.getAllProducts(pageable);
+
+            assertThat(result.getContent().get(0).getStock()).isEqualTo(42);
+        }
+
         @Test
         @DisplayName("Should return empty page when no products")
         void shouldReturnEmptyPage() {
@@ -469,6 +554,49 @@ class ProductServiceTest {
         }
     }
 
+    // =========================================================================
+    // getProductVersion
+    // =========================================================================
+
+    @Nested
+    @DisplayName("getProductVersion()")
+    class GetProductVersion {
+
+        private ProductVersionView view(Instant updatedAt, int stock) {
+            ProductVersionView view = mock(ProductVersionView.class);
+            when(view.getUpdatedAt()).thenReturn(updatedAt);
+            lenient().when(view.getStock()).thenReturn(stock);
+            return view;
+        }
+
+        @Test
+        @DisplayName("Should version a product by its row")
+        void shouldUseRowVersion() {
+            Instant updatedAt = Instant.parse("2026-03-01T08:15:30Z");
+            ProductVersionView view = view(updatedAt, 50);
+            when(productRepository.findVersionById(1L)).thenReturn(Optional.of(view));
+
+            ProductVersion version = productService.getProductVersion(1L).orElseThrow();
+
+            assertThat(version.stock()).isEqualTo(50);
+            assertThat(version.lastModified()).isEqualTo(updatedAt);
+        }
+
+        @Test
+        @DisplayName("Should version a striped product by its live bucket total, without Last-Modified")
+        void shouldUseBucketTotalForStripedProduct() {
+            ProductVersionView view = view(Instant.parse("2026-03-01T08:15:30Z"), 50);
+            when(productRepository.findVersionById(1L)).thenReturn(Optional.of(view));
+            when(stockBuckets.isStriped(1L)).thenReturn(true);
+            when(stockBuckets.available(1L)).thenReturn(42);
+
+            ProductVersion version = productService.getProductVersion(1L).orElseThrow();
+
+            assertThat(version.stock()).isEqualTo(42);
+            assertThat(version.lastModified()).isNull();
+        }
+    }
+
     // =========================================================================
     // deleteProduct (soft delete)
     // =========================================================================
@@ -514,6 +642,34 @@ class ProductServiceTest {
             verify(productRepository, never()).save(any(Product.class));
         }
 
+        @Test
+        @DisplayName("Should check the live bucket total of a striped product")
+        void shouldThrowWhenBucketsHoldStock() {
+            sampleProduct.setStock(0);
+            when(productRepository.findById(1L)).thenReturn(Optional.of(sampleProduct));
+            when(stockBuckets.isStriped(1L)).thenReturn(true);
+            when(stockBuckets.available(1L)).thenReturn(5);
+
+            assertThatThrownBy(() -> productService.deleteProduct(1L))
+                    .isInstanceOf(BadRequestException.class);
+
+            verify(productRepository, never()).save(any(Product.class));
+        }
+
+        @Test
+        @DisplayName("Should check the warehouse total of a warehouse-managed product")
+        void shouldThrowWhenWarehousesHoldStock() {
+            sampleProduct.setStock(0);
+            when(productRepository.findById(1L)).thenReturn(Optional.of(sampleProduct));
+            when(warehouseAllocator.isManaged(1L)).thenReturn(true);
+            when(warehouseAllocator.available(1L)).thenReturn(3);
+
+            assertThatThrownBy(() -> productService.deleteProduct(1L))
+                    .isInstanceOf(BadRequestException.class);
+
+            verify(productRepository, never()).save(any(Product.class));
+        }
+
         @Test
         @DisplayName("Should throw ResourceNotFoundException when product not found")
         void shouldThrowWhenProductNotFoundForDelete() {
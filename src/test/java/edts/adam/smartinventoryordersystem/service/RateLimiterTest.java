@@ -0,0 +1,166 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.config.RateLimitProperties;
+import edts.adam.smartinventoryordersystem.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("RateLimiter Unit Tests")
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // ==================== TOKEN BUCKET ====================
+
+    @Nested
+    @DisplayName("TokenBucket")
+    class Bucket {
+
+        @Test
+        @DisplayName("Should admit a full burst, then refuse with the wait for the next token")
+        void shouldAdmitBurstThenRefuse() {
+            TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+            assertThat(bucket.tryAcquire(0)).isZero();
+            assertThat(bucket.tryAcquire(0)).isZero();
+            assertThat(bucket.tryAcquire(0)).isZero();
+            assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+            assertThat(bucket.rejections()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should refill at the configured rate up to capacity")
+        void shouldRefill() {
+            TokenBucket bucket = new TokenBucket(2, 2, 0);
+            bucket.tryAcquire(0);
+            bucket.tryAcquire(0);
+
+            assertThat(bucket.tryAcquire(SECOND / 2)).isZero();
+            assertThat(bucket.tryAcquire(SECOND / 2)).isPositive();
+            assertThat(bucket.isFull(SECOND / 2)).isFalse();
+            assertThat(bucket.isFull(3 * SECOND / 2)).isTrue();
+
+            // Idle time beyond a full bucket does not bank extra tokens
+            long later = 10 * SECOND;
+            assertThat(bucket.tryAcquire(later)).isZero();
+            assertThat(bucket.tryAcquire(later)).isZero();
+            assertThat(bucket.tryAcquire(later)).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should admit exactly capacity requests under concurrent callers")
+        void shouldNotOverAdmitConcurrently() throws Exception {
+            TokenBucket bucket = new TokenBucket(1000, 0.001, 0);
+            AtomicInteger admitted = new AtomicInteger();
+            Thread[] threads = new Thread[8];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertThat(admitted.get()).isEqualTo(1000);
+            assertThat(bucket.rejections()).isEqualTo(3000);
+        }
+    }
+
+    // ==================== KEYED LIMITS ====================
+
+    @Nested
+    @DisplayName("Keyed limits")
+    class Keyed {
+
+        private SimpleMeterRegistry meterRegistry;
+        private RateLimiter rateLimiter;
+
+        @BeforeEach
+        void setUp() {
+            meterRegistry = new SimpleMeterRegistry();
+            rateLimiter = new RateLimiter(new RateLimitProperties(true,
+                    new RateLimitProperties.Limit(2, 0.001),
+                    List.of(new RateLimitProperties.EndpointLimit("POST /orders", 1, 0.001),
+                            new RateLimitProperties.EndpointLimit("*", 3, 0.001))),
+                    meterRegistry);
+        }
+
+        @Test
+        @DisplayName("Should limit each customer separately and report Retry-After in seconds")
+        void shouldLimitPerCustomer() {
+            rateLimiter.checkCustomer(1L);
+            rateLimiter.checkCustomer(1L);
+
+            assertThatThrownBy(() -> rateLimiter.checkCustomer(1L))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfterSeconds())
+                            .isGreaterThan(1));
+            assertThatCode(() -> rateLimiter.checkCustomer(2L)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Should apply the endpoint's own IP limit, else the '*' limit")
+        void shouldResolveEndpointLimit() {
+            rateLimiter.checkIp("POST /orders", "10.0.0.1");
+            assertThatThrownBy(() -> rateLimiter.checkIp("POST /orders", "10.0.0.1"))
+                    .isInstanceOf(RateLimitExceededException.class);
+
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.checkIp("GET /products", "10.0.0.1");
+            }
+            assertThatThrownBy(() -> rateLimiter.checkIp("GET /products", "10.0.0.1"))
+                    .isInstanceOf(RateLimitExceededException.class);
+            assertThatCode(() -> rateLimiter.checkIp("GET /products", "10.0.0.2")).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Should count rejections per limit in the meter and per key in the top list")
+        void shouldReportRejections() {
+            rateLimiter.checkIp("POST /orders", "10.0.0.1");
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> rateLimiter.checkIp("POST /orders", "10.0.0.1"))
+                        .isInstanceOf(RateLimitExceededException.class);
+            }
+            rateLimiter.checkCustomer(7L);
+            rateLimiter.checkCustomer(7L);
+            assertThatThrownBy(() -> rateLimiter.checkCustomer(7L)).isInstanceOf(RateLimitExceededException.class);
+
+            assertThat(meterRegistry.get(RateLimiter.REJECTIONS_METER).tag("limit", "ip").counter().count())
+                    .isEqualTo(3);
+            assertThat(rateLimiter.topRejectedKeys(10)).containsExactly(
+                    entry("ip:10.0.0.1 POST /orders", 3L),
+                    entry("customer:7", 1L));
+        }
+
+        @Test
+        @DisplayName("Should not limit anything when disabled")
+        void shouldPassWhenDisabled() {
+            RateLimiter disabled = new RateLimiter(new RateLimitProperties(false,
+                    new RateLimitProperties.Limit(1, 0.001), List.of()), meterRegistry);
+
+            assertThatCode(() -> {
+                for (int i = 0; i < 10; i++) {
+                    disabled.checkCustomer(1L);
+                }
+            }).doesNotThrowAnyException();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.analytics.response.AnalyticsBackfillResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.CategoryRevenueResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.DailyRevenueResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.MembershipDiscountResponse;
+import edts.adam.smartinventoryordersystem.dto.analytics.response.TopProductResponse;
+import edts.adam.smartinventoryordersystem.enums.MembershipLevel;
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.enums.SalesMetric;
+import edts.adam.smartinventoryordersystem.model.Customer;
+import edts.adam.smartinventoryordersystem.model.Order;
+import edts.adam.smartinventoryordersystem.model.OrderItem;
+import edts.adam.smartinventoryordersystem.model.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SalesAnalytics Unit Tests")
+class SalesAnalyticsTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Jakarta");
+    private static final LocalDate DAY_ONE = LocalDate.of(2026, 3, 1);
+    private static final LocalDate DAY_TWO = LocalDate.of(2026, 3, 2);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private SalesAnalytics analytics;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                + "category VARCHAR(255) NOT NULL)");
+        jdbc.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, status VARCHAR(255) NOT NULL, "
+                + "created_at TIMESTAMP(6) NOT NULL, total_amount DECIMAL(19,2) NOT NULL, "
+                + "discount_amount DECIMAL(19,2) NOT NULL, final_amount DECIMAL(19,2) NOT NULL)");
+        jdbc.execute("CREATE TABLE order_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, order_id BIGINT NOT NULL, "
+                + "product_id BIGINT NOT NULL, quantity INT NOT NULL, price_at_purchase DECIMAL(19,2) NOT NULL)");
+        jdbc.update("INSERT INTO product VALUES (1, 'Nasi Goreng', 'FOOD'), (2, 'Kaos Polos', 'FASHION')");
+
+        // Day one: REGULAR order of 4 × Nasi Goreng, GOLD order of 2 × Kaos Polos
+        insertOrder(1, OrderStatus.PAID, DAY_ONE, "100000", "0");
+        insertItem(1, 1, 4, "25000");
+        insertOrder(2, OrderStatus.PAID, DAY_ONE, "150000", "15000");
+        insertItem(2, 2, 2, "75000");
+        // Day two: a cancelled and an unpaid order, neither counts as revenue
+        insertOrder(3, OrderStatus.CANCELLED, DAY_TWO, "50000", "0");
+        insertItem(3, 1, 2, "25000");
+        insertOrder(4, OrderStatus.CREATED, DAY_TWO, "25000", "0");
+        insertItem(4, 1, 1, "25000");
+        // Day two: PLATINUM order above 5,000,000 (20% + 5% extra)
+        insertOrder(5, OrderStatus.PAID, DAY_TWO, "6000000", "1500000");
+        insertItem(5, 2, 80, "75000");
+
+        analytics = new SalesAnalytics(database, ZONE, 3, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private void insertOrder(long id, OrderStatus status, LocalDate day, String total, String discount) {
+        BigDecimal totalAmount = new BigDecimal(total);
+        BigDecimal discountAmount = new BigDecimal(discount);
+        jdbc.update("INSERT INTO orders VALUES (?, ?, ?, ?, ?, ?)", id, status.name(),
+                Timestamp.from(day.atTime(10, 0).atZone(ZONE).toInstant()), totalAmount, discountAmount,
+                totalAmount.subtract(discountAmount));
+    }
+
+    private void insertItem(long orderId, long productId, int quantity, String price) {
+        jdbc.update("INSERT INTO order_items (order_id, product_id, quantity, price_at_purchase) VALUES (?, ?, ?, ?)",
+                orderId, productId, quantity, new BigDecimal(price));
+    }
+
+    private static Order paidOrder(long id, Product product, int quantity) {
+        Order order = new Order(new Customer());
+        order.setId(id);
+        order.addOrderItem(new OrderItem(product, quantity, product.getPrice()));
+        BigDecimal total = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+        order.setTotalAmount(total);
+        order.setDiscountAmount(BigDecimal.ZERO);
+        order.setFinalAmount(total);
+        order.setStatus(OrderStatus.PAID);
+        order.setCreatedAt(DAY_TWO.atTime(12, 0).atZone(ZONE).toInstant());
+        return order;
+    }
+
+    private static Product nasiGoreng() {
+        Product product = new Product("Nasi Goreng", ProductCategory.FOOD, new BigDecimal("25000"), 100);
+        product.setId(1L);
+        return product;
+    }
+
+    // =========================================================================
+    // BACKFILL
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Backfill")
+    class Backfill {
+
+        @Test
+        @DisplayName("Should aggregate paid and cancelled orders across parallel chunks")
+        void shouldBackfillHistory() {
+            AnalyticsBackfillResponse report = analytics.backfill();
+
+            assertThat(report.getOrders()).isEqualTo(4);
+            assertThat(report.getChunks()).isEqualTo(3);
+
+            List<DailyRevenueResponse> days = analytics.getDailyRevenue(DAY_ONE, DAY_TWO.plusDays(1));
+            assertThat(days).hasSize(3);
+            assertThat(days.get(0).getPaidOrders()).isEqualTo(2);
+            assertThat(days.get(0).getGrossRevenue()).isEqualByComparingTo("250000");
+            assertThat(days.get(0).getDiscountAmount()).isEqualByComparingTo("15000");
+            assertThat(days.get(0).getNetRevenue()).isEqualByComparingTo("235000");
+            assertThat(days.get(1).getPaidOrders()).isEqualTo(1);
+            assertThat(days.get(1).getCancelledOrders()).isEqualTo(1);
+            assertThat(days.get(2).getPaidOrders()).isZero();
+            assertThat(days.get(2).getNetRevenue()).isEqualByComparingTo("0");
+        }
+
+        @Test
+        @DisplayName("Should report category revenue, top products and membership discounts")
+        void shouldServeReports() {
+            analytics.backfill();
+
+            assertThat(analytics.getCategoryRevenue())
+                    .filteredOn(category -> category.getCategory() == ProductCategory.FASHION)
+                    .singleElement()
+                    .satisfies(category -> {
+                        assertThat(category.getUnitsSold()).isEqualTo(82);
+                        assertThat(category.getRevenue()).isEqualByComparingTo("6150000");
+                    });
+
+            List<TopProductResponse> byUnits = analytics.getTopProducts(SalesMetric.UNITS, 1);
+            assertThat(byUnits).extracting(TopProductResponse::getName).containsExactly("Kaos Polos");
+
+            List<MembershipDiscountResponse> discounts = analytics.getMembershipDiscounts();
+            assertThat(discounts).extracting(MembershipDiscountResponse::getPaidOrders).containsExactly(1L, 1L, 1L);
+            assertThat(discounts.get(1).getAverageDiscountRate()).isEqualByComparingTo("0.10");
+            assertThat(discounts.get(2).getAverageDiscount()).isEqualByComparingTo("1500000");
+        }
+
+        @Test
+        @DisplayName("Should replace previous rollups instead of adding to them")
+        void shouldBeRepeatable() {
+            analytics.backfill();
+            analytics.backfill();
+
+            assertThat(analytics.getDailyRevenue(DAY_ONE, DAY_ONE).get(0).getPaidOrders()).isEqualTo(2);
+        }
+    }
+
+    // =========================================================================
+    // INCREMENTAL UPDATES
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Incremental updates")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("Should add a paid order without touching the database")
+        void shouldRecordPaidOrder() {
+            analytics.backfill();
+            database.shutdown();
+
+            analytics.recordPaid(paidOrder(6L, nasiGoreng(), 3));
+
+            DailyRevenueResponse day = analytics.getDailyRevenue(DAY_TWO, DAY_TWO).get(0);
+            assertThat(day.getPaidOrders()).isEqualTo(2);
+            assertThat(day.getGrossRevenue()).isEqualByComparingTo("6075000");
+            assertThat(analytics.getTopProducts(SalesMetric.UNITS, 2))
+                    .extracting(TopProductResponse::getUnitsSold).containsExactly(82L, 7L);
+        }
+
+        @Test
+        @DisplayName("Should count a cancelled order for its day")
+        void shouldRecordCancelledOrder() {
+            Order order = paidOrder(7L, nasiGoreng(), 1);
+            order.setStatus(OrderStatus.CANCELLED);
+
+            analytics.recordCancelled(order);
+
+            DailyRevenueResponse day = analytics.getDailyRevenue(DAY_TWO, DAY_TWO).get(0);
+            assertThat(day.getCancelledOrders()).isEqualTo(1);
+            assertThat(day.getGrossRevenue()).isEqualByComparingTo("0");
+            assertThat(analytics.getCategoryRevenue())
+                    .extracting(CategoryRevenueResponse::getUnitsSold).containsOnly(0L);
+        }
+    }
+
+    // =========================================================================
+    // PRICED MEMBERSHIP LEVEL
+    // =========================================================================
+
+    @Nested
+    @DisplayName("pricedLevel()")
+    class PricedLevel {
+
+        @Test
+        @DisplayName("Should recover the membership level from the discount rate")
+        void shouldRecoverLevel() {
+            assertThat(SalesAnalytics.pricedLevel(new BigDecimal("100000"), BigDecimal.ZERO))
+                    .isEqualTo(MembershipLevel.REGULAR);
+            assertThat(SalesAnalytics.pricedLevel(new BigDecimal("33333.33"), new BigDecimal("3333.33")))
+                    .isEqualTo(MembershipLevel.GOLD);
+            assertThat(SalesAnalytics.pricedLevel(new BigDecimal("6000000"), new BigDecimal("300000")))
+                    .isEqualTo(MembershipLevel.REGULAR);
+            assertThat(SalesAnalytics.pricedLevel(new BigDecimal("6000000"), new BigDecimal("1500000")))
+                    .isEqualTo(MembershipLevel.PLATINUM);
+            assertThat(SalesAnalytics.pricedLevel(BigDecimal.ZERO, BigDecimal.ZERO))
+                    .isEqualTo(MembershipLevel.REGULAR);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.ProductCategory;
+import edts.adam.smartinventoryordersystem.enums.StockAlertType;
+import edts.adam.smartinventoryordersystem.model.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockAlertMonitor Unit Tests")
+class StockAlertMonitorTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private final List<StockAlert> published = new ArrayList<>();
+    private StockAlertMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                + "stock INT NOT NULL, reorder_point INT, active BOOLEAN NOT NULL)");
+        StockAlertSink failing = alert -> {
+            throw new IllegalStateException("sink down");
+        };
+        monitor = new StockAlertMonitor(database, List.of(failing, published::add), 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private static Product product(long id, int stock, Integer reorderPoint) {
+        Product product = new Product("Product " + id, ProductCategory.FOOD, new BigDecimal("25000"), stock);
+        product.setId(id);
+        product.setReorderPoint(reorderPoint);
+        return product;
+    }
+
+    // =========================================================================
+    // ON STOCK CHANGE
+    // =========================================================================
+
+    @Nested
+    @DisplayName("onStockChange()")
+    class OnStockChange {
+
+        @Test
+        @DisplayName("Should publish each state transition once")
+        void shouldDeduplicateAlerts() {
+            monitor.onStockChange(product(1L, 50, 10));
+            monitor.onStockChange(product(1L, 10, 10));
+            monitor.onStockChange(product(1L, 7, 10));
+            monitor.onStockChange(product(1L, 0, 10));
+            monitor.onStockChange(product(1L, 0, 10));
+            monitor.onStockChange(product(1L, 30, 10));
+
+            assertThat(published).extracting(StockAlert::type).containsExactly(
+                    StockAlertType.LOW_STOCK, StockAlertType.OUT_OF_STOCK, StockAlertType.RESTOCKED);
+            assertThat(monitor.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep the current stock and entry time while the state is unchanged")
+        void shouldTrackStockWithinState() {
+            monitor.onStockChange(product(1L, 8, 10));
+            StockAlert first = monitor.getBelowThreshold(null, 10).get(0);
+            monitor.onStockChange(product(1L, 3, 10));
+
+            StockAlert current = monitor.getBelowThreshold(null, 10).get(0);
+            assertThat(current.stock()).isEqualTo(3);
+            assertThat(current.since()).isEqualTo(first.since());
+            assertThat(published).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should use the default reorder point and drop deactivated products silently")
+        void shouldApplyDefaultAndDeactivation() {
+            Product product = product(2L, 5, null);
+            monitor.onStockChange(product);
+            assertThat(published).singleElement().extracting(StockAlert::reorderPoint).isEqualTo(5);
+
+            product.setActive(false);
+            monitor.onStockChange(product);
+
+            assertThat(monitor.size()).isZero();
+            assertThat(published).hasSize(1);
+        }
+    }
+
+    // =========================================================================
+    // LISTING
+    // =========================================================================
+
+    @Nested
+    @DisplayName("getBelowThreshold()")
+    class GetBelowThreshold {
+
+        @Test
+        @DisplayName("Should load state at startup without publishing and list lowest stock first")
+        void shouldRebuildAndList() {
+            jdbc.update("INSERT INTO product VALUES (1, 'A', 4, 20, TRUE), (2, 'B', 0, NULL, TRUE), "
+                    + "(3, 'C', 3, NULL, TRUE), (4, 'D', 6, NULL, TRUE), (5, 'E', 0, 10, FALSE)");
+
+            monitor.rebuild();
+
+            assertThat(published).isEmpty();
+            assertThat(monitor.getBelowThreshold(null, 10)).extracting(StockAlert::productId)
+                    .containsExactly(2L, 3L, 1L);
+            assertThat(monitor.getBelowThreshold(StockAlertType.LOW_STOCK, 1)).extracting(StockAlert::productId)
+                    .containsExactly(3L);
+            assertThat(monitor.getBelowThreshold(StockAlertType.OUT_OF_STOCK, 10)).extracting(StockAlert::productName)
+                    .containsExactly("B");
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.BucketSelection;
+import edts.adam.smartinventoryordersystem.exception.InsufficientStockException;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.model.ProductStockBucket;
+import edts.adam.smartinventoryordersystem.repository.ProductQuantityView;
+import edts.adam.smartinventoryordersystem.repository.ProductStockBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockBuckets Unit Tests")
+class StockBucketsTest {
+
+    @Mock
+    private ProductStockBucketRepository bucketRepository;
+
+    @Mock
+    private StockTotalRefresher stockTotalRefresher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockBuckets stockBuckets;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        stockBuckets = new StockBuckets(bucketRepository, stockTotalRefresher, transactionManager,
+                BucketSelection.CUSTOMER);
+        ProductQuantityView view = new ProductQuantityView() {
+            @Override
+            public Long getProductId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getQuantity() {
+                return 4L;
+            }
+        };
+        when(bucketRepository.countBuckets()).thenReturn(List.of(view));
+        stockBuckets.rebuild();
+
+        product = new Product();
+        product.setId(1L);
+        product.setName("Flash Sale Item");
+    }
+
+    // =========================================================================
+    // take()
+    // =========================================================================
+
+    @Nested
+    @DisplayName("take()")
+    class Take {
+
+        @Test
+        @DisplayName("Should take from the customer's bucket when it holds enough")
+        void shouldTakeFromAffinityBucket() {
+            when(bucketRepository.decrement(1L, 2, 3)).thenReturn(1);
+
+            stockBuckets.take(product, 3, 6L);
+
+            verify(bucketRepository, never()).decrement(eq(1L), eq(3), anyInt());
+            verify(stockTotalRefresher).markStale(1L);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the next bucket on shortfall")
+        void shouldFallBackToNextBucket() {
+            when(bucketRepository.decrement(1L, 2, 3)).thenReturn(0);
+            when(bucketRepository.decrement(1L, 3, 3)).thenReturn(1);
+
+            stockBuckets.take(product, 3, 6L);
+
+            verify(bucketRepository, never()).decrement(eq(1L), eq(0), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should take across buckets when no single bucket holds enough")
+        void shouldSplitAcrossBuckets() {
+            when(bucketRepository.decrement(eq(1L), anyInt(), eq(10))).thenReturn(0);
+            when(bucketRepository.findByProductIdOrderByBucket(1L)).thenReturn(List.of(
+                    new ProductStockBucket(1L, 0, 4), new ProductStockBucket(1L, 1, 0),
+                    new ProductStockBucket(1L, 2, 3), new ProductStockBucket(1L, 3, 5)));
+            when(bucketRepository.decrement(1L, 2, 3)).thenReturn(1);
+            when(bucketRepository.decrement(1L, 3, 5)).thenReturn(1);
+            when(bucketRepository.decrement(1L, 0, 2)).thenReturn(1);
+
+            stockBuckets.take(product, 10, 6L);
+
+            verify(bucketRepository).decrement(1L, 0, 2);
+        }
+
+        @Test
+        @DisplayName("Should throw InsufficientStockException when buckets together hold too little")
+        void shouldThrowWhenInsufficient() {
+            when(bucketRepository.decrement(eq(1L), anyInt(), anyInt())).thenReturn(0, 0, 0, 0, 1, 1, 1);
+            when(bucketRepository.findByProductIdOrderByBucket(1L)).thenReturn(List.of(
+                    new ProductStockBucket(1L, 0, 1), new ProductStockBucket(1L, 1, 1),
+                    new ProductStockBucket(1L, 2, 1), new ProductStockBucket(1L, 3, 1)));
+
+            assertThatThrownBy(() -> stockBuckets.take(product, 5, 6L))
+                    .isInstanceOf(InsufficientStockException.class);
+        }
+    }
+
+    // =========================================================================
+    // Rebalancing
+    // =========================================================================
+
+    @Nested
+    @DisplayName("spread() / isSkewed()")
+    class Rebalancing {
+
+        @Test
+        @DisplayName("Should spread the remainder over the first buckets")
+        void shouldSpreadRemainder() {
+            assertThat(StockBuckets.spread(10, 4)).containsExactly(3, 3, 2, 2);
+            assertThat(StockBuckets.spread(0, 3)).containsExactly(0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("Should flag buckets below half their fair share")
+        void shouldDetectSkew() {
+            assertThat(StockBuckets.isSkewed(new int[] { 25, 25, 25, 25 })).isFalse();
+            assertThat(StockBuckets.isSkewed(new int[] { 40, 40, 15, 5 })).isTrue();
+            assertThat(StockBuckets.isSkewed(new int[] { 1, 0, 0, 0 })).isFalse();
+        }
+    }
+}
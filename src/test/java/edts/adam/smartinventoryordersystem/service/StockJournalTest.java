@@ -0,0 +1,258 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockJournal Unit Tests")
+class StockJournalTest {
+
+    /** Ten records per segment keeps rolling cheap to exercise. */
+    private static final DataSize SEGMENT_SIZE = DataSize.ofBytes(10L * StockJournal.RECORD_SIZE);
+
+    @TempDir
+    Path directory;
+
+    private StockJournal journal;
+
+    private StockJournal open(int retainedSegments) {
+        journal = new StockJournal(directory, SEGMENT_SIZE, retainedSegments, false);
+        return journal;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".segment")).sorted().toList();
+        }
+    }
+
+    // =========================================================================
+    // APPEND & READ
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Append & read")
+    class AppendAndRead {
+
+        @Test
+        @DisplayName("Should read back movements in sequence order")
+        void shouldReadBackMovements() {
+            open(4);
+
+            journal.append(StockMovementType.INITIAL, 1L, 0L, 100, 100);
+            journal.append(StockMovementType.ORDER_RESERVE, 1L, 7L, -5, 95);
+            journal.append(StockMovementType.CANCEL_RESTORE, 1L, 7L, 5, 100);
+
+            List<StockMovement> movements = journal.read(0, 10);
+
+            assertThat(movements).extracting(StockMovement::sequence).containsExactly(1L, 2L, 3L);
+            StockMovement reserve = movements.get(1);
+            assertThat(reserve.type()).isEqualTo(StockMovementType.ORDER_RESERVE);
+            assertThat(reserve.productId()).isEqualTo(1L);
+            assertThat(reserve.referenceId()).isEqualTo(7L);
+            assertThat(reserve.delta()).isEqualTo(-5);
+            assertThat(reserve.balance()).isEqualTo(95);
+            assertThat(reserve.timestamp()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should tail from a sequence across segment boundaries")
+        void shouldTailAcrossSegments() throws IOException {
+            open(4);
+            for (int i = 1; i <= 25; i++) {
+                journal.append(StockMovementType.MANUAL_ADJUST, i, 0L, 1, i);
+            }
+
+            assertThat(segmentFiles()).hasSize(3);
+            assertThat(journal.read(8, 5)).extracting(StockMovement::sequence)
+                    .containsExactly(9L, 10L, 11L, 12L, 13L);
+            assertThat(journal.read(25, 5)).isEmpty();
+            assertThat(journal.lastSequence()).isEqualTo(25);
+        }
+
+        @Test
+        @DisplayName("Should record immediately outside a transaction")
+        void shouldRecordOutsideTransaction() {
+            open(4);
+
+            journal.record(StockMovementType.IMPORT, 3L, null, 40, 40);
+
+            assertThat(journal.read(0, 10)).singleElement()
+                    .satisfies(movement -> assertThat(movement.referenceId()).isZero());
+        }
+    }
+
+    // =========================================================================
+    // TRANSACTIONS
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Transactions")
+    class Transactions {
+
+        @AfterEach
+        void clearSynchronization() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        private static List<TransactionSynchronization> detach() {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            return synchronizations;
+        }
+
+        @Test
+        @DisplayName("Should journal before the commit and nothing on a plain rollback")
+        void shouldJournalBeforeCommit() {
+            open(4);
+            TransactionSynchronizationManager.initSynchronization();
+            journal.record(StockMovementType.ORDER_RESERVE, 1L, 7L, -5, 95);
+            List<TransactionSynchronization> committing = detach();
+
+            assertThat(journal.read(0, 10)).isEmpty();
+            committing.forEach(sync -> sync.beforeCommit(false));
+            assertThat(journal.read(0, 10)).singleElement()
+                    .satisfies(movement -> assertThat(movement.balance()).isEqualTo(95));
+            committing.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            TransactionSynchronizationManager.initSynchronization();
+            journal.record(StockMovementType.ORDER_RESERVE, 1L, 8L, -5, 90);
+            detach().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertThat(journal.lastSequence()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should reverse a journaled change whose commit failed")
+        void shouldReverseFailedCommit() {
+            open(4);
+            journal.append(StockMovementType.INITIAL, 1L, 0L, 100, 100);
+            TransactionSynchronizationManager.initSynchronization();
+            journal.record(StockMovementType.ORDER_RESERVE, 1L, 7L, -5, 95);
+            List<TransactionSynchronization> failing = detach();
+            failing.forEach(sync -> sync.beforeCommit(false));
+            // Another order locks the row after the rollback and journals first
+            journal.append(StockMovementType.ORDER_RESERVE, 1L, 8L, -2, 98);
+
+            failing.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertThat(journal.read(3, 10)).singleElement().satisfies(movement -> {
+                assertThat(movement.type()).isEqualTo(StockMovementType.ROLLBACK);
+                assertThat(movement.delta()).isEqualTo(5);
+            });
+            assertThat(journal.balances()).containsEntry(1L, 98);
+        }
+    }
+
+    // =========================================================================
+    // RECOVERY
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Recovery")
+    class Recovery {
+
+        @Test
+        @DisplayName("Should continue the sequence after reopening")
+        void shouldContinueAfterReopen() {
+            open(4);
+            for (int i = 0; i < 12; i++) {
+                journal.append(StockMovementType.MANUAL_ADJUST, 1L, 0L, 1, i + 1);
+            }
+            journal.close();
+
+            open(4);
+
+            assertThat(journal.lastSequence()).isEqualTo(12);
+            assertThat(journal.append(StockMovementType.MANUAL_ADJUST, 1L, 0L, 1, 13)).isEqualTo(13);
+            assertThat(journal.balances()).containsEntry(1L, 13);
+        }
+
+        @Test
+        @DisplayName("Should drop a torn record at the tail")
+        void shouldTruncateTornRecord() throws IOException {
+            open(4);
+            journal.append(StockMovementType.INITIAL, 1L, 0L, 100, 100);
+            journal.append(StockMovementType.ORDER_RESERVE, 1L, 9L, -10, 90);
+            journal.close();
+
+            // Corrupt the balance of the second record, as a half-written page would
+            try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+                file.seek(StockJournal.RECORD_SIZE + 36);
+                file.writeInt(12345);
+            }
+
+            open(4);
+
+            assertThat(journal.lastSequence()).isEqualTo(1);
+            assertThat(journal.balances()).containsEntry(1L, 100);
+        }
+    }
+
+    // =========================================================================
+    // COMPACTION
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Compaction")
+    class Compaction {
+
+        @Test
+        @DisplayName("Should fold old segments into balances and skip them when tailing")
+        void shouldCompactOldSegments() throws IOException {
+            open(1);
+            int[] stock = new int[3];
+            for (int i = 1; i <= 35; i++) {
+                journal.append(StockMovementType.MANUAL_ADJUST, i % 3, 0L, 1, ++stock[i % 3]);
+            }
+
+            journal.compact();
+
+            assertThat(segmentFiles()).hasSize(2);
+            assertThat(Files.exists(directory.resolve("balances.snapshot"))).isTrue();
+            assertThat(journal.read(0, 3)).extracting(StockMovement::sequence).containsExactly(21L, 22L, 23L);
+            assertThat(journal.balances()).containsEntry(0L, 11).containsEntry(1L, 12).containsEntry(2L, 12);
+        }
+
+        @Test
+        @DisplayName("Should keep compacted balances across a restart")
+        void shouldReloadCompactedBalances() {
+            open(0);
+            int[] stock = new int[2];
+            for (int i = 1; i <= 12; i++) {
+                journal.append(StockMovementType.MANUAL_ADJUST, i % 2, 0L, 1, ++stock[i % 2]);
+            }
+            journal.compact();
+            journal.close();
+
+            open(0);
+
+            assertThat(journal.balances()).containsEntry(0L, 6).containsEntry(1L, 6);
+            assertThat(journal.lastSequence()).isEqualTo(12);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.AllocationStrategy;
+import edts.adam.smartinventoryordersystem.exception.InsufficientStockException;
+import edts.adam.smartinventoryordersystem.model.OrderAllocation;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.repository.OrderAllocationRepository;
+import edts.adam.smartinventoryordersystem.repository.ProductStockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarehouseAllocator Unit Tests")
+class WarehouseAllocatorTest {
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
+    @Mock
+    private OrderAllocationRepository orderAllocationRepository;
+
+    @Mock
+    private WarehouseStockIndex warehouseStockIndex;
+
+    @Mock
+    private StockTotalRefresher stockTotalRefresher;
+
+    private WarehouseAllocator warehouseAllocator;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        warehouseAllocator = new WarehouseAllocator(productStockRepository, orderAllocationRepository,
+                warehouseStockIndex, stockTotalRefresher, AllocationStrategy.NEAREST);
+        product = new Product();
+        product.setId(1L);
+        product.setName("Nasi Goreng");
+        // Simulates the caller's transaction; completed by commit()/rollback()
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private static void rollback() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    // =========================================================================
+    // allocate()
+    // =========================================================================
+
+    @Nested
+    @DisplayName("allocate()")
+    class Allocate {
+
+        @Test
+        @DisplayName("Should decrement each planned warehouse and adjust the index only after commit")
+        void shouldDecrementAndAdjustAfterCommit() {
+            List<StockAllocation> plan = List.of(new StockAllocation(3L, 4), new StockAllocation(2L, 6));
+            when(warehouseStockIndex.plan(1L, 10, AllocationStrategy.NEAREST, -7.3, 112.7)).thenReturn(plan);
+            when(productStockRepository.decrement(1L, 3L, 4)).thenReturn(1);
+            when(productStockRepository.decrement(1L, 2L, 6)).thenReturn(1);
+
+            assertThat(warehouseAllocator.allocate(product, 10, -7.3, 112.7)).isEqualTo(plan);
+            verify(stockTotalRefresher).markStale(1L);
+            verify(warehouseStockIndex, never()).adjust(anyLong(), anyLong(), anyInt());
+
+            commit();
+
+            verify(warehouseStockIndex).adjust(1L, 3L, -4);
+            verify(warehouseStockIndex).adjust(1L, 2L, -6);
+        }
+
+        @Test
+        @DisplayName("Should throw when a conditional decrement matches no row, and reload the index after rollback")
+        void shouldFailWhenDecrementMatchesNoRow() {
+            when(warehouseStockIndex.plan(1L, 10, AllocationStrategy.NEAREST, null, null))
+                    .thenReturn(List.of(new StockAllocation(3L, 10)));
+            when(productStockRepository.decrement(1L, 3L, 10)).thenReturn(0);
+            when(warehouseStockIndex.available(1L)).thenReturn(10);
+
+            assertThatThrownBy(() -> warehouseAllocator.allocate(product, 10, null, null))
+                    .isInstanceOf(InsufficientStockException.class);
+            verify(warehouseStockIndex, never()).reload(1L);
+
+            rollback();
+
+            verify(warehouseStockIndex).reload(1L);
+            verify(warehouseStockIndex, never()).adjust(anyLong(), anyLong(), anyInt());
+            verify(stockTotalRefresher, never()).markStale(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should take nothing when the index has too little stock")
+        void shouldTakeNothingWhenShort() {
+            when(warehouseStockIndex.plan(1L, 10, AllocationStrategy.NEAREST, null, null)).thenReturn(List.of());
+
+            assertThat(warehouseAllocator.allocate(product, 10, null, null)).isEmpty();
+            verify(productStockRepository, never()).decrement(anyLong(), anyLong(), anyInt());
+        }
+    }
+
+    // =========================================================================
+    // release()
+    // =========================================================================
+
+    @Nested
+    @DisplayName("release()")
+    class Release {
+
+        @Test
+        @DisplayName("Should increment the rows and return the units per product, adjusting the index after commit")
+        void shouldReleaseAfterCommit() {
+            when(orderAllocationRepository.findByOrderId(9L)).thenReturn(List.of(
+                    new OrderAllocation(9L, 1L, 3L, 4), new OrderAllocation(9L, 1L, 2L, 6),
+                    new OrderAllocation(9L, 5L, 3L, 1)));
+
+            assertThat(warehouseAllocator.release(9L)).containsExactly(
+                    entry(1L, 10), entry(5L, 1));
+            verify(productStockRepository).increment(1L, 3L, 4);
+            verify(productStockRepository).increment(1L, 2L, 6);
+            verify(productStockRepository).increment(5L, 3L, 1);
+            verify(warehouseStockIndex, never()).adjust(anyLong(), anyLong(), anyInt());
+
+            commit();
+
+            verify(warehouseStockIndex).adjust(1L, 3L, 4);
+            verify(warehouseStockIndex).adjust(1L, 2L, 6);
+            verify(warehouseStockIndex).adjust(5L, 3L, 1);
+        }
+
+        @Test
+        @DisplayName("Should leave the index unchanged when the release rolls back")
+        void shouldNotAdjustOnRollback() {
+            when(orderAllocationRepository.findByOrderId(9L)).thenReturn(List.of(new OrderAllocation(9L, 1L, 3L, 4)));
+
+            warehouseAllocator.release(9L);
+            rollback();
+
+            verify(warehouseStockIndex, never()).adjust(anyLong(), anyLong(), anyInt());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.dto.product.request.UpdateProductStockRequest;
+import edts.adam.smartinventoryordersystem.dto.product.request.WarehouseStockRequest;
+import edts.adam.smartinventoryordersystem.dto.product.response.WarehouseStockResponse;
+import edts.adam.smartinventoryordersystem.dto.warehouse.request.CreateWarehouseRequest;
+import edts.adam.smartinventoryordersystem.enums.StockMovementType;
+import edts.adam.smartinventoryordersystem.exception.BadRequestException;
+import edts.adam.smartinventoryordersystem.exception.DuplicateResourceException;
+import edts.adam.smartinventoryordersystem.exception.ResourceNotFoundException;
+import edts.adam.smartinventoryordersystem.model.Product;
+import edts.adam.smartinventoryordersystem.model.ProductStock;
+import edts.adam.smartinventoryordersystem.model.Warehouse;
+import edts.adam.smartinventoryordersystem.repository.ProductRepository;
+import edts.adam.smartinventoryordersystem.repository.ProductStockRepository;
+import edts.adam.smartinventoryordersystem.repository.WarehouseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarehouseService Unit Tests")
+class WarehouseServiceTest {
+
+    @Mock
+    private WarehouseRepository warehouseRepository;
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private WarehouseStockIndex warehouseStockIndex;
+
+    @Mock
+    private StockBuckets stockBuckets;
+
+    @Mock
+    private StockJournal stockJournal;
+
+    @Mock
+    private StockAlertMonitor stockAlertMonitor;
+
+    @InjectMocks
+    private WarehouseService warehouseService;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = new Product();
+        product.setId(1L);
+        product.setName("Nasi Goreng");
+        product.setStock(30);
+        product.setActive(true);
+    }
+
+    private static Warehouse warehouse(Long id, String code) {
+        Warehouse warehouse = new Warehouse();
+        warehouse.setId(id);
+        warehouse.setCode(code);
+        warehouse.setName(code);
+        warehouse.setLatitude(-6.2);
+        warehouse.setLongitude(106.8);
+        return warehouse;
+    }
+
+    private static UpdateProductStockRequest stockRequest(long[]... entries) {
+        UpdateProductStockRequest request = new UpdateProductStockRequest();
+        request.setWarehouses(Arrays.stream(entries).map(entry -> {
+            WarehouseStockRequest item = new WarehouseStockRequest();
+            item.setWarehouseId(entry[0]);
+            item.setQuantity((int) entry[1]);
+            return item;
+        }).toList());
+        return request;
+    }
+
+    // =========================================================================
+    // createWarehouse()
+    // =========================================================================
+
+    @Nested
+    @DisplayName("createWarehouse()")
+    class CreateWarehouse {
+
+        @Test
+        @DisplayName("Should save the warehouse and add it to the stock index")
+        void shouldCreateWarehouse() {
+            CreateWarehouseRequest request = new CreateWarehouseRequest();
+            request.setCode("JKT");
+            request.setName("Jakarta");
+            request.setLatitude(-6.2);
+            request.setLongitude(106.8);
+            Warehouse saved = warehouse(1L, "JKT");
+            when(warehouseRepository.save(any(Warehouse.class))).thenReturn(saved);
+
+            assertThat(warehouseService.createWarehouse(request).getCode()).isEqualTo("JKT");
+            verify(warehouseStockIndex).putWarehouse(saved);
+        }
+
+        @Test
+        @DisplayName("Should reject a duplicate warehouse code")
+        void shouldRejectDuplicateCode() {
+            CreateWarehouseRequest request = new CreateWarehouseRequest();
+            request.setCode("JKT");
+            when(warehouseRepository.existsByCode("JKT")).thenReturn(true);
+
+            assertThatThrownBy(() -> warehouseService.createWarehouse(request))
+                    .isInstanceOf(DuplicateResourceException.class);
+            verify(warehouseRepository, never()).save(any(Warehouse.class));
+        }
+    }
+
+    // =========================================================================
+    // setProductStock()
+    // =========================================================================
+
+    @Nested
+    @DisplayName("setProductStock()")
+    class SetProductStock {
+
+        @Test
+        @DisplayName("Should replace the split, set the product total and journal the difference")
+        void shouldReplaceSplit() {
+            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+            when(warehouseRepository.findAll()).thenReturn(List.of(warehouse(1L, "JKT"), warehouse(2L, "SBY")));
+            ProductStock dropped = new ProductStock(1L, 2L, 30);
+            when(productStockRepository.findByProductIdOrderByWarehouseId(1L)).thenReturn(List.of(dropped));
+            when(productRepository.save(product)).thenReturn(product);
+
+            List<WarehouseStockResponse> response = warehouseService.setProductStock(1L, stockRequest(new long[] { 1L, 40 }));
+
+            assertThat(response).extracting(WarehouseStockResponse::getWarehouseCode).containsExactly("JKT");
+            assertThat(product.getStock()).isEqualTo(40);
+            verify(productStockRepository).deleteAll(List.of(dropped));
+            verify(stockJournal).record(StockMovementType.MANUAL_ADJUST, 1L, null, 10, 40);
+            verify(warehouseStockIndex).replace(1L, Map.of(1L, 40));
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown warehouse without changing stock")
+        void shouldRejectUnknownWarehouse() {
+            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+            when(warehouseRepository.findAll()).thenReturn(List.of(warehouse(1L, "JKT")));
+
+            assertThatThrownBy(() -> warehouseService.setProductStock(1L, stockRequest(new long[] { 9L, 5 })))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verify(productRepository, never()).save(any(Product.class));
+            verify(warehouseStockIndex, never()).replace(any(Long.class), anyMap());
+        }
+
+        @Test
+        @DisplayName("Should reject a warehouse listed twice")
+        void shouldRejectDuplicateWarehouse() {
+            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+            when(warehouseRepository.findAll()).thenReturn(List.of(warehouse(1L, "JKT")));
+
+            assertThatThrownBy(() -> warehouseService.setProductStock(1L,
+                    stockRequest(new long[] { 1L, 5 }, new long[] { 1L, 6 })))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject a product whose stock is split into buckets")
+        void shouldRejectStripedProduct() {
+            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+            when(stockBuckets.isStriped(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> warehouseService.setProductStock(1L, stockRequest(new long[] { 1L, 5 })))
+                    .isInstanceOf(BadRequestException.class);
+            verify(productStockRepository, never()).saveAll(any());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package edts.adam.smartinventoryordersystem.service;
+
+import edts.adam.smartinventoryordersystem.enums.AllocationStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WarehouseStockIndex Unit Tests")
+class WarehouseStockIndexTest {
+
+    // Jakarta, Bandung, Surabaya
+    private static final Map<Long, WarehouseStockIndex.Location> WAREHOUSES = Map.of(
+            1L, new WarehouseStockIndex.Location(1L, -6.2088, 106.8456),
+            2L, new WarehouseStockIndex.Location(2L, -6.9175, 107.6191),
+            3L, new WarehouseStockIndex.Location(3L, -7.2575, 112.7521));
+
+    private static final double[] NEAR_SURABAYA = { -7.3, 112.7 };
+
+    private static WarehouseStockIndex.Stocks stocks(int jakarta, int bandung, int surabaya) {
+        return WarehouseStockIndex.Stocks.of(List.of(
+                new long[] { 1L, jakarta }, new long[] { 2L, bandung }, new long[] { 3L, surabaya }));
+    }
+
+    private static List<StockAllocation> plan(WarehouseStockIndex.Stocks stocks, int quantity,
+            AllocationStrategy strategy, double[] shipTo) {
+        return WarehouseStockIndex.plan(stocks, WAREHOUSES, quantity, strategy,
+                shipTo == null ? null : shipTo[0], shipTo == null ? null : shipTo[1]);
+    }
+
+    // =========================================================================
+    // plan()
+    // =========================================================================
+
+    @Nested
+    @DisplayName("plan()")
+    class Plan {
+
+        @Test
+        @DisplayName("NEAREST should ship from the nearest warehouse that holds the whole quantity")
+        void nearestShouldPreferSingleNearbyWarehouse() {
+            assertThat(plan(stocks(50, 50, 50), 10, AllocationStrategy.NEAREST, NEAR_SURABAYA))
+                    .containsExactly(new StockAllocation(3L, 10));
+            assertThat(plan(stocks(50, 50, 5), 10, AllocationStrategy.NEAREST, NEAR_SURABAYA))
+                    .containsExactly(new StockAllocation(2L, 10));
+        }
+
+        @Test
+        @DisplayName("NEAREST should split nearest-first when no single warehouse suffices")
+        void nearestShouldSplitWhenNeeded() {
+            assertThat(plan(stocks(20, 20, 15), 45, AllocationStrategy.NEAREST, NEAR_SURABAYA))
+                    .containsExactly(new StockAllocation(3L, 15), new StockAllocation(2L, 20),
+                            new StockAllocation(1L, 10));
+        }
+
+        @Test
+        @DisplayName("MOST_STOCK should ignore distance")
+        void mostStockShouldIgnoreDistance() {
+            assertThat(plan(stocks(80, 50, 20), 10, AllocationStrategy.MOST_STOCK, NEAR_SURABAYA))
+                    .containsExactly(new StockAllocation(1L, 10));
+        }
+
+        @Test
+        @DisplayName("SPLIT should drain the nearest warehouses first")
+        void splitShouldDrainNearestFirst() {
+            assertThat(plan(stocks(50, 50, 5), 10, AllocationStrategy.SPLIT, NEAR_SURABAYA))
+                    .containsExactly(new StockAllocation(3L, 5), new StockAllocation(2L, 5));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the largest stock without a ship-to location")
+        void shouldUseLargestStockWithoutLocation() {
+            assertThat(plan(stocks(10, 40, 30), 20, AllocationStrategy.NEAREST, null))
+                    .containsExactly(new StockAllocation(2L, 20));
+        }
+
+        @Test
+        @DisplayName("Should return no allocations when total stock is insufficient")
+        void shouldReturnEmptyWhenInsufficient() {
+            assertThat(plan(stocks(5, 5, 5), 16, AllocationStrategy.SPLIT, NEAR_SURABAYA)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should skip inactive warehouses")
+        void shouldSkipInactiveWarehouses() {
+            WarehouseStockIndex.Stocks stocks = WarehouseStockIndex.Stocks.of(List.of(
+                    new long[] { 1L, 10 }, new long[] { 9L, 100 }));
+            assertThat(WarehouseStockIndex.plan(stocks, WAREHOUSES, 20, AllocationStrategy.NEAREST, null, null))
+                    .isEmpty();
+        }
+    }
+
+    // =========================================================================
+    // Stocks
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Stocks.adjusted()")
+    class Adjusted {
+
+        @Test
+        @DisplayName("Should return a copy with the warehouse quantity changed")
+        void shouldAdjustCopy() {
+            WarehouseStockIndex.Stocks original = stocks(10, 20, 30);
+            WarehouseStockIndex.Stocks adjusted = original.adjusted(2L, -5);
+
+            assertThat(adjusted.quantities()).containsExactly(10, 15, 30);
+            assertThat(original.quantities()).containsExactly(10, 20, 30);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package edts.adam.smartinventoryordersystem.util;
+
+import edts.adam.smartinventoryordersystem.enums.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HttpCaching Unit Tests")
+class HttpCachingTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2026-03-01T08:15:30.125Z");
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    private ServletWebRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    // =========================================================================
+    // ETAGS
+    // =========================================================================
+
+    @Nested
+    @DisplayName("ETags")
+    class ETags {
+
+        @Test
+        @DisplayName("Should produce a stable strong ETag for the same product version")
+        void shouldBeStableForSameVersion() {
+            String first = HttpCaching.productETag(1L, UPDATED_AT, 10, request(null));
+            String second = HttpCaching.productETag(1L, Instant.parse("2026-03-01T08:15:30.125Z"), 10, request(null));
+
+            assertThat(first).isEqualTo(second).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+        }
+
+        @Test
+        @DisplayName("Should change the product ETag when updatedAt changes")
+        void shouldChangeWithUpdatedAt() {
+            assertThat(HttpCaching.productETag(1L, UPDATED_AT, 10, request(null)))
+                    .isNotEqualTo(HttpCaching.productETag(1L, UPDATED_AT.plusNanos(1000), 10, request(null)));
+        }
+
+        @Test
+        @DisplayName("Should change the product ETag when the stock changes")
+        void shouldChangeWithStock() {
+            assertThat(HttpCaching.productETag(1L, UPDATED_AT, 10, request(null)))
+                    .isNotEqualTo(HttpCaching.productETag(1L, UPDATED_AT, 9, request(null)));
+        }
+
+        @Test
+        @DisplayName("Should give each language and binary format its own ETag")
+        void shouldDifferPerRepresentation() {
+            String json = HttpCaching.orderETag(1L, OrderStatus.PAID, request("application/json"));
+            String cbor = HttpCaching.orderETag(1L, OrderStatus.PAID, request("application/cbor"));
+            LocaleContextHolder.setLocale(new Locale("id"));
+            String indonesian = HttpCaching.orderETag(1L, OrderStatus.PAID, request("application/json"));
+
+            assertThat(json).isNotEqualTo(cbor).isNotEqualTo(indonesian);
+        }
+
+        @Test
+        @DisplayName("Should change the order ETag when the status changes")
+        void shouldChangeWithStatus() {
+            assertThat(HttpCaching.orderETag(1L, OrderStatus.CREATED, request(null)))
+                    .isNotEqualTo(HttpCaching.orderETag(1L, OrderStatus.PAID, request(null)));
+        }
+    }
+
+    // =========================================================================
+    // CACHE-CONTROL
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Cache-Control")
+    class CacheControlPolicies {
+
+        @Test
+        @DisplayName("Should mark PAID and CANCELLED orders immutable")
+        void shouldCacheTerminalOrdersAsImmutable() {
+            assertThat(HttpCaching.orderCacheControl(OrderStatus.PAID).getHeaderValue())
+                    .contains("immutable", "private", "max-age=31536000");
+            assertThat(HttpCaching.orderCacheControl(OrderStatus.CANCELLED).getHeaderValue())
+                    .contains("immutable");
+        }
+
+        @Test
+        @DisplayName("Should require revalidation for CREATED orders and products")
+        void shouldRevalidateMutableResources() {
+            assertThat(HttpCaching.orderCacheControl(OrderStatus.CREATED).getHeaderValue())
+                    .contains("no-cache", "private").doesNotContain("immutable");
+            assertThat(HttpCaching.productCacheControl().getHeaderValue())
+                    .contains("no-cache", "public");
+        }
+
+        @Test
+        @DisplayName("Should never mark orders read from the orders table immutable")
+        void shouldRevalidateLiveOrders() {
+            assertThat(HttpCaching.liveOrderCacheControl().getHeaderValue())
+                    .contains("no-cache", "private").doesNotContain("immutable", "max-age");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package edts.adam.smartinventoryordersystem.util;
+
+import edts.adam.smartinventoryordersystem.config.MessageConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MessageUtil Unit Tests")
+class MessageUtilTest {
+
+    private MessageSource messageSource;
+    private MessageUtil messageUtil;
+
+    @BeforeEach
+    void setUp() {
+        MessageConfig config = new MessageConfig();
+        messageSource = config.messageSource();
+        messageUtil = new MessageUtil(messageSource, config.localeResolver());
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    // =========================================================================
+    // PRECOMPILED LOCALES
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Supported locales")
+    class SupportedLocales {
+
+        @Test
+        @DisplayName("Should match MessageSource output for messages with and without args")
+        void shouldMatchMessageSource() {
+            for (Locale locale : new Locale[] {Locale.ENGLISH, new Locale("id")}) {
+                LocaleContextHolder.setLocale(locale);
+
+                assertThat(messageUtil.get("api.response.success"))
+                        .isEqualTo(messageSource.getMessage("api.response.success", null, locale));
+                assertThat(messageUtil.get("product.name.duplicate", "Kopi"))
+                        .isEqualTo(messageSource.getMessage("product.name.duplicate", new Object[] {"Kopi"}, locale));
+                assertThat(messageUtil.get("product.delete.stock.not.zero", 1500))
+                        .isEqualTo(messageSource.getMessage("product.delete.stock.not.zero", new Object[] {1500}, locale));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return the same instance for repeated zero-arg lookups")
+        void shouldReturnConstantForZeroArgMessages() {
+            LocaleContextHolder.setLocale(Locale.ENGLISH);
+
+            assertThat(messageUtil.get("api.response.success")).isSameAs(messageUtil.get("api.response.success"));
+        }
+    }
+
+    // =========================================================================
+    // FALLBACK
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Fallback")
+    class Fallback {
+
+        @Test
+        @DisplayName("Should resolve unsupported locales through MessageSource")
+        void shouldFallBackForUnsupportedLocale() {
+            Locale french = Locale.FRENCH;
+            LocaleContextHolder.setLocale(french);
+
+            assertThat(messageUtil.get("product.not.found", 7L))
+                    .isEqualTo(messageSource.getMessage("product.not.found", new Object[] {7L}, french));
+        }
+
+        @Test
+        @DisplayName("Should return default for unknown key and throw without one")
+        void shouldHandleUnknownKey() {
+            assertThat(messageUtil.getOrDefault("no.such.key", "no.such.key")).isEqualTo("no.such.key");
+            assertThatThrownBy(() -> messageUtil.get("no.such.key"))
+                    .isInstanceOf(NoSuchMessageException.class);
+        }
+    }
+}